@@ -93,6 +93,8 @@ dir_mapping = {
     # Connection
     "credential": "connection",
     "database": "connection",
+    "databaseexport": "connection",
+    "databaseimport": "connection",
     "databaseiterator": "connection",
     "databasemanager": "connection",
     "databases": "connection",
@@ -100,6 +102,7 @@ dir_mapping = {
     "driveroptions": "connection",
     "init": "connection",
     "initlogging": "connection",
+    "nativememory": "connection",
     "replicationrole": "connection",
     "server": "connection",
     "serveriterator": "connection",
@@ -120,6 +123,7 @@ dir_mapping = {
     "check": "errors",
 
     # Transaction
+    "preparedquery": "transaction",
     "queryoptions": "transaction",
     "transaction": "transaction",
     "transactionoptions": "transaction",
@@ -42,6 +42,7 @@ use crate::{
             borrow, free, release, release_optional, release_optional_string, release_string, string_view,
             take_ownership,
         },
+        promise::on_complete,
     },
     concept::ConceptIterator,
 };
@@ -154,6 +155,18 @@ pub extern "C" fn analyzed_query_promise_resolve(promise: *mut AnalyzedQueryProm
     try_release(take_ownership(promise).0.resolve())
 }
 
+/// Registers a callback, executed with <code>callback_id</code> once the operation represented by the
+/// <code>AnalyzedQueryPromise</code> completes, and returns a promise for its result. The given promise is consumed.
+/// Resolving the returned promise once the callback has been executed does not block.
+#[unsafe(no_mangle)]
+pub extern "C" fn analyzed_query_promise_on_complete(
+    promise: *mut AnalyzedQueryPromise,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) -> *mut AnalyzedQueryPromise {
+    release(AnalyzedQueryPromise(on_complete(take_ownership(promise).0, callback_id, callback)))
+}
+
 /// Frees the native rust <code>AnalyzePromise</code> object.
 #[unsafe(no_mangle)]
 pub extern "C" fn analyzed_query_promise_drop(promise: *mut AnalyzedQueryPromise) {
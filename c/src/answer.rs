@@ -31,9 +31,10 @@ use crate::{
     analyze::ConjunctionIDIterator,
     common::{
         StringIterator,
-        error::{try_release, try_release_optional},
+        error::{try_release, try_release_optional, unwrap_or_default},
         iterator::CIterator,
         memory::{borrow, free, release, release_optional, release_string, string_view, take_ownership},
+        promise::on_complete,
     },
     concept::{ConceptIterator, ConceptRowIterator},
 };
@@ -56,6 +57,18 @@ pub extern "C" fn query_answer_promise_resolve(promise: *mut QueryAnswerPromise)
     try_release(take_ownership(promise).0.resolve())
 }
 
+/// Registers a callback, executed with <code>callback_id</code> once the operation represented by the
+/// <code>QueryAnswerPromise</code> completes, and returns a promise for its result. The given promise is consumed.
+/// Resolving the returned promise once the callback has been executed does not block.
+#[unsafe(no_mangle)]
+pub extern "C" fn query_answer_promise_on_complete(
+    promise: *mut QueryAnswerPromise,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) -> *mut QueryAnswerPromise {
+    release(QueryAnswerPromise(on_complete(take_ownership(promise).0, callback_id, callback)))
+}
+
 /// Frees the native rust <code>QueryAnswerPromise</code> object.
 #[unsafe(no_mangle)]
 pub extern "C" fn query_answer_promise_drop(promise: *mut QueryAnswerPromise) {
@@ -151,6 +164,32 @@ pub extern "C" fn concept_row_get_index(concept_row: *const ConceptRow, column_i
     try_release_optional(borrow(concept_row).get_index(column_index).map(|concept| concept.cloned()).transpose())
 }
 
+/// Checks whether the column with the given index is empty in this row.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_row_is_empty_index(concept_row: *const ConceptRow, column_index: usize) -> bool {
+    unwrap_or_default(borrow(concept_row).get_index(column_index).map(|concept| concept.is_none()))
+}
+
+/// Retrieves the <code>integer</code> value in the column with the given index, or the given default
+/// if the column is empty or does not hold an <code>integer</code> value.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_row_get_integer_or_default_index(
+    concept_row: *const ConceptRow,
+    column_index: usize,
+    default_value: i64,
+) -> i64 {
+    let concept = borrow(concept_row).get_index(column_index);
+    unwrap_or_default(concept.map(|concept| concept.and_then(Concept::try_get_integer).unwrap_or(default_value)))
+}
+
+/// Retrieves the <code>double</code> value in the column with the given index, or NaN
+/// if the column is empty or does not hold a <code>double</code> value.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_row_get_double_or_nan_index(concept_row: *const ConceptRow, column_index: usize) -> f64 {
+    let concept = borrow(concept_row).get_index(column_index);
+    unwrap_or_default(concept.map(|concept| concept.and_then(Concept::try_get_double).unwrap_or(f64::NAN)))
+}
+
 /// Retrieve the <code>ConjunctionID</code>s of <code>Conjunction</code>s that answered this row.
 /// May be null.
 #[unsafe(no_mangle)]
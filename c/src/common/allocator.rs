@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{
+    alloc::{GlobalAlloc, Layout, System},
+    sync::atomic::{AtomicBool, AtomicIsize, Ordering},
+};
+
+static IS_TRACKING: AtomicBool = AtomicBool::new(false);
+static ALLOCATED_BYTES: AtomicIsize = AtomicIsize::new(0);
+
+/// Thin wrapper over the system allocator that, while tracking is enabled, keeps a running total of the bytes
+/// allocated and not yet freed by the native library, so that handles leaked by the language drivers show up as
+/// retained memory. While tracking is disabled, the only cost over the system allocator is a relaxed load.
+struct CountingAllocator;
+
+impl CountingAllocator {
+    fn count(delta: isize) {
+        if IS_TRACKING.load(Ordering::Relaxed) {
+            ALLOCATED_BYTES.fetch_add(delta, Ordering::Relaxed);
+        }
+    }
+}
+
+unsafe impl GlobalAlloc for CountingAllocator {
+    unsafe fn alloc(&self, layout: Layout) -> *mut u8 {
+        let ptr = unsafe { System.alloc(layout) };
+        if !ptr.is_null() {
+            Self::count(layout.size() as isize);
+        }
+        ptr
+    }
+
+    unsafe fn alloc_zeroed(&self, layout: Layout) -> *mut u8 {
+        let ptr = unsafe { System.alloc_zeroed(layout) };
+        if !ptr.is_null() {
+            Self::count(layout.size() as isize);
+        }
+        ptr
+    }
+
+    unsafe fn dealloc(&self, ptr: *mut u8, layout: Layout) {
+        unsafe { System.dealloc(ptr, layout) };
+        Self::count(-(layout.size() as isize));
+    }
+
+    unsafe fn realloc(&self, ptr: *mut u8, layout: Layout, new_size: usize) -> *mut u8 {
+        let new_ptr = unsafe { System.realloc(ptr, layout, new_size) };
+        if !new_ptr.is_null() {
+            Self::count(new_size as isize - layout.size() as isize);
+        }
+        new_ptr
+    }
+}
+
+#[global_allocator]
+static ALLOCATOR: CountingAllocator = CountingAllocator;
+
+/// Enables or disables counting the bytes allocated by the native driver library. Counting is disabled by default.
+#[unsafe(no_mangle)]
+pub extern "C" fn native_memory_set_tracking(enabled: bool) {
+    IS_TRACKING.store(enabled, Ordering::Relaxed);
+}
+
+/// Returns the number of bytes allocated by the native driver library while tracking was enabled, less those freed
+/// while tracking was enabled. Memory allocated before tracking was enabled and freed since is subtracted too,
+/// so that the count can be negative; it is meant to show growth, such as leaked handles, while tracking.
+#[unsafe(no_mangle)]
+pub extern "C" fn native_memory_allocated_bytes() -> i64 {
+    ALLOCATED_BYTES.load(Ordering::Relaxed) as i64
+}
@@ -22,6 +22,7 @@ use std::{collections::HashMap, ffi::c_char, hash::Hash, ptr::null_mut};
 use itertools::Itertools;
 use typedb_driver::Result;
 
+pub(crate) mod allocator;
 pub(crate) mod error;
 pub(crate) mod iterator;
 pub(crate) mod memory;
@@ -17,15 +17,92 @@
  * under the License.
  */
 
-use std::ffi::c_char;
+use std::{
+    ffi::c_char,
+    panic::{self, AssertUnwindSafe},
+    sync::{LazyLock, mpsc},
+    thread,
+    time::Duration,
+};
 
-use typedb_driver::{BoxPromise, Promise, Result};
+use tokio::runtime::{Builder, Runtime};
+use typedb_driver::{BoxPromise, Error, Promise, Result, analyze::AnalyzedQuery, answer::QueryAnswer};
 
 use super::{
     error::{try_release_optional_string, unwrap_or_default, unwrap_void},
-    memory::take_ownership,
+    memory::{release, take_ownership},
 };
 
+/// The most native threads that wait on promises registered through the <code>*_promise_on_complete</code>
+/// functions at once. Threads are started as registrations need them, and stop once idle for
+/// <code>RESOLVER_KEEP_ALIVE</code>.
+const RESOLVER_MAX_THREADS: usize = 4096;
+const RESOLVER_KEEP_ALIVE: Duration = Duration::from_secs(10);
+
+// Promises of the synchronous driver are blocking closures rather than futures, so each outstanding one is waited on
+// by a thread of the runtime's blocking pool, which grows and shrinks with the number of registrations
+static RESOLVERS: LazyLock<Option<Runtime>> = LazyLock::new(|| {
+    Builder::new_multi_thread()
+        .worker_threads(1)
+        .max_blocking_threads(RESOLVER_MAX_THREADS)
+        .thread_keep_alive(RESOLVER_KEEP_ALIVE)
+        .thread_name("typedb-promise-resolver")
+        .build()
+        .ok()
+});
+
+/// Carries a promise to a resolver thread, and its result back.
+pub(crate) struct Handover<T>(T);
+
+// SAFETY: the C API already lets the caller resolve a promise, and use its result, on whichever thread it chooses.
+// A resolver thread is just another such thread, and the value is only ever accessed by one thread at a time.
+macro_rules! handover_send {
+    ($($result:ty),* $(,)?) => {$(
+        unsafe impl Send for Handover<BoxPromise<'static, Result<$result>>> {}
+        unsafe impl Send for Handover<thread::Result<Result<$result>>> {}
+    )*};
+}
+
+handover_send!((), bool, Option<String>, QueryAnswer, AnalyzedQuery);
+
+impl<T> Handover<T> {
+    fn into_inner(self) -> T {
+        self.0
+    }
+}
+
+/// Resolves the promise on a resolver thread, then executes the callback with <code>callback_id</code>.
+/// The returned promise yields the same result, and no longer blocks once the callback has been executed.
+/// If no resolver thread can be started, the callback is executed at once and the promise is returned as it is.
+pub(crate) fn on_complete<T: 'static>(
+    promise: BoxPromise<'static, Result<T>>,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) -> BoxPromise<'static, Result<T>>
+where
+    Handover<BoxPromise<'static, Result<T>>>: Send,
+    Handover<thread::Result<Result<T>>>: Send,
+{
+    let Some(resolvers) = RESOLVERS.as_ref() else {
+        callback(callback_id);
+        return promise;
+    };
+    let (sender, receiver) = mpsc::sync_channel(1);
+    let promise = Handover(promise);
+    resolvers.spawn_blocking(move || {
+        let promise = promise.into_inner();
+        // a panic is caught, so that the callback always runs, and reported when the returned promise is resolved
+        let result = panic::catch_unwind(AssertUnwindSafe(|| promise.resolve()));
+        sender.send(Handover(result)).ok();
+        callback(callback_id);
+    });
+    Box::new(move || match receiver.recv().map(Handover::into_inner) {
+        Ok(Ok(result)) => result,
+        Ok(Err(_)) => Err(Error::FFI("the operation panicked while its promise was resolved".to_owned())),
+        Err(_) => Err(Error::FFI("the promise was dropped before it could be resolved".to_owned())),
+    })
+}
+
 /// Promise object representing the result of an asynchronous operation.
 /// A VoidPromise does not return a value, but must be resolved using \ref void_promise_resolve(VoidPromise*)
 /// to ensure the operation has completed, or for a failed operation to set the error.
@@ -39,6 +116,18 @@ pub extern "C" fn void_promise_resolve(promise: *mut VoidPromise) {
     unwrap_void(take_ownership(promise).0.resolve());
 }
 
+/// Registers a callback, executed with <code>callback_id</code> once the operation represented by the
+/// <code>VoidPromise</code> completes, and returns a promise for its result. The given promise is consumed.
+/// Resolving the returned promise once the callback has been executed does not block.
+#[unsafe(no_mangle)]
+pub extern "C" fn void_promise_on_complete(
+    promise: *mut VoidPromise,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) -> *mut VoidPromise {
+    release(VoidPromise(on_complete(take_ownership(promise).0, callback_id, callback)))
+}
+
 /// Frees the native rust <code>VoidPromise</code> object.
 #[unsafe(no_mangle)]
 pub extern "C" fn void_promise_drop(promise: *mut VoidPromise) {
@@ -57,6 +146,18 @@ pub extern "C" fn bool_promise_resolve(promise: *mut BoolPromise) -> bool {
     unwrap_or_default(take_ownership(promise).0.resolve())
 }
 
+/// Registers a callback, executed with <code>callback_id</code> once the operation represented by the
+/// <code>BoolPromise</code> completes, and returns a promise for its result. The given promise is consumed.
+/// Resolving the returned promise once the callback has been executed does not block.
+#[unsafe(no_mangle)]
+pub extern "C" fn bool_promise_on_complete(
+    promise: *mut BoolPromise,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) -> *mut BoolPromise {
+    release(BoolPromise(on_complete(take_ownership(promise).0, callback_id, callback)))
+}
+
 /// Frees the native rust <code>BoolPromise</code> object.
 #[unsafe(no_mangle)]
 pub extern "C" fn bool_promise_drop(promise: *mut BoolPromise) {
@@ -75,6 +176,18 @@ pub extern "C" fn string_promise_resolve(promise: *mut StringPromise) -> *mut c_
     try_release_optional_string(take_ownership(promise).0.resolve().transpose())
 }
 
+/// Registers a callback, executed with <code>callback_id</code> once the operation represented by the
+/// <code>StringPromise</code> completes, and returns a promise for its result. The given promise is consumed.
+/// Resolving the returned promise once the callback has been executed does not block.
+#[unsafe(no_mangle)]
+pub extern "C" fn string_promise_on_complete(
+    promise: *mut StringPromise,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) -> *mut StringPromise {
+    release(StringPromise(on_complete(take_ownership(promise).0, callback_id, callback)))
+}
+
 /// Frees the native rust <code>StringPromise</code> object.
 #[unsafe(no_mangle)]
 pub extern "C" fn string_promise_drop(promise: *mut StringPromise) {
@@ -21,15 +21,16 @@ use std::{ffi::c_char, ptr::null_mut, str::FromStr};
 
 use chrono::{DateTime, FixedOffset, NaiveDate, NaiveDateTime, NaiveTime, TimeZone as ChronoTimeZone};
 use typedb_driver::{
-    box_stream,
+    IID, box_stream,
     concept::{
-        Attribute, Concept, Entity, Relation, Value,
+        Attribute, AttributeType, Concept, Entity, EntityType, Relation, RelationType, RoleType, Value, ValueType,
         value::{Decimal, Duration, TimeZone},
     },
+    error::ConceptError,
 };
 
 use crate::common::{
-    error::try_release,
+    error::{try_release, unwrap_or_default},
     iterator::CIterator,
     memory::{
         borrow, borrow_mut, free, release, release_optional, release_optional_string, release_string, string_free,
@@ -288,6 +289,26 @@ pub extern "C" fn concept_get_double(concept: *const Concept) -> f64 {
     }
 }
 
+/// Returns the <code>boolean</code> value of this concept, or the given default if it does not hold a
+/// <code>boolean</code> value.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_get_boolean_or_default(concept: *const Concept, default_value: bool) -> bool {
+    borrow(concept).try_get_boolean().unwrap_or(default_value)
+}
+
+/// Returns the <code>integer</code> value of this concept, or the given default if it does not hold an
+/// <code>integer</code> value.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_get_integer_or_default(concept: *const Concept, default_value: i64) -> i64 {
+    borrow(concept).try_get_integer().unwrap_or(default_value)
+}
+
+/// Returns the <code>double</code> value of this concept, or NaN if it does not hold a <code>double</code> value.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_get_double_or_nan(concept: *const Concept) -> f64 {
+    borrow(concept).try_get_double().unwrap_or(f64::NAN)
+}
+
 /// Returns the <code>decimal</code> value of this value concept.
 /// If the value has another type, the error is set.
 #[unsafe(no_mangle)]
@@ -298,6 +319,57 @@ pub extern "C" fn concept_get_decimal(concept: *const Concept) -> Decimal {
     }
 }
 
+/// Returns the number of fractional digits needed to represent this decimal value exactly,
+/// between 0 and 19. Together with <code>concept_get_decimal_unscaled</code>, describes the decimal
+/// without allocating.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_get_decimal_scale(concept: *const Concept) -> u32 {
+    match borrow(concept).try_get_decimal() {
+        Some(value) => decimal_scale(&value),
+        None => unreachable!("Attempting to unwrap a non-decimal {:?} as decimal", borrow(concept)),
+    }
+}
+
+/// Returns this decimal value multiplied by 10^scale, where the scale is given by
+/// <code>concept_get_decimal_scale</code>.
+/// If the result does not fit into a signed 64-bit integer, the error is set.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_get_decimal_unscaled(concept: *const Concept) -> i64 {
+    let Some(value) = borrow(concept).try_get_decimal() else {
+        unreachable!("Attempting to unwrap a non-decimal {:?} as decimal", borrow(concept))
+    };
+    let scale = decimal_scale(&value);
+    // a scale of 19 overflows a 64-bit power of ten, so the value is assembled in 128 bits and narrowed at the end
+    let unscaled = 10i128
+        .checked_pow(scale)
+        .and_then(|multiplier| i128::from(value.integer).checked_mul(multiplier))
+        .and_then(|integer| {
+            integer.checked_add(i128::from(value.fractional / 10u64.pow(DECIMAL_FRACTIONAL_DIGITS - scale)))
+        })
+        .and_then(|unscaled| i64::try_from(unscaled).ok());
+    unwrap_or_default(unscaled.ok_or_else(|| out_of_range(value, "a 64-bit unscaled decimal")))
+}
+
+const DECIMAL_FRACTIONAL_DIGITS: u32 = 19;
+
+fn decimal_scale(value: &Decimal) -> u32 {
+    let mut fractional = value.fractional;
+    if fractional == 0 {
+        return 0;
+    }
+    let mut scale = DECIMAL_FRACTIONAL_DIGITS;
+    while fractional % 10 == 0 {
+        fractional /= 10;
+        scale -= 1;
+    }
+    scale
+}
+
+fn out_of_range(value: impl std::fmt::Display, representation: &str) -> typedb_driver::Error {
+    ConceptError::ValueOutOfPrimitiveRange { value: value.to_string(), representation: representation.to_owned() }
+        .into()
+}
+
 /// Returns the <code>string</code> value of this value concept.
 /// If the value has another type, the error is set.
 #[unsafe(no_mangle)]
@@ -338,6 +410,61 @@ pub extern "C" fn concept_get_datetime_tz(concept: *const Concept) -> *mut Datet
     }
 }
 
+/// Returns the instant of this datetime or datetime-tz value concept as nanoseconds since the start of the UNIX epoch.
+/// If the instant is outside the range representable by a signed 64-bit integer (years 1677 to 2262), the error is set.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_get_datetime_as_nanos(concept: *const Concept) -> i64 {
+    let concept = borrow(concept);
+    let nanos = match (concept.try_get_datetime(), concept.try_get_datetime_tz()) {
+        (Some(value), _) => value.and_utc().timestamp_nanos_opt().ok_or_else(|| out_of_range(value, "epoch nanoseconds")),
+        (_, Some(value)) => value.timestamp_nanos_opt().ok_or_else(|| out_of_range(value, "epoch nanoseconds")),
+        _ => unreachable!("Attempting to unwrap a non-datetime {:?} as datetime", concept),
+    };
+    unwrap_or_default(nanos)
+}
+
+/// Returns the months part of this duration value concept.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_get_duration_months(concept: *const Concept) -> u32 {
+    concept_get_duration(concept).months
+}
+
+/// Returns the days part of this duration value concept.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_get_duration_days(concept: *const Concept) -> u32 {
+    concept_get_duration(concept).days
+}
+
+/// Returns the nanoseconds part of this duration value concept.
+/// If it does not fit into a signed 64-bit integer, the error is set.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_get_duration_nanos(concept: *const Concept) -> i64 {
+    let value = concept_get_duration(concept);
+    unwrap_or_default(i64::try_from(value.nanos).map_err(|_| out_of_range(value, "64-bit nanoseconds")))
+}
+
+/// Writes the months, days and nanoseconds of this duration value concept into the first three elements of
+/// <code>parts</code>, and returns whether the concept holds a duration. If it does not, <code>parts</code> is left
+/// unchanged. If the nanoseconds do not fit into a signed 64-bit integer, the error is set.
+///
+/// @param concept The <code>Concept</code> to read.
+/// @param parts The array of at least three elements to write the duration into.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_get_duration_parts(concept: *const Concept, parts: *mut i64) -> bool {
+    let Some(value) = borrow(concept).try_get_duration() else {
+        return false;
+    };
+    let nanos = i64::try_from(value.nanos).map_err(|_| out_of_range(value, "64-bit nanoseconds"));
+    if parts.is_null() {
+        return false;
+    }
+    unwrap_or_default(nanos.map(|nanos| {
+        let parts = unsafe { std::slice::from_raw_parts_mut(parts, 3) };
+        parts.copy_from_slice(&[value.months as i64, value.days as i64, nanos]);
+        true
+    }))
+}
+
 /// Returns the value of this duration value.
 /// If the value has another type, the error is set.
 #[unsafe(no_mangle)]
@@ -510,6 +637,66 @@ pub extern "C" fn concept_new_duration(months: u32, days: u32, nanos: u64) -> *m
     release(Concept::Value(Value::Duration(Duration::new(months, days, nanos))))
 }
 
+/// Creates a new <code>Concept</code> object holding an entity type with the specified label.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_new_entity_type(label: *const c_char) -> *mut Concept {
+    release(Concept::EntityType(EntityType { label: string_view(label).to_owned() }))
+}
+
+/// Creates a new <code>Concept</code> object holding a relation type with the specified label.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_new_relation_type(label: *const c_char) -> *mut Concept {
+    release(Concept::RelationType(RelationType { label: string_view(label).to_owned() }))
+}
+
+/// Creates a new <code>Concept</code> object holding a role type with the specified scoped label.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_new_role_type(label: *const c_char) -> *mut Concept {
+    release(Concept::RoleType(RoleType { label: string_view(label).to_owned() }))
+}
+
+/// Creates a new <code>Concept</code> object holding an attribute type with the specified label,
+/// and the specified value type name, or no value type if it is null.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_new_attribute_type(label: *const c_char, value_type: *const c_char) -> *mut Concept {
+    let value_type = optional_string_view(value_type).map(ValueType::from_name);
+    release(Concept::AttributeType(AttributeType { label: string_view(label).to_owned(), value_type }))
+}
+
+/// Creates a new <code>Concept</code> object holding an entity with the specified IID, in its <code>0x</code> form,
+/// and the specified type label, or no type if it is null.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_new_entity(iid: *const c_char, type_label: *const c_char) -> *mut Concept {
+    let type_ = optional_string_view(type_label).map(|label| EntityType { label: label.to_owned() });
+    try_release(IID::from_str(string_view(iid)).map(|iid| Concept::Entity(Entity { iid, type_ })))
+}
+
+/// Creates a new <code>Concept</code> object holding a relation with the specified IID, in its <code>0x</code> form,
+/// and the specified type label, or no type if it is null.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_new_relation(iid: *const c_char, type_label: *const c_char) -> *mut Concept {
+    let type_ = optional_string_view(type_label).map(|label| RelationType { label: label.to_owned() });
+    try_release(IID::from_str(string_view(iid)).map(|iid| Concept::Relation(Relation { iid, type_ })))
+}
+
+/// Creates a new <code>Concept</code> object holding an attribute with the specified IID, in its <code>0x</code> form,
+/// the value held by the specified <code>Value</code> concept, and the specified type label, or no type if it is null.
+/// Will panic if the value concept is not a <code>Value</code>.
+#[unsafe(no_mangle)]
+pub extern "C" fn concept_new_attribute(iid: *const c_char, type_label: *const c_char, value: *const Concept) -> *mut Concept {
+    let value = match borrow(value) {
+        Concept::Value(value) => value.clone(),
+        _ => unreachable!("Expected a Value concept"),
+    };
+    let type_ = optional_string_view(type_label)
+        .map(|label| AttributeType { label: label.to_owned(), value_type: Some(value.get_type()) });
+    try_release(IID::from_str(string_view(iid)).map(|iid| Concept::Attribute(Attribute { iid, value, type_ })))
+}
+
+fn optional_string_view(str: *const c_char) -> Option<&'static str> {
+    (!str.is_null()).then(|| string_view(str))
+}
+
 pub(super) fn borrow_as_entity(concept: *const Concept) -> &'static Entity {
     match borrow(concept) {
         Concept::Entity(entity) => entity,
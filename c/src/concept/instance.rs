@@ -17,12 +17,12 @@
  * under the License.
  */
 
-use std::ptr::null_mut;
+use std::{ffi::c_char, ptr::null_mut};
 
 use typedb_driver::concept::Concept;
 
 use super::concept::{borrow_as_attribute, borrow_as_entity, borrow_as_relation};
-use crate::common::memory::release;
+use crate::common::memory::{release, release_string};
 
 /// Retrieves the type which this ``Entity`` belongs to.
 #[unsafe(no_mangle)]
@@ -47,3 +47,9 @@ pub extern "C" fn attribute_get_type(attribute: *const Concept) -> *mut Concept
         .map(|type_| release(Concept::AttributeType(type_.clone())))
         .unwrap_or_else(null_mut)
 }
+
+/// Retrieves the unique id of the ``Attribute``, for internal use only.
+#[unsafe(no_mangle)]
+pub extern "C" fn attribute_get_iid(attribute: *const Concept) -> *mut c_char {
+    release_string(borrow_as_attribute(attribute).iid.to_string())
+}
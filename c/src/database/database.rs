@@ -19,11 +19,11 @@
 
 use std::{ffi::c_char, path::Path};
 
-use typedb_driver::Database;
+use typedb_driver::{Database, DatabaseExport};
 
 use crate::common::{
-    error::{try_release_string, unwrap_void},
-    memory::{borrow, decrement_arc, release_string, string_view, take_arc},
+    error::{try_release, try_release_string, unwrap_or_default, unwrap_void},
+    memory::{borrow, borrow_mut, decrement_arc, free, release_string, string_view, take_arc},
 };
 
 /// Frees the native rust <code>Database</code> object.
@@ -79,3 +79,41 @@ pub extern "C" fn database_export_to_file(
     let data_file_path = Path::new(string_view(data_file));
     unwrap_void(database.export_to_file(schema_file_path, data_file_path))
 }
+
+/// Starts a streaming export of a database, to be read incrementally with <code>database_export_schema</code>
+/// and <code>database_export_read_data</code> rather than written to files.
+///
+/// @param database The <code>Database</code> object to export from.
+#[unsafe(no_mangle)]
+pub extern "C" fn database_export(database: *const Database) -> *mut DatabaseExport {
+    try_release(borrow(database).export())
+}
+
+/// Retrieves the schema definition of the exported database, reading the export up to it.
+///
+/// @param export The <code>DatabaseExport</code> to read from.
+#[unsafe(no_mangle)]
+pub extern "C" fn database_export_schema(export: *mut DatabaseExport) -> *mut c_char {
+    try_release_string(borrow_mut(export).schema())
+}
+
+/// Reads the next part of the exported data into the given buffer, in the format written by
+/// <code>database_export_to_file</code>. Returns the number of bytes read, or 0 once the export is complete.
+///
+/// @param export The <code>DatabaseExport</code> to read from.
+/// @param buffer The buffer to read the data into.
+/// @param capacity The size of the buffer in bytes.
+#[unsafe(no_mangle)]
+pub extern "C" fn database_export_read_data(export: *mut DatabaseExport, buffer: *mut u8, capacity: usize) -> i64 {
+    if buffer.is_null() || capacity == 0 {
+        return 0;
+    }
+    let buffer = unsafe { std::slice::from_raw_parts_mut(buffer, capacity) };
+    unwrap_or_default(borrow_mut(export).read_data(buffer).map(|read| read as i64))
+}
+
+/// Frees the native rust <code>DatabaseExport</code> object, abandoning the export if it is incomplete.
+#[unsafe(no_mangle)]
+pub extern "C" fn database_export_drop(export: *mut DatabaseExport) {
+    free(export)
+}
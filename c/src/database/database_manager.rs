@@ -19,12 +19,12 @@
 
 use std::{ffi::c_char, path::Path, ptr::addr_of_mut, sync::Arc};
 
-use typedb_driver::{Database, TypeDBDriver, box_stream};
+use typedb_driver::{Database, DatabaseImport, TypeDBDriver, box_stream};
 
 use crate::common::{
     error::{try_release, try_release_arc, unwrap_or_default, unwrap_void},
     iterator::{CIterator, iterator_arc_next},
-    memory::{borrow, free, string_view},
+    memory::{borrow, borrow_mut, free, string_view, take_ownership},
 };
 
 /// An <code>Iterator</code> over databases present on the TypeDB server.
@@ -97,3 +97,64 @@ pub extern "C" fn databases_import_from_file(
     let data_file_path = Path::new(string_view(data_file));
     unwrap_void(borrow(driver).databases().import_from_file(string_view(name), string_view(schema), data_file_path))
 }
+
+/// Starts creating a database with the given name from previously exported data, to be written incrementally
+/// with <code>database_import_write_data</code> rather than read from a file.
+///
+/// @param driver The <code>TypeDBDriver</code> object.
+/// @param name The name of the database to be created.
+/// @param schema The schema definition query string for the database.
+/// @param batch_size The number of items sent to the server in each batch.
+/// @param in_flight_batches The number of batches that may wait for the server before writing waits.
+#[unsafe(no_mangle)]
+pub extern "C" fn databases_import(
+    driver: *mut TypeDBDriver,
+    name: *const c_char,
+    schema: *const c_char,
+    batch_size: usize,
+    in_flight_batches: usize,
+) -> *mut DatabaseImport {
+    let databases = borrow(driver).databases();
+    try_release(databases.import(string_view(name), string_view(schema), batch_size, in_flight_batches))
+}
+
+/// Writes the next part of the exported data to the import, in the format written by
+/// <code>database_export_to_file</code>. Parts do not need to be aligned to item boundaries.
+/// Blocks while the in-flight window of the import is full.
+///
+/// @param import The <code>DatabaseImport</code> to write to.
+/// @param data The next part of the exported data.
+/// @param length The length of the data in bytes.
+#[unsafe(no_mangle)]
+pub extern "C" fn database_import_write_data(import: *mut DatabaseImport, data: *const u8, length: usize) {
+    if data.is_null() || length == 0 {
+        return;
+    }
+    let data = unsafe { std::slice::from_raw_parts(data, length) };
+    unwrap_void(borrow_mut(import).write_data(data))
+}
+
+/// Retrieves the number of items decoded so far. Once the import is done, they have all been imported.
+#[unsafe(no_mangle)]
+pub extern "C" fn database_import_decoded_items(import: *const DatabaseImport) -> i64 {
+    borrow(import).decoded_items() as i64
+}
+
+/// Retrieves the number of items sent to the server so far, which only takes more items as it reads them.
+#[unsafe(no_mangle)]
+pub extern "C" fn database_import_sent_items(import: *const DatabaseImport) -> i64 {
+    borrow(import).sent_items() as i64
+}
+
+/// Sends the remaining items and waits for the server to complete the import.
+/// Consumes the <code>DatabaseImport</code>.
+#[unsafe(no_mangle)]
+pub extern "C" fn database_import_done(import: *mut DatabaseImport) {
+    unwrap_void(take_ownership(import).done())
+}
+
+/// Frees the native rust <code>DatabaseImport</code> object, abandoning the import if it is not done.
+#[unsafe(no_mangle)]
+pub extern "C" fn database_import_drop(import: *mut DatabaseImport) {
+    free(import)
+}
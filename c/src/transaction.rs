@@ -20,7 +20,8 @@
 use std::{ffi::c_char, ptr::null_mut};
 
 use typedb_driver::{
-    Error, Promise, QueryOptions, Transaction, TransactionOptions, TransactionType, TypeDBDriver, given::GivenRows,
+    Error, PreparedQuery, Promise, QueryOptions, TraceContext, Transaction, TransactionOptions, TransactionType,
+    TypeDBDriver, given::GivenRows,
 };
 
 use crate::{
@@ -49,6 +50,28 @@ pub extern "C" fn transaction_new(
     try_release(borrow(driver).transaction_with_options(string_view(database_name), type_, *borrow(options)))
 }
 
+/// Opens a transaction under the caller's trace context. The trace context is sent to the server
+/// as <code>traceparent</code> gRPC metadata, so that server-side spans join the caller's trace.
+/// A malformed trace context is ignored and the transaction is opened without it.
+///
+/// @param databases The <code>DatabaseManager</code> object on this connection.
+/// @param database_name The name of the database with which the transaction connects.
+/// @param type_ The type of transaction to be created (Write / Read / Schema).
+/// @param options <code>TransactionOptions</code> to configure the opened transaction.
+/// @param traceparent The W3C <code>traceparent</code> header value of the caller's span.
+#[unsafe(no_mangle)]
+pub extern "C" fn transaction_new_traced(
+    driver: *mut TypeDBDriver,
+    database_name: *const c_char,
+    type_: TransactionType,
+    options: *const TransactionOptions,
+    traceparent: *const c_char,
+) -> *mut Transaction {
+    let trace_context = TraceContext::from_traceparent(string_view(traceparent));
+    let options = TransactionOptions { trace_context, ..*borrow(options) };
+    try_release(borrow(driver).transaction_with_options(string_view(database_name), type_, options))
+}
+
 /// Performs a TypeQL query in the transaction.
 ///
 /// @param transaction The <code>Transaction</code> to execute the query within.
@@ -85,6 +108,41 @@ pub extern "C" fn transaction_query_given_rows(
     ))))
 }
 
+/// Prepares a TypeQL query for repeated execution in the transaction.
+///
+/// @param transaction The <code>Transaction</code> to prepare the query within.
+/// @param query The query string.
+/// @param options <code>QueryOptions</code> to configure every execution of the query.
+#[unsafe(no_mangle)]
+pub extern "C" fn transaction_prepare(
+    transaction: *const Transaction,
+    query: *const c_char,
+    options: *const QueryOptions,
+) -> *mut PreparedQuery {
+    release(borrow(transaction).prepare(string_view(query), *borrow(options)))
+}
+
+/// Executes a prepared TypeQL query in the transaction.
+///
+/// @param transaction The <code>Transaction</code> to execute the query within.
+/// @param prepared_query The <code>PreparedQuery</code> to execute.
+/// @param given_rows Optional <code>GivenRows</code> given as input to the query. May be null.
+#[unsafe(no_mangle)]
+pub extern "C" fn transaction_execute_prepared(
+    transaction: *const Transaction,
+    prepared_query: *const PreparedQuery,
+    given_rows: *mut GivenRows,
+) -> *mut QueryAnswerPromise {
+    let given_rows = if given_rows.is_null() { None } else { Some(take_ownership(given_rows)) };
+    release(QueryAnswerPromise::new(Box::new(borrow(transaction).execute(borrow(prepared_query), given_rows))))
+}
+
+/// Frees the native rust <code>PreparedQuery</code> object.
+#[unsafe(no_mangle)]
+pub extern "C" fn prepared_query_drop(prepared_query: *mut PreparedQuery) {
+    free(prepared_query);
+}
+
 /// Analyzes a TypeQL query in the transaction.
 ///
 /// @param transaction The <code>Transaction</code> to analyze the query within.
@@ -37,6 +37,10 @@ TEST(TestQuery, TestGiven) {
     EXPECT_TRUE(test_query_given());
 }
 
+TEST(TestPromise, TestOnComplete) {
+    EXPECT_TRUE(test_promise_on_complete());
+}
+
 TEST(TestExample, TestExample) {
     EXPECT_TRUE(test_example());
 }
@@ -17,8 +17,11 @@
  * under the License.
  */
 
+#include <stdatomic.h>
+#include <stdint.h>
 #include <stdio.h>
 #include <string.h>
+#include <time.h>
 
 #include "c/typedb_driver.h"
 #include "common.h"
@@ -392,3 +395,92 @@ cleanup:
     driver_close(driver);
     return success;
 }
+
+// More outstanding registrations than the promise resolvers used to have threads
+#define PROMISE_COUNT 128
+
+static atomic_int promise_callbacks[PROMISE_COUNT];
+
+static void count_promise_callback(uintptr_t callback_id) {
+    atomic_fetch_add(&promise_callbacks[callback_id], 1);
+}
+
+static bool all_promise_callbacks_called() {
+    for (size_t i = 0; i < PROMISE_COUNT; i++) {
+        if (atomic_load(&promise_callbacks[i]) == 0) return false;
+    }
+    return true;
+}
+
+bool test_promise_on_complete() {
+    const char databaseName[] = "test_promise_on_complete";
+
+    TypeDBDriver* driver = NULL;
+    TransactionOptions* tx_opts = NULL;
+    QueryOptions* query_opts = NULL;
+    Transaction* transaction = NULL;
+    QueryAnswerPromise* promises[PROMISE_COUNT] = {NULL};
+
+    bool success = false;
+
+    driver = driver_new_for_tests(TYPEDB_CORE_ADDRESS, TYPEDB_CORE_USERNAME, TYPEDB_CORE_PASSWORD);
+    if (FAILED()) goto cleanup;
+
+    delete_database_if_exists(driver, databaseName);
+    if (FAILED()) goto cleanup;
+
+    databases_create(driver, databaseName);
+    if (FAILED()) goto cleanup;
+
+    tx_opts = transaction_options_new();
+    if (FAILED()) goto cleanup;
+    query_opts = query_options_new();
+    if (FAILED()) goto cleanup;
+
+    transaction = transaction_new(driver, databaseName, Read, tx_opts);
+    if (FAILED()) goto cleanup;
+
+    for (size_t i = 0; i < PROMISE_COUNT; i++) {
+        atomic_init(&promise_callbacks[i], 0);
+        QueryAnswerPromise* promise = transaction_query(transaction, "match let $x = 1;", query_opts);
+        if (FAILED()) goto cleanup;
+        promises[i] = query_answer_promise_on_complete(promise, i, count_promise_callback);
+    }
+
+    for (size_t i = 0; i < PROMISE_COUNT; i++) {
+        QueryAnswer* answer = query_answer_promise_resolve(promises[i]);
+        promises[i] = NULL;
+        if (FAILED()) goto cleanup;
+        bool is_rows = query_answer_is_concept_row_stream(answer);
+        query_answer_drop(answer);
+        if (!is_rows) goto cleanup;
+    }
+
+    // A callback runs just after its result is handed over, so it may still be running when the promise resolves
+    struct timespec pause = {0, 1000000};
+    for (int waited = 0; waited < 10000 && !all_promise_callbacks_called(); waited++) nanosleep(&pause, NULL);
+
+    for (size_t i = 0; i < PROMISE_COUNT; i++) {
+        int calls = atomic_load(&promise_callbacks[i]);
+        if (calls != 1) {
+            fprintf(stderr, "The callback of promise %zu was called %d times.\n", i, calls);
+            goto cleanup;
+        }
+    }
+
+    success = true;
+
+cleanup:
+    for (size_t i = 0; i < PROMISE_COUNT; i++) {
+        if (NULL != promises[i]) query_answer_promise_drop(promises[i]);
+    }
+    if (NULL != transaction) transaction_drop_sync(transaction);
+    transaction_options_drop(tx_opts);
+    query_options_drop(query_opts);
+
+    delete_database_if_exists(driver, databaseName);
+    check_error_may_print(__FILE__, __LINE__);
+
+    driver_close(driver);
+    return success;
+}
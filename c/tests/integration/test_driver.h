@@ -23,6 +23,8 @@ bool test_query_schema();
 bool test_query_data();
 bool test_query_given();
 
+bool test_promise_on_complete();
+
 bool test_concept_api_schema();
 bool test_concept_api_data();
 
@@ -69,8 +69,11 @@ struct Type {};
 #define typedb_driver_drop driver_close
 %dropproxy(TypeDBDriver, typedb_driver)
 %dropproxy(Transaction, transaction)
+%dropproxy(PreparedQuery, prepared_query)
 
 %dropproxy(Database, database)
+%dropproxy(DatabaseExport, database_export)
+%dropproxy(DatabaseImport, database_import)
 %dropproxy(DatabaseIterator, database_iterator)
 %dropproxy(Server, server)
 %dropproxy(ServerIterator, server_iterator)
@@ -126,20 +129,6 @@ struct Type {};
 %dropproxy(VariableAnnotationsIterator, variable_annotations_iterator)
 %dropproxy(VariableIterator, variable_iterator)
 
-%define %promiseproxy(Type, function_prefix)
-struct Type {};
-%newobject function_prefix ## _resolve;
-%delobject function_prefix ## _resolve;
-%extend Type { ~Type() { function_prefix ## _drop(self); } }
-%delobject function_prefix ## _drop;
-%enddef
-
-%promiseproxy(AnalyzedQueryPromise, analyzed_query_promise)
-%promiseproxy(BoolPromise, bool_promise)
-%promiseproxy(StringPromise, string_promise)
-%promiseproxy(QueryAnswerPromise, query_answer_promise)
-%promiseproxy(VoidPromise, void_promise)
-
 %feature("director") TransactionCallbackDirector;
 %inline %{
 struct TransactionCallbackDirector {
@@ -149,6 +138,15 @@ struct TransactionCallbackDirector {
 };
 %}
 
+%feature("director") PromiseCallbackDirector;
+%inline %{
+struct PromiseCallbackDirector {
+    PromiseCallbackDirector() {}
+    virtual ~PromiseCallbackDirector() {}
+    virtual void callback() = 0;
+};
+%}
+
 %{
 #include <memory>
 #include <iostream>
@@ -156,22 +154,23 @@ struct TransactionCallbackDirector {
 #include <atomic>
 #include <unordered_map>
 
-// Thread-safe map for transaction callback directors
-class ThreadSafeTransactionCallbacks {
+// Thread-safe map for callback directors
+template <typename Director>
+class ThreadSafeCallbacks {
 private:
-    static std::unordered_map<size_t, TransactionCallbackDirector*> s_callbacks;
+    static std::unordered_map<size_t, Director*> s_callbacks;
     static std::mutex s_mutex;
 
 public:
-    ThreadSafeTransactionCallbacks(const ThreadSafeTransactionCallbacks&) = delete;
-    ThreadSafeTransactionCallbacks& operator=(const ThreadSafeTransactionCallbacks&) = delete;
+    ThreadSafeCallbacks(const ThreadSafeCallbacks&) = delete;
+    ThreadSafeCallbacks& operator=(const ThreadSafeCallbacks&) = delete;
 
-    static void insert(size_t key, TransactionCallbackDirector* value) {
+    static void insert(size_t key, Director* value) {
         std::lock_guard<std::mutex> lock(s_mutex);
         s_callbacks[key] = value;
     }
 
-    static TransactionCallbackDirector* find(size_t key) {
+    static Director* find(size_t key) {
         std::lock_guard<std::mutex> lock(s_mutex);
         auto it = s_callbacks.find(key);
         return (it != s_callbacks.end()) ? it->second : nullptr;
@@ -183,8 +182,11 @@ public:
     }
 };
 
-std::unordered_map<size_t, TransactionCallbackDirector*> ThreadSafeTransactionCallbacks::s_callbacks;
-std::mutex ThreadSafeTransactionCallbacks::s_mutex;
+template <typename Director> std::unordered_map<size_t, Director*> ThreadSafeCallbacks<Director>::s_callbacks;
+template <typename Director> std::mutex ThreadSafeCallbacks<Director>::s_mutex;
+
+typedef ThreadSafeCallbacks<TransactionCallbackDirector> ThreadSafeTransactionCallbacks;
+typedef ThreadSafeCallbacks<PromiseCallbackDirector> ThreadSafePromiseCallbacks;
 
 static void transaction_callback_execute(size_t ID, Error* error) {
     try {
@@ -197,7 +199,51 @@ static void transaction_callback_execute(size_t ID, Error* error) {
         std::cerr << "[ERROR] Exception in transaction callback: " << e.what() << std::endl;
     }
 }
+
+// A promise callback is executed exactly once, so the director is deleted once it has been called
+static void promise_callback_execute(size_t ID) {
+    try {
+        std::unique_ptr<PromiseCallbackDirector> cb(ThreadSafePromiseCallbacks::find(ID));
+        ThreadSafePromiseCallbacks::remove(ID);
+        if (cb != nullptr) {
+            cb->callback();
+        }
+    } catch (std::exception const& e) {
+        std::cerr << "[ERROR] Exception in promise callback: " << e.what() << std::endl;
+    }
+}
+
+static size_t promise_callback_register(PromiseCallbackDirector* handler) {
+    static std::atomic_size_t nextID;
+    std::size_t ID = nextID.fetch_add(1);
+    ThreadSafePromiseCallbacks::insert(ID, handler);
+    return ID;
+}
+%}
+
+%define %promiseproxy(Type, function_prefix)
+struct Type {};
+%newobject function_prefix ## _resolve;
+%delobject function_prefix ## _resolve;
+%extend Type { ~Type() { function_prefix ## _drop(self); } }
+%delobject function_prefix ## _drop;
+
+%rename(function_prefix ## _on_complete) function_prefix ## _on_complete_register;
+%ignore function_prefix ## _on_complete;
+%newobject function_prefix ## _on_complete_register;
+%delobject function_prefix ## _on_complete_register;
+%inline %{
+Type* function_prefix ## _on_complete_register(Type* promise, PromiseCallbackDirector* handler) {
+    return function_prefix ## _on_complete(promise, promise_callback_register(handler), &promise_callback_execute);
+}
 %}
+%enddef
+
+%promiseproxy(AnalyzedQueryPromise, analyzed_query_promise)
+%promiseproxy(BoolPromise, bool_promise)
+%promiseproxy(StringPromise, string_promise)
+%promiseproxy(QueryAnswerPromise, query_answer_promise)
+%promiseproxy(VoidPromise, void_promise)
 
 %rename(transaction_on_close) transaction_on_close_register;
 %ignore transaction_on_close;
@@ -211,8 +257,11 @@ VoidPromise* transaction_on_close_register(const Transaction* transaction, Trans
 %}
 
 %newobject transaction_new;
+%newobject transaction_new_traced;
 %newobject transaction_query;
 %newobject transaction_query_given_rows;
+%newobject transaction_prepare;
+%newobject transaction_execute_prepared;
 %delobject transaction_commit;
 
 %typemap(newfree) char* "string_free($1);";
@@ -238,6 +287,7 @@ VoidPromise* transaction_on_close_register(const Transaction* transaction, Trans
 %newobject entity_get_type;
 %newobject relation_get_type;
 %newobject attribute_get_type;
+%newobject attribute_get_iid;
 
 %newobject concept_new_boolean;
 %newobject concept_new_integer;
@@ -250,6 +300,13 @@ VoidPromise* transaction_on_close_register(const Transaction* transaction, Trans
 %newobject concept_new_datetime_tz_iana;
 %newobject concept_new_datetime_tz_offset;
 %newobject concept_new_duration;
+%newobject concept_new_entity_type;
+%newobject concept_new_relation_type;
+%newobject concept_new_role_type;
+%newobject concept_new_attribute_type;
+%newobject concept_new_entity;
+%newobject concept_new_relation;
+%newobject concept_new_attribute;
 
 %newobject concept_get_label;
 %newobject concept_try_get_label;
@@ -276,12 +333,16 @@ VoidPromise* transaction_on_close_register(const Transaction* transaction, Trans
 %newobject database_get_name;
 %newobject database_schema;
 %newobject database_type_schema;
+%newobject database_export;
+%newobject database_export_schema;
 %delobject database_delete;
 
 %newobject server_get_address;
 
 %newobject databases_all;
 %newobject databases_get;
+%newobject databases_import;
+%delobject database_import_done;
 
 %newobject given_rows_header_builder_new;
 %delobject given_rows_header_builder_finish;
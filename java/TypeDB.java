@@ -19,9 +19,11 @@
 
 package com.typedb.driver;
 
+import com.typedb.driver.answer.RowMapperImpl;
 import com.typedb.driver.api.Credentials;
 import com.typedb.driver.api.Driver;
 import com.typedb.driver.api.DriverOptions;
+import com.typedb.driver.api.answer.RowMapper;
 import com.typedb.driver.api.concept.GivenRows;
 import com.typedb.driver.api.concept.value.Value;
 import com.typedb.driver.common.Duration;
@@ -89,6 +91,21 @@ public class TypeDB {
         return new DriverImpl(addressTranslation, credentials, driverOptions);
     }
 
+    /**
+     * Creates a <code>RowMapper</code> that maps <code>ConceptRow</code>s onto instances of the given class.
+     * Fields and their setters are resolved once, here, so the mapper should be reused across queries.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDB.rowMapper(Person.class);
+     * </pre>
+     *
+     * @param type The class to map rows onto
+     */
+    public static <T> RowMapper<T> rowMapper(Class<T> type) throws TypeDBDriverException {
+        return new RowMapperImpl<>(type);
+    }
+
     /**
      * Factory class to instantiate new <code>Value</code> concepts from raw values.
      * These can then be used in the <code>GivenRows</code> of a query.
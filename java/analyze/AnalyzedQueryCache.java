@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.analyze;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A per-database LRU cache of analyzed queries, keyed by query text. An <code>AnalyzedQueryImpl</code> is an
+ * immutable Java copy of the server's analysis that holds no native handles, independent of the transaction that
+ * produced it, so it can be shared between transactions until the schema of its database changes.
+ * <p>
+ * Each database carries a schema generation, bumped on invalidation, so that an analysis requested before a schema
+ * commit and completed after it is never cached.
+ */
+public class AnalyzedQueryCache {
+    private final int capacity;
+    private final Map<String, DatabaseCache> databases;
+
+    public AnalyzedQueryCache(int capacity) {
+        this.capacity = capacity;
+        this.databases = new ConcurrentHashMap<>();
+    }
+
+    public AnalyzedQueryImpl get(String database, String query) {
+        DatabaseCache cache = databases.get(database);
+        return cache == null ? null : cache.get(query);
+    }
+
+    public long generation(String database) {
+        return databases.computeIfAbsent(database, name -> new DatabaseCache(capacity)).generation();
+    }
+
+    public void put(String database, long generation, String query, AnalyzedQueryImpl analyzedQuery) {
+        DatabaseCache cache = databases.get(database);
+        if (cache != null) cache.put(generation, query, analyzedQuery);
+    }
+
+    public void invalidate(String database) {
+        DatabaseCache cache = databases.get(database);
+        if (cache != null) cache.invalidate();
+    }
+
+    private static class DatabaseCache {
+        private final LinkedHashMap<String, AnalyzedQueryImpl> entries;
+        private long generation;
+
+        private DatabaseCache(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, AnalyzedQueryImpl> eldest) {
+                    return size() > capacity;
+                }
+            };
+            this.generation = 0;
+        }
+
+        private synchronized AnalyzedQueryImpl get(String query) {
+            return entries.get(query);
+        }
+
+        private synchronized long generation() {
+            return generation;
+        }
+
+        private synchronized void put(long generation, String query, AnalyzedQueryImpl analyzedQuery) {
+            if (this.generation == generation) entries.put(query, analyzedQuery);
+        }
+
+        private synchronized void invalidate() {
+            generation++;
+            entries.clear();
+        }
+    }
+}
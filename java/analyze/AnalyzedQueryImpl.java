@@ -21,30 +21,46 @@ package com.typedb.driver.analyze;
 
 import com.typedb.driver.api.analyze.AnalyzedQuery;
 import com.typedb.driver.common.NativeIterator;
-import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.jni.typedb_driver;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
-public class AnalyzedQueryImpl extends NativeObject<com.typedb.driver.jni.AnalyzedQuery> implements AnalyzedQuery {
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An analyzed query, copied out of the native analysis in full when it is created, so that it holds no native
+ * handles and can be kept in the <code>AnalyzedQueryCache</code> at no native cost.
+ */
+public class AnalyzedQueryImpl implements AnalyzedQuery {
+    private final PipelineImpl pipeline;
+    private final List<FunctionImpl> preamble;
+    private final Optional<GivenImpl> given;
+    private final Optional<FetchImpl> fetch;
+
     public AnalyzedQueryImpl(com.typedb.driver.jni.AnalyzedQuery nativeObject) {
-        super(nativeObject);
+        // the given stage shares the pipeline's variables and conjunctions, so both are built through one scope
+        PipelineImpl.Scope scope = new PipelineImpl.Scope(typedb_driver.analyzed_query_pipeline(nativeObject));
+        this.given = Optional.ofNullable(typedb_driver.analyzed_given(nativeObject)).map(given -> new GivenImpl(given, scope));
+        this.pipeline = new PipelineImpl(scope);
+        this.preamble = new NativeIterator<>(typedb_driver.analyzed_preamble(nativeObject)).stream().map(FunctionImpl::new).collect(toList());
+        this.fetch = Optional.ofNullable(typedb_driver.analyzed_fetch(nativeObject)).map(FetchImpl::of);
     }
 
     public PipelineImpl pipeline() {
-        return new PipelineImpl(typedb_driver.analyzed_query_pipeline(nativeObject));
+        return pipeline;
     }
 
     public Stream<FunctionImpl> preamble() {
-        return new NativeIterator<>(typedb_driver.analyzed_preamble(nativeObject)).stream().map(FunctionImpl::new);
+        return preamble.stream();
     }
 
     public Optional<GivenImpl> given() {
-        return Optional.ofNullable(typedb_driver.analyzed_given(nativeObject)).map(GivenImpl::new);
+        return given;
     }
 
     public Optional<FetchImpl> fetch() {
-        return Optional.ofNullable(typedb_driver.analyzed_fetch(nativeObject)).map(FetchImpl::of);
+        return fetch;
     }
 }
@@ -19,23 +19,26 @@
 
 package com.typedb.driver.analyze;
 
-import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.jni.typedb_driver;
 
 import com.typedb.driver.api.analyze.ConjunctionID;
 
-public class ConjunctionIDImpl extends NativeObject<com.typedb.driver.jni.ConjunctionID> implements ConjunctionID {
+public class ConjunctionIDImpl implements ConjunctionID {
+    private final long id;
+    private final String repr;
+
     public ConjunctionIDImpl(com.typedb.driver.jni.ConjunctionID nativeObject) {
-        super(nativeObject);
+        this.id = typedb_driver.conjunction_id_as_u32(nativeObject);
+        this.repr = typedb_driver.conjunction_id_string_repr(nativeObject);
     }
 
-    private long id() {
-        return com.typedb.driver.jni.typedb_driver.conjunction_id_as_u32(nativeObject);
+    long id() {
+        return id;
     }
 
     @Override
     public int hashCode() {
-        return Long.hashCode(id());
+        return Long.hashCode(id);
     }
 
     @Override
@@ -43,11 +46,11 @@ public class ConjunctionIDImpl extends NativeObject<com.typedb.driver.jni.Conjun
         if (obj == this) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         ConjunctionIDImpl that = (ConjunctionIDImpl) obj;
-        return this.id() == that.id();
+        return this.id == that.id;
     }
 
     @Override
     public String toString() {
-        return typedb_driver.conjunction_id_string_repr(nativeObject);
+        return repr;
     }
 }
@@ -22,24 +22,43 @@ package com.typedb.driver.analyze;
 import com.typedb.driver.api.analyze.Conjunction;
 import com.typedb.driver.api.analyze.Variable;
 import com.typedb.driver.common.NativeIterator;
-import com.typedb.driver.common.NativeObject;
+import com.typedb.driver.common.exception.TypeDBDriverException;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
-public class ConjunctionImpl extends NativeObject<com.typedb.driver.jni.Conjunction> implements Conjunction {
-    protected ConjunctionImpl(com.typedb.driver.jni.Conjunction nativeObject) {
-        super(nativeObject);
+import static com.typedb.driver.common.exception.ErrorMessage.Internal.NULL_NATIVE_VALUE;
+import static java.util.stream.Collectors.toList;
+
+public class ConjunctionImpl implements Conjunction {
+    private final List<ConstraintImpl> constraints;
+    private final Map<VariableImpl, VariableAnnotationsImpl> variableAnnotations;
+
+    ConjunctionImpl(com.typedb.driver.jni.Conjunction nativeObject, PipelineImpl.Scope scope) {
+        this.constraints = new NativeIterator<>(com.typedb.driver.jni.typedb_driver.conjunction_get_constraints(nativeObject)).stream()
+                .map(constraint -> ConstraintImpl.of(constraint, scope)).collect(toList());
+        this.variableAnnotations = new LinkedHashMap<>();
+        new NativeIterator<>(com.typedb.driver.jni.typedb_driver.conjunction_get_annotated_variables(nativeObject)).forEachRemaining(nativeVariable -> {
+            VariableAnnotationsImpl annotations = new VariableAnnotationsImpl(
+                    com.typedb.driver.jni.typedb_driver.conjunction_get_variable_annotations(nativeObject, nativeVariable)
+            );
+            variableAnnotations.put(scope.variable(nativeVariable), annotations);
+        });
     }
 
     public Stream<ConstraintImpl> constraints() {
-        return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.conjunction_get_constraints(nativeObject)).stream().map(ConstraintImpl::of);
+        return constraints.stream();
     }
 
     public Stream<VariableImpl> annotated_variables() {
-        return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.conjunction_get_annotated_variables(nativeObject)).stream().map(VariableImpl::new);
+        return variableAnnotations.keySet().stream();
     }
 
     public VariableAnnotationsImpl variable_annotations(Variable variable) {
-        return new VariableAnnotationsImpl(com.typedb.driver.jni.typedb_driver.conjunction_get_variable_annotations(nativeObject, ((VariableImpl) variable).nativeObject));
+        VariableAnnotationsImpl annotations = variableAnnotations.get(variable);
+        if (annotations == null) throw new TypeDBDriverException(NULL_NATIVE_VALUE);
+        return annotations;
     }
 }
@@ -21,70 +21,78 @@ package com.typedb.driver.analyze;
 
 import com.typedb.driver.api.analyze.Constraint;
 import com.typedb.driver.common.NativeIterator;
-import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.jni.typedb_driver;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Analyze.INVALID_CONSTRAINT_CASTING;
 import static com.typedb.driver.common.util.Objects.className;
+import static java.util.stream.Collectors.toList;
 
-public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.ConstraintWithSpan> implements Constraint {
-    public ConstraintImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
-        super(nativeObject);
+public abstract class ConstraintImpl implements Constraint {
+    private final com.typedb.driver.jni.ConstraintVariant variant;
+    private final SpanImpl span;
+    private final String repr;
+
+    ConstraintImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        this.variant = typedb_driver.constraint_variant(nativeObject);
+        this.span = new SpanImpl(typedb_driver.constraint_span_begin(nativeObject), typedb_driver.constraint_span_end(nativeObject));
+        this.repr = typedb_driver.constraint_string_repr(nativeObject);
+    }
+
+    private static List<ConstraintVertexImpl> vertices(com.typedb.driver.jni.ConstraintVertexIterator nativeVertices, PipelineImpl.Scope scope) {
+        return new NativeIterator<>(nativeVertices).stream().map(vertex -> new ConstraintVertexImpl(vertex, scope)).collect(toList());
     }
 
-    public static ConstraintImpl of(com.typedb.driver.jni.ConstraintWithSpan constraint) {
+    static ConstraintImpl of(com.typedb.driver.jni.ConstraintWithSpan constraint, PipelineImpl.Scope scope) {
         com.typedb.driver.jni.ConstraintVariant variant =
                 com.typedb.driver.jni.typedb_driver.constraint_variant(constraint);
         switch (variant) {
             case Isa:
-                return new IsaImpl(constraint);
+                return new IsaImpl(constraint, scope);
             case Has:
-                return new HasImpl(constraint);
+                return new HasImpl(constraint, scope);
             case Links:
-                return new LinksImpl(constraint);
+                return new LinksImpl(constraint, scope);
             case Sub:
-                return new SubImpl(constraint);
+                return new SubImpl(constraint, scope);
             case Owns:
-                return new OwnsImpl(constraint);
+                return new OwnsImpl(constraint, scope);
             case Relates:
-                return new RelatesImpl(constraint);
+                return new RelatesImpl(constraint, scope);
             case Plays:
-                return new PlaysImpl(constraint);
+                return new PlaysImpl(constraint, scope);
             case FunctionCall:
-                return new FunctionCallImpl(constraint);
+                return new FunctionCallImpl(constraint, scope);
             case Expression:
-                return new ExpressionImpl(constraint);
+                return new ExpressionImpl(constraint, scope);
             case Is:
-                return new IsImpl(constraint);
+                return new IsImpl(constraint, scope);
             case Iid:
-                return new IidImpl(constraint);
+                return new IidImpl(constraint, scope);
             case Comparison:
-                return new ComparisonImpl(constraint);
+                return new ComparisonImpl(constraint, scope);
             case KindOf:
-                return new KindImpl(constraint);
+                return new KindImpl(constraint, scope);
             case Label:
-                return new LabelImpl(constraint);
+                return new LabelImpl(constraint, scope);
             case Value:
-                return new ValueImpl(constraint);
+                return new ValueImpl(constraint, scope);
             case Or:
-                return new OrImpl(constraint);
+                return new OrImpl(constraint, scope);
             case Not:
-                return new NotImpl(constraint);
+                return new NotImpl(constraint, scope);
             case Try:
-                return new TryImpl(constraint);
+                return new TryImpl(constraint, scope);
             default:
                 throw new IllegalStateException("Unexpected constraint variant: " + variant);
         }
     }
 
     public SpanImpl span() {
-        return new SpanImpl(
-                com.typedb.driver.jni.typedb_driver.constraint_span_begin(nativeObject),
-                com.typedb.driver.jni.typedb_driver.constraint_span_end(nativeObject)
-        );
+        return span;
     }
 
     public static class SpanImpl implements Span {
@@ -108,7 +116,7 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
     }
 
     public com.typedb.driver.jni.ConstraintVariant variant() {
-        return com.typedb.driver.jni.typedb_driver.constraint_variant(nativeObject);
+        return variant;
     }
 
     public boolean isIsa() {
@@ -185,7 +193,7 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
 
     @Override
     public String toString() {
-        return typedb_driver.constraint_string_repr(nativeObject);
+        return repr;
     }
 
     public IsaImpl asIsa() {
@@ -261,8 +269,15 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
     }
 
     public static class IsaImpl extends ConstraintImpl implements Constraint.Isa {
-        public IsaImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConstraintVertexImpl instance;
+        private final ConstraintVertexImpl type;
+        private final com.typedb.driver.jni.ConstraintExactness exactness;
+
+        IsaImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.instance = new ConstraintVertexImpl(typedb_driver.constraint_isa_get_instance(nativeObject), scope);
+            this.type = new ConstraintVertexImpl(typedb_driver.constraint_isa_get_type(nativeObject), scope);
+            this.exactness = typedb_driver.constraint_isa_get_exactness(nativeObject);
         }
 
         @Override
@@ -276,21 +291,28 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConstraintVertexImpl instance() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_isa_get_instance(nativeObject));
+            return instance;
         }
 
         public ConstraintVertexImpl type() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_isa_get_type(nativeObject));
+            return type;
         }
 
         public com.typedb.driver.jni.ConstraintExactness exactness() {
-            return typedb_driver.constraint_isa_get_exactness(nativeObject);
+            return exactness;
         }
     }
 
     public static class HasImpl extends ConstraintImpl implements Constraint.Has {
-        public HasImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConstraintVertexImpl owner;
+        private final ConstraintVertexImpl attribute;
+        private final com.typedb.driver.jni.ConstraintExactness exactness;
+
+        HasImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.owner = new ConstraintVertexImpl(typedb_driver.constraint_has_get_owner(nativeObject), scope);
+            this.attribute = new ConstraintVertexImpl(typedb_driver.constraint_has_get_attribute(nativeObject), scope);
+            this.exactness = typedb_driver.constraint_has_get_exactness(nativeObject);
         }
 
         @Override
@@ -304,21 +326,30 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConstraintVertexImpl owner() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_has_get_owner(nativeObject));
+            return owner;
         }
 
         public ConstraintVertexImpl attribute() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_has_get_attribute(nativeObject));
+            return attribute;
         }
 
         public com.typedb.driver.jni.ConstraintExactness exactness() {
-            return typedb_driver.constraint_has_get_exactness(nativeObject);
+            return exactness;
         }
     }
 
     public static class LinksImpl extends ConstraintImpl implements Constraint.Links {
-        public LinksImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConstraintVertexImpl relation;
+        private final ConstraintVertexImpl player;
+        private final ConstraintVertexImpl role;
+        private final com.typedb.driver.jni.ConstraintExactness exactness;
+
+        LinksImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.relation = new ConstraintVertexImpl(typedb_driver.constraint_links_get_relation(nativeObject), scope);
+            this.player = new ConstraintVertexImpl(typedb_driver.constraint_links_get_player(nativeObject), scope);
+            this.role = new ConstraintVertexImpl(typedb_driver.constraint_links_get_role(nativeObject), scope);
+            this.exactness = typedb_driver.constraint_links_get_exactness(nativeObject);
         }
 
         @Override
@@ -332,25 +363,32 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConstraintVertexImpl relation() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_links_get_relation(nativeObject));
+            return relation;
         }
 
         public ConstraintVertexImpl player() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_links_get_player(nativeObject));
+            return player;
         }
 
         public ConstraintVertexImpl role() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_links_get_role(nativeObject));
+            return role;
         }
 
         public com.typedb.driver.jni.ConstraintExactness exactness() {
-            return typedb_driver.constraint_links_get_exactness(nativeObject);
+            return exactness;
         }
     }
 
     public static class SubImpl extends ConstraintImpl implements Constraint.Sub {
-        public SubImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConstraintVertexImpl subtype;
+        private final ConstraintVertexImpl supertype;
+        private final com.typedb.driver.jni.ConstraintExactness exactness;
+
+        SubImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.subtype = new ConstraintVertexImpl(typedb_driver.constraint_sub_get_subtype(nativeObject), scope);
+            this.supertype = new ConstraintVertexImpl(typedb_driver.constraint_sub_get_supertype(nativeObject), scope);
+            this.exactness = typedb_driver.constraint_sub_get_exactness(nativeObject);
         }
 
         @Override
@@ -364,21 +402,28 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConstraintVertexImpl subtype() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_sub_get_subtype(nativeObject));
+            return subtype;
         }
 
         public ConstraintVertexImpl supertype() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_sub_get_supertype(nativeObject));
+            return supertype;
         }
 
         public com.typedb.driver.jni.ConstraintExactness exactness() {
-            return typedb_driver.constraint_sub_get_exactness(nativeObject);
+            return exactness;
         }
     }
 
     public static class OwnsImpl extends ConstraintImpl implements Constraint.Owns {
-        public OwnsImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConstraintVertexImpl owner;
+        private final ConstraintVertexImpl attribute;
+        private final com.typedb.driver.jni.ConstraintExactness exactness;
+
+        OwnsImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.owner = new ConstraintVertexImpl(typedb_driver.constraint_owns_get_owner(nativeObject), scope);
+            this.attribute = new ConstraintVertexImpl(typedb_driver.constraint_owns_get_attribute(nativeObject), scope);
+            this.exactness = typedb_driver.constraint_owns_get_exactness(nativeObject);
         }
 
         @Override
@@ -392,21 +437,28 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConstraintVertexImpl owner() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_owns_get_owner(nativeObject));
+            return owner;
         }
 
         public ConstraintVertexImpl attribute() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_owns_get_attribute(nativeObject));
+            return attribute;
         }
 
         public com.typedb.driver.jni.ConstraintExactness exactness() {
-            return typedb_driver.constraint_owns_get_exactness(nativeObject);
+            return exactness;
         }
     }
 
     public static class RelatesImpl extends ConstraintImpl implements Constraint.Relates {
-        public RelatesImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConstraintVertexImpl relation;
+        private final ConstraintVertexImpl role;
+        private final com.typedb.driver.jni.ConstraintExactness exactness;
+
+        RelatesImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.relation = new ConstraintVertexImpl(typedb_driver.constraint_relates_get_relation(nativeObject), scope);
+            this.role = new ConstraintVertexImpl(typedb_driver.constraint_relates_get_role(nativeObject), scope);
+            this.exactness = typedb_driver.constraint_relates_get_exactness(nativeObject);
         }
 
         @Override
@@ -420,21 +472,28 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConstraintVertexImpl relation() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_relates_get_relation(nativeObject));
+            return relation;
         }
 
         public ConstraintVertexImpl role() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_relates_get_role(nativeObject));
+            return role;
         }
 
         public com.typedb.driver.jni.ConstraintExactness exactness() {
-            return typedb_driver.constraint_relates_get_exactness(nativeObject);
+            return exactness;
         }
     }
 
     public static class PlaysImpl extends ConstraintImpl implements Constraint.Plays {
-        public PlaysImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConstraintVertexImpl player;
+        private final ConstraintVertexImpl role;
+        private final com.typedb.driver.jni.ConstraintExactness exactness;
+
+        PlaysImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.player = new ConstraintVertexImpl(typedb_driver.constraint_plays_get_player(nativeObject), scope);
+            this.role = new ConstraintVertexImpl(typedb_driver.constraint_plays_get_role(nativeObject), scope);
+            this.exactness = typedb_driver.constraint_plays_get_exactness(nativeObject);
         }
 
         @Override
@@ -448,21 +507,28 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConstraintVertexImpl player() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_plays_get_player(nativeObject));
+            return player;
         }
 
         public ConstraintVertexImpl role() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_plays_get_role(nativeObject));
+            return role;
         }
 
         public com.typedb.driver.jni.ConstraintExactness exactness() {
-            return typedb_driver.constraint_plays_get_exactness(nativeObject);
+            return exactness;
         }
     }
 
     public static class FunctionCallImpl extends ConstraintImpl implements Constraint.FunctionCall {
-        public FunctionCallImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final String name;
+        private final List<ConstraintVertexImpl> arguments;
+        private final List<ConstraintVertexImpl> assigned;
+
+        FunctionCallImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.name = typedb_driver.constraint_function_call_get_name(nativeObject);
+            this.arguments = vertices(typedb_driver.constraint_function_call_get_arguments(nativeObject), scope);
+            this.assigned = vertices(typedb_driver.constraint_function_call_get_assigned(nativeObject), scope);
         }
 
         @Override
@@ -476,21 +542,28 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public String name() {
-            return typedb_driver.constraint_function_call_get_name(nativeObject);
+            return name;
         }
 
         public Stream<ConstraintVertexImpl> arguments() {
-            return new NativeIterator<>(typedb_driver.constraint_function_call_get_arguments(nativeObject)).stream().map(ConstraintVertexImpl::new);
+            return arguments.stream();
         }
 
         public Stream<ConstraintVertexImpl> assigned() {
-            return new NativeIterator<>(typedb_driver.constraint_function_call_get_assigned(nativeObject)).stream().map(ConstraintVertexImpl::new);
+            return assigned.stream();
         }
     }
 
     public static class ExpressionImpl extends ConstraintImpl implements Constraint.Expression {
-        public ExpressionImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final String text;
+        private final List<ConstraintVertexImpl> arguments;
+        private final ConstraintVertexImpl assigned;
+
+        ExpressionImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.text = typedb_driver.constraint_expression_get_text(nativeObject);
+            this.arguments = vertices(typedb_driver.constraint_expression_get_arguments(nativeObject), scope);
+            this.assigned = new ConstraintVertexImpl(typedb_driver.constraint_expression_get_assigned(nativeObject), scope);
         }
 
         @Override
@@ -504,21 +577,26 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public String text() {
-            return typedb_driver.constraint_expression_get_text(nativeObject);
+            return text;
         }
 
         public Stream<ConstraintVertexImpl> arguments() {
-            return new NativeIterator<>(typedb_driver.constraint_expression_get_arguments(nativeObject)).stream().map(ConstraintVertexImpl::new);
+            return arguments.stream();
         }
 
         public ConstraintVertexImpl assigned() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_expression_get_assigned(nativeObject));
+            return assigned;
         }
     }
 
     public static class IsImpl extends ConstraintImpl implements Constraint.Is {
-        public IsImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConstraintVertexImpl lhs;
+        private final ConstraintVertexImpl rhs;
+
+        IsImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.lhs = new ConstraintVertexImpl(typedb_driver.constraint_is_get_lhs(nativeObject), scope);
+            this.rhs = new ConstraintVertexImpl(typedb_driver.constraint_is_get_rhs(nativeObject), scope);
         }
 
         @Override
@@ -532,17 +610,22 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConstraintVertexImpl lhs() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_is_get_lhs(nativeObject));
+            return lhs;
         }
 
         public ConstraintVertexImpl rhs() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_is_get_rhs(nativeObject));
+            return rhs;
         }
     }
 
     public static class IidImpl extends ConstraintImpl implements Constraint.Iid {
-        public IidImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConstraintVertexImpl variable;
+        private final String iid;
+
+        IidImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.variable = new ConstraintVertexImpl(typedb_driver.constraint_iid_get_variable(nativeObject), scope);
+            this.iid = typedb_driver.constraint_iid_get_iid(nativeObject);
         }
 
         @Override
@@ -556,17 +639,26 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConstraintVertexImpl variable() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_iid_get_variable(nativeObject));
+            return variable;
         }
 
         public String iid() {
-            return typedb_driver.constraint_iid_get_iid(nativeObject);
+            return iid;
         }
     }
 
     public static class ComparisonImpl extends ConstraintImpl implements Constraint.Comparison {
-        public ComparisonImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConstraintVertexImpl lhs;
+        private final ConstraintVertexImpl rhs;
+        private final com.typedb.driver.jni.Comparator comparator;
+        private final String comparatorSymbol;
+
+        ComparisonImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.lhs = new ConstraintVertexImpl(typedb_driver.constraint_comparison_get_lhs(nativeObject), scope);
+            this.rhs = new ConstraintVertexImpl(typedb_driver.constraint_comparison_get_rhs(nativeObject), scope);
+            this.comparator = typedb_driver.constraint_comparison_get_comparator(nativeObject);
+            this.comparatorSymbol = typedb_driver.comparator_get_name(comparator);
         }
 
         @Override
@@ -580,25 +672,30 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConstraintVertexImpl lhs() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_comparison_get_lhs(nativeObject));
+            return lhs;
         }
 
         public ConstraintVertexImpl rhs() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_comparison_get_rhs(nativeObject));
+            return rhs;
         }
 
         public com.typedb.driver.jni.Comparator comparator() {
-            return typedb_driver.constraint_comparison_get_comparator(nativeObject);
+            return comparator;
         }
 
         public String comparatorSymbol() {
-            return typedb_driver.comparator_get_name(comparator());
+            return comparatorSymbol;
         }
     }
 
     public static class KindImpl extends ConstraintImpl implements Constraint.Kind {
-        public KindImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final com.typedb.driver.jni.Kind kind;
+        private final ConstraintVertexImpl type;
+
+        KindImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.kind = typedb_driver.constraint_kind_get_kind(nativeObject);
+            this.type = new ConstraintVertexImpl(typedb_driver.constraint_kind_get_type(nativeObject), scope);
         }
 
         @Override
@@ -612,17 +709,22 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public com.typedb.driver.jni.Kind kind() {
-            return typedb_driver.constraint_kind_get_kind(nativeObject);
+            return kind;
         }
 
         public ConstraintVertexImpl type() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_kind_get_type(nativeObject));
+            return type;
         }
     }
 
     public static class LabelImpl extends ConstraintImpl implements Constraint.Label {
-        public LabelImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConstraintVertexImpl variable;
+        private final String label;
+
+        LabelImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.variable = new ConstraintVertexImpl(typedb_driver.constraint_label_get_variable(nativeObject), scope);
+            this.label = typedb_driver.constraint_label_get_label(nativeObject);
         }
 
         @Override
@@ -636,17 +738,22 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConstraintVertexImpl variable() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_label_get_variable(nativeObject));
+            return variable;
         }
 
         public String label() {
-            return typedb_driver.constraint_label_get_label(nativeObject);
+            return label;
         }
     }
 
     public static class ValueImpl extends ConstraintImpl implements Constraint.Value {
-        public ValueImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConstraintVertexImpl attributeType;
+        private final String valueType;
+
+        ValueImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.attributeType = new ConstraintVertexImpl(typedb_driver.constraint_value_get_attribute_type(nativeObject), scope);
+            this.valueType = typedb_driver.constraint_value_get_value_type(nativeObject);
         }
 
         @Override
@@ -660,17 +767,20 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConstraintVertexImpl attributeType() {
-            return new ConstraintVertexImpl(typedb_driver.constraint_value_get_attribute_type(nativeObject));
+            return attributeType;
         }
 
         public String valueType() {
-            return typedb_driver.constraint_value_get_value_type(nativeObject);
+            return valueType;
         }
     }
 
     public static class OrImpl extends ConstraintImpl implements Constraint.Or {
-        public OrImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final List<ConjunctionIDImpl> branches;
+
+        OrImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.branches = new NativeIterator<>(typedb_driver.constraint_or_get_branches(nativeObject)).stream().map(scope::conjunctionID).collect(toList());
         }
 
         @Override
@@ -684,13 +794,16 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public Stream<ConjunctionIDImpl> branches() {
-            return new NativeIterator<>(typedb_driver.constraint_or_get_branches(nativeObject)).stream().map(ConjunctionIDImpl::new);
+            return branches.stream();
         }
     }
 
     public static class NotImpl extends ConstraintImpl implements Constraint.Not {
-        public NotImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConjunctionIDImpl conjunction;
+
+        NotImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.conjunction = scope.conjunctionID(typedb_driver.constraint_not_get_conjunction(nativeObject));
         }
 
         @Override
@@ -704,13 +817,16 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConjunctionIDImpl conjunction() {
-            return new ConjunctionIDImpl(typedb_driver.constraint_not_get_conjunction(nativeObject));
+            return conjunction;
         }
     }
 
     public static class TryImpl extends ConstraintImpl implements Constraint.Try {
-        public TryImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject) {
+        private final ConjunctionIDImpl conjunction;
+
+        TryImpl(com.typedb.driver.jni.ConstraintWithSpan nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.conjunction = scope.conjunctionID(typedb_driver.constraint_try_get_conjunction(nativeObject));
         }
 
         @Override
@@ -724,7 +840,7 @@ public abstract class ConstraintImpl extends NativeObject<com.typedb.driver.jni.
         }
 
         public ConjunctionIDImpl conjunction() {
-            return new ConjunctionIDImpl(typedb_driver.constraint_try_get_conjunction(nativeObject));
+            return conjunction;
         }
     }
 }
@@ -21,7 +21,6 @@ package com.typedb.driver.analyze;
 
 import com.typedb.driver.api.analyze.ConstraintVertex;
 import com.typedb.driver.api.concept.value.Value;
-import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.jni.ConstraintVertexVariant;
 import com.typedb.driver.jni.typedb_driver;
@@ -29,76 +28,76 @@ import com.typedb.driver.jni.typedb_driver;
 import static com.typedb.driver.common.exception.ErrorMessage.Analyze.INVALID_CONSTRAINT_VERTEX_CASTING;
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
 
-public class ConstraintVertexImpl extends NativeObject<com.typedb.driver.jni.ConstraintVertex> implements ConstraintVertex {
-    public ConstraintVertexImpl(com.typedb.driver.jni.ConstraintVertex nativeObject) {
-        super(nativeObject);
+public class ConstraintVertexImpl implements ConstraintVertex {
+    private final ConstraintVertexVariant variant;
+    private final Object vertex;
+
+    ConstraintVertexImpl(com.typedb.driver.jni.ConstraintVertex nativeObject, PipelineImpl.Scope scope) {
+        this.variant = typedb_driver.constraint_vertex_variant(nativeObject);
+        if (variant == ConstraintVertexVariant.VariableVertex) {
+            this.vertex = scope.variable(typedb_driver.constraint_vertex_as_variable(nativeObject));
+        } else if (variant == ConstraintVertexVariant.LabelVertex) {
+            this.vertex = com.typedb.driver.concept.ConceptImpl.of(typedb_driver.constraint_vertex_as_label(nativeObject)).asType();
+        } else if (variant == ConstraintVertexVariant.ValueVertex) {
+            this.vertex = new com.typedb.driver.concept.value.ValueImpl(typedb_driver.constraint_vertex_as_value(nativeObject));
+        } else if (variant == ConstraintVertexVariant.NamedRoleVertex) {
+            this.vertex = new NamedRoleImpl(typedb_driver.constraint_vertex_as_named_role(nativeObject), scope);
+        } else {
+            throw new TypeDBDriverException(ILLEGAL_STATE);
+        }
     }
 
     public com.typedb.driver.jni.ConstraintVertexVariant variant() {
-        return typedb_driver.constraint_vertex_variant(nativeObject);
+        return variant;
     }
 
     public boolean isVariable() {
-        return variant() == ConstraintVertexVariant.VariableVertex;
+        return variant == ConstraintVertexVariant.VariableVertex;
     }
 
     public boolean isLabel() {
-        return variant() == ConstraintVertexVariant.LabelVertex;
+        return variant == ConstraintVertexVariant.LabelVertex;
     }
 
     public boolean isValue() {
-        return variant() == ConstraintVertexVariant.ValueVertex;
+        return variant == ConstraintVertexVariant.ValueVertex;
     }
 
     public boolean isNamedRole() {
-        return variant() == ConstraintVertexVariant.NamedRoleVertex;
+        return variant == ConstraintVertexVariant.NamedRoleVertex;
     }
 
     public VariableImpl asVariable() {
         if (!isVariable()) {
             throw new TypeDBDriverException(INVALID_CONSTRAINT_VERTEX_CASTING, this.variant(), ConstraintVertexVariant.VariableVertex);
         }
-        return new VariableImpl(typedb_driver.constraint_vertex_as_variable(nativeObject));
+        return (VariableImpl) vertex;
     }
 
     public com.typedb.driver.api.concept.type.Type asLabel() {
         if (!isLabel()) {
             throw new TypeDBDriverException(INVALID_CONSTRAINT_VERTEX_CASTING, this.variant(), ConstraintVertexVariant.LabelVertex);
         }
-        return com.typedb.driver.concept.ConceptImpl.of(typedb_driver.constraint_vertex_as_label(nativeObject)).asType();
+        return (com.typedb.driver.api.concept.type.Type) vertex;
     }
 
     public Value asValue() {
         if (!isValue()) {
             throw new TypeDBDriverException(INVALID_CONSTRAINT_VERTEX_CASTING, this.variant(), ConstraintVertexVariant.ValueVertex);
         }
-        return new com.typedb.driver.concept.value.ValueImpl(typedb_driver.constraint_vertex_as_value(nativeObject));
+        return (Value) vertex;
     }
 
     public NamedRoleImpl asNamedRole() {
         if (!isNamedRole()) {
             throw new TypeDBDriverException(INVALID_CONSTRAINT_VERTEX_CASTING, this.variant(), ConstraintVertexVariant.NamedRoleVertex);
         }
-        return new NamedRoleImpl(typedb_driver.constraint_vertex_as_named_role(nativeObject));
-    }
-
-    private Object unwrap() {
-        if (isVariable()) {
-            return asVariable();
-        } else if (isLabel()) {
-            return asLabel();
-        } else if (isValue()) {
-            return asValue();
-        } else if (isNamedRole()) {
-            return asNamedRole();
-        } else {
-            throw new TypeDBDriverException(ILLEGAL_STATE);
-        }
+        return (NamedRoleImpl) vertex;
     }
 
     @Override
     public int hashCode() {
-        return unwrap().hashCode();
+        return vertex.hashCode();
     }
 
     @Override
@@ -106,11 +105,11 @@ public class ConstraintVertexImpl extends NativeObject<com.typedb.driver.jni.Con
         if (obj == this) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         ConstraintVertexImpl that = (ConstraintVertexImpl) obj;
-        return unwrap().equals(that.unwrap());
+        return vertex.equals(that.vertex);
     }
 
     @Override
     public String toString() {
-        return unwrap().toString();
+        return vertex.toString();
     }
 }
@@ -21,17 +21,23 @@ package com.typedb.driver.analyze;
 
 import com.typedb.driver.api.analyze.Fetch;
 import com.typedb.driver.common.NativeIterator;
-import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Analyze.INVALID_FETCH_CASTING;
+import static com.typedb.driver.common.exception.ErrorMessage.Internal.NULL_NATIVE_VALUE;
 import static com.typedb.driver.common.util.Objects.className;
+import static java.util.stream.Collectors.toList;
+
+public abstract class FetchImpl implements Fetch {
+    private final com.typedb.driver.jni.FetchVariant variant;
 
-public abstract class FetchImpl extends NativeObject<com.typedb.driver.jni.Fetch> implements Fetch {
     protected FetchImpl(com.typedb.driver.jni.Fetch fetch) {
-        super(fetch);
+        this.variant = com.typedb.driver.jni.typedb_driver.fetch_variant(fetch);
     }
 
     public static FetchImpl of(com.typedb.driver.jni.Fetch nativeObject) {
@@ -48,7 +54,7 @@ public abstract class FetchImpl extends NativeObject<com.typedb.driver.jni.Fetch
     }
 
     public com.typedb.driver.jni.FetchVariant variant() {
-        return com.typedb.driver.jni.typedb_driver.fetch_variant(nativeObject);
+        return variant;
     }
 
     @Override
@@ -82,8 +88,11 @@ public abstract class FetchImpl extends NativeObject<com.typedb.driver.jni.Fetch
     }
 
     public static class FetchLeafImpl extends FetchImpl implements Fetch.FetchLeaf {
+        private final List<String> annotations;
+
         protected FetchLeafImpl(com.typedb.driver.jni.Fetch nativeObject) {
             super(nativeObject);
+            this.annotations = new NativeIterator<>(com.typedb.driver.jni.typedb_driver.fetch_leaf_annotations(nativeObject)).stream().collect(toList());
         }
 
         @Override
@@ -98,13 +107,16 @@ public abstract class FetchImpl extends NativeObject<com.typedb.driver.jni.Fetch
 
         @Override
         public Stream<String> annotations() {
-            return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.fetch_leaf_annotations(nativeObject)).stream();
+            return annotations.stream();
         }
     }
 
     public static class FetchListImpl extends FetchImpl implements Fetch.FetchList {
+        private final FetchImpl element;
+
         protected FetchListImpl(com.typedb.driver.jni.Fetch nativeObject) {
             super(nativeObject);
+            this.element = FetchImpl.of(com.typedb.driver.jni.typedb_driver.fetch_list_element(nativeObject));
         }
 
         @Override
@@ -119,14 +131,19 @@ public abstract class FetchImpl extends NativeObject<com.typedb.driver.jni.Fetch
 
         @Override
         public Fetch element() {
-            return FetchImpl.of(com.typedb.driver.jni.typedb_driver.fetch_list_element(nativeObject));
+            return element;
         }
     }
 
     public static class FetchObjectImpl extends FetchImpl implements Fetch.FetchObject {
+        private final Map<String, FetchImpl> fields;
 
         protected FetchObjectImpl(com.typedb.driver.jni.Fetch nativeObject) {
             super(nativeObject);
+            this.fields = new LinkedHashMap<>();
+            new NativeIterator<>(com.typedb.driver.jni.typedb_driver.fetch_object_fields(nativeObject)).stream().forEach(key ->
+                    fields.put(key, FetchImpl.of(com.typedb.driver.jni.typedb_driver.fetch_object_get_field(nativeObject, key)))
+            );
         }
 
         @Override
@@ -141,12 +158,14 @@ public abstract class FetchImpl extends NativeObject<com.typedb.driver.jni.Fetch
 
         @Override
         public Stream<String> keys() {
-            return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.fetch_object_fields(nativeObject)).stream();
+            return fields.keySet().stream();
         }
 
         @Override
         public Fetch get(String key) {
-            return FetchImpl.of(com.typedb.driver.jni.typedb_driver.fetch_object_get_field(nativeObject, key));
+            FetchImpl field = fields.get(key);
+            if (field == null) throw new TypeDBDriverException(NULL_NATIVE_VALUE);
+            return field;
         }
     }
 }
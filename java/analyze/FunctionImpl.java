@@ -21,63 +21,76 @@ package com.typedb.driver.analyze;
 
 import com.typedb.driver.api.analyze.Function;
 import com.typedb.driver.common.NativeIterator;
-import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Analyze.INVALID_RETURN_OPERATION_CASTING;
 import static com.typedb.driver.common.util.Objects.className;
+import static java.util.stream.Collectors.toList;
 
-public class FunctionImpl extends NativeObject<com.typedb.driver.jni.Function> implements Function {
+public class FunctionImpl implements Function {
+    private final PipelineImpl body;
+    private final List<VariableImpl> argumentVariables;
+    private final ReturnOperationImpl returnOperation;
+    private final List<VariableAnnotationsImpl> argumentAnnotations;
+    private final List<VariableAnnotationsImpl> returnAnnotations;
 
     protected FunctionImpl(com.typedb.driver.jni.Function nativeObject) {
-        super(nativeObject);
+        // arguments and returned variables are named by the body, so they are created through its scope
+        PipelineImpl.Scope scope = new PipelineImpl.Scope(com.typedb.driver.jni.typedb_driver.function_body(nativeObject));
+        this.body = new PipelineImpl(scope);
+        this.argumentVariables = scope.variables(com.typedb.driver.jni.typedb_driver.function_argument_variables(nativeObject)).collect(toList());
+        this.returnOperation = ReturnOperationImpl.of(com.typedb.driver.jni.typedb_driver.function_return_operation(nativeObject), scope);
+        this.argumentAnnotations = new NativeIterator<>(com.typedb.driver.jni.typedb_driver.function_argument_annotations(nativeObject)).stream().map(VariableAnnotationsImpl::new).collect(toList());
+        this.returnAnnotations = new NativeIterator<>(com.typedb.driver.jni.typedb_driver.function_return_annotations(nativeObject)).stream().map(VariableAnnotationsImpl::new).collect(toList());
     }
 
     public PipelineImpl body() {
-        return new PipelineImpl(com.typedb.driver.jni.typedb_driver.function_body(nativeObject));
+        return body;
     }
 
     public Stream<VariableImpl> argument_variables() {
-        return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.function_argument_variables(nativeObject)).stream().map(VariableImpl::new);
+        return argumentVariables.stream();
     }
 
     public ReturnOperationImpl return_operation() {
-        return ReturnOperationImpl.of(com.typedb.driver.jni.typedb_driver.function_return_operation(nativeObject));
+        return returnOperation;
     }
 
     public Stream<VariableAnnotationsImpl> argument_annotations() {
-        return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.function_argument_annotations(nativeObject)).stream().map(VariableAnnotationsImpl::new);
+        return argumentAnnotations.stream();
     }
 
     public Stream<VariableAnnotationsImpl> return_annotations() {
-        return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.function_return_annotations(nativeObject)).stream().map(VariableAnnotationsImpl::new);
+        return returnAnnotations.stream();
     }
 
-    public static abstract class ReturnOperationImpl extends NativeObject<com.typedb.driver.jni.ReturnOperation> implements Function.ReturnOperation {
+    public static abstract class ReturnOperationImpl implements Function.ReturnOperation {
+        private final com.typedb.driver.jni.ReturnOperationVariant variant;
 
         protected ReturnOperationImpl(com.typedb.driver.jni.ReturnOperation nativeObject) {
-            super(nativeObject);
+            this.variant = com.typedb.driver.jni.typedb_driver.return_operation_variant(nativeObject);
         }
 
-        protected static ReturnOperationImpl of(com.typedb.driver.jni.ReturnOperation nativeObject) {
+        static ReturnOperationImpl of(com.typedb.driver.jni.ReturnOperation nativeObject, PipelineImpl.Scope scope) {
             switch (com.typedb.driver.jni.typedb_driver.return_operation_variant(nativeObject)) {
                 case StreamReturn:
-                    return new StreamImpl(nativeObject);
+                    return new StreamImpl(nativeObject, scope);
                 case SingleReturn:
-                    return new SingleImpl(nativeObject);
+                    return new SingleImpl(nativeObject, scope);
                 case CheckReturn:
                     return new CheckImpl(nativeObject);
                 case ReduceReturn:
-                    return new ReduceImpl(nativeObject);
+                    return new ReduceImpl(nativeObject, scope);
                 default:
                     throw new IllegalArgumentException("Unknown return operation variant");
             }
         }
 
         public com.typedb.driver.jni.ReturnOperationVariant variant() {
-            return com.typedb.driver.jni.typedb_driver.return_operation_variant(nativeObject);
+            return variant;
         }
 
         @Override
@@ -117,8 +130,11 @@ public class FunctionImpl extends NativeObject<com.typedb.driver.jni.Function> i
         }
 
         public static class StreamImpl extends ReturnOperationImpl implements Function.ReturnOperation.Stream {
-            private StreamImpl(com.typedb.driver.jni.ReturnOperation nativeObject) {
+            private final List<VariableImpl> variables;
+
+            private StreamImpl(com.typedb.driver.jni.ReturnOperation nativeObject, PipelineImpl.Scope scope) {
                 super(nativeObject);
+                this.variables = scope.variables(com.typedb.driver.jni.typedb_driver.return_operation_stream_variables(nativeObject)).collect(toList());
             }
 
             @Override
@@ -127,13 +143,18 @@ public class FunctionImpl extends NativeObject<com.typedb.driver.jni.Function> i
             }
 
             public java.util.stream.Stream<VariableImpl> variables() {
-                return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.return_operation_stream_variables(nativeObject)).stream().map(VariableImpl::new);
+                return variables.stream();
             }
         }
 
         public static class SingleImpl extends ReturnOperationImpl implements Function.ReturnOperation.Single {
-            private SingleImpl(com.typedb.driver.jni.ReturnOperation nativeObject) {
+            private final List<VariableImpl> variables;
+            private final String selector;
+
+            private SingleImpl(com.typedb.driver.jni.ReturnOperation nativeObject, PipelineImpl.Scope scope) {
                 super(nativeObject);
+                this.variables = scope.variables(com.typedb.driver.jni.typedb_driver.return_operation_single_variables(nativeObject)).collect(toList());
+                this.selector = com.typedb.driver.jni.typedb_driver.return_operation_single_selector(nativeObject);
             }
 
             @Override
@@ -152,11 +173,11 @@ public class FunctionImpl extends NativeObject<com.typedb.driver.jni.Function> i
             }
 
             public java.util.stream.Stream<VariableImpl> variables() {
-                return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.return_operation_single_variables(nativeObject)).stream().map(VariableImpl::new);
+                return variables.stream();
             }
 
             public String selector() {
-                return com.typedb.driver.jni.typedb_driver.return_operation_single_selector(nativeObject);
+                return selector;
             }
         }
 
@@ -177,8 +198,12 @@ public class FunctionImpl extends NativeObject<com.typedb.driver.jni.Function> i
         }
 
         public static class ReduceImpl extends ReturnOperationImpl implements Function.ReturnOperation.Reduce {
-            private ReduceImpl(com.typedb.driver.jni.ReturnOperation nativeObject) {
+            private final List<ReducerImpl> reducers;
+
+            private ReduceImpl(com.typedb.driver.jni.ReturnOperation nativeObject, PipelineImpl.Scope scope) {
                 super(nativeObject);
+                this.reducers = new NativeIterator<>(com.typedb.driver.jni.typedb_driver.return_operation_reducers(nativeObject)).stream()
+                        .map(reducer -> new ReducerImpl(reducer, scope)).collect(toList());
             }
 
             @Override
@@ -192,7 +217,7 @@ public class FunctionImpl extends NativeObject<com.typedb.driver.jni.Function> i
             }
 
             public java.util.stream.Stream<ReducerImpl> reducers() {
-                return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.return_operation_reducers(nativeObject)).stream().map(ReducerImpl::new);
+                return reducers.stream();
             }
         }
     }
@@ -22,22 +22,36 @@ package com.typedb.driver.analyze;
 import com.typedb.driver.api.analyze.Given;
 import com.typedb.driver.api.analyze.Variable;
 import com.typedb.driver.common.NativeIterator;
-import com.typedb.driver.common.NativeObject;
+import com.typedb.driver.common.exception.TypeDBDriverException;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
-public class GivenImpl extends NativeObject<com.typedb.driver.jni.Given> implements Given {
-    public GivenImpl(com.typedb.driver.jni.Given nativeObject) {
-        super(nativeObject);
+import static com.typedb.driver.common.exception.ErrorMessage.Internal.NULL_NATIVE_VALUE;
+
+public class GivenImpl implements Given {
+    private final Map<VariableImpl, VariableAnnotationsImpl> variableAnnotations;
+
+    GivenImpl(com.typedb.driver.jni.Given nativeObject, PipelineImpl.Scope scope) {
+        this.variableAnnotations = new LinkedHashMap<>();
+        new NativeIterator<>(com.typedb.driver.jni.typedb_driver.given_variables(nativeObject)).forEachRemaining(nativeVariable -> {
+            VariableAnnotationsImpl annotations = new VariableAnnotationsImpl(
+                    com.typedb.driver.jni.typedb_driver.given_variable_annotations(nativeObject, nativeVariable)
+            );
+            variableAnnotations.put(scope.variable(nativeVariable), annotations);
+        });
     }
 
     @Override
     public Stream<VariableImpl> variables() {
-        return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.given_variables(nativeObject)).stream().map(VariableImpl::new);
+        return variableAnnotations.keySet().stream();
     }
 
     @Override
     public VariableAnnotationsImpl variable_annotations(Variable variable) {
-        return new VariableAnnotationsImpl(com.typedb.driver.jni.typedb_driver.given_variable_annotations(nativeObject, ((VariableImpl) variable).nativeObject));
+        VariableAnnotationsImpl annotations = variableAnnotations.get(variable);
+        if (annotations == null) throw new TypeDBDriverException(NULL_NATIVE_VALUE);
+        return annotations;
     }
 }
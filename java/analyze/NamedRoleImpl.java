@@ -20,29 +20,32 @@
 package com.typedb.driver.analyze;
 
 import com.typedb.driver.api.analyze.NamedRole;
-import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.jni.typedb_driver;
 
-public class NamedRoleImpl extends NativeObject<com.typedb.driver.jni.NamedRole> implements NamedRole {
-    NamedRoleImpl(com.typedb.driver.jni.NamedRole nativeObject) {
-        super(nativeObject);
-    }
-
-    private long id() {
-        return com.typedb.driver.jni.typedb_driver.named_role_as_u32(nativeObject);
+public class NamedRoleImpl implements NamedRole {
+    private final long id;
+    private final VariableImpl variable;
+    private final String name;
+    private final String repr;
+
+    NamedRoleImpl(com.typedb.driver.jni.NamedRole nativeObject, PipelineImpl.Scope scope) {
+        this.id = typedb_driver.named_role_as_u32(nativeObject);
+        this.variable = scope.variable(typedb_driver.named_role_get_variable(nativeObject));
+        this.name = typedb_driver.named_role_get_name(nativeObject);
+        this.repr = typedb_driver.named_role_string_repr(nativeObject);
     }
 
     public VariableImpl variable() {
-        return new VariableImpl(typedb_driver.named_role_get_variable(nativeObject));
+        return variable;
     }
 
     public String name() {
-        return typedb_driver.named_role_get_name(nativeObject);
+        return name;
     }
 
     @Override
     public int hashCode() {
-        return variable().hashCode();
+        return variable.hashCode();
     }
 
     @Override
@@ -50,11 +53,11 @@ public class NamedRoleImpl extends NativeObject<com.typedb.driver.jni.NamedRole>
         if (obj == this) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         NamedRoleImpl that = (NamedRoleImpl) obj;
-        return this.id() == that.id();
+        return this.id == that.id;
     }
 
     @Override
     public String toString() {
-        return typedb_driver.named_role_string_repr(nativeObject);
+        return repr;
     }
 }
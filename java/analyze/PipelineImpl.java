@@ -23,33 +23,86 @@ import com.typedb.driver.api.analyze.ConjunctionID;
 import com.typedb.driver.api.analyze.Pipeline;
 import com.typedb.driver.api.analyze.Variable;
 import com.typedb.driver.common.NativeIterator;
-import com.typedb.driver.common.NativeObject;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
-public class PipelineImpl extends NativeObject<com.typedb.driver.jni.Pipeline> implements Pipeline {
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A pipeline copied out of the native analysis when it is created, together with every conjunction and variable name
+ * it references, so that it holds no native handles.
+ */
+public class PipelineImpl implements Pipeline {
+    private final List<PipelineStageImpl> stages;
+    private final Map<Long, String> variableNames;
+    private final Map<Long, ConjunctionImpl> conjunctions;
 
     public PipelineImpl(com.typedb.driver.jni.Pipeline nativeObject) {
-        super(nativeObject);
+        this(new Scope(nativeObject));
+    }
+
+    PipelineImpl(Scope scope) {
+        this.stages = new NativeIterator<>(com.typedb.driver.jni.typedb_driver.pipeline_stages(scope.nativePipeline)).stream()
+                .map(stage -> PipelineStageImpl.of(stage, scope)).collect(toList());
+        this.variableNames = scope.variableNames;
+        this.conjunctions = scope.conjunctions;
     }
 
     public Stream<PipelineStageImpl> stages() {
-        return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.pipeline_stages(nativeObject)).stream().map(PipelineStageImpl::of);
+        return stages.stream();
     }
 
     @Override
     public Optional<String> getVariableName(Variable variable) {
-        return Optional.ofNullable(com.typedb.driver.jni.typedb_driver.variable_get_name(nativeObject, ((VariableImpl) variable).nativeObject));
+        return Optional.ofNullable(variableNames.get(((VariableImpl) variable).id()));
     }
 
     @Override
     public Optional<ConjunctionImpl> conjunction(ConjunctionID conjunctionID) {
-        com.typedb.driver.jni.Conjunction nativeConjunction = com.typedb.driver.jni.typedb_driver.pipeline_get_conjunction(nativeObject, ((ConjunctionIDImpl) conjunctionID).nativeObject);
-        if (nativeConjunction == null) {
-            return Optional.empty();
-        } else {
-            return Optional.of(new ConjunctionImpl(nativeConjunction));
+        return Optional.ofNullable(conjunctions.get(((ConjunctionIDImpl) conjunctionID).id()));
+    }
+
+    /**
+     * The native pipeline being materialised. Variables and conjunction IDs are created through it, so that the name
+     * of every variable and every conjunction referenced anywhere in the pipeline is copied out with them.
+     */
+    static class Scope {
+        private final com.typedb.driver.jni.Pipeline nativePipeline;
+        private final Map<Long, String> variableNames;
+        private final Map<Long, ConjunctionImpl> conjunctions;
+
+        Scope(com.typedb.driver.jni.Pipeline nativePipeline) {
+            this.nativePipeline = nativePipeline;
+            this.variableNames = new HashMap<>();
+            this.conjunctions = new HashMap<>();
+        }
+
+        VariableImpl variable(com.typedb.driver.jni.Variable nativeVariable) {
+            VariableImpl variable = new VariableImpl(nativeVariable);
+            if (!variableNames.containsKey(variable.id())) {
+                variableNames.put(variable.id(), com.typedb.driver.jni.typedb_driver.variable_get_name(nativePipeline, nativeVariable));
+            }
+            return variable;
+        }
+
+        Stream<VariableImpl> variables(com.typedb.driver.jni.VariableIterator nativeVariables) {
+            return new NativeIterator<>(nativeVariables).stream().map(this::variable);
+        }
+
+        ConjunctionIDImpl conjunctionID(com.typedb.driver.jni.ConjunctionID nativeConjunctionID) {
+            ConjunctionIDImpl conjunctionID = new ConjunctionIDImpl(nativeConjunctionID);
+            if (!conjunctions.containsKey(conjunctionID.id())) {
+                // claimed before it is materialised, since it may be reached again through its own nested conjunctions
+                conjunctions.put(conjunctionID.id(), null);
+                com.typedb.driver.jni.Conjunction nativeConjunction =
+                        com.typedb.driver.jni.typedb_driver.pipeline_get_conjunction(nativePipeline, nativeConjunctionID);
+                if (nativeConjunction != null) conjunctions.put(conjunctionID.id(), new ConjunctionImpl(nativeConjunction, this));
+            }
+            return conjunctionID;
         }
     }
 }
@@ -21,23 +21,27 @@ package com.typedb.driver.analyze;
 
 import com.typedb.driver.api.analyze.PipelineStage;
 import com.typedb.driver.common.NativeIterator;
-import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Analyze.INVALID_STAGE_CASTING;
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
 import static com.typedb.driver.common.util.Objects.className;
+import static java.util.stream.Collectors.toList;
 
-public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.jni.PipelineStage> implements PipelineStage {
+public abstract class PipelineStageImpl implements PipelineStage {
+    private final com.typedb.driver.jni.PipelineStageVariant variant;
+    private final String repr;
 
     PipelineStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
-        super(nativeObject);
+        this.variant = com.typedb.driver.jni.typedb_driver.pipeline_stage_variant(nativeObject);
+        this.repr = com.typedb.driver.jni.typedb_driver.pipeline_stage_string_repr(nativeObject);
     }
 
     public com.typedb.driver.jni.PipelineStageVariant getVariant() {
-        return com.typedb.driver.jni.typedb_driver.pipeline_stage_variant(nativeObject);
+        return variant;
     }
 
     @Override
@@ -160,32 +164,32 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
         throw new TypeDBDriverException(INVALID_STAGE_CASTING, className(this.getClass()), className(ReduceStageImpl.class));
     }
 
-    public static PipelineStageImpl of(com.typedb.driver.jni.PipelineStage nativeObject) {
+    static PipelineStageImpl of(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
         switch (com.typedb.driver.jni.typedb_driver.pipeline_stage_variant(nativeObject)) {
             case Match:
-                return new MatchStageImpl(nativeObject);
+                return new MatchStageImpl(nativeObject, scope);
             case Insert:
-                return new InsertStageImpl(nativeObject);
+                return new InsertStageImpl(nativeObject, scope);
             case Put:
-                return new PutStageImpl(nativeObject);
+                return new PutStageImpl(nativeObject, scope);
             case Update:
-                return new UpdateStageImpl(nativeObject);
+                return new UpdateStageImpl(nativeObject, scope);
             case Delete:
-                return new DeleteStageImpl(nativeObject);
+                return new DeleteStageImpl(nativeObject, scope);
             case Select:
-                return new SelectStageImpl(nativeObject);
+                return new SelectStageImpl(nativeObject, scope);
             case Sort:
-                return new SortStageImpl(nativeObject);
+                return new SortStageImpl(nativeObject, scope);
             case Require:
-                return new RequireStageImpl(nativeObject);
+                return new RequireStageImpl(nativeObject, scope);
             case Offset:
-                return new OffsetStageImpl(nativeObject);
+                return new OffsetStageImpl(nativeObject, scope);
             case Limit:
-                return new LimitStageImpl(nativeObject);
+                return new LimitStageImpl(nativeObject, scope);
             case Distinct:
-                return new DistinctStageImpl(nativeObject);
+                return new DistinctStageImpl(nativeObject, scope);
             case Reduce:
-                return new ReduceStageImpl(nativeObject);
+                return new ReduceStageImpl(nativeObject, scope);
             default:
                 throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
         }
@@ -193,12 +197,15 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
 
     @Override
     public String toString() {
-        return com.typedb.driver.jni.typedb_driver.pipeline_stage_string_repr(nativeObject);
+        return repr;
     }
 
     public static class MatchStageImpl extends PipelineStageImpl implements PipelineStage.MatchStage {
-        MatchStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
+        private final ConjunctionIDImpl block;
+
+        MatchStageImpl(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.block = scope.conjunctionID(com.typedb.driver.jni.typedb_driver.pipeline_stage_get_block(nativeObject));
         }
 
         @Override
@@ -213,13 +220,16 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
 
         @Override
         public ConjunctionIDImpl block() {
-            return new ConjunctionIDImpl(com.typedb.driver.jni.typedb_driver.pipeline_stage_get_block(nativeObject));
+            return block;
         }
     }
 
     public static class InsertStageImpl extends PipelineStageImpl implements PipelineStage.InsertStage {
-        InsertStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
+        private final ConjunctionIDImpl block;
+
+        InsertStageImpl(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.block = scope.conjunctionID(com.typedb.driver.jni.typedb_driver.pipeline_stage_get_block(nativeObject));
         }
 
         @Override
@@ -234,13 +244,16 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
 
         @Override
         public ConjunctionIDImpl block() {
-            return new ConjunctionIDImpl(com.typedb.driver.jni.typedb_driver.pipeline_stage_get_block(nativeObject));
+            return block;
         }
     }
 
     public static class PutStageImpl extends PipelineStageImpl implements PipelineStage.PutStage {
-        PutStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
+        private final ConjunctionIDImpl block;
+
+        PutStageImpl(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.block = scope.conjunctionID(com.typedb.driver.jni.typedb_driver.pipeline_stage_get_block(nativeObject));
         }
 
         @Override
@@ -255,13 +268,16 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
 
         @Override
         public ConjunctionIDImpl block() {
-            return new ConjunctionIDImpl(com.typedb.driver.jni.typedb_driver.pipeline_stage_get_block(nativeObject));
+            return block;
         }
     }
 
     public static class UpdateStageImpl extends PipelineStageImpl implements PipelineStage.UpdateStage {
-        UpdateStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
+        private final ConjunctionIDImpl block;
+
+        UpdateStageImpl(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.block = scope.conjunctionID(com.typedb.driver.jni.typedb_driver.pipeline_stage_get_block(nativeObject));
         }
 
         @Override
@@ -276,13 +292,18 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
 
         @Override
         public ConjunctionIDImpl block() {
-            return new ConjunctionIDImpl(com.typedb.driver.jni.typedb_driver.pipeline_stage_get_block(nativeObject));
+            return block;
         }
     }
 
     public static class DeleteStageImpl extends PipelineStageImpl implements PipelineStage.DeleteStage {
-        DeleteStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
+        private final ConjunctionIDImpl block;
+        private final List<VariableImpl> deletedVariables;
+
+        DeleteStageImpl(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.block = scope.conjunctionID(com.typedb.driver.jni.typedb_driver.pipeline_stage_get_block(nativeObject));
+            this.deletedVariables = scope.variables(com.typedb.driver.jni.typedb_driver.pipeline_stage_delete_get_deleted_variables(nativeObject)).collect(toList());
         }
 
         @Override
@@ -297,18 +318,21 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
 
         @Override
         public ConjunctionIDImpl block() {
-            return new ConjunctionIDImpl(com.typedb.driver.jni.typedb_driver.pipeline_stage_get_block(nativeObject));
+            return block;
         }
 
         @Override
         public Stream<VariableImpl> deletedVariables() {
-            return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.pipeline_stage_delete_get_deleted_variables(nativeObject)).stream().map(VariableImpl::new);
+            return deletedVariables.stream();
         }
     }
 
     public static class SelectStageImpl extends PipelineStageImpl implements PipelineStage.SelectStage {
-        SelectStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
+        private final List<VariableImpl> variables;
+
+        SelectStageImpl(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.variables = scope.variables(com.typedb.driver.jni.typedb_driver.pipeline_stage_select_get_variables(nativeObject)).collect(toList());
         }
 
         @Override
@@ -323,13 +347,17 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
 
         @Override
         public Stream<VariableImpl> variables() {
-            return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.pipeline_stage_select_get_variables(nativeObject)).stream().map(VariableImpl::new);
+            return variables.stream();
         }
     }
 
     public static class SortStageImpl extends PipelineStageImpl implements PipelineStage.SortStage {
-        SortStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
+        private final List<SortVariableImpl> variables;
+
+        SortStageImpl(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.variables = new NativeIterator<>(com.typedb.driver.jni.typedb_driver.pipeline_stage_sort_get_sort_variables(nativeObject)).stream()
+                    .map(sortVariable -> new SortVariableImpl(sortVariable, scope)).collect(toList());
         }
 
         @Override
@@ -344,30 +372,36 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
 
         @Override
         public Stream<SortVariableImpl> variables() {
-            return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.pipeline_stage_sort_get_sort_variables(nativeObject)).stream().map(SortVariableImpl::new);
+            return variables.stream();
         }
 
-        public static class SortVariableImpl extends NativeObject<com.typedb.driver.jni.SortVariable> implements PipelineStage.SortStage.SortVariable {
+        public static class SortVariableImpl implements PipelineStage.SortStage.SortVariable {
+            private final VariableImpl variable;
+            private final com.typedb.driver.jni.SortOrder order;
 
-            SortVariableImpl(com.typedb.driver.jni.SortVariable nativeObject) {
-                super(nativeObject);
+            SortVariableImpl(com.typedb.driver.jni.SortVariable nativeObject, PipelineImpl.Scope scope) {
+                this.variable = scope.variable(com.typedb.driver.jni.typedb_driver.sort_variable_get_variable(nativeObject));
+                this.order = com.typedb.driver.jni.typedb_driver.sort_variable_get_order(nativeObject);
             }
 
             @Override
             public VariableImpl variable() {
-                return new VariableImpl(com.typedb.driver.jni.typedb_driver.sort_variable_get_variable(nativeObject));
+                return variable;
             }
 
             @Override
             public com.typedb.driver.jni.SortOrder order() {
-                return com.typedb.driver.jni.typedb_driver.sort_variable_get_order(nativeObject);
+                return order;
             }
         }
     }
 
     public static class RequireStageImpl extends PipelineStageImpl implements PipelineStage.RequireStage {
-        RequireStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
+        private final List<VariableImpl> variables;
+
+        RequireStageImpl(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.variables = scope.variables(com.typedb.driver.jni.typedb_driver.pipeline_stage_require_get_variables(nativeObject)).collect(toList());
         }
 
         @Override
@@ -382,13 +416,16 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
 
         @Override
         public Stream<VariableImpl> variables() {
-            return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.pipeline_stage_require_get_variables(nativeObject)).stream().map(VariableImpl::new);
+            return variables.stream();
         }
     }
 
     public static class OffsetStageImpl extends PipelineStageImpl implements PipelineStage.OffsetStage {
-        OffsetStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
+        private final long offset;
+
+        OffsetStageImpl(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.offset = com.typedb.driver.jni.typedb_driver.pipeline_stage_offset_get_offset(nativeObject);
         }
 
         @Override
@@ -403,13 +440,16 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
 
         @Override
         public long offset() {
-            return com.typedb.driver.jni.typedb_driver.pipeline_stage_offset_get_offset(nativeObject);
+            return offset;
         }
     }
 
     public static class LimitStageImpl extends PipelineStageImpl implements PipelineStage.LimitStage {
-        LimitStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
+        private final long limit;
+
+        LimitStageImpl(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.limit = com.typedb.driver.jni.typedb_driver.pipeline_stage_limit_get_limit(nativeObject);
         }
 
         @Override
@@ -424,12 +464,12 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
 
         @Override
         public long limit() {
-            return com.typedb.driver.jni.typedb_driver.pipeline_stage_limit_get_limit(nativeObject);
+            return limit;
         }
     }
 
     public static class DistinctStageImpl extends PipelineStageImpl implements PipelineStage.DistinctStage {
-        DistinctStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
+        DistinctStageImpl(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
         }
 
@@ -445,8 +485,14 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
     }
 
     public static class ReduceStageImpl extends PipelineStageImpl implements PipelineStage.ReduceStage {
-        ReduceStageImpl(com.typedb.driver.jni.PipelineStage nativeObject) {
+        private final List<VariableImpl> groupBy;
+        private final List<ReduceAssignmentImpl> reducerAssignments;
+
+        ReduceStageImpl(com.typedb.driver.jni.PipelineStage nativeObject, PipelineImpl.Scope scope) {
             super(nativeObject);
+            this.groupBy = scope.variables(com.typedb.driver.jni.typedb_driver.pipeline_stage_reduce_get_groupby(nativeObject)).collect(toList());
+            this.reducerAssignments = new NativeIterator<>(com.typedb.driver.jni.typedb_driver.pipeline_stage_reduce_get_reducer_assignments(nativeObject)).stream()
+                    .map(assignment -> new ReduceAssignmentImpl(assignment, scope)).collect(toList());
         }
 
         @Override
@@ -461,31 +507,31 @@ public abstract class PipelineStageImpl extends NativeObject<com.typedb.driver.j
 
         @Override
         public Stream<VariableImpl> groupBy() {
-            return new NativeIterator<>(
-                    com.typedb.driver.jni.typedb_driver.pipeline_stage_reduce_get_groupby(nativeObject)
-            ).stream().map(VariableImpl::new);
+            return groupBy.stream();
         }
 
         @Override
         public Stream<ReduceAssignmentImpl> reducerAssignments() {
-            return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.pipeline_stage_reduce_get_reducer_assignments(nativeObject))
-                    .stream()
-                    .map(ReduceAssignmentImpl::new);
+            return reducerAssignments.stream();
         }
 
-        public static class ReduceAssignmentImpl extends NativeObject<com.typedb.driver.jni.ReduceAssignment> implements PipelineStage.ReduceStage.ReduceAssignment {
-            ReduceAssignmentImpl(com.typedb.driver.jni.ReduceAssignment nativeObject) {
-                super(nativeObject);
+        public static class ReduceAssignmentImpl implements PipelineStage.ReduceStage.ReduceAssignment {
+            private final VariableImpl assigned;
+            private final ReducerImpl reducer;
+
+            ReduceAssignmentImpl(com.typedb.driver.jni.ReduceAssignment nativeObject, PipelineImpl.Scope scope) {
+                this.assigned = scope.variable(com.typedb.driver.jni.typedb_driver.reduce_assignment_get_assigned(nativeObject));
+                this.reducer = new ReducerImpl(com.typedb.driver.jni.typedb_driver.reduce_assignment_get_reducer(nativeObject), scope);
             }
 
             @Override
             public VariableImpl assigned() {
-                return new VariableImpl(com.typedb.driver.jni.typedb_driver.reduce_assignment_get_assigned(nativeObject));
+                return assigned;
             }
 
             @Override
             public ReducerImpl reducer() {
-                return new ReducerImpl(com.typedb.driver.jni.typedb_driver.reduce_assignment_get_reducer(nativeObject));
+                return reducer;
             }
         }
     }
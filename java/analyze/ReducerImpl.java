@@ -20,25 +20,27 @@
 package com.typedb.driver.analyze;
 
 import com.typedb.driver.api.analyze.Reducer;
-import com.typedb.driver.common.NativeIterator;
-import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.jni.typedb_driver;
 
+import java.util.List;
 import java.util.stream.Stream;
 
-public class ReducerImpl extends NativeObject<com.typedb.driver.jni.Reducer> implements Reducer {
+import static java.util.stream.Collectors.toList;
 
-    protected ReducerImpl(com.typedb.driver.jni.Reducer nativeObject) {
-        super(nativeObject);
+public class ReducerImpl implements Reducer {
+    private final String name;
+    private final List<VariableImpl> arguments;
+
+    protected ReducerImpl(com.typedb.driver.jni.Reducer nativeObject, PipelineImpl.Scope scope) {
+        this.name = typedb_driver.reducer_get_name(nativeObject);
+        this.arguments = scope.variables(typedb_driver.reducer_get_arguments(nativeObject)).collect(toList());
     }
 
     public String name() {
-        return typedb_driver.reducer_get_name(nativeObject);
+        return name;
     }
 
     public Stream<VariableImpl> arguments() {
-        return new NativeIterator<>(
-                typedb_driver.reducer_get_arguments(nativeObject)
-        ).stream().map(VariableImpl::new);
+        return arguments.stream();
     }
 }
@@ -22,54 +22,73 @@ package com.typedb.driver.analyze;
 import com.typedb.driver.api.analyze.VariableAnnotations;
 import com.typedb.driver.api.concept.type.Type;
 import com.typedb.driver.common.NativeIterator;
-import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.ConceptImpl;
 import com.typedb.driver.jni.VariableAnnotationsVariant;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Analyze.INVALID_VARIABLE_ANNOTATIONS_CASTING;
+import static java.util.stream.Collectors.toList;
+
+public class VariableAnnotationsImpl implements VariableAnnotations {
+    private final VariableAnnotationsVariant variant;
+    private final List<Type> types;
+    private final List<String> valueTypes;
 
-public class VariableAnnotationsImpl extends NativeObject<com.typedb.driver.jni.VariableAnnotations> implements VariableAnnotations {
     protected VariableAnnotationsImpl(com.typedb.driver.jni.VariableAnnotations nativeObject) {
-        super(nativeObject);
+        this.variant = com.typedb.driver.jni.typedb_driver.variable_annotations_variant(nativeObject);
+        if (variant == VariableAnnotationsVariant.InstanceAnnotations) {
+            this.types = types(com.typedb.driver.jni.typedb_driver.variable_annotations_instance(nativeObject));
+            this.valueTypes = null;
+        } else if (variant == VariableAnnotationsVariant.TypeAnnotations) {
+            this.types = types(com.typedb.driver.jni.typedb_driver.variable_annotations_type(nativeObject));
+            this.valueTypes = null;
+        } else {
+            this.types = null;
+            this.valueTypes = new NativeIterator<>(com.typedb.driver.jni.typedb_driver.variable_annotations_value(nativeObject)).stream().collect(toList());
+        }
+    }
+
+    private static List<Type> types(com.typedb.driver.jni.ConceptIterator nativeTypes) {
+        return new NativeIterator<>(nativeTypes).stream().map(ConceptImpl::of).map(ConceptImpl::asType).collect(toList());
     }
 
     public com.typedb.driver.jni.VariableAnnotationsVariant variant() {
-        return com.typedb.driver.jni.typedb_driver.variable_annotations_variant(nativeObject);
+        return variant;
     }
 
     public boolean isInstance() {
-        return variant() == VariableAnnotationsVariant.InstanceAnnotations;
+        return variant == VariableAnnotationsVariant.InstanceAnnotations;
     }
 
     public boolean isType() {
-        return variant() == VariableAnnotationsVariant.TypeAnnotations;
+        return variant == VariableAnnotationsVariant.TypeAnnotations;
     }
 
     public boolean isValue() {
-        return variant() == VariableAnnotationsVariant.ValueAnnotations;
+        return variant == VariableAnnotationsVariant.ValueAnnotations;
     }
 
     public Stream<Type> asInstance() {
         if (!isInstance()) {
-            throw new TypeDBDriverException(INVALID_VARIABLE_ANNOTATIONS_CASTING, variant(), VariableAnnotationsVariant.InstanceAnnotations);
+            throw new TypeDBDriverException(INVALID_VARIABLE_ANNOTATIONS_CASTING, variant, VariableAnnotationsVariant.InstanceAnnotations);
         }
-        return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.variable_annotations_instance(nativeObject)).stream().map(ConceptImpl::of).map(ConceptImpl::asType);
+        return types.stream();
     }
 
     public Stream<Type> asType() {
         if (!isType()) {
-            throw new TypeDBDriverException(INVALID_VARIABLE_ANNOTATIONS_CASTING, variant(), VariableAnnotationsVariant.TypeAnnotations);
+            throw new TypeDBDriverException(INVALID_VARIABLE_ANNOTATIONS_CASTING, variant, VariableAnnotationsVariant.TypeAnnotations);
         }
-        return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.variable_annotations_type(nativeObject)).stream().map(ConceptImpl::of).map(ConceptImpl::asType);
+        return types.stream();
     }
 
     public Stream<String> asValue() {
         if (!isValue()) {
-            throw new TypeDBDriverException(INVALID_VARIABLE_ANNOTATIONS_CASTING, variant(), VariableAnnotationsVariant.ValueAnnotations);
+            throw new TypeDBDriverException(INVALID_VARIABLE_ANNOTATIONS_CASTING, variant, VariableAnnotationsVariant.ValueAnnotations);
         }
-        return new NativeIterator<>(com.typedb.driver.jni.typedb_driver.variable_annotations_value(nativeObject)).stream();
+        return valueTypes.stream();
     }
 }
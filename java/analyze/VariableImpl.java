@@ -20,21 +20,24 @@
 package com.typedb.driver.analyze;
 
 import com.typedb.driver.api.analyze.Variable;
-import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.jni.typedb_driver;
 
-public class VariableImpl extends NativeObject<com.typedb.driver.jni.Variable> implements Variable {
+public class VariableImpl implements Variable {
+    private final long id;
+    private final String repr;
+
     VariableImpl(com.typedb.driver.jni.Variable nativeObject) {
-        super(nativeObject);
+        this.id = typedb_driver.variable_id_as_u32(nativeObject);
+        this.repr = typedb_driver.variable_string_repr(nativeObject);
     }
 
-    private long id() {
-        return com.typedb.driver.jni.typedb_driver.variable_id_as_u32(nativeObject);
+    long id() {
+        return id;
     }
 
     @Override
     public int hashCode() {
-        return Long.hashCode(id());
+        return Long.hashCode(id);
     }
 
     @Override
@@ -42,11 +45,11 @@ public class VariableImpl extends NativeObject<com.typedb.driver.jni.Variable> i
         if (obj == this) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         VariableImpl that = (VariableImpl) obj;
-        return this.id() == that.id();
+        return this.id == that.id;
     }
 
     @Override
     public String toString() {
-        return typedb_driver.variable_string_repr(nativeObject);
+        return repr;
     }
 }
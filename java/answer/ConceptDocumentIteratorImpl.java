@@ -22,7 +22,9 @@ package com.typedb.driver.answer;
 import com.typedb.driver.api.answer.ConceptDocumentIterator;
 import com.typedb.driver.api.answer.JSON;
 import com.typedb.driver.common.NativeIterator;
+import com.typedb.driver.common.NativeMemoryTracker;
 
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 public class ConceptDocumentIteratorImpl extends QueryAnswerImpl implements ConceptDocumentIterator {
@@ -31,6 +33,8 @@ public class ConceptDocumentIteratorImpl extends QueryAnswerImpl implements Conc
     public ConceptDocumentIteratorImpl(com.typedb.driver.jni.QueryAnswer answer) {
         super(answer);
         nativeIterator = new NativeIterator<>(answer.intoDocuments());
+        NativeMemoryTracker.Allocation allocation = NativeMemoryTracker.INSTANCE.track(this, true);
+        if (allocation != null) nativeIterator.onFinish(error -> NativeMemoryTracker.markClosed(allocation));
     }
 
     @Override
@@ -47,4 +51,19 @@ public class ConceptDocumentIteratorImpl extends QueryAnswerImpl implements Conc
     public Stream<JSON> stream() {
         return nativeIterator.stream().map(JSON::parse);
     }
+
+    @Override
+    public String nextRaw() {
+        return nativeIterator.next();
+    }
+
+    @Override
+    public Stream<String> rawStream() {
+        return nativeIterator.stream();
+    }
+
+    @Override
+    public void onStreamFinished(Consumer<Throwable> callback) {
+        nativeIterator.onFinish(callback);
+    }
 }
@@ -31,6 +31,7 @@ import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.Validator;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.ConceptImpl;
+import com.typedb.driver.concept.type.TypeCache;
 import com.typedb.driver.jni.ConjunctionIDIterator;
 
 import java.util.Optional;
@@ -40,17 +41,26 @@ import static com.typedb.driver.jni.typedb_driver.concept_row_equals;
 import static com.typedb.driver.jni.typedb_driver.concept_row_get;
 import static com.typedb.driver.jni.typedb_driver.concept_row_get_column_names;
 import static com.typedb.driver.jni.typedb_driver.concept_row_get_concepts;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_double_or_nan_index;
 import static com.typedb.driver.jni.typedb_driver.concept_row_get_index;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_integer_or_default_index;
 import static com.typedb.driver.jni.typedb_driver.concept_row_get_query_structure;
 import static com.typedb.driver.jni.typedb_driver.concept_row_get_query_type;
+import static com.typedb.driver.jni.typedb_driver.concept_row_is_empty_index;
 import static com.typedb.driver.jni.typedb_driver.concept_row_to_string;
 import static com.typedb.driver.jni.typedb_driver.concept_row_involved_conjunctions;
 
 public class ConceptRowImpl extends NativeObject<com.typedb.driver.jni.ConceptRow> implements ConceptRow {
     private int hash = 0;
+    private final TypeCache.SchemaTypes types;
 
     public ConceptRowImpl(com.typedb.driver.jni.ConceptRow conceptRow) {
+        this(conceptRow, null);
+    }
+
+    public ConceptRowImpl(com.typedb.driver.jni.ConceptRow conceptRow, TypeCache.SchemaTypes types) {
         super(conceptRow);
+        this.types = types;
     }
 
     @Override
@@ -79,7 +89,7 @@ public class ConceptRowImpl extends NativeObject<com.typedb.driver.jni.ConceptRo
         try {
             com.typedb.driver.jni.Concept concept = concept_row_get(nativeObject, columnName);
             if (concept != null) {
-                return Optional.of(ConceptImpl.of(concept));
+                return Optional.of(ConceptImpl.of(concept, types));
             }
         } catch (com.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
@@ -93,7 +103,7 @@ public class ConceptRowImpl extends NativeObject<com.typedb.driver.jni.ConceptRo
         try {
             com.typedb.driver.jni.Concept concept = concept_row_get_index(nativeObject, columnIndex);
             if (concept != null) {
-                return Optional.of(ConceptImpl.of(concept));
+                return Optional.of(ConceptImpl.of(concept, types));
             }
         } catch (com.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
@@ -101,9 +111,39 @@ public class ConceptRowImpl extends NativeObject<com.typedb.driver.jni.ConceptRo
         return Optional.empty();
     }
 
+    @Override
+    public boolean isNull(long columnIndex) throws TypeDBDriverException {
+        Validator.requireNonNegative(columnIndex, "columnIndex");
+        try {
+            return concept_row_is_empty_index(nativeObject, columnIndex);
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public long getIntegerOrDefault(long columnIndex, long defaultValue) throws TypeDBDriverException {
+        Validator.requireNonNegative(columnIndex, "columnIndex");
+        try {
+            return concept_row_get_integer_or_default_index(nativeObject, columnIndex, defaultValue);
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public double getDoubleOrNaN(long columnIndex) throws TypeDBDriverException {
+        Validator.requireNonNegative(columnIndex, "columnIndex");
+        try {
+            return concept_row_get_double_or_nan_index(nativeObject, columnIndex);
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
     @Override
     public Stream<Concept> concepts() {
-        return new NativeIterator<>(concept_row_get_concepts(nativeObject)).stream().map(ConceptImpl::of);
+        return new NativeIterator<>(concept_row_get_concepts(nativeObject)).stream().map(concept -> ConceptImpl.of(concept, types));
     }
 
     @Override
@@ -21,17 +21,27 @@ package com.typedb.driver.answer;
 
 import com.typedb.driver.api.answer.ConceptRow;
 import com.typedb.driver.api.answer.ConceptRowIterator;
+import com.typedb.driver.api.answer.MaterializedRows;
 import com.typedb.driver.common.NativeIterator;
+import com.typedb.driver.common.NativeMemoryTracker;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.type.TypeCache;
 
 import javax.annotation.CheckReturnValue;
+import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 public class ConceptRowIteratorImpl extends QueryAnswerImpl implements ConceptRowIterator {
     NativeIterator<com.typedb.driver.jni.ConceptRow> nativeIterator;
+    private final TypeCache.SchemaTypes types;
 
-    protected ConceptRowIteratorImpl(com.typedb.driver.jni.QueryAnswer answer) {
+    protected ConceptRowIteratorImpl(com.typedb.driver.jni.QueryAnswer answer, TypeCache.SchemaTypes types) {
         super(answer);
+        this.types = types;
         nativeIterator = new NativeIterator<>(answer.intoRows());
+        NativeMemoryTracker.Allocation allocation = NativeMemoryTracker.INSTANCE.track(this, true);
+        if (allocation != null) nativeIterator.onFinish(error -> NativeMemoryTracker.markClosed(allocation));
     }
 
     @Override
@@ -47,11 +57,21 @@ public class ConceptRowIteratorImpl extends QueryAnswerImpl implements ConceptRo
 
     @Override
     public ConceptRow next() {
-        return new ConceptRowImpl(nativeIterator.next());
+        return new ConceptRowImpl(nativeIterator.next(), types);
     }
 
     @Override
     public Stream<ConceptRow> stream() {
-        return nativeIterator.stream().map(ConceptRowImpl::new);
+        return nativeIterator.stream().map(row -> new ConceptRowImpl(row, types));
+    }
+
+    @Override
+    public MaterializedRows materialize(Path path) throws TypeDBDriverException {
+        return MaterializedRowsImpl.materialize(this, path);
+    }
+
+    @Override
+    public void onStreamFinished(Consumer<Throwable> callback) {
+        nativeIterator.onFinish(callback);
     }
 }
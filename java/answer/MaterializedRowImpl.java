@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.answer;
+
+import com.typedb.driver.api.answer.MaterializedRow;
+import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.MATERIALIZED_COLUMN_MISSING;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.MATERIALIZED_INDEX_OUT_OF_RANGE;
+import static com.typedb.driver.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
+
+/**
+ * A view of one row of a mapped <code>MaterializedRowsImpl</code> file, decoding cells on access.
+ * See <code>MaterializedRowsWriter</code> for the layout.
+ */
+public class MaterializedRowImpl implements MaterializedRow {
+    private static final Kind[] KINDS = Kind.values();
+
+    private final MaterializedRowsImpl rows;
+    private final ByteBuffer segment;
+    private final int start;
+
+    MaterializedRowImpl(MaterializedRowsImpl rows, ByteBuffer segment, int start) {
+        this.rows = rows;
+        this.segment = segment;
+        this.start = start;
+    }
+
+    @Override
+    public List<String> columnNames() {
+        return rows.columnNames();
+    }
+
+    @Override
+    public Optional<Kind> getKind(String columnName) throws TypeDBDriverException {
+        int cell = cell(columnIndex(columnName));
+        return cell < 0 ? Optional.empty() : Optional.of(kind(cell));
+    }
+
+    @Override
+    public Optional<String> getLabel(String columnName) throws TypeDBDriverException {
+        int cell = cell(columnIndex(columnName));
+        return cell < 0 ? Optional.empty() : Optional.ofNullable(string(cell + 1));
+    }
+
+    @Override
+    public Optional<String> getIID(String columnName) throws TypeDBDriverException {
+        int cell = cell(columnIndex(columnName));
+        if (cell < 0) return Optional.empty();
+        Kind kind = kind(cell);
+        if (kind != Kind.ENTITY && kind != Kind.RELATION) return Optional.empty();
+        return Optional.ofNullable(string(skipString(cell + 1)));
+    }
+
+    @Override
+    public Optional<Object> getValue(String columnName) throws TypeDBDriverException {
+        int value = valuePosition(cell(columnIndex(columnName)));
+        if (value < 0) return Optional.empty();
+        int payload = value + 1;
+        switch (segment.get(value)) {
+            case MaterializedRowsImpl.BOOLEAN:
+                return Optional.of(segment.get(payload) != 0);
+            case MaterializedRowsImpl.INTEGER:
+                return Optional.of(segment.getLong(payload));
+            case MaterializedRowsImpl.DOUBLE:
+                return Optional.of(segment.getDouble(payload));
+            case MaterializedRowsImpl.DECIMAL: {
+                int length = segment.getInt(payload + 4);
+                byte[] unscaled = new byte[length];
+                for (int i = 0; i < length; i++) unscaled[i] = segment.get(payload + 8 + i);
+                return Optional.of(new BigDecimal(new BigInteger(unscaled), segment.getInt(payload)));
+            }
+            case MaterializedRowsImpl.STRING:
+                return Optional.of(string(payload));
+            case MaterializedRowsImpl.DATE:
+                return Optional.of(LocalDate.ofEpochDay(segment.getLong(payload)));
+            case MaterializedRowsImpl.DATETIME:
+                return Optional.of(LocalDateTime.ofEpochSecond(segment.getLong(payload), segment.getInt(payload + 8), ZoneOffset.UTC));
+            case MaterializedRowsImpl.DATETIME_TZ:
+                return Optional.of(Instant.ofEpochSecond(segment.getLong(payload), segment.getInt(payload + 8))
+                        .atZone(ZoneId.of(string(payload + 12))));
+            case MaterializedRowsImpl.DURATION:
+                return Optional.of(new Duration(segment.getLong(payload), segment.getLong(payload + 8), segment.getLong(payload + 16)));
+            default:
+                throw new TypeDBDriverException(ILLEGAL_STATE);
+        }
+    }
+
+    @Override
+    public boolean isNull(long columnIndex) throws TypeDBDriverException {
+        return cell(checkIndex(columnIndex)) < 0;
+    }
+
+    @Override
+    public long getIntegerOrDefault(long columnIndex, long defaultValue) throws TypeDBDriverException {
+        int value = valuePosition(cell(checkIndex(columnIndex)));
+        return value >= 0 && segment.get(value) == MaterializedRowsImpl.INTEGER ? segment.getLong(value + 1) : defaultValue;
+    }
+
+    @Override
+    public double getDoubleOrNaN(long columnIndex) throws TypeDBDriverException {
+        int value = valuePosition(cell(checkIndex(columnIndex)));
+        return value >= 0 && segment.get(value) == MaterializedRowsImpl.DOUBLE ? segment.getDouble(value + 1) : Double.NaN;
+    }
+
+    private int columnIndex(String columnName) {
+        int index = rows.columnIndex(columnName);
+        if (index < 0) throw new TypeDBDriverException(MATERIALIZED_COLUMN_MISSING, columnName);
+        return index;
+    }
+
+    private int checkIndex(long columnIndex) {
+        int columnCount = rows.columnNames().size();
+        if (columnIndex < 0 || columnIndex >= columnCount) {
+            throw new TypeDBDriverException(MATERIALIZED_INDEX_OUT_OF_RANGE, columnIndex, columnCount);
+        }
+        return (int) columnIndex;
+    }
+
+    /**
+     * The position of the column's cell in the segment, or <code>-1</code> if the column is empty.
+     */
+    private int cell(int columnIndex) {
+        int offset = segment.getInt(start + 4 * columnIndex);
+        return offset < 0 ? -1 : start + offset;
+    }
+
+    private Kind kind(int cell) {
+        return KINDS[segment.get(cell)];
+    }
+
+    /**
+     * The position of the cell's value tag, or <code>-1</code> if the cell is empty or holds no value.
+     */
+    private int valuePosition(int cell) {
+        if (cell < 0) return -1;
+        Kind kind = kind(cell);
+        if (kind != Kind.ATTRIBUTE && kind != Kind.VALUE) return -1;
+        return skipString(cell + 1);
+    }
+
+    private int skipString(int position) {
+        return position + 4 + Math.max(0, segment.getInt(position));
+    }
+
+    private String string(int position) {
+        int length = segment.getInt(position);
+        return length < 0 ? null : MaterializedRowsImpl.readString(segment, position + 4, length);
+    }
+}
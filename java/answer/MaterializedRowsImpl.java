@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.answer;
+
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.MaterializedRow;
+import com.typedb.driver.api.answer.MaterializedRows;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.MATERIALIZED_INDEX_OUT_OF_RANGE;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.MATERIALIZED_ROWS_CLOSED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.MATERIALIZE_IO_ERROR;
+
+public class MaterializedRowsImpl implements MaterializedRows {
+    static final int MAGIC = 0x4d424454; // "TDBM"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int SEGMENT_SIZE = 1 << 30;
+
+    static final byte BOOLEAN = 0;
+    static final byte INTEGER = 1;
+    static final byte DOUBLE = 2;
+    static final byte DECIMAL = 3;
+    static final byte STRING = 4;
+    static final byte DATE = 5;
+    static final byte DATETIME = 6;
+    static final byte DATETIME_TZ = 7;
+    static final byte DURATION = 8;
+
+    private final Path path;
+    private final long size;
+    private final long indexOffset;
+    private final List<String> columnNames;
+    private final Map<String, Integer> columnIndices;
+    private volatile ByteBuffer[] segments;
+
+    private MaterializedRowsImpl(Path path, ByteBuffer[] segments) throws IOException {
+        this.path = path;
+        this.segments = segments;
+        ByteBuffer header = segments[0];
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) throw new IOException("not a materialized rows file");
+        this.size = header.getLong(8);
+        this.indexOffset = header.getLong(16);
+        int columnCount = header.getInt(24);
+        List<String> names = new ArrayList<>(columnCount);
+        Map<String, Integer> indices = new HashMap<>();
+        int position = HEADER_SIZE;
+        for (int i = 0; i < columnCount; i++) {
+            int length = header.getInt(position);
+            String name = readString(header, position + 4, length);
+            names.add(name);
+            indices.put(name, i);
+            position += 4 + length;
+        }
+        this.columnNames = Collections.unmodifiableList(names);
+        this.columnIndices = indices;
+    }
+
+    /**
+     * Drains the rows into the file at the given path, replacing any existing file, and maps the file.
+     */
+    public static MaterializedRows materialize(Iterator<ConceptRow> rows, Path path) throws TypeDBDriverException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileChannel indexChannel = FileChannel.open(Files.createTempFile(path.toAbsolutePath().getParent(), ".typedb-rows-", ".index"),
+                     StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+            new MaterializedRowsWriter(channel, indexChannel).write(rows);
+            long fileSize = channel.size();
+            ByteBuffer[] segments = new ByteBuffer[(int) ((fileSize + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+            for (int i = 0; i < segments.length; i++) {
+                long start = (long) i * SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, fileSize - start))
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+            // A mapping remains valid after its channel is closed
+            return new MaterializedRowsImpl(path, segments);
+        } catch (IOException e) {
+            throw new TypeDBDriverException(MATERIALIZE_IO_ERROR, path, e.getMessage());
+        }
+    }
+
+    @Override
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public List<String> columnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public MaterializedRow get(long index) throws TypeDBDriverException {
+        if (index < 0 || index >= size) throw new TypeDBDriverException(MATERIALIZED_INDEX_OUT_OF_RANGE, index, size);
+        ByteBuffer[] segments = this.segments;
+        if (segments == null) throw new TypeDBDriverException(MATERIALIZED_ROWS_CLOSED);
+        long entry = indexOffset + 8 * index;
+        long rowOffset = segments[(int) (entry / SEGMENT_SIZE)].getLong((int) (entry % SEGMENT_SIZE));
+        return new MaterializedRowImpl(this, segments[(int) (rowOffset / SEGMENT_SIZE)], (int) (rowOffset % SEGMENT_SIZE));
+    }
+
+    @Override
+    public Stream<MaterializedRow> stream() {
+        return LongStream.range(0, size).mapToObj(this::get);
+    }
+
+    @Override
+    public void close() {
+        // Dropping the mappings lets the garbage collector unmap the file once no row refers to them
+        segments = null;
+    }
+
+    int columnIndex(String columnName) {
+        Integer index = columnIndices.get(columnName);
+        return index == null ? -1 : index;
+    }
+
+    static String readString(ByteBuffer buffer, int position, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) bytes[i] = buffer.get(position + i);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
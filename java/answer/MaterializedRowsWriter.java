@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.answer;
+
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.MaterializedRow;
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.typedb.driver.answer.MaterializedRowsImpl.HEADER_SIZE;
+import static com.typedb.driver.answer.MaterializedRowsImpl.MAGIC;
+import static com.typedb.driver.answer.MaterializedRowsImpl.SEGMENT_SIZE;
+import static com.typedb.driver.answer.MaterializedRowsImpl.VERSION;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.MATERIALIZE_UNSUPPORTED_VALUE;
+
+/**
+ * Writes concept rows in the format read by <code>MaterializedRowsImpl</code>.
+ * <p>
+ * The file starts with a fixed header and the column names, followed by the rows, and ends with the index:
+ * the file offset of every row. Each row starts with the offset of every cell relative to the row,
+ * or <code>-1</code> for an empty cell, followed by the cells. A cell holds the kind of its concept and its label,
+ * followed by its IID for entities and relations, or its value for attributes and values. The file is mapped in
+ * segments of <code>SEGMENT_SIZE</code> bytes, so a row that would straddle two segments starts the next one instead.
+ * <p>
+ * The index is staged in a separate channel while the rows are written, so that memory use does not grow with the
+ * number of rows, and is appended to the file once the rows are complete.
+ */
+class MaterializedRowsWriter {
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 20;
+    private static final int INDEX_BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final FileChannel indexChannel;
+    private final ByteBuffer output;
+    private final ByteBuffer index;
+    private ByteBuffer row;
+    private long position;
+    private long rowCount;
+
+    /**
+     * @param channel      The channel to write the file to
+     * @param indexChannel An empty scratch channel to stage the index in
+     */
+    MaterializedRowsWriter(FileChannel channel, FileChannel indexChannel) {
+        this.channel = channel;
+        this.indexChannel = indexChannel;
+        this.output = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        this.index = ByteBuffer.allocateDirect(INDEX_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        this.row = ByteBuffer.allocate(4096).order(ByteOrder.LITTLE_ENDIAN);
+        this.position = 0;
+        this.rowCount = 0;
+    }
+
+    void write(Iterator<ConceptRow> rows) throws IOException {
+        ConceptRow first = rows.hasNext() ? rows.next() : null;
+        List<String> columnNames = first == null ? List.of() : first.columnNames().collect(Collectors.toList());
+        output.position(HEADER_SIZE);
+        position = HEADER_SIZE;
+        for (String columnName : columnNames) {
+            byte[] bytes = columnName.getBytes(StandardCharsets.UTF_8);
+            ensureOutput(4 + bytes.length);
+            output.putInt(bytes.length).put(bytes);
+            position += 4 + bytes.length;
+        }
+        if (first != null) {
+            writeRow(first, columnNames.size());
+            while (rows.hasNext()) writeRow(rows.next(), columnNames.size());
+        }
+        pad((8 - position % 8) % 8);
+        long indexOffset = position;
+        flushOutput();
+        appendIndex();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putLong(rowCount).putLong(indexOffset).putInt(columnNames.size()).putInt(0);
+        header.flip();
+        while (header.hasRemaining()) channel.write(header, header.position());
+    }
+
+    private void writeRow(ConceptRow conceptRow, int columnCount) throws IOException {
+        row.clear();
+        ensureRow(4 * columnCount);
+        row.position(4 * columnCount);
+        for (int column = 0; column < columnCount; column++) {
+            if (conceptRow.isNull(column)) {
+                row.putInt(4 * column, -1);
+            } else {
+                row.putInt(4 * column, row.position());
+                writeCell(conceptRow.getIndex(column).get());
+            }
+        }
+        int size = row.position();
+        if (size > SEGMENT_SIZE) throw new IOException("a row of " + size + " bytes exceeds the maximum of " + SEGMENT_SIZE + " bytes");
+        long segmentRemaining = SEGMENT_SIZE - position % SEGMENT_SIZE;
+        if (size > segmentRemaining) pad(segmentRemaining);
+        if (!index.hasRemaining()) flushIndex();
+        index.putLong(position);
+        rowCount++;
+        row.flip();
+        if (size > output.remaining()) flushOutput();
+        if (size > output.remaining()) {
+            while (row.hasRemaining()) channel.write(row, position + row.position());
+        } else {
+            output.put(row);
+        }
+        position += size;
+    }
+
+    private void writeCell(Concept concept) {
+        MaterializedRow.Kind kind = kindOf(concept);
+        ensureRow(1);
+        row.put((byte) kind.ordinal());
+        putString(concept.tryGetLabel().orElse(null));
+        switch (kind) {
+            case ENTITY:
+            case RELATION:
+                putString(concept.tryGetIID().orElse(null));
+                break;
+            case ATTRIBUTE:
+            case VALUE:
+                writeValue(concept);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void writeValue(Concept concept) {
+        ensureRow(25);
+        if (concept.isBoolean()) {
+            row.put(MaterializedRowsImpl.BOOLEAN).put((byte) (concept.getBooleanOrDefault(false) ? 1 : 0));
+        } else if (concept.isInteger()) {
+            row.put(MaterializedRowsImpl.INTEGER).putLong(concept.getIntegerOrDefault(0));
+        } else if (concept.isDouble()) {
+            row.put(MaterializedRowsImpl.DOUBLE).putDouble(concept.getDoubleOrNaN());
+        } else if (concept.isDecimal()) {
+            BigDecimal decimal = concept.tryGetDecimal().get();
+            byte[] unscaled = decimal.unscaledValue().toByteArray();
+            ensureRow(9 + unscaled.length);
+            row.put(MaterializedRowsImpl.DECIMAL).putInt(decimal.scale()).putInt(unscaled.length).put(unscaled);
+        } else if (concept.isString()) {
+            row.put(MaterializedRowsImpl.STRING);
+            putString(concept.tryGetString().get());
+        } else if (concept.isDate()) {
+            row.put(MaterializedRowsImpl.DATE).putLong(concept.tryGetDate().get().toEpochDay());
+        } else if (concept.isDatetime()) {
+            LocalDateTime datetime = concept.tryGetDatetime().get();
+            row.put(MaterializedRowsImpl.DATETIME).putLong(datetime.toEpochSecond(ZoneOffset.UTC)).putInt(datetime.getNano());
+        } else if (concept.isDatetimeTZ()) {
+            ZonedDateTime datetime = concept.tryGetDatetimeTZ().get();
+            row.put(MaterializedRowsImpl.DATETIME_TZ).putLong(datetime.toEpochSecond()).putInt(datetime.getNano());
+            putString(datetime.getZone().getId());
+        } else if (concept.isDuration()) {
+            row.put(MaterializedRowsImpl.DURATION).putLong(concept.getDurationMonths()).putLong(concept.getDurationDays())
+                    .putLong(concept.getDurationNanos());
+        } else {
+            throw new TypeDBDriverException(MATERIALIZE_UNSUPPORTED_VALUE, concept.tryGetValueType().orElse("unknown"));
+        }
+    }
+
+    private static MaterializedRow.Kind kindOf(Concept concept) {
+        if (concept.isEntityType()) return MaterializedRow.Kind.ENTITY_TYPE;
+        else if (concept.isRelationType()) return MaterializedRow.Kind.RELATION_TYPE;
+        else if (concept.isAttributeType()) return MaterializedRow.Kind.ATTRIBUTE_TYPE;
+        else if (concept.isRoleType()) return MaterializedRow.Kind.ROLE_TYPE;
+        else if (concept.isEntity()) return MaterializedRow.Kind.ENTITY;
+        else if (concept.isRelation()) return MaterializedRow.Kind.RELATION;
+        else if (concept.isAttribute()) return MaterializedRow.Kind.ATTRIBUTE;
+        else return MaterializedRow.Kind.VALUE;
+    }
+
+    private void putString(String string) {
+        if (string == null) {
+            ensureRow(4);
+            row.putInt(-1);
+        } else {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            ensureRow(4 + bytes.length);
+            row.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private void ensureRow(int bytes) {
+        if (row.remaining() >= bytes) return;
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(row.capacity() * 2, row.position() + bytes)).order(ByteOrder.LITTLE_ENDIAN);
+        row.flip();
+        grown.put(row);
+        row = grown;
+    }
+
+    private void ensureOutput(int bytes) throws IOException {
+        if (output.remaining() < bytes) flushOutput();
+    }
+
+    private void pad(long bytes) throws IOException {
+        while (bytes > 0) {
+            ensureOutput(1);
+            int chunk = (int) Math.min(bytes, output.remaining());
+            for (int i = 0; i < chunk; i++) output.put((byte) 0);
+            position += chunk;
+            bytes -= chunk;
+        }
+    }
+
+    /**
+     * Writes the buffered output, which always ends at <code>position</code>.
+     */
+    private void flushOutput() throws IOException {
+        output.flip();
+        long start = position - output.remaining();
+        while (output.hasRemaining()) channel.write(output, start + output.position());
+        output.clear();
+    }
+
+    private void flushIndex() throws IOException {
+        index.flip();
+        while (index.hasRemaining()) indexChannel.write(index);
+        index.clear();
+    }
+
+    /**
+     * Copies the staged index to the end of the file, which must already hold everything before it.
+     */
+    private void appendIndex() throws IOException {
+        flushIndex();
+        long indexSize = 8 * rowCount;
+        indexChannel.position(0);
+        for (long copied = 0; copied < indexSize; ) {
+            copied += channel.transferFrom(indexChannel, position + copied, indexSize - copied);
+        }
+        position += indexSize;
+    }
+}
@@ -22,6 +22,9 @@ package com.typedb.driver.answer;
 import com.typedb.driver.api.QueryType;
 import com.typedb.driver.api.answer.QueryAnswer;
 import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.type.TypeCache;
+
+import java.util.function.Consumer;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
 import static com.typedb.driver.jni.typedb_driver.query_answer_get_query_type;
@@ -37,8 +40,12 @@ public abstract class QueryAnswerImpl implements QueryAnswer {
     }
 
     public static QueryAnswerImpl of(com.typedb.driver.jni.QueryAnswer concept) throws TypeDBDriverException {
+        return of(concept, null);
+    }
+
+    public static QueryAnswerImpl of(com.typedb.driver.jni.QueryAnswer concept, TypeCache.SchemaTypes types) throws TypeDBDriverException {
         if (query_answer_is_ok(concept)) return new OkQueryAnswerImpl(concept);
-        else if (query_answer_is_concept_row_stream(concept)) return new ConceptRowIteratorImpl(concept);
+        else if (query_answer_is_concept_row_stream(concept)) return new ConceptRowIteratorImpl(concept, types);
         else if (query_answer_is_concept_document_stream(concept)) return new ConceptDocumentIteratorImpl(concept);
         throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
     }
@@ -46,4 +53,10 @@ public abstract class QueryAnswerImpl implements QueryAnswer {
     public QueryType getQueryType() {
         return queryType;
     }
+
+    /**
+     * Registers a callback to be run once the answer stream is drained or fails. Does nothing for answers without a stream.
+     */
+    public void onStreamFinished(Consumer<Throwable> callback) {
+    }
 }
@@ -0,0 +1,594 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.answer;
+
+import com.typedb.driver.api.QueryOptions;
+import com.typedb.driver.api.QueryType;
+import com.typedb.driver.api.analyze.ConjunctionID;
+import com.typedb.driver.api.analyze.Pipeline;
+import com.typedb.driver.api.answer.ConceptDocumentIterator;
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.ConceptRowIterator;
+import com.typedb.driver.api.answer.JSON;
+import com.typedb.driver.api.answer.MaterializedRows;
+import com.typedb.driver.api.answer.QueryAnswer;
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.ConceptSnapshot;
+import com.typedb.driver.concept.type.TypeCache;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.CONCEPT_ROW_COLUMN_MISSING;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.CONCEPT_ROW_INDEX_OUT_OF_RANGE;
+
+/**
+ * A per-database LRU cache of fully consumed READ query answers, keyed by query text, query options and given rows.
+ * An answer is recorded while the caller consumes it, and cached only once it has been drained without error and
+ * without exceeding the row limit. Rows are cached as <code>ConceptSnapshot</code> copies that hold no native
+ * handles, and each replay creates its own concepts from them.
+ * <p>
+ * Each database carries a generation, bumped on invalidation. A transaction captures the generation when it opens,
+ * and an answer is cached under, and only replayed to, transactions of the same generation, so that a transaction
+ * never mixes answers read from snapshots before and after a commit.
+ */
+public class QueryResultCache {
+    private final int capacity;
+    private final int maxRows;
+    private final long ttlMillis;
+    private final Map<String, DatabaseCache> databases;
+
+    public QueryResultCache(int capacity, int maxRows, long ttlMillis) {
+        this.capacity = capacity;
+        this.maxRows = maxRows;
+        this.ttlMillis = ttlMillis;
+        this.databases = new ConcurrentHashMap<>();
+    }
+
+    public static Key key(String query, QueryOptions options, Object givenRows) {
+        return new Key(query, options.includeInstanceTypes().orElse(null), options.includeQueryStructure().orElse(null),
+                options.prefetchSize().orElse(null), givenRows);
+    }
+
+    public long generation(String database) {
+        return databases.computeIfAbsent(database, name -> new DatabaseCache(capacity)).generation();
+    }
+
+    /**
+     * @param types the cached types of the replaying transaction, shared by the concepts of the replayed rows
+     */
+    public QueryAnswer get(String database, long generation, Key key, TypeCache.SchemaTypes types) {
+        DatabaseCache cache = databases.get(database);
+        CachedAnswer entry = cache == null ? null : cache.get(key, System.currentTimeMillis());
+        if (entry == null || entry.generation != generation) return null;
+        else if (entry.documents != null) return new CachedConceptDocumentIterator(entry.queryType, entry.documents);
+        else return new CachedConceptRowIterator(entry.queryType, entry.header, entry.rows, types);
+    }
+
+    /**
+     * Wraps a live answer so that it is cached under the given key once fully consumed. Answers that are not streams
+     * are returned unchanged.
+     */
+    public QueryAnswer record(String database, long generation, Key key, QueryAnswer answer) {
+        if (answer.isConceptRows()) {
+            return new RecordingConceptRowIterator(answer.asConceptRows(), (header, rows) ->
+                    put(database, generation, key, new CachedAnswer(answer.getQueryType(), generation, header, rows, null)));
+        } else if (answer.isConceptDocuments()) {
+            return new RecordingConceptDocumentIterator(answer.asConceptDocuments(), documents ->
+                    put(database, generation, key, new CachedAnswer(answer.getQueryType(), generation, null, null, documents)));
+        } else {
+            return answer;
+        }
+    }
+
+    public void invalidate(String database) {
+        DatabaseCache cache = databases.get(database);
+        if (cache != null) cache.invalidate();
+    }
+
+    private void put(String database, long generation, Key key, CachedAnswer entry) {
+        DatabaseCache cache = databases.get(database);
+        if (cache != null) cache.put(generation, key, entry, ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE);
+    }
+
+    public static class Key {
+        private final String query;
+        private final Boolean includeInstanceTypes;
+        private final Boolean includeQueryStructure;
+        private final Integer prefetchSize;
+        private final Object givenRows;
+        private final int hash;
+
+        private Key(String query, Boolean includeInstanceTypes, Boolean includeQueryStructure, Integer prefetchSize, Object givenRows) {
+            this.query = query;
+            this.includeInstanceTypes = includeInstanceTypes;
+            this.includeQueryStructure = includeQueryStructure;
+            this.prefetchSize = prefetchSize;
+            this.givenRows = givenRows;
+            this.hash = Objects.hash(query, includeInstanceTypes, includeQueryStructure, prefetchSize, givenRows);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            Key that = (Key) obj;
+            return query.equals(that.query) && Objects.equals(includeInstanceTypes, that.includeInstanceTypes)
+                    && Objects.equals(includeQueryStructure, that.includeQueryStructure)
+                    && Objects.equals(prefetchSize, that.prefetchSize) && Objects.equals(givenRows, that.givenRows);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static class CachedAnswer {
+        private final QueryType queryType;
+        private final long generation;
+        private final RowsHeader header;
+        private final List<RowSnapshot> rows;
+        private final List<String> documents;
+        private long expiresAt;
+
+        private CachedAnswer(QueryType queryType, long generation, RowsHeader header, List<RowSnapshot> rows, List<String> documents) {
+            this.queryType = queryType;
+            this.generation = generation;
+            this.header = header;
+            this.rows = rows;
+            this.documents = documents;
+        }
+    }
+
+    /**
+     * What all rows of an answer share, copied from its first row.
+     */
+    private static class RowsHeader {
+        private static final RowsHeader EMPTY = new RowsHeader(List.of(), Optional.empty());
+
+        private final List<String> columnNames;
+        private final Optional<Pipeline> queryStructure;
+
+        private RowsHeader(List<String> columnNames, Optional<Pipeline> queryStructure) {
+            this.columnNames = columnNames;
+            this.queryStructure = queryStructure;
+        }
+
+        private static RowsHeader of(ConceptRow row) {
+            // the query structure is copied out of the native analysis, so it holds no native handles
+            return new RowsHeader(row.columnNames().collect(Collectors.toList()), row.getQueryStructure());
+        }
+    }
+
+    private static class RowSnapshot {
+        private final ConceptSnapshot[] cells;
+        private final List<ConjunctionID> involvedConjunctions;
+
+        private RowSnapshot(ConceptSnapshot[] cells, List<ConjunctionID> involvedConjunctions) {
+            this.cells = cells;
+            this.involvedConjunctions = involvedConjunctions;
+        }
+
+        /**
+         * Copies the row, or returns <code>null</code> if one of its concepts cannot be copied.
+         */
+        private static RowSnapshot of(ConceptRow row, int columnCount) {
+            ConceptSnapshot[] cells = new ConceptSnapshot[columnCount];
+            for (int column = 0; column < columnCount; column++) {
+                Optional<Concept> concept = row.getIndex(column);
+                if (concept.isEmpty()) continue;
+                cells[column] = ConceptSnapshot.of(concept.get());
+                if (cells[column] == null) return null;
+            }
+            List<ConjunctionID> involvedConjunctions = row.involvedConjunctions()
+                    .map(conjunctions -> conjunctions.collect(Collectors.<ConjunctionID>toList())).orElse(null);
+            return new RowSnapshot(cells, involvedConjunctions);
+        }
+    }
+
+    private static class DatabaseCache {
+        private final LinkedHashMap<Key, CachedAnswer> entries;
+        private long generation;
+
+        private DatabaseCache(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, CachedAnswer> eldest) {
+                    return size() > capacity;
+                }
+            };
+            this.generation = 0;
+        }
+
+        private synchronized CachedAnswer get(Key key, long now) {
+            CachedAnswer entry = entries.get(key);
+            if (entry != null && entry.expiresAt <= now) {
+                entries.remove(key);
+                return null;
+            }
+            return entry;
+        }
+
+        private synchronized long generation() {
+            return generation;
+        }
+
+        private synchronized void put(long generation, Key key, CachedAnswer entry, long expiresAt) {
+            if (this.generation != generation) return;
+            entry.expiresAt = expiresAt;
+            entries.put(key, entry);
+        }
+
+        private synchronized void invalidate() {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Passes the elements of a live stream through, keeping a copy of them until the stream is drained. Recording
+     * stops if an element cannot be copied.
+     */
+    private class Recorder<T, C> {
+        private final Iterator<T> live;
+        private final Function<T, C> copy;
+        private final Consumer<List<C>> onComplete;
+        private List<C> recorded;
+
+        private Recorder(Iterator<T> live, Function<T, C> copy, Consumer<List<C>> onComplete) {
+            this.live = live;
+            this.copy = copy;
+            this.onComplete = onComplete;
+            this.recorded = new ArrayList<>();
+        }
+
+        boolean hasNext() {
+            boolean hasNext = live.hasNext();
+            if (!hasNext && recorded != null) {
+                onComplete.accept(recorded);
+                recorded = null;
+            }
+            return hasNext;
+        }
+
+        T next() {
+            T next = live.next();
+            if (recorded != null) {
+                C copied = recorded.size() < maxRows ? copy.apply(next) : null;
+                if (copied != null) recorded.add(copied);
+                else recorded = null;
+            }
+            return next;
+        }
+
+        Stream<T> stream() {
+            Iterator<T> iterator = new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return Recorder.this.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    return Recorder.this.next();
+                }
+            };
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+        }
+    }
+
+    private class RecordingConceptRowIterator implements ConceptRowIterator {
+        private final QueryType queryType;
+        private final Recorder<ConceptRow, RowSnapshot> recorder;
+        private RowsHeader header;
+
+        private RecordingConceptRowIterator(ConceptRowIterator live, BiConsumer<RowsHeader, List<RowSnapshot>> onComplete) {
+            this.queryType = live.getQueryType();
+            this.recorder = new Recorder<>(live, this::copy, rows -> onComplete.accept(header == null ? RowsHeader.EMPTY : header, rows));
+        }
+
+        private RowSnapshot copy(ConceptRow row) {
+            if (header == null) header = RowsHeader.of(row);
+            return RowSnapshot.of(row, header.columnNames.size());
+        }
+
+        @Override
+        public QueryType getQueryType() {
+            return queryType;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return recorder.hasNext();
+        }
+
+        @Override
+        public ConceptRow next() {
+            return recorder.next();
+        }
+
+        @Override
+        public Stream<ConceptRow> stream() {
+            return recorder.stream();
+        }
+
+        @Override
+        public MaterializedRows materialize(Path path) throws TypeDBDriverException {
+            return MaterializedRowsImpl.materialize(this, path);
+        }
+    }
+
+    private class RecordingConceptDocumentIterator implements ConceptDocumentIterator {
+        private final QueryType queryType;
+        private final Recorder<String, String> recorder;
+
+        private RecordingConceptDocumentIterator(ConceptDocumentIterator live, Consumer<List<String>> onComplete) {
+            this.queryType = live.getQueryType();
+            this.recorder = new Recorder<>(new Iterator<String>() {
+                @Override
+                public boolean hasNext() {
+                    return live.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    return live.nextRaw();
+                }
+            }, Function.identity(), onComplete);
+        }
+
+        @Override
+        public QueryType getQueryType() {
+            return queryType;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return recorder.hasNext();
+        }
+
+        @Override
+        public JSON next() {
+            return JSON.parse(recorder.next());
+        }
+
+        @Override
+        public String nextRaw() {
+            return recorder.next();
+        }
+
+        @Override
+        public Stream<JSON> stream() {
+            return recorder.stream().map(JSON::parse);
+        }
+
+        @Override
+        public Stream<String> rawStream() {
+            return recorder.stream();
+        }
+    }
+
+    private static class CachedConceptRowIterator implements ConceptRowIterator {
+        private final QueryType queryType;
+        private final RowsHeader header;
+        private final Iterator<RowSnapshot> rows;
+        private final TypeCache.SchemaTypes types;
+
+        private CachedConceptRowIterator(QueryType queryType, RowsHeader header, List<RowSnapshot> rows, TypeCache.SchemaTypes types) {
+            this.queryType = queryType;
+            this.header = header;
+            this.rows = rows.iterator();
+            this.types = types;
+        }
+
+        @Override
+        public QueryType getQueryType() {
+            return queryType;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public ConceptRow next() {
+            return new CachedConceptRow(queryType, header, rows.next(), types);
+        }
+
+        @Override
+        public Stream<ConceptRow> stream() {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+        }
+
+        @Override
+        public MaterializedRows materialize(Path path) throws TypeDBDriverException {
+            return MaterializedRowsImpl.materialize(this, path);
+        }
+    }
+
+    /**
+     * A replayed row, which creates the concepts of its cells from their copies when they are read.
+     */
+    private static class CachedConceptRow implements ConceptRow {
+        private final QueryType queryType;
+        private final RowsHeader header;
+        private final RowSnapshot row;
+        private final TypeCache.SchemaTypes types;
+
+        private CachedConceptRow(QueryType queryType, RowsHeader header, RowSnapshot row, TypeCache.SchemaTypes types) {
+            this.queryType = queryType;
+            this.header = header;
+            this.row = row;
+            this.types = types;
+        }
+
+        @Override
+        public Stream<String> columnNames() {
+            return header.columnNames.stream();
+        }
+
+        @Override
+        public QueryType getQueryType() {
+            return queryType;
+        }
+
+        @Override
+        public Optional<Pipeline> getQueryStructure() {
+            return header.queryStructure;
+        }
+
+        @Override
+        public Optional<Concept> get(String columnName) throws TypeDBDriverException {
+            Validator.requireNonNull(columnName, "columnName");
+            int column = header.columnNames.indexOf(columnName);
+            if (column < 0) throw new TypeDBDriverException(CONCEPT_ROW_COLUMN_MISSING, columnName);
+            return concept(column);
+        }
+
+        @Override
+        public Optional<Concept> getIndex(long columnIndex) throws TypeDBDriverException {
+            return concept(column(columnIndex));
+        }
+
+        @Override
+        public boolean isNull(long columnIndex) throws TypeDBDriverException {
+            return row.cells[column(columnIndex)] == null;
+        }
+
+        @Override
+        public long getIntegerOrDefault(long columnIndex, long defaultValue) throws TypeDBDriverException {
+            ConceptSnapshot cell = row.cells[column(columnIndex)];
+            return cell == null ? defaultValue : cell.getIntegerOrDefault(defaultValue);
+        }
+
+        @Override
+        public double getDoubleOrNaN(long columnIndex) throws TypeDBDriverException {
+            ConceptSnapshot cell = row.cells[column(columnIndex)];
+            return cell == null ? Double.NaN : cell.getDoubleOrNaN();
+        }
+
+        @Override
+        public Stream<Concept> concepts() {
+            return Arrays.stream(row.cells).filter(Objects::nonNull).map(cell -> cell.restore(types));
+        }
+
+        @Override
+        public Optional<Stream<? extends ConjunctionID>> involvedConjunctions() {
+            return Optional.ofNullable(row.involvedConjunctions).map(List::stream);
+        }
+
+        private int column(long columnIndex) {
+            Validator.requireNonNegative(columnIndex, "columnIndex");
+            if (columnIndex >= row.cells.length) {
+                throw new TypeDBDriverException(CONCEPT_ROW_INDEX_OUT_OF_RANGE, columnIndex, row.cells.length);
+            }
+            return (int) columnIndex;
+        }
+
+        private Optional<Concept> concept(int column) {
+            ConceptSnapshot cell = row.cells[column];
+            return cell == null ? Optional.empty() : Optional.of(cell.restore(types));
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder string = new StringBuilder("|");
+            for (int column = 0; column < row.cells.length; column++) {
+                String name = header.columnNames.get(column);
+                if (row.cells[column] == null) string.append("  $").append(name).append(": empty  ");
+                else string.append("  $").append(name).append(": ").append(row.cells[column].restore(types)).append("  |");
+            }
+            return string.toString();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            CachedConceptRow that = (CachedConceptRow) obj;
+            return header.columnNames.equals(that.header.columnNames) && Arrays.equals(row.cells, that.row.cells);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(row.cells);
+        }
+    }
+
+    private static class CachedConceptDocumentIterator implements ConceptDocumentIterator {
+        private final QueryType queryType;
+        private final Iterator<String> documents;
+
+        private CachedConceptDocumentIterator(QueryType queryType, List<String> documents) {
+            this.queryType = queryType;
+            this.documents = documents.iterator();
+        }
+
+        @Override
+        public QueryType getQueryType() {
+            return queryType;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return documents.hasNext();
+        }
+
+        @Override
+        public JSON next() {
+            return JSON.parse(documents.next());
+        }
+
+        @Override
+        public String nextRaw() {
+            return documents.next();
+        }
+
+        @Override
+        public Stream<JSON> stream() {
+            return rawStream().map(JSON::parse);
+        }
+
+        @Override
+        public Stream<String> rawStream() {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(documents, Spliterator.ORDERED | Spliterator.NONNULL), false);
+        }
+    }
+}
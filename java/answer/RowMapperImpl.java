@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.answer;
+
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.ConceptRowIterator;
+import com.typedb.driver.api.answer.RowMapper;
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_MAPPER_INACCESSIBLE_TYPE;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_MAPPER_MISSING_COLUMN;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_MAPPER_TYPE_MISMATCH;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.ROW_MAPPER_UNSUPPORTED_FIELD;
+
+public class RowMapperImpl<T> implements RowMapper<T> {
+    private static final MethodType SETTER_OBJECT = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final Map<Class<?>, Function<Concept, Optional<?>>> EXTRACTORS = new HashMap<>();
+
+    static {
+        EXTRACTORS.put(Long.class, Concept::tryGetInteger);
+        EXTRACTORS.put(Integer.class, concept -> concept.tryGetInteger().map(Math::toIntExact));
+        EXTRACTORS.put(Double.class, Concept::tryGetDouble);
+        EXTRACTORS.put(Boolean.class, Concept::tryGetBoolean);
+        EXTRACTORS.put(String.class, Concept::tryGetString);
+        EXTRACTORS.put(BigDecimal.class, Concept::tryGetDecimal);
+        EXTRACTORS.put(LocalDate.class, Concept::tryGetDate);
+        EXTRACTORS.put(LocalDateTime.class, Concept::tryGetDatetime);
+        EXTRACTORS.put(ZonedDateTime.class, Concept::tryGetDatetimeTZ);
+        EXTRACTORS.put(Duration.class, Concept::tryGetDuration);
+        EXTRACTORS.put(Concept.class, Optional::of);
+    }
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final List<FieldBinding> fields;
+
+    public RowMapperImpl(Class<T> type) {
+        Validator.requireNonNull(type, "type");
+        this.type = type;
+        this.fields = new ArrayList<>();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+            for (Class<?> declaring = type; declaring != Object.class; declaring = declaring.getSuperclass()) {
+                MethodHandles.Lookup declaringLookup = declaring == type ? lookup : MethodHandles.privateLookupIn(declaring, lookup);
+                for (Field field : declaring.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) continue;
+                    fields.add(bind(field, declaringLookup.unreflectSetter(field)));
+                }
+            }
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new TypeDBDriverException(ROW_MAPPER_INACCESSIBLE_TYPE, type.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Primitive fields read their value without creating a concept. The value that also stands for an empty or
+     * mismatched cell is rare, so only then is the cell itself looked at, to tell the three apart.
+     */
+    private FieldBinding bind(Field field, MethodHandle setter) {
+        Column column = field.getAnnotation(Column.class);
+        String columnName = column != null ? column.value() : field.getName();
+        Class<?> fieldType = field.getType();
+        if (fieldType == long.class) {
+            MethodHandle longSetter = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+            return new FieldBinding(columnName, field) {
+                @Override
+                void set(Object target, ConceptRow row, int index) throws Throwable {
+                    longSetter.invokeExact(target, integer(row, index));
+                }
+            };
+        } else if (fieldType == int.class) {
+            MethodHandle intSetter = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+            return new FieldBinding(columnName, field) {
+                @Override
+                void set(Object target, ConceptRow row, int index) throws Throwable {
+                    long value = integer(row, index);
+                    if (value != (int) value) throw mismatch(row.getIndex(index).get());
+                    intSetter.invokeExact(target, (int) value);
+                }
+            };
+        } else if (fieldType == double.class) {
+            MethodHandle doubleSetter = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+            return new FieldBinding(columnName, field) {
+                @Override
+                void set(Object target, ConceptRow row, int index) throws Throwable {
+                    double value = row.getDoubleOrNaN(index);
+                    if (Double.isNaN(value)) value = value(row, index, Concept::tryGetDouble, Double.NaN);
+                    doubleSetter.invokeExact(target, value);
+                }
+            };
+        } else if (fieldType == boolean.class) {
+            MethodHandle booleanSetter = setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+            return new FieldBinding(columnName, field) {
+                @Override
+                void set(Object target, ConceptRow row, int index) throws Throwable {
+                    booleanSetter.invokeExact(target, (boolean) value(row, index, Concept::tryGetBoolean, false));
+                }
+            };
+        } else if (EXTRACTORS.containsKey(fieldType)) {
+            Function<Concept, Optional<?>> extractor = EXTRACTORS.get(fieldType);
+            MethodHandle objectSetter = setter.asType(SETTER_OBJECT);
+            return new FieldBinding(columnName, field) {
+                @Override
+                void set(Object target, ConceptRow row, int index) throws Throwable {
+                    objectSetter.invokeExact(target, value(row, index, extractor, null));
+                }
+            };
+        } else {
+            throw new TypeDBDriverException(ROW_MAPPER_UNSUPPORTED_FIELD, type.getName(), field.getName(), fieldType.getName());
+        }
+    }
+
+    @Override
+    public Class<T> type() {
+        return type;
+    }
+
+    @Override
+    public T map(ConceptRow row) {
+        return map(row, resolve(row));
+    }
+
+    @Override
+    public Stream<T> map(ConceptRowIterator rows) {
+        Validator.requireNonNull(rows, "rows");
+        return rows.stream().map(new Function<ConceptRow, T>() {
+            private int[] indices;
+
+            @Override
+            public T apply(ConceptRow row) {
+                if (indices == null) indices = resolve(row);
+                return map(row, indices);
+            }
+        });
+    }
+
+    private int[] resolve(ConceptRow row) {
+        List<String> header = row.columnNames().collect(Collectors.toList());
+        int[] indices = new int[fields.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = header.indexOf(fields.get(i).column);
+            if (indices[i] < 0) throw new TypeDBDriverException(ROW_MAPPER_MISSING_COLUMN, type.getName(), fields.get(i).column);
+        }
+        return indices;
+    }
+
+    private T map(ConceptRow row, int[] indices) {
+        try {
+            Object target = (Object) constructor.invokeExact();
+            for (int i = 0; i < indices.length; i++) {
+                fields.get(i).set(target, row, indices[i]);
+            }
+            return type.cast(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new TypeDBDriverException(ROW_MAPPER_INACCESSIBLE_TYPE, type.getName(), e.getMessage());
+        }
+    }
+
+    private abstract class FieldBinding {
+        final String column;
+        private final Field field;
+
+        FieldBinding(String column, Field field) {
+            this.column = column;
+            this.field = field;
+        }
+
+        abstract void set(Object target, ConceptRow row, int index) throws Throwable;
+
+        long integer(ConceptRow row, int index) {
+            long value = row.getIntegerOrDefault(index, Long.MIN_VALUE);
+            return value != Long.MIN_VALUE ? value : value(row, index, Concept::tryGetInteger, 0L);
+        }
+
+        /**
+         * Extracts the value of the cell, or returns <code>empty</code> if the cell is empty.
+         *
+         * @throws TypeDBDriverException if the cell holds a concept the field cannot take
+         */
+        @SuppressWarnings("unchecked")
+        <V> V value(ConceptRow row, int index, Function<Concept, ? extends Optional<?>> extractor, V empty) {
+            Optional<Concept> concept = row.getIndex(index);
+            if (concept.isEmpty()) return empty;
+            Optional<?> value;
+            try {
+                value = extractor.apply(concept.get());
+            } catch (ArithmeticException e) {
+                throw mismatch(concept.get());
+            }
+            return (V) value.orElseThrow(() -> mismatch(concept.get()));
+        }
+
+        TypeDBDriverException mismatch(Concept concept) {
+            return new TypeDBDriverException(ROW_MAPPER_TYPE_MISMATCH, type.getName(), column, concept,
+                    field.getName(), field.getType().getName());
+        }
+    }
+}
@@ -19,15 +19,21 @@
 
 package com.typedb.driver.api;
 
+import com.typedb.driver.api.answer.ConceptRow;
 import com.typedb.driver.api.database.DatabaseManager;
 import com.typedb.driver.api.server.Server;
 import com.typedb.driver.api.server.ServerVersion;
 import com.typedb.driver.api.user.UserManager;
+import com.typedb.driver.common.NativeMemoryUsage;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
 import javax.annotation.CheckReturnValue;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public interface Driver extends AutoCloseable {
     String LANGUAGE = "java";
@@ -121,6 +127,169 @@ public interface Driver extends AutoCloseable {
     @CheckReturnValue
     Transaction transaction(String database, Transaction.Type type, TransactionOptions options);
 
+    /**
+     * Opens a pool of warm READ transactions to the given database, with default <code>TransactionPoolOptions</code>.
+     * See {@link #transactionPool(String, TransactionPoolOptions)} for more details and options.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transactionPool(database);
+     * </pre>
+     *
+     * @param database The name of the database the pooled transactions connect to
+     */
+    @CheckReturnValue
+    default TransactionPool transactionPool(String database) throws TypeDBDriverException {
+        return transactionPool(database, new TransactionPoolOptions());
+    }
+
+    /**
+     * Opens a pool of warm READ transactions to the given database. The pool keeps up to the configured number
+     * of transactions open in the background, so that acquiring one does not wait for a transaction to open.
+     * The pool must be closed when no longer needed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transactionPool(database, new TransactionPoolOptions().size(8).maxAgeMillis(500));
+     * </pre>
+     *
+     * @param database The name of the database the pooled transactions connect to
+     * @param options  <code>TransactionPoolOptions</code> to configure the pool
+     */
+    @CheckReturnValue
+    TransactionPool transactionPool(String database, TransactionPoolOptions options) throws TypeDBDriverException;
+
+    /**
+     * Opens a writer of rows through the given query, with default <code>PartitionedWriterOptions</code>.
+     * See {@link #partitionedWriter(String, String, PartitionedWriterOptions)} for more details and options.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.partitionedWriter(database, "insert $p isa person, has email $email;");
+     * </pre>
+     *
+     * @param database The name of the database to write to
+     * @param query    The query to run over the written rows
+     */
+    @CheckReturnValue
+    default PartitionedWriter partitionedWriter(String database, String query) throws TypeDBDriverException {
+        return partitionedWriter(database, query, new PartitionedWriterOptions());
+    }
+
+    /**
+     * Opens a writer that runs the given query over written rows in parallel WRITE transactions. Rows are routed to
+     * partitions by a partition key, and each partition commits its rows in batches, given to the query as its
+     * <code>GivenRows</code>. The writer must be closed to commit the rows still buffered.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * try (PartitionedWriter writer = driver.partitionedWriter(database, query, new PartitionedWriterOptions().partitions(8))) {
+     *     writer.write(email, Map.of("email", email));
+     * }
+     * </pre>
+     *
+     * @param database The name of the database to write to
+     * @param query    The query to run over the written rows
+     * @param options  <code>PartitionedWriterOptions</code> to configure the writer
+     */
+    @CheckReturnValue
+    PartitionedWriter partitionedWriter(String database, String query, PartitionedWriterOptions options) throws TypeDBDriverException;
+
+    /**
+     * Runs the query once per partition binding, with default <code>FanOutReadOptions</code>.
+     * See {@link #fanOutRead(String, String, List, FanOutReadOptions)} for more details and options.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.fanOutRead(database, "match $x isa $t;", List.of(Map.of("t", "person"), Map.of("t", "company")));
+     * </pre>
+     *
+     * @param database   The name of the database to read from
+     * @param query      The query to run for every partition
+     * @param partitions The given row of each partition's query
+     */
+    @CheckReturnValue
+    default Stream<ConceptRow> fanOutRead(String database, String query, List<? extends Map<String, Object>> partitions)
+            throws TypeDBDriverException {
+        return fanOutRead(database, query, partitions, new FanOutReadOptions());
+    }
+
+    /**
+     * Runs the query once per partition binding, each in its own READ transaction, and merges the answers
+     * into one stream. Up to <code>FanOutReadOptions.parallelism</code> partitions are read concurrently,
+     * and each buffers at most <code>FanOutReadOptions.bufferSize</code> rows ahead of the consumer.
+     * Rows are streamed in the order they arrive, so rows of different partitions are interleaved.
+     * The stream must be consumed or closed to release the transactions of unfinished partitions.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * try (Stream&lt;ConceptRow&gt; rows = driver.fanOutRead(database, query, partitions, new FanOutReadOptions().parallelism(4))) {
+     *     rows.forEach(row -&gt; process(row));
+     * }
+     * </pre>
+     *
+     * @param database   The name of the database to read from
+     * @param query      The query to run for every partition
+     * @param partitions The given row of each partition's query
+     * @param options    <code>FanOutReadOptions</code> to configure the read
+     */
+    @CheckReturnValue
+    Stream<ConceptRow> fanOutRead(String database, String query, List<? extends Map<String, Object>> partitions,
+                                  FanOutReadOptions options) throws TypeDBDriverException;
+
+    /**
+     * Runs the work in a new transaction, with default <code>TransactionOptions</code> and <code>RetryOptions</code>.
+     * See {@link #runInTransaction(String, Transaction.Type, TransactionOptions, RetryOptions, Function)}
+     * for more details and options.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.runInTransaction(database, Transaction.Type.WRITE, tx -&gt; tx.query(query).resolve());
+     * </pre>
+     *
+     * @param database The name of the database to run the work against
+     * @param type     The type of transaction to run the work in
+     * @param work     The work to run, given the open transaction
+     */
+    default <T> T runInTransaction(String database, Transaction.Type type, Function<Transaction, T> work) throws TypeDBDriverException {
+        return runInTransaction(database, type, new TransactionOptions(), new RetryOptions(), work);
+    }
+
+    /**
+     * Runs the work in a new transaction, and commits the transaction afterwards if it is a WRITE or SCHEMA transaction
+     * that the work left open. If an attempt fails with an error accepted by <code>RetryOptions.retryIf</code>,
+     * such as a conflict with a concurrent commit, the work is run again in a fresh transaction after a jittered
+     * exponential backoff, up to <code>RetryOptions.maxAttempts</code> times. Retries across the driver are limited
+     * by a retry budget (see <code>DriverOptions.retryBudgetPercent</code>), so that a hot key cannot multiply the load
+     * on the server. The work may therefore run several times, and must not have side effects outside the transaction.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.runInTransaction(database, Transaction.Type.WRITE, new TransactionOptions(), new RetryOptions().maxAttempts(10),
+     *         tx -&gt; tx.query(query).resolve());
+     * </pre>
+     *
+     * @param database     The name of the database to run the work against
+     * @param type         The type of transaction to run the work in
+     * @param options      <code>TransactionOptions</code> to configure every transaction
+     * @param retryOptions <code>RetryOptions</code> to configure the retries
+     * @param work         The work to run, given the open transaction
+     * @return the result of the successful run of the work
+     */
+    <T> T runInTransaction(String database, Transaction.Type type, TransactionOptions options, RetryOptions retryOptions,
+                           Function<Transaction, T> work) throws TypeDBDriverException;
+
+    /**
+     * Returns the counters of the work run through <code>runInTransaction</code> on this driver.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transactionRetryMetrics().conflictRate();
+     * </pre>
+     */
+    @CheckReturnValue
+    TransactionRetryMetrics transactionRetryMetrics();
+
     /**
      * Set of servers for this driver connection, using default automatic routing.
      * See {@link #servers(ServerRouting)} for more details and options.
@@ -175,6 +344,18 @@ public interface Driver extends AutoCloseable {
     @CheckReturnValue
     Optional<? extends Server> primaryServer(ServerRouting serverRouting);
 
+    /**
+     * Accounting of the native memory and handles held by the TypeDB driver in this process.
+     * The same view is registered with the platform MBean server as {@link NativeMemoryUsage#OBJECT_NAME}.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.nativeMemory().getLiveObjects();
+     * </pre>
+     */
+    @CheckReturnValue
+    NativeMemoryUsage nativeMemory();
+
     /**
      * Closes the driver. Before instantiating a new driver, the driver that's currently open should first be closed.
      *
@@ -24,6 +24,7 @@ import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.Validator;
 
 import javax.annotation.CheckReturnValue;
+import java.util.Optional;
 
 import static com.typedb.driver.jni.typedb_driver.driver_options_get_tls_config;
 import static com.typedb.driver.jni.typedb_driver.driver_options_get_primary_failover_retries;
@@ -37,6 +38,13 @@ import static com.typedb.driver.jni.typedb_driver.driver_options_set_request_tim
  * TypeDB driver options. <code>DriverOptions</code> are used to specify the driver's connection behavior.
  */
 public class DriverOptions extends NativeObject<com.typedb.driver.jni.DriverOptions> {
+    private Tracer tracer = null;
+    private int analyzeCacheSize = 0;
+    private int queryCacheSize = 0;
+    private int queryCacheMaxRows = 10_000;
+    private long queryCacheTtlMillis = 0;
+    private int retryBudgetPercent = 10;
+
     /**
      * Produces a new <code>DriverOptions</code> object for connecting to TypeDB Server using custom TLS settings.
      * WARNING: Disabled TLS settings will make the driver sending passwords as plaintext.
@@ -152,4 +160,198 @@ public class DriverOptions extends NativeObject<com.typedb.driver.jni.DriverOpti
         return this;
     }
 
+    /**
+     * Returns the <code>Tracer</code> set for this <code>DriverOptions</code> object, if any.
+     * Specifies the tracing hook through which the driver reports spans around transactions,
+     * queries, analyses, commits and answer stream draining.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.tracer();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<Tracer> tracer() {
+        return Optional.ofNullable(tracer);
+    }
+
+    /**
+     * Sets the tracing hook through which the driver reports spans around transactions,
+     * queries, analyses, commits and answer stream draining. The trace context of each transaction
+     * is propagated to the server, so that server-side spans join the same trace.
+     * Tracing is disabled by default, in which case no spans are created.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.tracer(openTelemetryTracer);
+     * </pre>
+     *
+     * @param tracer The <code>Tracer</code> to report spans to.
+     */
+    public DriverOptions tracer(Tracer tracer) {
+        Validator.requireNonNull(tracer, "tracer");
+        this.tracer = tracer;
+        return this;
+    }
+
+    /**
+     * Returns the value set for the analyze cache size in this <code>DriverOptions</code> object.
+     * Specifies how many analyzed queries the driver caches per database, keyed by query text.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.analyzeCacheSize();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int analyzeCacheSize() {
+        return analyzeCacheSize;
+    }
+
+    /**
+     * Specifies how many analyzed queries the driver caches per database, keyed by query text.
+     * Cached analyses are shared between READ and WRITE transactions, and are discarded when a SCHEMA transaction
+     * opened through this driver commits, or when the database is created or imported again.
+     * Schema changes made by other clients are not observed. Set to {@code 0} to disable caching. Defaults to 0.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.analyzeCacheSize(1024);
+     * </pre>
+     *
+     * @param analyzeCacheSize The maximum number of analyzed queries cached per database.
+     */
+    public DriverOptions analyzeCacheSize(int analyzeCacheSize) {
+        Validator.requireNonNegative(analyzeCacheSize, "analyzeCacheSize");
+        this.analyzeCacheSize = analyzeCacheSize;
+        return this;
+    }
+
+    /**
+     * Returns the value set for the query result cache size in this <code>DriverOptions</code> object.
+     * Specifies how many READ query answers the driver caches per database.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.queryCacheSize();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int queryCacheSize() {
+        return queryCacheSize;
+    }
+
+    /**
+     * Specifies how many READ query answers the driver caches per database, keyed by query text, query options and
+     * given rows (when given as plain Java objects). An answer is cached once it has been fully consumed, and
+     * identical queries in later READ transactions replay it without contacting the server. Cached answers are
+     * discarded when a WRITE or SCHEMA transaction opened through this driver commits, or when the database is created
+     * or imported again. Changes made by other clients are not observed, so pair this with
+     * <code>queryCacheTtlMillis</code> if other clients write to the database. Set to {@code 0} to disable caching.
+     * Defaults to 0.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.queryCacheSize(256);
+     * </pre>
+     *
+     * @param queryCacheSize The maximum number of query answers cached per database.
+     */
+    public DriverOptions queryCacheSize(int queryCacheSize) {
+        Validator.requireNonNegative(queryCacheSize, "queryCacheSize");
+        this.queryCacheSize = queryCacheSize;
+        return this;
+    }
+
+    /**
+     * Returns the value set for the maximum number of rows or documents in a cached query answer
+     * in this <code>DriverOptions</code> object.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.queryCacheMaxRows();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int queryCacheMaxRows() {
+        return queryCacheMaxRows;
+    }
+
+    /**
+     * Specifies the maximum number of rows or documents in a cached query answer. Larger answers are streamed as usual
+     * but not cached. Defaults to 10000.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.queryCacheMaxRows(1000);
+     * </pre>
+     *
+     * @param queryCacheMaxRows The maximum number of rows or documents in a cached answer.
+     */
+    public DriverOptions queryCacheMaxRows(int queryCacheMaxRows) {
+        Validator.requirePositive(queryCacheMaxRows, "queryCacheMaxRows");
+        this.queryCacheMaxRows = queryCacheMaxRows;
+        return this;
+    }
+
+    /**
+     * Returns the value set for the time to live of cached query answers in this <code>DriverOptions</code> object.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.queryCacheTtlMillis();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long queryCacheTtlMillis() {
+        return queryCacheTtlMillis;
+    }
+
+    /**
+     * Specifies how long a cached query answer may be replayed, in milliseconds. Set to {@code 0} to keep answers until
+     * they are evicted or invalidated. Defaults to 0.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.queryCacheTtlMillis(5000);
+     * </pre>
+     *
+     * @param queryCacheTtlMillis The time to live of cached query answers, in milliseconds.
+     */
+    public DriverOptions queryCacheTtlMillis(long queryCacheTtlMillis) {
+        Validator.requireNonNegative(queryCacheTtlMillis, "queryCacheTtlMillis");
+        this.queryCacheTtlMillis = queryCacheTtlMillis;
+        return this;
+    }
+
+    /**
+     * Returns the value set for the retry budget in this <code>DriverOptions</code> object.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.retryBudgetPercent();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int retryBudgetPercent() {
+        return retryBudgetPercent;
+    }
+
+    /**
+     * Specifies how many retries <code>Driver.runInTransaction</code> may make, as a percentage of the runs started
+     * through the driver, on top of a small allowance for occasional retries. Once the budget is spent, retryable
+     * failures are reported instead of retried until more runs have been started. Defaults to 10.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.retryBudgetPercent(20);
+     * </pre>
+     *
+     * @param retryBudgetPercent The percentage of runs that may be retried.
+     */
+    public DriverOptions retryBudgetPercent(int retryBudgetPercent) {
+        Validator.requireNonNegative(retryBudgetPercent, "retryBudgetPercent");
+        this.retryBudgetPercent = retryBudgetPercent;
+        return this;
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api;
+
+import com.typedb.driver.common.Validator;
+
+import javax.annotation.CheckReturnValue;
+
+/**
+ * TypeDB fan-out read options. <code>FanOutReadOptions</code> configures how many partitions of a fan-out read
+ * run concurrently, and how many rows each partition may read ahead of the consumer of the merged stream.
+ */
+public class FanOutReadOptions {
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int bufferSize = 256;
+    private TransactionOptions transactionOptions = null;
+    private QueryOptions queryOptions = null;
+
+    /**
+     * Produces a new <code>FanOutReadOptions</code> object.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * FanOutReadOptions options = new FanOutReadOptions();
+     * </pre>
+     */
+    public FanOutReadOptions() {
+    }
+
+    /**
+     * Returns the number of partitions read concurrently, each in its own READ transaction.
+     * Defaults to the number of available processors.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.parallelism();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of partitions read concurrently, each in its own READ transaction.
+     * Further partitions start as earlier ones complete.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.parallelism(8);
+     * </pre>
+     *
+     * @param parallelism The number of partitions read concurrently.
+     */
+    public FanOutReadOptions parallelism(int parallelism) {
+        Validator.requirePositive(parallelism, "parallelism");
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Returns the number of rows each partition may buffer ahead of the consumer. Defaults to 256.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.bufferSize();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the number of rows each partition may buffer ahead of the consumer. A partition whose buffer is full
+     * stops reading until the consumer catches up, which bounds the memory held by a slow consumer.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.bufferSize(1024);
+     * </pre>
+     *
+     * @param bufferSize The number of rows each partition may buffer.
+     */
+    public FanOutReadOptions bufferSize(int bufferSize) {
+        Validator.requirePositive(bufferSize, "bufferSize");
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Returns the <code>TransactionOptions</code> the READ transactions are opened with.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.transactionOptions();
+     * </pre>
+     */
+    @CheckReturnValue
+    public TransactionOptions transactionOptions() {
+        if (transactionOptions == null) transactionOptions = new TransactionOptions();
+        return transactionOptions;
+    }
+
+    /**
+     * Sets the <code>TransactionOptions</code> the READ transactions are opened with.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.transactionOptions(new TransactionOptions().transactionTimeoutMillis(60_000));
+     * </pre>
+     *
+     * @param transactionOptions The options to open READ transactions with.
+     */
+    public FanOutReadOptions transactionOptions(TransactionOptions transactionOptions) {
+        Validator.requireNonNull(transactionOptions, "transactionOptions");
+        this.transactionOptions = transactionOptions;
+        return this;
+    }
+
+    /**
+     * Returns the <code>QueryOptions</code> each partition's query is run with.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.queryOptions();
+     * </pre>
+     */
+    @CheckReturnValue
+    public QueryOptions queryOptions() {
+        if (queryOptions == null) queryOptions = new QueryOptions();
+        return queryOptions;
+    }
+
+    /**
+     * Sets the <code>QueryOptions</code> each partition's query is run with.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.queryOptions(new QueryOptions().prefetchSize(64));
+     * </pre>
+     *
+     * @param queryOptions The options to run each partition's query with.
+     */
+    public FanOutReadOptions queryOptions(QueryOptions queryOptions) {
+        Validator.requireNonNull(queryOptions, "queryOptions");
+        this.queryOptions = queryOptions;
+        return this;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+import java.util.Map;
+
+/**
+ * Writes rows through a single query in parallel WRITE transactions to a single database. Each row is routed
+ * to one of a fixed number of partitions by its partition key, and every partition batches its rows into the
+ * <code>GivenRows</code> of the query and commits them in its own transactions. Rows with equal partition keys
+ * are always written by the same partition, in the order they were written, so choosing the key of the data a row
+ * touches keeps concurrent transactions from conflicting with each other.
+ * <p>
+ * A failure of any partition is reported by the next call to <code>write</code>, <code>flush</code>
+ * or <code>close</code>, and no further rows are written.
+ */
+public interface PartitionedWriter extends AutoCloseable {
+    /**
+     * The name of the database the rows are written to.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * writer.database();
+     * </pre>
+     */
+    @CheckReturnValue
+    String database();
+
+    /**
+     * The number of partitions the rows are written through.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * writer.partitions();
+     * </pre>
+     */
+    @CheckReturnValue
+    int partitions();
+
+    /**
+     * Queues a row to be written by the partition of the given key. Blocks while that partition has
+     * <code>PartitionedWriterOptions.maxPendingBatches</code> full batches waiting to be committed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * writer.write(email, Map.of("email", email, "name", name));
+     * </pre>
+     *
+     * @param partitionKey The key deciding the partition of the row; rows that touch the same data should share it
+     * @param row          The values of the query's given variables for this row
+     */
+    void write(Object partitionKey, Map<String, Object> row) throws TypeDBDriverException;
+
+    /**
+     * Commits every row written so far, and waits for the commits to complete.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * writer.flush();
+     * </pre>
+     */
+    void flush() throws TypeDBDriverException;
+
+    /**
+     * The number of rows committed so far.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * writer.committedRows();
+     * </pre>
+     */
+    @CheckReturnValue
+    long committedRows();
+
+    /**
+     * Commits every row written so far and stops the partitions' workers.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * writer.close();
+     * </pre>
+     */
+    void close() throws TypeDBDriverException;
+}
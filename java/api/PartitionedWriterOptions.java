@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api;
+
+import com.typedb.driver.common.Validator;
+
+import javax.annotation.CheckReturnValue;
+
+/**
+ * TypeDB partitioned writer options. <code>PartitionedWriterOptions</code> configures how many partitions
+ * a <code>PartitionedWriter</code> writes through in parallel, how many rows each of its transactions commits,
+ * and how far producers may run ahead of the commits.
+ */
+public class PartitionedWriterOptions {
+    private int partitions = Runtime.getRuntime().availableProcessors();
+    private int batchSize = 1000;
+    private int maxPendingBatches = 2;
+    private TransactionOptions transactionOptions = null;
+    private RetryOptions retryOptions = null;
+
+    /**
+     * Produces a new <code>PartitionedWriterOptions</code> object.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * PartitionedWriterOptions options = new PartitionedWriterOptions();
+     * </pre>
+     */
+    public PartitionedWriterOptions() {
+    }
+
+    /**
+     * Returns the number of partitions, each written by its own worker. Defaults to the number of available processors.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.partitions();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int partitions() {
+        return partitions;
+    }
+
+    /**
+     * Sets the number of partitions, each written by its own worker.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.partitions(8);
+     * </pre>
+     *
+     * @param partitions The number of partitions.
+     */
+    public PartitionedWriterOptions partitions(int partitions) {
+        Validator.requirePositive(partitions, "partitions");
+        this.partitions = partitions;
+        return this;
+    }
+
+    /**
+     * Returns the number of rows committed by each WRITE transaction. Defaults to 1000.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.batchSize();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of rows committed by each WRITE transaction. The rows of a batch are sent as the
+     * <code>GivenRows</code> of a single query.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.batchSize(5000);
+     * </pre>
+     *
+     * @param batchSize The number of rows per transaction.
+     */
+    public PartitionedWriterOptions batchSize(int batchSize) {
+        Validator.requirePositive(batchSize, "batchSize");
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Returns the number of full batches each partition may queue before writes to it block. Defaults to 2.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.maxPendingBatches();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int maxPendingBatches() {
+        return maxPendingBatches;
+    }
+
+    /**
+     * Sets the number of full batches each partition may queue before writes to it block. This bounds the memory
+     * held by a writer whose producers are faster than the server.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.maxPendingBatches(4);
+     * </pre>
+     *
+     * @param maxPendingBatches The number of batches each partition may queue.
+     */
+    public PartitionedWriterOptions maxPendingBatches(int maxPendingBatches) {
+        Validator.requirePositive(maxPendingBatches, "maxPendingBatches");
+        this.maxPendingBatches = maxPendingBatches;
+        return this;
+    }
+
+    /**
+     * Returns the <code>TransactionOptions</code> the WRITE transactions are opened with.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.transactionOptions();
+     * </pre>
+     */
+    @CheckReturnValue
+    public TransactionOptions transactionOptions() {
+        if (transactionOptions == null) transactionOptions = new TransactionOptions();
+        return transactionOptions;
+    }
+
+    /**
+     * Sets the <code>TransactionOptions</code> the WRITE transactions are opened with.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.transactionOptions(new TransactionOptions().transactionTimeoutMillis(60_000));
+     * </pre>
+     *
+     * @param transactionOptions The options to open WRITE transactions with.
+     */
+    public PartitionedWriterOptions transactionOptions(TransactionOptions transactionOptions) {
+        Validator.requireNonNull(transactionOptions, "transactionOptions");
+        this.transactionOptions = transactionOptions;
+        return this;
+    }
+
+    /**
+     * Returns the <code>RetryOptions</code> a batch is committed with.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.retryOptions();
+     * </pre>
+     */
+    @CheckReturnValue
+    public RetryOptions retryOptions() {
+        if (retryOptions == null) retryOptions = new RetryOptions();
+        return retryOptions;
+    }
+
+    /**
+     * Sets the <code>RetryOptions</code> a batch is committed with. Partitioning keeps rows that touch the same data
+     * in one partition, so conflicts are only expected on data shared across partition keys.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.retryOptions(new RetryOptions().maxAttempts(10));
+     * </pre>
+     *
+     * @param retryOptions The options to retry failed batches with.
+     */
+    public PartitionedWriterOptions retryOptions(RetryOptions retryOptions) {
+        Validator.requireNonNull(retryOptions, "retryOptions");
+        this.retryOptions = retryOptions;
+        return this;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api;
+
+import com.typedb.driver.api.answer.QueryAnswer;
+import com.typedb.driver.api.concept.GivenRows;
+import com.typedb.driver.common.Promise;
+
+import javax.annotation.CheckReturnValue;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A TypeQL query prepared for repeated execution in a transaction. See {@link Transaction#prepare(String)}.
+ */
+public interface PreparedQuery {
+    /**
+     * The text of the prepared query.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * preparedQuery.query();
+     * </pre>
+     */
+    @CheckReturnValue
+    String query();
+
+    /**
+     * Executes the prepared query without input rows.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * preparedQuery.execute().resolve();
+     * </pre>
+     */
+    @CheckReturnValue
+    Promise<? extends QueryAnswer> execute() throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Executes the prepared query with input rows.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * preparedQuery.execute(rows).resolve();
+     * </pre>
+     *
+     * @param givenRows GivenRows to be used as input to the query.
+     */
+    @CheckReturnValue
+    Promise<? extends QueryAnswer> execute(GivenRows givenRows) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Executes the prepared query with input rows.
+     * @see #execute(GivenRows)
+     *
+     * @param givenRows Used to construct the GivenRows which will be used as input to the query.
+     *                  Values must be Concept or a primitive supported by TypeDB.tryConvertToValue
+     */
+    @CheckReturnValue
+    Promise<? extends QueryAnswer> execute(List<? extends Map<String, Object>> givenRows) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Executes the prepared query with input rows.
+     * @see #execute(GivenRows)
+     *
+     * @param givenVariables The variables used to construct the GivenRows which will be used as input to the query.
+     * @param givenRows      The rows used to construct the GivenRows which will be used as input to the query.
+     *                       Values must be Concept or a primitive supported by TypeDB.tryConvertToValue
+     */
+    @CheckReturnValue
+    Promise<? extends QueryAnswer> execute(List<String> givenVariables, List<? extends List<Object>> givenRows) throws com.typedb.driver.common.exception.TypeDBDriverException;
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api;
+
+import com.typedb.driver.api.concept.GivenRows;
+import com.typedb.driver.common.Validator;
+
+import javax.annotation.CheckReturnValue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An ordered batch of TypeQL queries, to be submitted to a transaction together by {@link Transaction#queryBatch(QueryBatch)}.
+ * Each query may carry its own <code>QueryOptions</code> and <code>GivenRows</code>.
+ */
+public class QueryBatch {
+    private final List<Entry> entries;
+
+    /**
+     * Produces a new, empty <code>QueryBatch</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * QueryBatch batch = new QueryBatch();
+     * </pre>
+     */
+    public QueryBatch() {
+        this.entries = new ArrayList<>();
+    }
+
+    /**
+     * Appends a query to execute with default options.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.add("insert $p isa person;");
+     * </pre>
+     *
+     * @param query The query to execute.
+     */
+    public QueryBatch add(String query) {
+        return add(query, new QueryOptions(), null);
+    }
+
+    /**
+     * Appends a query to execute with the given options.
+     *
+     * @param query   The query to execute.
+     * @param options The <code>QueryOptions</code> to execute the query with.
+     */
+    public QueryBatch add(String query, QueryOptions options) {
+        return add(query, options, null);
+    }
+
+    /**
+     * Appends a query to execute with input rows.
+     *
+     * @param query     The query to execute.
+     * @param givenRows GivenRows to be used as input to the query.
+     */
+    public QueryBatch add(String query, GivenRows givenRows) {
+        Validator.requireNonNull(givenRows, "givenRows");
+        return add(query, new QueryOptions(), givenRows);
+    }
+
+    /**
+     * Appends a query to execute with the given options and input rows.
+     *
+     * @param query     The query to execute.
+     * @param options   The <code>QueryOptions</code> to execute the query with.
+     * @param givenRows GivenRows to be used as input to the query, or <code>null</code> for none.
+     */
+    public QueryBatch add(String query, QueryOptions options, GivenRows givenRows) {
+        Validator.requireNonNull(query, "query");
+        Validator.requireNonNull(options, "options");
+        entries.add(new Entry(query, options, givenRows));
+        return this;
+    }
+
+    /**
+     * The number of queries in this batch.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.size();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * The queries in this batch, in submission order.
+     */
+    @CheckReturnValue
+    public List<Entry> entries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * A single query in a <code>QueryBatch</code>.
+     */
+    public static class Entry {
+        private final String query;
+        private final QueryOptions options;
+        private final GivenRows givenRows;
+
+        private Entry(String query, QueryOptions options, GivenRows givenRows) {
+            this.query = query;
+            this.options = options;
+            this.givenRows = givenRows;
+        }
+
+        @CheckReturnValue
+        public String query() {
+            return query;
+        }
+
+        @CheckReturnValue
+        public QueryOptions options() {
+            return options;
+        }
+
+        /**
+         * The input rows of this query, or <code>null</code> if it has none.
+         */
+        @CheckReturnValue
+        public GivenRows givenRows() {
+            return givenRows;
+        }
+    }
+}
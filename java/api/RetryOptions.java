@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api;
+
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * TypeDB transaction retry options. <code>RetryOptions</code> configures how <code>Driver.runInTransaction</code>
+ * re-runs its work after a retryable failure: how many attempts it makes, and how long it backs off between them.
+ * The backoff before the n-th retry is drawn uniformly between zero and
+ * <code>min(maxBackoffMillis, initialBackoffMillis * 2^(n-1))</code>, so that contending clients spread out
+ * instead of retrying in lockstep.
+ */
+public class RetryOptions {
+    private static final String ISOLATION_CONFLICT_PREFIX = "ISL";
+    private static final Pattern ERROR_CODE = Pattern.compile("\\[([A-Z]{3}\\d+)]");
+
+    private int maxAttempts = 5;
+    private long initialBackoffMillis = 10;
+    private long maxBackoffMillis = 1000;
+    private Predicate<TypeDBDriverException> retryIf = RetryOptions::isConflict;
+
+    /**
+     * Produces a new <code>RetryOptions</code> object.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * RetryOptions options = new RetryOptions();
+     * </pre>
+     */
+    public RetryOptions() {
+    }
+
+    /**
+     * Checks whether the error reports a conflict with a concurrently committed transaction, i.e. whether the error
+     * or one of its causes carries a server isolation conflict code (<code>ISL</code>).
+     * Such failures leave the database unchanged, so the work can safely be re-run in a new transaction.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * RetryOptions.isConflict(error);
+     * </pre>
+     *
+     * @param error The error to check
+     */
+    @CheckReturnValue
+    public static boolean isConflict(TypeDBDriverException error) {
+        if (isIsolationConflict(error.getErrorCode())) return true;
+        // a server error reports the codes of its causes, such as the isolation conflict behind a failed commit,
+        // only in its stack trace, which forms its message
+        String message = error.getMessage();
+        if (message == null) return false;
+        Matcher codes = ERROR_CODE.matcher(message);
+        while (codes.find()) {
+            if (isIsolationConflict(codes.group(1))) return true;
+        }
+        return false;
+    }
+
+    private static boolean isIsolationConflict(String errorCode) {
+        return errorCode != null && errorCode.startsWith(ISOLATION_CONFLICT_PREFIX);
+    }
+
+    /**
+     * Returns the maximum number of times the work is run, including the first attempt. Defaults to 5.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.maxAttempts();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Sets the maximum number of times the work is run, including the first attempt.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.maxAttempts(10);
+     * </pre>
+     *
+     * @param maxAttempts The maximum number of attempts.
+     */
+    public RetryOptions maxAttempts(int maxAttempts) {
+        Validator.requirePositive(maxAttempts, "maxAttempts");
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Returns the upper bound of the backoff before the first retry, in milliseconds. Defaults to 10.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.initialBackoffMillis();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long initialBackoffMillis() {
+        return initialBackoffMillis;
+    }
+
+    /**
+     * Sets the upper bound of the backoff before the first retry, in milliseconds. The bound doubles with every retry.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.initialBackoffMillis(50);
+     * </pre>
+     *
+     * @param initialBackoffMillis The upper bound of the first backoff, in milliseconds.
+     */
+    public RetryOptions initialBackoffMillis(long initialBackoffMillis) {
+        Validator.requireNonNegative(initialBackoffMillis, "initialBackoffMillis");
+        this.initialBackoffMillis = initialBackoffMillis;
+        return this;
+    }
+
+    /**
+     * Returns the largest upper bound of any backoff, in milliseconds. Defaults to 1000.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.maxBackoffMillis();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long maxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    /**
+     * Sets the largest upper bound of any backoff, in milliseconds.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.maxBackoffMillis(5000);
+     * </pre>
+     *
+     * @param maxBackoffMillis The largest upper bound of any backoff, in milliseconds.
+     */
+    public RetryOptions maxBackoffMillis(long maxBackoffMillis) {
+        Validator.requireNonNegative(maxBackoffMillis, "maxBackoffMillis");
+        this.maxBackoffMillis = maxBackoffMillis;
+        return this;
+    }
+
+    /**
+     * Returns the predicate deciding which failures are retried. Defaults to <code>RetryOptions::isConflict</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.retryIf();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Predicate<TypeDBDriverException> retryIf() {
+        return retryIf;
+    }
+
+    /**
+     * Sets the predicate deciding which failures are retried. Only retry failures after which re-running the work
+     * cannot apply its effects twice.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.retryIf(error -&gt; RetryOptions.isConflict(error) || isTransient(error));
+     * </pre>
+     *
+     * @param retryIf The predicate deciding which failures are retried.
+     */
+    public RetryOptions retryIf(Predicate<TypeDBDriverException> retryIf) {
+        Validator.requireNonNull(retryIf, "retryIf");
+        this.retryIf = retryIf;
+        return this;
+    }
+}
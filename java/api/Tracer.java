@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+
+/**
+ * A tracing hook through which the driver reports its work to an external tracing system, such as OpenTelemetry.
+ * When a <code>Tracer</code> is set on <code>DriverOptions</code>, the driver opens spans around each transaction's lifetime,
+ * its queries, analyses and commit, and the draining of query answer streams.
+ * The W3C trace context of the transaction span is sent to the server when the transaction is opened,
+ * so that server-side spans join the same trace.
+ * No spans are created and no trace context is sent if no <code>Tracer</code> is set.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * DriverOptions options = new DriverOptions(DriverTlsConfig.enabledWithNativeRootCA()).tracer(openTelemetryTracer);
+ * </pre>
+ */
+public interface Tracer {
+    String TRANSACTION_SPAN = "typedb.transaction";
+    String QUERY_SPAN = "typedb.query";
+    String ANALYZE_SPAN = "typedb.analyze";
+    String COMMIT_SPAN = "typedb.commit";
+    String STREAM_SPAN = "typedb.stream";
+
+    String DATABASE_ATTRIBUTE = "db.namespace";
+    String TRANSACTION_TYPE_ATTRIBUTE = "typedb.transaction.type";
+    String QUERY_ATTRIBUTE = "db.query.text";
+
+    /**
+     * Starts a new span.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * tracer.startSpan(Tracer.QUERY_SPAN, transactionSpan);
+     * </pre>
+     *
+     * @param name   The name of the span
+     * @param parent The span within which the new span is started, or <code>null</code> to use the caller's current context
+     */
+    @CheckReturnValue
+    Span startSpan(String name, @Nullable Span parent);
+
+    /**
+     * A single traced operation started by a <code>Tracer</code>.
+     */
+    interface Span {
+        /**
+         * Sets an attribute on this span.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * span.setAttribute(Tracer.DATABASE_ATTRIBUTE, "typedb");
+         * </pre>
+         *
+         * @param key   The attribute key
+         * @param value The attribute value
+         */
+        void setAttribute(String key, String value);
+
+        /**
+         * Records the failure of the traced operation. The span is still ended with <code>end()</code>.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * span.recordException(exception);
+         * </pre>
+         *
+         * @param exception The exception the operation failed with
+         */
+        void recordException(Throwable exception);
+
+        /**
+         * Ends this span.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * span.end();
+         * </pre>
+         */
+        void end();
+
+        /**
+         * Returns the W3C <code>traceparent</code> header value identifying this span, for example
+         * <code>00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01</code>,
+         * or <code>null</code> if the trace context should not be propagated to the server.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * span.traceParent();
+         * </pre>
+         */
+        @CheckReturnValue
+        @Nullable
+        String traceParent();
+    }
+}
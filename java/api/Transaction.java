@@ -163,6 +163,67 @@ public interface Transaction extends AutoCloseable {
     @CheckReturnValue
     Promise<? extends QueryAnswer> query(String query, QueryOptions options, List<String> givenVariables, List<? extends List<Object>> givenRows) throws com.typedb.driver.common.exception.TypeDBDriverException;
 
+    /**
+     * Submits a batch of TypeQL queries with default options to this transaction back-to-back.
+     * See {@link #queryBatch(QueryBatch)} for more details.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.queryBatch(List.of("insert $a isa person;", "insert $b isa person;")).resolve();
+     * </pre>
+     *
+     * @param queries The queries to execute, in order.
+     */
+    @CheckReturnValue
+    default Promise<List<QueryAnswer>> queryBatch(List<String> queries) throws com.typedb.driver.common.exception.TypeDBDriverException {
+        QueryBatch batch = new QueryBatch();
+        queries.forEach(batch::add);
+        return queryBatch(batch);
+    }
+
+    /**
+     * Submits a batch of TypeQL queries to this transaction back-to-back. All queries are sent before any answer
+     * is awaited, so independent queries share network round trips instead of paying one each.
+     * The server executes the queries in order. Resolving the returned promise waits for every answer,
+     * and throws the error of the first failed query, if any.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.queryBatch(new QueryBatch().add(insertPerson, rows).add(insertCompany)).resolve();
+     * </pre>
+     *
+     * @param batch The queries to execute, in order.
+     */
+    @CheckReturnValue
+    Promise<List<QueryAnswer>> queryBatch(QueryBatch batch) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Prepares a TypeQL query for repeated execution in this transaction.
+     * The query text is transferred to the native driver once, and each execution only supplies its input rows.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * PreparedQuery insertPerson = transaction.prepare("given $n: string; insert $p isa person, has name == $n;");
+     * insertPerson.execute(List.of("n"), List.of(List.of("Alice"))).resolve();
+     * </pre>
+     *
+     * @param query The query to prepare.
+     */
+    @CheckReturnValue
+    default PreparedQuery prepare(String query) throws com.typedb.driver.common.exception.TypeDBDriverException {
+        return prepare(query, new QueryOptions());
+    }
+
+    /**
+     * Prepares a TypeQL query for repeated execution in this transaction.
+     * @see #prepare(String)
+     *
+     * @param query   The query to prepare.
+     * @param options The <code>QueryOptions</code> to execute the query with.
+     */
+    @CheckReturnValue
+    PreparedQuery prepare(String query, QueryOptions options) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
     /**
      * Analayze a TypeQL query in this transaction.
      *
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+
+/**
+ * A pool of warm READ transactions to a single database, so that a read does not wait for a transaction to open.
+ * Each pooled transaction is handed out once, and must be closed by its user as usual. The pool opens replacements,
+ * and closes transactions older than the configured maximum age, in the background.
+ */
+public interface TransactionPool extends AutoCloseable {
+    /**
+     * The name of the database the pooled transactions are opened to.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * pool.database();
+     * </pre>
+     */
+    @CheckReturnValue
+    String database();
+
+    /**
+     * Takes a warm READ transaction from the pool, or opens a new one if none is available.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * try (Transaction transaction = pool.acquire()) {
+     *     transaction.query("match $x isa person;").resolve();
+     * }
+     * </pre>
+     */
+    @CheckReturnValue
+    Transaction acquire() throws TypeDBDriverException;
+
+    /**
+     * The number of warm transactions currently available in the pool.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * pool.available();
+     * </pre>
+     */
+    @CheckReturnValue
+    int available();
+
+    /**
+     * Closes the pool and every warm transaction it holds. Transactions already acquired are unaffected.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * pool.close();
+     * </pre>
+     */
+    void close();
+}
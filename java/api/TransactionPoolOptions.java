@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api;
+
+import com.typedb.driver.common.Validator;
+
+import javax.annotation.CheckReturnValue;
+
+/**
+ * TypeDB transaction pool options. <code>TransactionPoolOptions</code> configures how many warm READ transactions
+ * a <code>TransactionPool</code> keeps open, and how long each may be kept before it is replaced.
+ */
+public class TransactionPoolOptions {
+    private int size = 2;
+    private long maxAgeMillis = 10_000;
+    private TransactionOptions transactionOptions = null;
+
+    /**
+     * Produces a new <code>TransactionPoolOptions</code> object.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TransactionPoolOptions options = new TransactionPoolOptions();
+     * </pre>
+     */
+    public TransactionPoolOptions() {
+    }
+
+    /**
+     * Returns the number of warm transactions the pool keeps open. Defaults to 2.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.size();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sets the number of warm transactions the pool keeps open.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.size(8);
+     * </pre>
+     *
+     * @param size The number of warm transactions to keep open.
+     */
+    public TransactionPoolOptions size(int size) {
+        Validator.requireNonNegative(size, "size");
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * Returns the maximum age of a warm transaction, in milliseconds. Defaults to 10000.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.maxAgeMillis();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long maxAgeMillis() {
+        return maxAgeMillis;
+    }
+
+    /**
+     * Sets the maximum age of a warm transaction, in milliseconds. A READ transaction observes the database
+     * as of when it was opened, so this bounds how stale the data read through a pooled transaction can be.
+     * Older transactions are closed and replaced in the background, so a lower maximum age also means more
+     * transactions opened per second while the pool is idle.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.maxAgeMillis(500);
+     * </pre>
+     *
+     * @param maxAgeMillis The maximum age of a warm transaction, in milliseconds.
+     */
+    public TransactionPoolOptions maxAgeMillis(long maxAgeMillis) {
+        Validator.requirePositive(maxAgeMillis, "maxAgeMillis");
+        this.maxAgeMillis = maxAgeMillis;
+        return this;
+    }
+
+    /**
+     * Returns the <code>TransactionOptions</code> the pooled transactions are opened with.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.transactionOptions();
+     * </pre>
+     */
+    @CheckReturnValue
+    public TransactionOptions transactionOptions() {
+        if (transactionOptions == null) transactionOptions = new TransactionOptions();
+        return transactionOptions;
+    }
+
+    /**
+     * Sets the <code>TransactionOptions</code> the pooled transactions are opened with.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.transactionOptions(new TransactionOptions().transactionTimeoutMillis(60_000));
+     * </pre>
+     *
+     * @param transactionOptions The options to open pooled transactions with.
+     */
+    public TransactionPoolOptions transactionOptions(TransactionOptions transactionOptions) {
+        Validator.requireNonNull(transactionOptions, "transactionOptions");
+        this.transactionOptions = transactionOptions;
+        return this;
+    }
+}
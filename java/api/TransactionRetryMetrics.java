@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api;
+
+import javax.annotation.CheckReturnValue;
+
+/**
+ * Counters of the work run through <code>Driver.runInTransaction</code> on a driver, since it was opened.
+ */
+public interface TransactionRetryMetrics {
+    /**
+     * Returns the number of transactions opened to run work, including retries.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transactionRetryMetrics().attempts();
+     * </pre>
+     */
+    @CheckReturnValue
+    long attempts();
+
+    /**
+     * Returns the number of attempts that were followed by a retry.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transactionRetryMetrics().retries();
+     * </pre>
+     */
+    @CheckReturnValue
+    long retries();
+
+    /**
+     * Returns the number of attempts that failed with a conflict, as decided by <code>RetryOptions.isConflict</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transactionRetryMetrics().conflicts();
+     * </pre>
+     */
+    @CheckReturnValue
+    long conflicts();
+
+    /**
+     * Returns the number of runs that completed successfully.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transactionRetryMetrics().succeeded();
+     * </pre>
+     */
+    @CheckReturnValue
+    long succeeded();
+
+    /**
+     * Returns the number of runs that failed, after their last attempt.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transactionRetryMetrics().failed();
+     * </pre>
+     */
+    @CheckReturnValue
+    long failed();
+
+    /**
+     * Returns the number of retryable failures that were not retried because the driver's retry budget was spent.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transactionRetryMetrics().budgetExhausted();
+     * </pre>
+     */
+    @CheckReturnValue
+    long budgetExhausted();
+
+    /**
+     * Returns the fraction of attempts that failed with a conflict, or 0 if there were no attempts.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.transactionRetryMetrics().conflictRate();
+     * </pre>
+     */
+    @CheckReturnValue
+    default double conflictRate() {
+        long attempts = attempts();
+        return attempts == 0 ? 0 : (double) conflicts() / attempts;
+    }
+}
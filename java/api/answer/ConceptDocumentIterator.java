@@ -46,4 +46,28 @@ public interface ConceptDocumentIterator extends QueryAnswer, Iterator<JSON> {
 
     @CheckReturnValue
     Stream<JSON> stream();
+
+    /**
+     * Returns the next document as the JSON text received from the server, without parsing it.
+     * Shares its position with <code>next()</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptDocuments.nextRaw();
+     * </pre>
+     */
+    @CheckReturnValue
+    String nextRaw();
+
+    /**
+     * Returns the remaining documents as the JSON text received from the server, without parsing them.
+     * Suitable for forwarding fetch results verbatim. Shares its position with <code>next()</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptDocuments.rawStream().forEach(document -&gt; response.write(document));
+     * </pre>
+     */
+    @CheckReturnValue
+    Stream<String> rawStream();
 }
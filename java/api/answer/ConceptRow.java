@@ -99,6 +99,54 @@ public interface ConceptRow {
     @CheckReturnValue
     Optional<Concept> getIndex(long columnIndex) throws TypeDBDriverException;
 
+    /**
+     * Checks whether the column with the given index of the header (<code>columnNames</code>) is empty in this row,
+     * without retrieving the concept.
+     * Throws an exception if the index is not in the row's range.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.isNull(columnIndex);
+     * </pre>
+     *
+     * @param columnIndex the column index
+     */
+    @CheckReturnValue
+    boolean isNull(long columnIndex) throws TypeDBDriverException;
+
+    /**
+     * Retrieves the <code>integer</code> value in the column with the given index of the header
+     * (<code>columnNames</code>), or the given default if the column is empty or does not hold an <code>integer</code>.
+     * Reads the value directly from the row, without retrieving the concept or allocating.
+     * Throws an exception if the index is not in the row's range.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getIntegerOrDefault(columnIndex, 0);
+     * </pre>
+     *
+     * @param columnIndex  the column index
+     * @param defaultValue the value to return if the column does not hold an <code>integer</code>
+     */
+    @CheckReturnValue
+    long getIntegerOrDefault(long columnIndex, long defaultValue) throws TypeDBDriverException;
+
+    /**
+     * Retrieves the <code>double</code> value in the column with the given index of the header
+     * (<code>columnNames</code>), or <code>NaN</code> if the column is empty or does not hold a <code>double</code>.
+     * Reads the value directly from the row, without retrieving the concept or allocating.
+     * Throws an exception if the index is not in the row's range.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getDoubleOrNaN(columnIndex);
+     * </pre>
+     *
+     * @param columnIndex the column index
+     */
+    @CheckReturnValue
+    double getDoubleOrNaN(long columnIndex) throws TypeDBDriverException;
+
     /**
      * Retrieve the <code>ConjunctionID</code>s of <code>Conjunction</code>s that answered this row.
      */
@@ -19,7 +19,10 @@
 
 package com.typedb.driver.api.answer;
 
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
 import javax.annotation.CheckReturnValue;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.stream.Stream;
 
@@ -54,4 +57,10 @@ public interface ConceptRowIterator extends QueryAnswer, Iterator<ConceptRow> {
      */
     @CheckReturnValue
     Stream<ConceptRow> stream();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    MaterializedRows materialize(Path path) throws TypeDBDriverException;
 }
@@ -24,7 +24,13 @@ import com.eclipsesource.json.JsonValue;
 import com.typedb.driver.common.collection.Pair;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
-import java.util.Arrays;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -33,7 +39,6 @@ import java.util.stream.StreamSupport;
 import static com.typedb.driver.common.exception.ErrorMessage.Concept.INVALID_VALUE_RETRIEVAL;
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
 import static com.typedb.driver.common.util.Objects.className;
-import static java.util.stream.Collectors.joining;
 
 public abstract class JSON {
     public static JSON parse(java.lang.String string) {
@@ -59,8 +64,59 @@ public abstract class JSON {
         }
     }
 
-    private static java.lang.String indent(java.lang.String string) {
-        return Arrays.stream(string.split("\n")).map(s -> "    " + s).collect(joining("\n"));
+    /**
+     * Writes this <code>JSON</code> to the given <code>Appendable</code> without building intermediate strings.
+     * In compact mode, the output is standard JSON with no insignificant whitespace and object members
+     * in their stored order. Otherwise, the output has the same layout as <code>toString()</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * json.writeTo(writer, true);
+     * </pre>
+     *
+     * @param out     The destination to write to
+     * @param compact Whether to write compact JSON
+     */
+    public void writeTo(Appendable out, boolean compact) throws IOException {
+        write(new Printer(out, compact));
+    }
+
+    /**
+     * Writes this <code>JSON</code> to the given <code>OutputStream</code> as UTF-8, without building intermediate
+     * strings. The stream is flushed but not closed. See <code>writeTo(Appendable, boolean)</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * json.writeTo(outputStream, true);
+     * </pre>
+     *
+     * @param out     The stream to write to
+     * @param compact Whether to write compact JSON
+     */
+    public void writeTo(OutputStream out, boolean compact) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeTo(writer, compact);
+        writer.flush();
+    }
+
+    abstract void write(Printer printer) throws IOException;
+
+    /**
+     * Whether the <code>toString()</code> layout of this value spans several lines.
+     */
+    boolean isMultiline() {
+        return false;
+    }
+
+    @Override
+    public java.lang.String toString() {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb, false);
+        } catch (IOException e) {
+            throw new TypeDBDriverException(ILLEGAL_STATE);
+        }
+        return sb.toString();
     }
 
     public boolean isObject() {
@@ -104,7 +160,14 @@ public abstract class JSON {
     }
 
     private static class Object extends JSON {
+        private static final Comparator<java.lang.String> KEY_ORDER = (s1, s2) -> {
+            if (s1.equals("type")) return 1; // type always comes last
+            else if (s2.equals("type")) return -1;
+            else return s1.compareTo(s2);
+        };
+
         private final Map<java.lang.String, JSON> object;
+        private java.lang.Boolean multiline;
 
         Object(Map<java.lang.String, JSON> object) {
             this.object = object;
@@ -132,36 +195,50 @@ public abstract class JSON {
             return object.hashCode();
         }
 
+        private boolean isSingleLine() {
+            return object.containsKey("root") // this is a type
+                    || object.containsKey("value");  // this is a value or an attribute
+        }
+
+        @Override
+        boolean isMultiline() {
+            if (multiline == null) {
+                multiline = (!isSingleLine() && object.size() > 1) || object.values().stream().anyMatch(JSON::isMultiline);
+            }
+            return multiline;
+        }
+
         @Override
-        public java.lang.String toString() {
-            Map<java.lang.String, JSON> jsonObject = asObject();
-            boolean singleLine = jsonObject.containsKey("root") // this is a type
-                    || jsonObject.containsKey("value");  // this is a value or an attribute
-
-            List<java.lang.String> orderedKeys = jsonObject.keySet().stream().sorted((s1, s2) -> {
-                if (s1.equals("type")) return 1; // type always comes last
-                else if (s2.equals("type")) return -1;
-                else return s1.compareTo(s2);
-            }).collect(Collectors.toList());
-
-            java.lang.String content = orderedKeys.stream().map(key -> {
-                StringBuilder sb = new StringBuilder("\"").append(key).append("\":");
-                java.lang.String valueString = jsonObject.get(key).toString();
-                sb.append(" ").append(valueString);
-                return sb.toString();
-            }).collect(joining(singleLine ? ", " : ",\n"));
-
-            StringBuilder sb = new StringBuilder("{");
-            if (content.lines().count() > 1) sb.append("\n").append(indent(content)).append("\n");
-            else sb.append(" ").append(content).append(" ");
-            sb.append("}");
-
-            return sb.toString();
+        void write(Printer printer) throws IOException {
+            if (printer.compact) {
+                printer.append('{');
+                boolean first = true;
+                for (Map.Entry<java.lang.String, JSON> member : object.entrySet()) {
+                    if (!first) printer.append(',');
+                    first = false;
+                    printer.appendQuoted(member.getKey()).append(':');
+                    member.getValue().write(printer);
+                }
+                printer.append('}');
+                return;
+            }
+
+            java.lang.String separator = isSingleLine() ? ", " : ",\n";
+            List<java.lang.String> orderedKeys = object.keySet().stream().sorted(KEY_ORDER).collect(Collectors.toList());
+            printer.openBlock('{', isMultiline());
+            for (int i = 0; i < orderedKeys.size(); i++) {
+                if (i > 0) printer.append(separator);
+                java.lang.String key = orderedKeys.get(i);
+                printer.append('"').append(key).append("\": ");
+                object.get(key).write(printer);
+            }
+            printer.closeBlock('}', isMultiline());
         }
     }
 
     private static class Array extends JSON {
         private final List<JSON> array;
+        private java.lang.Boolean multiline;
 
         Array(List<JSON> array) {
             this.array = array;
@@ -189,15 +266,19 @@ public abstract class JSON {
         }
 
         @Override
-        public java.lang.String toString() {
-            java.lang.String content = asArray().stream().map(JSON::toString).collect(joining(",\n"));
-
-            StringBuilder sb = new StringBuilder("[");
-            if (content.lines().count() > 1) sb.append("\n").append(indent(content)).append("\n");
-            else sb.append(" ").append(content).append(" ");
-            sb.append("]");
+        boolean isMultiline() {
+            if (multiline == null) multiline = array.size() > 1 || array.stream().anyMatch(JSON::isMultiline);
+            return multiline;
+        }
 
-            return sb.toString();
+        @Override
+        void write(Printer printer) throws IOException {
+            printer.openBlock('[', !printer.compact && isMultiline());
+            for (int i = 0; i < array.size(); i++) {
+                if (i > 0) printer.append(printer.compact ? "," : ",\n");
+                array.get(i).write(printer);
+            }
+            printer.closeBlock(']', !printer.compact && isMultiline());
         }
     }
 
@@ -230,12 +311,12 @@ public abstract class JSON {
         }
 
         @Override
-        public java.lang.String toString() {
+        void write(Printer printer) throws IOException {
             long integerPart = (long) number;
             if ((double) integerPart == number) {
-                return Long.toString(integerPart);
+                printer.append(Long.toString(integerPart));
             } else {
-                return Double.toString(number);
+                printer.append(Double.toString(number));
             }
         }
     }
@@ -269,8 +350,14 @@ public abstract class JSON {
         }
 
         @Override
-        public java.lang.String toString() {
-            return '"' + string + '"';
+        boolean isMultiline() {
+            return string.indexOf('\n') >= 0;
+        }
+
+        @Override
+        void write(Printer printer) throws IOException {
+            if (printer.compact) printer.appendQuoted(string);
+            else printer.append('"').append(string).append('"');
         }
     }
 
@@ -303,8 +390,8 @@ public abstract class JSON {
         }
 
         @Override
-        public java.lang.String toString() {
-            return java.lang.Boolean.toString(aBoolean);
+        void write(Printer printer) throws IOException {
+            printer.append(java.lang.Boolean.toString(aBoolean));
         }
     }
 
@@ -322,8 +409,105 @@ public abstract class JSON {
         }
 
         @Override
-        public java.lang.String toString() {
-            return "null";
+        void write(Printer printer) throws IOException {
+            printer.append("null");
+        }
+    }
+
+    /**
+     * Streams JSON text to an <code>Appendable</code>. In the <code>toString()</code> layout, every line of a
+     * multiline block's content is indented by four spaces per level of nesting.
+     */
+    static class Printer {
+        private static final java.lang.String INDENT = "    ";
+
+        private final Appendable out;
+        private final boolean compact;
+        private int depth = 0;
+        private boolean lineStart = false;
+
+        Printer(Appendable out, boolean compact) {
+            this.out = out;
+            this.compact = compact;
+        }
+
+        void openBlock(char open, boolean multiline) throws IOException {
+            append(open);
+            if (multiline) {
+                depth++;
+                append('\n');
+            } else if (!compact) {
+                append(' ');
+            }
+        }
+
+        void closeBlock(char close, boolean multiline) throws IOException {
+            if (multiline) {
+                depth--;
+                append('\n');
+            } else if (!compact) {
+                append(' ');
+            }
+            append(close);
+        }
+
+        Printer append(char c) throws IOException {
+            if (lineStart) indent();
+            out.append(c);
+            if (c == '\n') lineStart = depth > 0;
+            return this;
+        }
+
+        Printer append(java.lang.String string) throws IOException {
+            int start = 0;
+            for (int i = 0; i < string.length(); i++) {
+                if (lineStart) indent();
+                if (string.charAt(i) == '\n') {
+                    out.append(string, start, i + 1);
+                    start = i + 1;
+                    lineStart = depth > 0;
+                }
+            }
+            out.append(string, start, string.length());
+            return this;
+        }
+
+        private void indent() throws IOException {
+            for (int i = 0; i < depth; i++) out.append(INDENT);
+            lineStart = false;
+        }
+
+        Printer appendQuoted(java.lang.String string) throws IOException {
+            out.append('"');
+            int start = 0;
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+                if (c != '"' && c != '\\' && c >= 0x20) continue;
+                out.append(string, start, i);
+                start = i + 1;
+                switch (c) {
+                    case '"':
+                        out.append("\\\"");
+                        break;
+                    case '\\':
+                        out.append("\\\\");
+                        break;
+                    case '\n':
+                        out.append("\\n");
+                        break;
+                    case '\r':
+                        out.append("\\r");
+                        break;
+                    case '\t':
+                        out.append("\\t");
+                        break;
+                    default:
+                        out.append(java.lang.String.format("\\u%04x", (int) c));
+                }
+            }
+            out.append(string, start, string.length());
+            out.append('"');
+            return this;
         }
     }
 }
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A row of <code>MaterializedRows</code>. Each column holds a copy of what identifies and describes
+ * the answered concept: its kind, its label, its IID if it is an entity or a relation, and its value if it is
+ * an attribute or a value. Values are returned as <code>Boolean</code>, <code>Long</code>, <code>Double</code>,
+ * <code>BigDecimal</code>, <code>String</code>, <code>LocalDate</code>, <code>LocalDateTime</code>,
+ * <code>ZonedDateTime</code> or <code>Duration</code>.
+ */
+public interface MaterializedRow {
+    /**
+     * The kinds of concept a column can hold.
+     */
+    enum Kind {
+        ENTITY_TYPE,
+        RELATION_TYPE,
+        ATTRIBUTE_TYPE,
+        ROLE_TYPE,
+        ENTITY,
+        RELATION,
+        ATTRIBUTE,
+        VALUE
+    }
+
+    /**
+     * The column names of the row, in column index order.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * row.columnNames();
+     * </pre>
+     */
+    @CheckReturnValue
+    List<String> columnNames();
+
+    /**
+     * Retrieves the kind of concept in the column, or empty if the column is empty.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * row.getKind(columnName);
+     * </pre>
+     *
+     * @param columnName The column name
+     */
+    @CheckReturnValue
+    Optional<Kind> getKind(String columnName) throws TypeDBDriverException;
+
+    /**
+     * Retrieves the label of the type in the column, or of the type of the instance in the column,
+     * or the name of the value type of the value in the column. Empty if the column is empty.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * row.getLabel(columnName);
+     * </pre>
+     *
+     * @param columnName The column name
+     */
+    @CheckReturnValue
+    Optional<String> getLabel(String columnName) throws TypeDBDriverException;
+
+    /**
+     * Retrieves the IID of the entity or relation in the column, or empty for other columns.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * row.getIID(columnName);
+     * </pre>
+     *
+     * @param columnName The column name
+     */
+    @CheckReturnValue
+    Optional<String> getIID(String columnName) throws TypeDBDriverException;
+
+    /**
+     * Retrieves the value of the attribute or value in the column, or empty for other columns.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * row.getValue(columnName);
+     * </pre>
+     *
+     * @param columnName The column name
+     */
+    @CheckReturnValue
+    Optional<Object> getValue(String columnName) throws TypeDBDriverException;
+
+    /**
+     * Checks whether the column at the given index is empty.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * row.isNull(columnIndex);
+     * </pre>
+     *
+     * @param columnIndex The column index
+     */
+    @CheckReturnValue
+    boolean isNull(long columnIndex) throws TypeDBDriverException;
+
+    /**
+     * Retrieves the <code>integer</code> value in the column at the given index, or the default
+     * if the column does not hold an <code>integer</code> value. Reads the file directly, without allocating.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * row.getIntegerOrDefault(columnIndex, 0);
+     * </pre>
+     *
+     * @param columnIndex  The column index
+     * @param defaultValue The value to return if the column does not hold an <code>integer</code>
+     */
+    @CheckReturnValue
+    long getIntegerOrDefault(long columnIndex, long defaultValue) throws TypeDBDriverException;
+
+    /**
+     * Retrieves the <code>double</code> value in the column at the given index, or <code>NaN</code>
+     * if the column does not hold a <code>double</code> value. Reads the file directly, without allocating.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * row.getDoubleOrNaN(columnIndex);
+     * </pre>
+     *
+     * @param columnIndex The column index
+     */
+    @CheckReturnValue
+    double getDoubleOrNaN(long columnIndex) throws TypeDBDriverException;
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The rows of a query answer, materialized into a memory-mapped file by <code>QueryAnswer.materialize</code>.
+ * Unlike a <code>ConceptRowIterator</code>, the rows can be counted, read by index and streamed any number of times,
+ * and they hold no native resources, so they do not keep the transaction's memory alive.
+ * The file is left in place when the rows are closed.
+ */
+public interface MaterializedRows extends AutoCloseable {
+    /**
+     * The file the rows are materialized in.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * rows.path();
+     * </pre>
+     */
+    @CheckReturnValue
+    Path path();
+
+    /**
+     * The column names of the rows, in column index order. Empty if the answer had no rows.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * rows.columnNames();
+     * </pre>
+     */
+    @CheckReturnValue
+    List<String> columnNames();
+
+    /**
+     * The number of rows.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * rows.size();
+     * </pre>
+     */
+    @CheckReturnValue
+    long size();
+
+    /**
+     * Reads the row at the given index.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * rows.get(0);
+     * </pre>
+     *
+     * @param index The index of the row, from <code>0</code> to <code>size() - 1</code>
+     */
+    @CheckReturnValue
+    MaterializedRow get(long index) throws TypeDBDriverException;
+
+    /**
+     * Creates a new stream over all the rows, in the order they were answered.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * rows.stream().count();
+     * </pre>
+     */
+    @CheckReturnValue
+    Stream<MaterializedRow> stream();
+
+    /**
+     * Releases the file. Rows read before closing remain readable until they are garbage collected.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * rows.close();
+     * </pre>
+     */
+    void close();
+}
@@ -23,6 +23,7 @@ import com.typedb.driver.api.QueryType;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
 import javax.annotation.CheckReturnValue;
+import java.nio.file.Path;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Concept.INVALID_QUERY_ANSWER_CASTING;
 import static com.typedb.driver.common.util.Objects.className;
@@ -116,4 +117,22 @@ public interface QueryAnswer {
     default ConceptDocumentIterator asConceptDocuments() {
         throw new TypeDBDriverException(INVALID_QUERY_ANSWER_CASTING, className(this.getClass()), className(ConceptDocumentIterator.class));
     }
+
+    /**
+     * Drains the rows of this answer into a file at the given path, replacing any existing file, and returns them
+     * as <code>MaterializedRows</code>, which can be read by index and streamed any number of times without
+     * holding native resources. Only answers of concept rows can be materialized.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * try (MaterializedRows rows = transaction.query(query).resolve().materialize(path)) {
+     *     rows.stream().forEach(row -&gt; process(row));
+     * }
+     * </pre>
+     *
+     * @param path The file to write the rows to
+     */
+    default MaterializedRows materialize(Path path) throws TypeDBDriverException {
+        return asConceptRows().materialize(path);
+    }
 }
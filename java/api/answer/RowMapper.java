@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.stream.Stream;
+
+/**
+ * Maps <code>ConceptRow</code>s onto instances of a plain Java class. Each instance field is bound to the column
+ * named by its <code>Column</code> annotation, or to the column with the same name as the field.
+ * Supported field types are <code>long</code>, <code>int</code>, <code>double</code>, <code>boolean</code>,
+ * their boxed forms, <code>String</code>, <code>BigDecimal</code>, <code>LocalDate</code>,
+ * <code>LocalDateTime</code>, <code>ZonedDateTime</code>, <code>Duration</code> and <code>Concept</code>.
+ * Reference fields of empty columns are set to <code>null</code>; primitive fields are set to <code>0</code>,
+ * <code>NaN</code> or <code>false</code>. A column holding a concept its field cannot take, such as a string for a
+ * <code>long</code> field, fails the mapping. The class must have a no-argument constructor.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * RowMapper&lt;Person&gt; mapper = TypeDB.rowMapper(Person.class);
+ * List&lt;Person&gt; people = mapper.map(answer.asConceptRows()).collect(Collectors.toList());
+ * </pre>
+ */
+public interface RowMapper<T> {
+    /**
+     * Binds the annotated field to the column with the given name.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    @interface Column {
+        String value();
+    }
+
+    /**
+     * Returns the class that rows are mapped onto.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * mapper.type();
+     * </pre>
+     */
+    @CheckReturnValue
+    Class<T> type();
+
+    /**
+     * Maps a single row. Column indices are resolved from the row's header on every call;
+     * prefer <code>map(ConceptRowIterator)</code> for many rows.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * mapper.map(conceptRow);
+     * </pre>
+     *
+     * @param row The row to map
+     */
+    @CheckReturnValue
+    T map(ConceptRow row) throws TypeDBDriverException;
+
+    /**
+     * Maps every row of the given answer. Column indices are resolved once, from the header of the first row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * mapper.map(answer.asConceptRows());
+     * </pre>
+     *
+     * @param rows The rows to map
+     */
+    @CheckReturnValue
+    Stream<T> map(ConceptRowIterator rows) throws TypeDBDriverException;
+}
@@ -30,6 +30,7 @@ import com.typedb.driver.api.concept.type.RoleType;
 import com.typedb.driver.api.concept.type.Type;
 import com.typedb.driver.api.concept.value.Value;
 import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.IID;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
 import javax.annotation.CheckReturnValue;
@@ -462,6 +463,121 @@ public interface Concept {
      */
     Optional<Double> tryGetDouble();
 
+    /**
+     * Returns the <code>boolean</code> value of this <code>Concept</code>, or the given default if it
+     * does not hold a <code>boolean</code> value. Unlike <code>tryGetBoolean()</code>, does not allocate.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.getBooleanOrDefault(false);
+     * </pre>
+     *
+     * @param defaultValue The value to return if the concept does not hold a <code>boolean</code>
+     */
+    @CheckReturnValue
+    boolean getBooleanOrDefault(boolean defaultValue);
+
+    /**
+     * Returns the <code>integer</code> value of this <code>Concept</code>, or the given default if it
+     * does not hold an <code>integer</code> value. Unlike <code>tryGetInteger()</code>, does not allocate.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.getIntegerOrDefault(0);
+     * </pre>
+     *
+     * @param defaultValue The value to return if the concept does not hold an <code>integer</code>
+     */
+    @CheckReturnValue
+    long getIntegerOrDefault(long defaultValue);
+
+    /**
+     * Returns the <code>double</code> value of this <code>Concept</code>, or <code>NaN</code> if it
+     * does not hold a <code>double</code> value. Unlike <code>tryGetDouble()</code>, does not allocate.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.getDoubleOrNaN();
+     * </pre>
+     */
+    @CheckReturnValue
+    double getDoubleOrNaN();
+
+    /**
+     * Returns the instant of this <code>datetime</code> or <code>datetime-tz</code> <code>Concept</code>
+     * as nanoseconds since the start of the UNIX epoch, without constructing any temporal objects.
+     * Throws an exception if the value is not a datetime, or is outside the years 1677 to 2262.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.getDatetimeEpochNanos();
+     * </pre>
+     */
+    @CheckReturnValue
+    long getDatetimeEpochNanos() throws TypeDBDriverException;
+
+    /**
+     * Returns the unscaled value of this <code>decimal</code> <code>Concept</code>: the value is equal to
+     * <code>getDecimalUnscaled() * 10^-getDecimalScale()</code>.
+     * Throws an exception if the value is not a decimal, or if the unscaled value does not fit into a <code>long</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.getDecimalUnscaled();
+     * </pre>
+     */
+    @CheckReturnValue
+    long getDecimalUnscaled() throws TypeDBDriverException;
+
+    /**
+     * Returns the smallest scale at which this <code>decimal</code> <code>Concept</code> is represented exactly,
+     * between 0 and <code>DECIMAL_SCALE</code>. See <code>getDecimalUnscaled()</code>.
+     * Throws an exception if the value is not a decimal.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.getDecimalScale();
+     * </pre>
+     */
+    @CheckReturnValue
+    int getDecimalScale() throws TypeDBDriverException;
+
+    /**
+     * Returns the months part of this <code>duration</code> <code>Concept</code>.
+     * Throws an exception if the value is not a duration.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.getDurationMonths();
+     * </pre>
+     */
+    @CheckReturnValue
+    long getDurationMonths() throws TypeDBDriverException;
+
+    /**
+     * Returns the days part of this <code>duration</code> <code>Concept</code>.
+     * Throws an exception if the value is not a duration.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.getDurationDays();
+     * </pre>
+     */
+    @CheckReturnValue
+    long getDurationDays() throws TypeDBDriverException;
+
+    /**
+     * Returns the time part of this <code>duration</code> <code>Concept</code> in nanoseconds.
+     * Throws an exception if the value is not a duration.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.getDurationNanos();
+     * </pre>
+     */
+    @CheckReturnValue
+    long getDurationNanos() throws TypeDBDriverException;
+
     /**
      * Returns the value of this <code>Concept</code> as an <code>Optional&lt;BigDecimal&gt;</code>.
      * If it's not a <code>Value</code> or it has another type, returns <code>null</code>.
@@ -579,6 +695,18 @@ public interface Concept {
     @CheckReturnValue
     Optional<String> tryGetIID();
 
+    /**
+     * Retrieves the unique id of the <code>Concept</code> as a compact <code>IID</code> value,
+     * which can be compared and hashed without calls to the native driver. Returns <code>null</code> if absent.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.tryGetCompactIID();
+     * </pre>
+     */
+    @CheckReturnValue
+    Optional<IID> tryGetCompactIID();
+
     /**
      * Retrieves the <code>String</code> describing the value type of this <code>Concept</code>.
      * Returns <code>null</code> if not absent.
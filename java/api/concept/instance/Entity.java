@@ -20,6 +20,7 @@
 package com.typedb.driver.api.concept.instance;
 
 import com.typedb.driver.api.concept.type.EntityType;
+import com.typedb.driver.common.IID;
 
 import javax.annotation.CheckReturnValue;
 
@@ -79,4 +80,15 @@ public interface Entity extends Instance {
      */
     @CheckReturnValue
     String getIID();
+
+    /**
+     * Retrieves the unique id of the <code>Entity</code> as a compact <code>IID</code> value.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * entity.getCompactIID();
+     * </pre>
+     */
+    @CheckReturnValue
+    IID getCompactIID();
 }
@@ -20,6 +20,7 @@
 package com.typedb.driver.api.concept.instance;
 
 import com.typedb.driver.api.concept.type.RelationType;
+import com.typedb.driver.common.IID;
 
 import javax.annotation.CheckReturnValue;
 
@@ -78,4 +79,15 @@ public interface Relation extends Instance {
      */
     @CheckReturnValue
     String getIID();
+
+    /**
+     * Retrieves the unique id of the <code>Relation</code> as a compact <code>IID</code> value.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * relation.getCompactIID();
+     * </pre>
+     */
+    @CheckReturnValue
+    IID getCompactIID();
 }
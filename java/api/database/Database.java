@@ -22,6 +22,9 @@ package com.typedb.driver.api.database;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
 import javax.annotation.CheckReturnValue;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 public interface Database {
 
@@ -58,6 +61,30 @@ public interface Database {
     @CheckReturnValue
     String typeSchema() throws TypeDBDriverException;
 
+    /**
+     * A structured model of the types in the schema. The model is cached by the driver, and rebuilt after a schema
+     * transaction is committed through the driver, or when <code>refreshSchemaModel()</code> detects a change.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * database.schemaModel().get("person")
+     * </pre>
+     */
+    @CheckReturnValue
+    SchemaModel schemaModel() throws TypeDBDriverException;
+
+    /**
+     * Checks the type schema on the server against the cached schema model, and rebuilds the model if the schema
+     * was changed, e.g. by another client. A detected change also discards everything else the driver cached about
+     * the database's schema and data. Returns the up-to-date model.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * database.refreshSchemaModel()
+     * </pre>
+     */
+    SchemaModel refreshSchemaModel() throws TypeDBDriverException;
+
     /**
      * Export a database into a schema definition and a data files saved to the disk.
      * This is a blocking operation and may take a significant amount of time depending on the database size.
@@ -72,6 +99,39 @@ public interface Database {
      */
     void exportToFile(String schemaFilePath, String dataFilePath) throws TypeDBDriverException;
 
+    /**
+     * Export a database into a schema definition and data written to the given channels, as they are received
+     * from the server, without staging the export on disk. The data is in the same format as written by
+     * <code>exportToFile</code>. The channels are not closed.
+     * This is a blocking operation and may take a significant amount of time depending on the database size.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * database.exportTo(Channels.newChannel(schemaStream), Channels.newChannel(dataStream))
+     * </pre>
+     *
+     * @param schema The channel to write the schema definition to
+     * @param data   The channel to write the data to
+     */
+    void exportTo(WritableByteChannel schema, WritableByteChannel data) throws TypeDBDriverException;
+
+    /**
+     * Export a database into a schema definition and data written to the given streams.
+     * The streams are not closed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * database.exportTo(schemaStream, new GZIPOutputStream(dataStream))
+     * </pre>
+     *
+     * @param schema The stream to write the schema definition to
+     * @param data   The stream to write the data to
+     * @see #exportTo(WritableByteChannel, WritableByteChannel)
+     */
+    default void exportTo(OutputStream schema, OutputStream data) throws TypeDBDriverException {
+        exportTo(Channels.newChannel(schema), Channels.newChannel(data));
+    }
+
     /**
      * Deletes this database.
      *
@@ -22,6 +22,7 @@ package com.typedb.driver.api.database;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
 import javax.annotation.CheckReturnValue;
+import java.nio.channels.ReadableByteChannel;
 import java.util.List;
 
 /**
@@ -91,4 +92,42 @@ public interface DatabaseManager {
      * @param dataFilePath The exported database file path to import the data from
      */
     void importFromFile(String name, String schema, String dataFilePath) throws TypeDBDriverException;
+
+    /**
+     * Creates a database with the given name based on previously exported another database's data read from a channel.
+     * This is a blocking operation and may take a significant amount of time depending on the database size.
+     * The channel is not closed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.databases().importFrom(name, schema, Channels.newChannel(dataStream))
+     * </pre>
+     *
+     * @param name   The name of the database to be created
+     * @param schema The schema definition query string for the database
+     * @param data   The channel to read the exported data from
+     * @see #importFrom(String, String, ReadableByteChannel, ImportOptions)
+     */
+    default void importFrom(String name, String schema, ReadableByteChannel data) throws TypeDBDriverException {
+        importFrom(name, schema, data, new ImportOptions());
+    }
+
+    /**
+     * Creates a database with the given name based on previously exported another database's data read from a channel,
+     * with the given <code>ImportOptions</code>. The data is read ahead, decoded and sent to the server in batches
+     * concurrently, and progress is reported to the options' progress listener.
+     * This is a blocking operation and may take a significant amount of time depending on the database size.
+     * The channel is not closed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.databases().importFrom(name, schema, channel, new ImportOptions().batchSize(1000).progressListener(System.out::println))
+     * </pre>
+     *
+     * @param name    The name of the database to be created
+     * @param schema  The schema definition query string for the database
+     * @param data    The channel to read the exported data from
+     * @param options The <code>ImportOptions</code> to import with
+     */
+    void importFrom(String name, String schema, ReadableByteChannel data, ImportOptions options) throws TypeDBDriverException;
 }
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.database;
+
+import com.typedb.driver.common.Validator;
+
+import javax.annotation.CheckReturnValue;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * TypeDB database import options. <code>ImportOptions</code> configures how an import from a channel is pipelined:
+ * how much data is read ahead of decoding, how many items are sent to the server in each batch, how many batches
+ * may wait for the server, and how progress is reported.
+ */
+public class ImportOptions {
+    private int batchSize = 250;
+    private int inFlightBatches = 4;
+    private int bufferSize = 64 * 1024;
+    private int readAhead = 4;
+    private long progressIntervalMillis = 1000;
+    private Consumer<ImportProgress> progressListener = null;
+
+    /**
+     * Produces a new <code>ImportOptions</code> object.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * ImportOptions options = new ImportOptions();
+     * </pre>
+     */
+    public ImportOptions() {
+    }
+
+    /**
+     * Returns the number of items sent to the server in each batch. Defaults to 250.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.batchSize();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of items sent to the server in each batch.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.batchSize(1000);
+     * </pre>
+     *
+     * @param batchSize The number of items in each batch.
+     */
+    public ImportOptions batchSize(int batchSize) {
+        Validator.requirePositive(batchSize, "batchSize");
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Returns the number of batches that may wait for the server to read them. Defaults to 4.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.inFlightBatches();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int inFlightBatches() {
+        return inFlightBatches;
+    }
+
+    /**
+     * Sets the number of batches that may wait for the server to read them. Decoding stops while this many batches
+     * wait, so that a slow server slows the import down rather than the driver buffering the data.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.inFlightBatches(16);
+     * </pre>
+     *
+     * @param inFlightBatches The number of batches in flight.
+     */
+    public ImportOptions inFlightBatches(int inFlightBatches) {
+        Validator.requirePositive(inFlightBatches, "inFlightBatches");
+        this.inFlightBatches = inFlightBatches;
+        return this;
+    }
+
+    /**
+     * Returns the size in bytes of each buffer the data is read into. Defaults to 64 KiB.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.bufferSize();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the size in bytes of each buffer the data is read into.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.bufferSize(1024 * 1024);
+     * </pre>
+     *
+     * @param bufferSize The size of each buffer in bytes.
+     */
+    public ImportOptions bufferSize(int bufferSize) {
+        Validator.requirePositive(bufferSize, "bufferSize");
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Returns the number of buffers that may be read ahead of decoding. Defaults to 4.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.readAhead();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int readAhead() {
+        return readAhead;
+    }
+
+    /**
+     * Sets the number of buffers that may be read ahead of decoding. Reading stops while this many buffers wait
+     * to be decoded, which bounds the memory used by the import.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.readAhead(8);
+     * </pre>
+     *
+     * @param readAhead The number of buffers read ahead.
+     */
+    public ImportOptions readAhead(int readAhead) {
+        Validator.requirePositive(readAhead, "readAhead");
+        this.readAhead = readAhead;
+        return this;
+    }
+
+    /**
+     * Returns the interval between progress reports, in milliseconds. Defaults to 1000.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.progressIntervalMillis();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long progressIntervalMillis() {
+        return progressIntervalMillis;
+    }
+
+    /**
+     * Sets the interval between progress reports, in milliseconds.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.progressIntervalMillis(5000);
+     * </pre>
+     *
+     * @param progressIntervalMillis The interval between progress reports, in milliseconds.
+     */
+    public ImportOptions progressIntervalMillis(long progressIntervalMillis) {
+        Validator.requirePositive(progressIntervalMillis, "progressIntervalMillis");
+        this.progressIntervalMillis = progressIntervalMillis;
+        return this;
+    }
+
+    /**
+     * Returns the listener import progress is reported to, if set.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.progressListener();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<Consumer<ImportProgress>> progressListener() {
+        return Optional.ofNullable(progressListener);
+    }
+
+    /**
+     * Sets the listener import progress is reported to. It is called from the importing thread,
+     * at most once per progress interval and once more when the import completes.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.progressListener(progress -&gt; System.out.println(progress.sentItemsPerSecond() + " items/s"));
+     * </pre>
+     *
+     * @param progressListener The listener to report progress to.
+     */
+    public ImportOptions progressListener(Consumer<ImportProgress> progressListener) {
+        Validator.requireNonNull(progressListener, "progressListener");
+        this.progressListener = progressListener;
+        return this;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.database;
+
+import javax.annotation.CheckReturnValue;
+
+/**
+ * A snapshot of the progress of a database import, as reported to <code>ImportOptions.progressListener</code>.
+ */
+public class ImportProgress {
+    private final long sentItems;
+    private final long bytes;
+    private final long elapsedNanos;
+    private final boolean isDone;
+
+    /**
+     * @hidden
+     */
+    public ImportProgress(long sentItems, long bytes, long elapsedNanos, boolean isDone) {
+        this.sentItems = sentItems;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+        this.isDone = isDone;
+    }
+
+    /**
+     * The number of items sent to the server so far. Items are only sent as fast as the server reads them,
+     * and once the import is done, all of them have been imported.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * progress.sentItems();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long sentItems() {
+        return sentItems;
+    }
+
+    /**
+     * The number of bytes of exported data read so far.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * progress.bytes();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long bytes() {
+        return bytes;
+    }
+
+    /**
+     * The time elapsed since the import started, in milliseconds.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * progress.elapsedMillis();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long elapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    /**
+     * The average number of items sent to the server per second since the import started.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * progress.sentItemsPerSecond();
+     * </pre>
+     */
+    @CheckReturnValue
+    public double sentItemsPerSecond() {
+        return elapsedNanos == 0 ? 0 : sentItems * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * The average number of bytes read per second since the import started.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * progress.bytesPerSecond();
+     * </pre>
+     */
+    @CheckReturnValue
+    public double bytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : bytes * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Whether the import has completed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * progress.isDone();
+     * </pre>
+     */
+    @CheckReturnValue
+    public boolean isDone() {
+        return isDone;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ImportProgress(sent items: %d, bytes: %d, sent items/s: %.1f, bytes/s: %.1f%s)",
+                sentItems, bytes, sentItemsPerSecond(), bytesPerSecond(), isDone ? ", done" : "");
+    }
+}
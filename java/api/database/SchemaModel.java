@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.database;
+
+import javax.annotation.CheckReturnValue;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, structured view of the entity, relation and attribute types of a database's schema.
+ * Obtained from <code>Database.schemaModel()</code>, which caches it until the schema is changed.
+ */
+public interface SchemaModel {
+    /**
+     * Retrieves the definition of the type with the given label, if it exists.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * schemaModel.get("person");
+     * </pre>
+     *
+     * @param label The label of the type
+     */
+    @CheckReturnValue
+    Optional<TypeDefinition> get(String label);
+
+    /**
+     * Retrieves the definitions of all entity, relation and attribute types in the schema.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * schemaModel.types();
+     * </pre>
+     */
+    @CheckReturnValue
+    Stream<TypeDefinition> types();
+
+    /**
+     * Retrieves the definitions of all entity types in the schema.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * schemaModel.entityTypes();
+     * </pre>
+     */
+    @CheckReturnValue
+    default Stream<TypeDefinition> entityTypes() {
+        return types().filter(TypeDefinition::isEntityType);
+    }
+
+    /**
+     * Retrieves the definitions of all relation types in the schema.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * schemaModel.relationTypes();
+     * </pre>
+     */
+    @CheckReturnValue
+    default Stream<TypeDefinition> relationTypes() {
+        return types().filter(TypeDefinition::isRelationType);
+    }
+
+    /**
+     * Retrieves the definitions of all attribute types in the schema.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * schemaModel.attributeTypes();
+     * </pre>
+     */
+    @CheckReturnValue
+    default Stream<TypeDefinition> attributeTypes() {
+        return types().filter(TypeDefinition::isAttributeType);
+    }
+
+    /**
+     * The type schema this model was built from, as a TypeQL define query string.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * schemaModel.typeSchema();
+     * </pre>
+     */
+    @CheckReturnValue
+    String typeSchema();
+
+    /**
+     * The definition of a single type in a <code>SchemaModel</code>. Related types are referred to by label,
+     * and role types by their scoped label, e.g. <code>friendship:friend</code>.
+     */
+    interface TypeDefinition {
+        /**
+         * The label of the type.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * type.label();
+         * </pre>
+         */
+        @CheckReturnValue
+        String label();
+
+        /**
+         * Checks if the type is an entity type.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * type.isEntityType();
+         * </pre>
+         */
+        @CheckReturnValue
+        boolean isEntityType();
+
+        /**
+         * Checks if the type is a relation type.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * type.isRelationType();
+         * </pre>
+         */
+        @CheckReturnValue
+        boolean isRelationType();
+
+        /**
+         * Checks if the type is an attribute type.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * type.isAttributeType();
+         * </pre>
+         */
+        @CheckReturnValue
+        boolean isAttributeType();
+
+        /**
+         * The label of the direct supertype of the type, if it has one.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * type.supertype();
+         * </pre>
+         */
+        @CheckReturnValue
+        Optional<String> supertype();
+
+        /**
+         * The labels of the attribute types that instances of the type can own.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * type.owns();
+         * </pre>
+         */
+        @CheckReturnValue
+        Set<String> owns();
+
+        /**
+         * The scoped labels of the role types that instances of the type can play.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * type.plays();
+         * </pre>
+         */
+        @CheckReturnValue
+        Set<String> plays();
+
+        /**
+         * The scoped labels of the role types the type relates. Empty for types other than relation types.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * type.relates();
+         * </pre>
+         */
+        @CheckReturnValue
+        Set<String> relates();
+
+        /**
+         * The value type of the type, if it is an attribute type with a value type.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * type.valueType();
+         * </pre>
+         */
+        @CheckReturnValue
+        Optional<String> valueType();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.common;
+
+import com.typedb.driver.jni.PromiseCallbackDirector;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Blocking points of the native driver, made safe to wait on from virtual threads.
+ * <p>
+ * A thread blocked inside a JNI frame cannot unmount, so a virtual thread waiting on the server would pin its carrier
+ * for the whole round trip. When called from a virtual thread, a native promise registers a completion callback with
+ * the native driver and the calling thread parks on a <code>CompletableFuture</code> that the callback completes,
+ * releasing its carrier; the promise is then resolved without blocking. Native iterators have no such callback, so
+ * their blocking call is made on a pool of platform waiter threads, which grows with the number of waiting virtual
+ * threads and shrinks once they are idle. {@value #WAITERS_PROPERTY} caps the pool, queueing further waits, if set.
+ * Platform threads call straight into native code, as before.
+ */
+public final class Blocking {
+    public static final String WAITERS_PROPERTY = "typedb.driver.nativeWaiters";
+    private static final int UNBOUNDED_WAITERS = 0;
+
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+    private static final AtomicInteger WAITER_COUNT = new AtomicInteger();
+    private static final ThreadPoolExecutor WAITERS = newWaiters(waitersFromProperty());
+
+    private Blocking() {
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null; // virtual threads are not supported by this JVM
+        }
+    }
+
+    private static int waitersFromProperty() {
+        String property = System.getProperty(WAITERS_PROPERTY);
+        if (property == null) return UNBOUNDED_WAITERS;
+        try {
+            int waiters = Integer.parseInt(property.trim());
+            return Math.max(waiters, UNBOUNDED_WAITERS);
+        } catch (NumberFormatException e) {
+            return UNBOUNDED_WAITERS;
+        }
+    }
+
+    private static ThreadPoolExecutor newWaiters(int size) {
+        ThreadFactory threads = runnable -> {
+            Thread thread = new Thread(runnable, "typedb-native-waiter-" + WAITER_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        if (size == UNBOUNDED_WAITERS) {
+            return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), threads);
+        }
+        ThreadPoolExecutor waiters = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threads);
+        waiters.allowCoreThreadTimeOut(true);
+        return waiters;
+    }
+
+    public static boolean isVirtualThread() {
+        if (IS_VIRTUAL == null) return false;
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * Resolves a native promise without pinning the carrier of a virtual thread.
+     * <code>onComplete</code> is the promise's native completion registration, e.g. <code>VoidPromise::onComplete</code>.
+     * Unchecked exceptions thrown by the promise are rethrown unchanged.
+     */
+    public static <P extends Supplier<T>, T> T resolve(P promise, BiFunction<P, PromiseCallbackDirector, P> onComplete) {
+        if (!isVirtualThread()) return promise.get();
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        PromiseCompletion completion = new PromiseCompletion(completed);
+        try {
+            // NOTE: .released() hands the director to the native side, which deletes it once it has been called
+            P ready = onComplete.apply(promise, completion.released());
+            completed.join();
+            return ready.get();
+        } finally {
+            Reference.reachabilityFence(completion);
+        }
+    }
+
+    /**
+     * Retrieves the result of a native call which may block and has no completion callback, without pinning the
+     * carrier of a virtual thread. The supplier should make the raw native call only, so that the waiter threads are
+     * not held by anything else. Unchecked exceptions thrown by the call are rethrown unchanged.
+     */
+    public static <T> T get(Supplier<T> nativeCall) {
+        if (!isVirtualThread()) return nativeCall.get();
+        try {
+            return CompletableFuture.supplyAsync(nativeCall, WAITERS).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+
+    private static class PromiseCompletion extends PromiseCallbackDirector {
+        private final CompletableFuture<Void> completed;
+
+        PromiseCompletion(CompletableFuture<Void> completed) {
+            this.completed = completed;
+        }
+
+        @Override
+        public void callback() {
+            completed.complete(null);
+        }
+    }
+}
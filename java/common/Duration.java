@@ -42,6 +42,14 @@ public class Duration {
         this.timePart = java.time.Duration.ofNanos(nativeDuration.getNanos().longValue());
     }
 
+    /**
+     * @hidden
+     */
+    public Duration(long months, long days, long nanos) {
+        this.datePart = java.time.Period.of(YEARS, (int) months, (int) days);
+        this.timePart = java.time.Duration.ofNanos(nanos);
+    }
+
     /**
      * @hidden
      */
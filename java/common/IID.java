@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.common;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.util.Arrays;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.INVALID_IID;
+
+/**
+ * The unique id of an instance, held as raw bytes. IIDs of up to 16 bytes, which include those of every entity and
+ * relation, are packed into two words, so that comparing and hashing them needs neither the native driver
+ * nor any further allocation. The string form is the <code>0x</code>-prefixed hexadecimal literal used in TypeQL.
+ */
+public final class IID {
+    private static final String PREFIX = "0x";
+    private static final int COMPACT_LENGTH = 16;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final long high;
+    private final long low;
+    private final int length;
+    private final byte[] extended;
+
+    private IID(long high, long low, int length, byte[] extended) {
+        this.high = high;
+        this.low = low;
+        this.length = length;
+        this.extended = extended;
+    }
+
+    /**
+     * Parses an <code>IID</code> from its TypeQL literal form.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * IID.parse("0x1e00000000000000000000");
+     * </pre>
+     *
+     * @param iid The <code>0x</code>-prefixed hexadecimal IID
+     */
+    public static IID parse(String iid) {
+        Validator.requireNonNull(iid, "iid");
+        if (!iid.startsWith(PREFIX) || iid.length() % 2 != 0) throw new TypeDBDriverException(INVALID_IID, iid);
+        int length = (iid.length() - PREFIX.length()) / 2;
+        if (length > COMPACT_LENGTH) return of(parseBytes(iid, length));
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < COMPACT_LENGTH; i++) {
+            long octet = i < length ? parseOctet(iid, i) : 0;
+            if (i < Long.BYTES) high = (high << Byte.SIZE) | octet;
+            else low = (low << Byte.SIZE) | octet;
+        }
+        return new IID(high, low, length, null);
+    }
+
+    /**
+     * Creates an <code>IID</code> from its raw bytes.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * IID.of(bytes);
+     * </pre>
+     *
+     * @param bytes The bytes of the IID
+     */
+    public static IID of(byte[] bytes) {
+        Validator.requireNonNull(bytes, "bytes");
+        if (bytes.length > COMPACT_LENGTH) return new IID(0, 0, bytes.length, bytes.clone());
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < COMPACT_LENGTH; i++) {
+            long octet = i < bytes.length ? bytes[i] & 0xff : 0;
+            if (i < Long.BYTES) high = (high << Byte.SIZE) | octet;
+            else low = (low << Byte.SIZE) | octet;
+        }
+        return new IID(high, low, bytes.length, null);
+    }
+
+    private static byte[] parseBytes(String iid, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) bytes[i] = (byte) parseOctet(iid, i);
+        return bytes;
+    }
+
+    private static int parseOctet(String iid, int index) {
+        int offset = PREFIX.length() + 2 * index;
+        int high = Character.digit(iid.charAt(offset), 16);
+        int low = Character.digit(iid.charAt(offset + 1), 16);
+        if (high < 0 || low < 0) throw new TypeDBDriverException(INVALID_IID, iid);
+        return (high << 4) | low;
+    }
+
+    private byte byteAt(int index) {
+        if (extended != null) return extended[index];
+        long word = index < Long.BYTES ? high : low;
+        int shift = (Long.BYTES - 1 - index % Long.BYTES) * Byte.SIZE;
+        return (byte) (word >>> shift);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        IID that = (IID) obj;
+        return length == that.length && high == that.high && low == that.low && Arrays.equals(extended, that.extended);
+    }
+
+    @Override
+    public int hashCode() {
+        if (extended != null) return Arrays.hashCode(extended);
+        long mixed = (high * 0x9E3779B97F4A7C15L) ^ low ^ length;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[PREFIX.length() + 2 * length];
+        chars[0] = '0';
+        chars[1] = 'x';
+        for (int i = 0; i < length; i++) {
+            int octet = byteAt(i) & 0xff;
+            chars[PREFIX.length() + 2 * i] = HEX_DIGITS[octet >>> 4];
+            chars[PREFIX.length() + 2 * i + 1] = HEX_DIGITS[octet & 0xf];
+        }
+        return new String(chars);
+    }
+}
@@ -22,27 +22,43 @@ package com.typedb.driver.common;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Spliterator.IMMUTABLE;
 import static java.util.Spliterator.NONNULL;
 import static java.util.Spliterator.ORDERED;
-import static java.util.Spliterators.spliteratorUnknownSize;
 
 public class NativeIterator<T> implements Iterator<T> {
     private final Iterator<T> inner;
+    private Consumer<Throwable> onFinish;
 
     public NativeIterator(Iterator<T> inner) {
         this.inner = inner;
+        this.onFinish = null;
+    }
+
+    /**
+     * Registers a callback to be run once, when the iterator is exhausted (with <code>null</code>)
+     * or fails (with the error). Callbacks run in the order they were registered.
+     */
+    public void onFinish(Consumer<Throwable> onFinish) {
+        this.onFinish = this.onFinish == null ? onFinish : this.onFinish.andThen(onFinish);
     }
 
     @Override
     public boolean hasNext() {
         try {
-            return inner.hasNext();
+            boolean hasNext = Blocking.isVirtualThread() ? Blocking.get(inner::hasNext) : inner.hasNext();
+            if (!hasNext) finish(null);
+            return hasNext;
         } catch (com.typedb.driver.jni.Error.Unchecked e) {
-            throw new TypeDBDriverException(e);
+            TypeDBDriverException error = new TypeDBDriverException(e);
+            finish(error);
+            throw error;
         }
     }
 
@@ -51,11 +67,74 @@ public class NativeIterator<T> implements Iterator<T> {
         try {
             return inner.next();
         } catch (com.typedb.driver.jni.Error.Unchecked e) {
-            throw new TypeDBDriverException(e);
+            TypeDBDriverException error = new TypeDBDriverException(e);
+            finish(error);
+            throw error;
+        }
+    }
+
+    private void finish(Throwable error) {
+        if (onFinish != null) {
+            Consumer<Throwable> callback = onFinish;
+            onFinish = null;
+            callback.accept(error);
         }
     }
 
     public Stream<T> stream() {
-        return StreamSupport.stream(spliteratorUnknownSize(this, NONNULL | IMMUTABLE | ORDERED), false);
+        return StreamSupport.stream(new BatchingSpliterator<>(this), false);
+    }
+
+    /**
+     * Splits off arrays of elements already pulled from the native iterator, so that a parallel stream can decode and
+     * map them on the fork-join pool while the remainder keeps being fetched. Batches start small, so that short
+     * answers still parallelise, and grow geometrically, to amortise the cost of splitting over long ones.
+     */
+    static class BatchingSpliterator<T> implements Spliterator<T> {
+        static final int INITIAL_BATCH_SIZE = 16;
+        static final int MAX_BATCH_SIZE = 1 << 12;
+        private static final int CHARACTERISTICS = NONNULL | IMMUTABLE | ORDERED;
+
+        private final Iterator<T> iterator;
+        private int batchSize;
+
+        BatchingSpliterator(Iterator<T> iterator) {
+            this.iterator = iterator;
+            this.batchSize = INITIAL_BATCH_SIZE;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (!iterator.hasNext()) return false;
+            action.accept(iterator.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            iterator.forEachRemaining(action);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (!iterator.hasNext()) return null;
+            Object[] batch = new Object[batchSize];
+            int size = 0;
+            do {
+                batch[size++] = iterator.next();
+            } while (size < batch.length && iterator.hasNext());
+            batchSize = Math.min(batchSize * 2, MAX_BATCH_SIZE);
+            return Spliterators.spliterator(batch, 0, size, CHARACTERISTICS);
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
     }
 }
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.common;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Cleaner;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.typedb.driver.jni.typedb_driver.native_memory_allocated_bytes;
+import static com.typedb.driver.jni.typedb_driver.native_memory_set_tracking;
+
+public final class NativeMemoryTracker implements NativeMemoryUsage {
+    public static final String TRACKING_PROPERTY = "typedb.driver.nativeMemoryTracking";
+    private static final int MAX_LEAK_TRACES = 64;
+
+    public static final NativeMemoryTracker INSTANCE = new NativeMemoryTracker();
+
+    private volatile Tracking tracking;
+    private final Map<String, LongAdder> liveObjects;
+    private final LongAdder leakedObjects;
+    private final ConcurrentLinkedDeque<String> leakTraces;
+    private final AtomicBoolean registered;
+
+    private NativeMemoryTracker() {
+        tracking = trackingFromProperty();
+        liveObjects = new ConcurrentHashMap<>();
+        leakedObjects = new LongAdder();
+        leakTraces = new ConcurrentLinkedDeque<>();
+        registered = new AtomicBoolean(false);
+        if (tracking != Tracking.OFF) setNativeTracking(tracking);
+    }
+
+    private static Tracking trackingFromProperty() {
+        String property = System.getProperty(TRACKING_PROPERTY);
+        if (property == null) return Tracking.OFF;
+        try {
+            return Tracking.valueOf(property.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Tracking.OFF;
+        }
+    }
+
+    /**
+     * Starts tracking a native handle owned by <code>owner</code>, if tracking is enabled.
+     * Handles which <code>requireClose</code> are reported as leaked if they are collected before {@link #markClosed} is called.
+     *
+     * @return the allocation record, or <code>null</code> if tracking is disabled
+     */
+    public Allocation track(Object owner, boolean requireClose) {
+        Tracking tracking = this.tracking;
+        if (tracking == Tracking.OFF) return null;
+        String type = owner.getClass().getSimpleName();
+        LongAdder counter = liveObjects.computeIfAbsent(type, t -> new LongAdder());
+        counter.increment();
+        Throwable allocationSite = tracking == Tracking.DEBUG ? new Throwable(type + " allocated at") : null;
+        Allocation allocation = new Allocation(counter, requireClose, allocationSite);
+        CleanerHolder.CLEANER.register(owner, allocation);
+        return allocation;
+    }
+
+    public static void markClosed(Allocation allocation) {
+        if (allocation != null) allocation.closed = true;
+    }
+
+    /**
+     * Registers this view with the platform MBean server, once per process. Failures to register are ignored,
+     * as the JMX view is purely diagnostic.
+     */
+    public void registerMBean() {
+        if (!registered.compareAndSet(false, true)) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException | LinkageError ignored) {
+        }
+    }
+
+    @Override
+    public Tracking getTracking() {
+        return tracking;
+    }
+
+    @Override
+    public void setTracking(Tracking tracking) {
+        Validator.requireNonNull(tracking, "tracking");
+        this.tracking = tracking;
+        setNativeTracking(tracking);
+    }
+
+    private static void setNativeTracking(Tracking tracking) {
+        Loader.loadNativeLibraries();
+        native_memory_set_tracking(tracking != Tracking.OFF);
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        Loader.loadNativeLibraries();
+        return native_memory_allocated_bytes();
+    }
+
+    @Override
+    public Map<String, Long> getLiveObjects() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        liveObjects.forEach((type, counter) -> {
+            long count = counter.sum();
+            if (count > 0) snapshot.put(type, count);
+        });
+        return snapshot;
+    }
+
+    @Override
+    public long getLeakedObjects() {
+        return leakedObjects.sum();
+    }
+
+    @Override
+    public List<String> getLeakTraces() {
+        return new ArrayList<>(leakTraces);
+    }
+
+    private void recordLeak(Throwable allocationSite) {
+        leakedObjects.increment();
+        if (allocationSite == null) return;
+        StringWriter trace = new StringWriter();
+        allocationSite.printStackTrace(new PrintWriter(trace));
+        leakTraces.addLast(trace.toString());
+        while (leakTraces.size() > MAX_LEAK_TRACES) leakTraces.pollFirst();
+    }
+
+    /**
+     * Cleaner action for a tracked handle. It must not reference the owner, or the owner would never become
+     * phantom reachable.
+     */
+    public static final class Allocation implements Runnable {
+        private final LongAdder counter;
+        private final boolean requireClose;
+        private final Throwable allocationSite;
+        private volatile boolean closed;
+
+        private Allocation(LongAdder counter, boolean requireClose, Throwable allocationSite) {
+            this.counter = counter;
+            this.requireClose = requireClose;
+            this.allocationSite = allocationSite;
+            this.closed = false;
+        }
+
+        @Override
+        public void run() {
+            counter.decrement();
+            if (requireClose && !closed) INSTANCE.recordLeak(allocationSite);
+        }
+    }
+
+    private static class CleanerHolder {
+        private static final Cleaner CLEANER = Cleaner.create();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.common;
+
+import javax.annotation.CheckReturnValue;
+import javax.management.MXBean;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accounting of the native (Rust) memory held on behalf of this process by the TypeDB driver.
+ * Native handles are released by finalization, so answers and iterators which are never exhausted or closed
+ * can pin native memory, and even open server streams, long after they are last used.
+ * The same view is registered with the platform MBean server under {@link #OBJECT_NAME}.
+ * <p>
+ * Live objects and allocated bytes are only counted while tracking is enabled, either through
+ * {@link #setTracking(Tracking)} or by starting the JVM with <code>-Dtypedb.driver.nativeMemoryTracking=COUNT</code>
+ * (or <code>DEBUG</code>), so that the native allocator does no accounting otherwise.
+ */
+@MXBean
+public interface NativeMemoryUsage {
+    String OBJECT_NAME = "com.typedb.driver:type=NativeMemory";
+
+    /**
+     * Level of tracking applied to newly allocated native handles.
+     */
+    enum Tracking {
+        /**
+         * Native handles are not tracked.
+         */
+        OFF,
+        /**
+         * Live native handles are counted by type, and handles collected without being closed are counted as leaked.
+         */
+        COUNT,
+        /**
+         * As <code>COUNT</code>, and the allocation stack trace of every leaked handle is recorded.
+         */
+        DEBUG
+    }
+
+    /**
+     * Returns the level of tracking currently applied to newly allocated native handles.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.nativeMemory().getTracking();
+     * </pre>
+     */
+    @CheckReturnValue
+    Tracking getTracking();
+
+    /**
+     * Sets the level of tracking applied to native handles allocated from now on.
+     * Handles that already exist keep the tracking they were created with.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.nativeMemory().setTracking(NativeMemoryUsage.Tracking.DEBUG);
+     * </pre>
+     *
+     * @param tracking The tracking level to apply
+     */
+    void setTracking(Tracking tracking);
+
+    /**
+     * Returns the number of bytes allocated by the native driver library while tracking was enabled, less those freed
+     * while it was enabled, across all drivers in this process. Memory allocated before tracking was enabled and freed
+     * since is subtracted too, so the count can be negative: it shows growth, such as leaked handles, while tracking.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.nativeMemory().getAllocatedBytes();
+     * </pre>
+     */
+    @CheckReturnValue
+    long getAllocatedBytes();
+
+    /**
+     * Returns the number of tracked native handles that have not yet been collected, keyed by the type owning them.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.nativeMemory().getLiveObjects();
+     * </pre>
+     */
+    @CheckReturnValue
+    Map<String, Long> getLiveObjects();
+
+    /**
+     * Returns the number of tracked transactions and answer iterators that were collected
+     * without being closed or fully consumed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.nativeMemory().getLeakedObjects();
+     * </pre>
+     */
+    @CheckReturnValue
+    long getLeakedObjects();
+
+    /**
+     * Returns the allocation stack traces of the most recently leaked handles, recorded under <code>DEBUG</code> tracking.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.nativeMemory().getLeakTraces();
+     * </pre>
+     */
+    @CheckReturnValue
+    List<String> getLeakTraces();
+}
@@ -31,9 +31,23 @@ public abstract class NativeObject<T> {
     }
 
     public final T nativeObject;
+    private final NativeMemoryTracker.Allocation allocation;
 
     protected NativeObject(T nativeObject) {
+        this(nativeObject, false);
+    }
+
+    /**
+     * @param requireClose whether the native handle holds resources that must be released explicitly,
+     *                     so that collecting it unclosed is reported as a leak by the <code>NativeMemoryTracker</code>
+     */
+    protected NativeObject(T nativeObject, boolean requireClose) {
         if (nativeObject == null) throw new TypeDBDriverException(ErrorMessage.Internal.NULL_NATIVE_VALUE);
         this.nativeObject = nativeObject;
+        this.allocation = NativeMemoryTracker.INSTANCE.track(this, requireClose);
+    }
+
+    protected void markClosed() {
+        NativeMemoryTracker.markClosed(allocation);
     }
 }
@@ -75,7 +75,7 @@ public class Promise<T> {
      */
     public T resolve() { // TODO: Can have a checked exception in some cases!
         try {
-            return this.inner.get();
+            return inner.get();
         } catch (com.typedb.driver.jni.Error.Unchecked e) {
             throw new TypeDBDriverException(e);
         }
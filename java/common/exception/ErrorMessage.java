@@ -87,6 +87,20 @@ public abstract class ErrorMessage {
                 new Driver(10, "Value of '%s' should not be null.");
         public static final Driver UNIMPLEMENTED =
                 new Driver(11, "This operation is not implemented yet.");
+        public static final Driver TRANSACTION_POOL_CLOSED =
+                new Driver(12, "The transaction pool has been closed and no further transactions can be acquired.");
+        public static final Driver DATABASE_STREAM_IO_ERROR =
+                new Driver(13, "An I/O error occurred while streaming database '%s': %s");
+        public static final Driver PARTITIONED_WRITER_CLOSED =
+                new Driver(14, "The partitioned writer has been closed and no further rows can be written.");
+        public static final Driver PARTITIONED_WRITER_INTERRUPTED =
+                new Driver(15, "The partitioned writer was interrupted while waiting for its partitions.");
+        public static final Driver FAN_OUT_READ_INTERRUPTED =
+                new Driver(16, "The fan-out read was interrupted while waiting for its partitions.");
+        public static final Driver MATERIALIZE_IO_ERROR =
+                new Driver(17, "An I/O error occurred while materializing query answers in '%s': %s");
+        public static final Driver MATERIALIZED_ROWS_CLOSED =
+                new Driver(18, "The materialized rows have been closed and can no longer be read.");
 
         private static final String codePrefix = "JDR";
         private static final String messagePrefix = "Driver Error";
@@ -105,6 +119,26 @@ public abstract class ErrorMessage {
                 new Concept(3, "Could not retrieve a '%s' value.");
         public static final Concept UNSUPPORTED_VALUE_CONVERSION =
                 new Concept(4, "Cannot convert object of type '%s' to a Value. Supported types: Boolean, Long, Integer, Double, Float, BigDecimal, String, LocalDate, LocalDateTime, ZonedDateTime, Duration.");
+        public static final Concept INVALID_IID =
+                new Concept(5, "Invalid IID '%s': expected '0x' followed by an even number of hexadecimal digits.");
+        public static final Concept ROW_MAPPER_MISSING_COLUMN =
+                new Concept(6, "Cannot map rows onto '%s': the rows have no column '%s'.");
+        public static final Concept ROW_MAPPER_UNSUPPORTED_FIELD =
+                new Concept(7, "Cannot map rows onto '%s': the field '%s' has the unsupported type '%s'.");
+        public static final Concept ROW_MAPPER_INACCESSIBLE_TYPE =
+                new Concept(8, "Cannot map rows onto '%s': %s");
+        public static final Concept MATERIALIZE_UNSUPPORTED_VALUE =
+                new Concept(9, "Cannot materialize a value of type '%s'.");
+        public static final Concept MATERIALIZED_COLUMN_MISSING =
+                new Concept(10, "The materialized rows have no column '%s'.");
+        public static final Concept MATERIALIZED_INDEX_OUT_OF_RANGE =
+                new Concept(11, "Index %d is out of range for %d materialized elements.");
+        public static final Concept CONCEPT_ROW_COLUMN_MISSING =
+                new Concept(12, "The concept row has no column '%s'.");
+        public static final Concept CONCEPT_ROW_INDEX_OUT_OF_RANGE =
+                new Concept(13, "Index %d is out of range for a concept row of %d columns.");
+        public static final Concept ROW_MAPPER_TYPE_MISMATCH =
+                new Concept(14, "Cannot map rows onto '%s': the column '%s' holds '%s', which cannot be assigned to the field '%s' of type '%s'.");
 
         private static final String codePrefix = "JCO";
         private static final String messagePrefix = "Concept Error";
@@ -28,6 +28,8 @@ public class TypeDBDriverException extends RuntimeException {
 
     @Nullable
     private final ErrorMessage errorMessage;
+    @Nullable
+    private final String errorCode;
 
     /**
      * @hidden
@@ -36,6 +38,7 @@ public class TypeDBDriverException extends RuntimeException {
         super(error.message(parameters));
         assert !getMessage().contains("%s");
         this.errorMessage = error;
+        this.errorCode = error.code();
     }
 
     /**
@@ -44,6 +47,7 @@ public class TypeDBDriverException extends RuntimeException {
     public TypeDBDriverException(String message, Throwable cause) {
         super(message, cause);
         this.errorMessage = null;
+        this.errorCode = null;
     }
 
     /**
@@ -53,6 +57,7 @@ public class TypeDBDriverException extends RuntimeException {
         super(error.getMessage());
         assert !getMessage().contains("%s");
         this.errorMessage = null;
+        this.errorCode = error instanceof com.typedb.driver.jni.Error.Unchecked ? nativeCode(((com.typedb.driver.jni.Error.Unchecked) error).code()) : null;
     }
 
     /**
@@ -62,6 +67,14 @@ public class TypeDBDriverException extends RuntimeException {
         super(error.getMessage());
         assert !getMessage().contains("%s");
         this.errorMessage = null;
+        this.errorCode = nativeCode(error.code());
+    }
+
+    private static String nativeCode(String code) {
+        if (code == null || code.isEmpty()) return null;
+        // codes of errors raised by the driver itself are formatted in brackets, server error codes are not
+        if (code.startsWith("[") && code.endsWith("]")) return code.substring(1, code.length() - 1);
+        return code;
     }
 
     public String getName() {
@@ -72,4 +85,13 @@ public class TypeDBDriverException extends RuntimeException {
     public ErrorMessage getErrorMessage() {
         return errorMessage;
     }
+
+    /**
+     * Returns the code of the error, without brackets, as reported by the driver or the server,
+     * or <code>null</code> if the error has no code.
+     */
+    @Nullable
+    public String getErrorCode() {
+        return errorCode;
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.common.test;
+
+import com.typedb.driver.common.IID;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import org.junit.Test;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.INVALID_IID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+public class IIDTest {
+    private static final String ENTITY_IID = "0x1e00000000000000000000";
+    private static final String EXTENDED_IID = "0x1e000000000000000000000000000000ff";
+
+    @Test
+    public void compact_iid_round_trips() {
+        IID parsed = IID.parse(ENTITY_IID);
+        assertEquals(ENTITY_IID, parsed.toString());
+        assertEquals(parsed, IID.parse(parsed.toString()));
+        assertEquals(parsed, IID.of(bytes(0x1e, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0)));
+        assertEquals(ENTITY_IID, IID.of(bytes(0x1e, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0)).toString());
+    }
+
+    @Test
+    public void extended_iid_round_trips() {
+        IID parsed = IID.parse(EXTENDED_IID);
+        assertEquals(EXTENDED_IID, parsed.toString());
+        assertEquals(parsed, IID.parse(parsed.toString()));
+        IID created = IID.of(bytes(0x1e, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0xff));
+        assertEquals(parsed, created);
+        assertEquals(EXTENDED_IID, created.toString());
+    }
+
+    @Test
+    public void iid_parsing_is_case_insensitive() {
+        assertEquals(IID.parse("0xABCDEF"), IID.parse("0xabcdef"));
+        assertEquals("0xabcdef", IID.parse("0xABCDEF").toString());
+    }
+
+    @Test
+    public void equal_iids_have_equal_hash_codes() {
+        assertEquals(IID.parse(ENTITY_IID).hashCode(), IID.of(bytes(0x1e, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0)).hashCode());
+        assertEquals(IID.parse(EXTENDED_IID).hashCode(), IID.of(bytes(0x1e, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0xff)).hashCode());
+    }
+
+    @Test
+    public void iids_of_different_lengths_are_not_equal() {
+        // trailing zero bytes are not padding: they are part of the id
+        assertNotEquals(IID.parse("0x1e"), IID.parse("0x1e00"));
+        // a 16 byte id is held compactly and a 17 byte id is not, so the two never compare equal
+        assertNotEquals(IID.parse("0x1e000000000000000000000000000000"), IID.parse("0x1e00000000000000000000000000000000"));
+        assertNotEquals(IID.parse(ENTITY_IID), IID.parse(EXTENDED_IID));
+    }
+
+    @Test
+    public void iid_with_odd_length_is_rejected() {
+        assertInvalid("0x1e0");
+    }
+
+    @Test
+    public void iid_with_bad_hex_is_rejected() {
+        assertInvalid("0x1g");
+        assertInvalid("0x1e00000000000000000000000000000z");
+        assertInvalid("0x1e0000000000000000000000000000000z");
+    }
+
+    @Test
+    public void iid_without_prefix_is_rejected() {
+        assertInvalid("1e00");
+    }
+
+    private static void assertInvalid(String iid) {
+        try {
+            IID.parse(iid);
+            fail("Expected IID '" + iid + "' to be rejected");
+        } catch (TypeDBDriverException e) {
+            assertEquals(INVALID_IID.code(), e.getErrorCode());
+        }
+    }
+
+    private static byte[] bytes(int... octets) {
+        byte[] bytes = new byte[octets.length];
+        for (int i = 0; i < octets.length; i++) bytes[i] = (byte) octets[i];
+        return bytes;
+    }
+}
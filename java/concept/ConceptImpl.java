@@ -22,6 +22,7 @@ package com.typedb.driver.concept;
 import com.typedb.driver.api.concept.Concept;
 import com.typedb.driver.api.concept.value.Value;
 import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.IID;
 import com.typedb.driver.common.NativeIterator;
 import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.collection.Pair;
@@ -33,11 +34,11 @@ import com.typedb.driver.concept.type.AttributeTypeImpl;
 import com.typedb.driver.concept.type.EntityTypeImpl;
 import com.typedb.driver.concept.type.RelationTypeImpl;
 import com.typedb.driver.concept.type.RoleTypeImpl;
+import com.typedb.driver.concept.type.TypeCache;
+import com.typedb.driver.concept.type.TypeImpl;
 import com.typedb.driver.concept.value.ValueImpl;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.math.RoundingMode;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -46,19 +47,27 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.typedb.driver.common.collection.Collections.pair;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.INVALID_VALUE_RETRIEVAL;
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
 import static com.typedb.driver.jni.typedb_driver.concept_equals;
-import static com.typedb.driver.jni.typedb_driver.concept_get_boolean;
+import static com.typedb.driver.jni.typedb_driver.concept_get_boolean_or_default;
 import static com.typedb.driver.jni.typedb_driver.concept_get_date_as_seconds;
 import static com.typedb.driver.jni.typedb_driver.concept_get_datetime;
+import static com.typedb.driver.jni.typedb_driver.concept_get_datetime_as_nanos;
 import static com.typedb.driver.jni.typedb_driver.concept_get_datetime_tz;
 import static com.typedb.driver.jni.typedb_driver.concept_get_decimal;
-import static com.typedb.driver.jni.typedb_driver.concept_get_double;
-import static com.typedb.driver.jni.typedb_driver.concept_get_duration;
-import static com.typedb.driver.jni.typedb_driver.concept_get_integer;
+import static com.typedb.driver.jni.typedb_driver.concept_get_decimal_scale;
+import static com.typedb.driver.jni.typedb_driver.concept_get_decimal_unscaled;
+import static com.typedb.driver.jni.typedb_driver.concept_get_double_or_nan;
+import static com.typedb.driver.jni.typedb_driver.concept_get_duration_days;
+import static com.typedb.driver.jni.typedb_driver.concept_get_duration_months;
+import static com.typedb.driver.jni.typedb_driver.concept_get_duration_nanos;
+import static com.typedb.driver.jni.typedb_driver.concept_get_duration_parts;
+import static com.typedb.driver.jni.typedb_driver.concept_get_integer_or_default;
 import static com.typedb.driver.jni.typedb_driver.concept_get_label;
 import static com.typedb.driver.jni.typedb_driver.concept_get_string;
 import static com.typedb.driver.jni.typedb_driver.concept_get_struct;
@@ -87,22 +96,36 @@ import static com.typedb.driver.jni.typedb_driver.concept_try_get_value;
 import static com.typedb.driver.jni.typedb_driver.concept_try_get_value_type;
 
 public abstract class ConceptImpl extends NativeObject<com.typedb.driver.jni.Concept> implements Concept {
+    private static final Map<String, ZoneId> ZONE_IDS = new ConcurrentHashMap<>();
+
     protected ConceptImpl(com.typedb.driver.jni.Concept concept) {
         super(concept);
     }
 
     public static ConceptImpl of(com.typedb.driver.jni.Concept concept) {
-        if (concept_is_entity_type(concept)) return new EntityTypeImpl(concept);
-        else if (concept_is_relation_type(concept)) return new RelationTypeImpl(concept);
-        else if (concept_is_attribute_type(concept)) return new AttributeTypeImpl(concept);
-        else if (concept_is_entity(concept)) return new EntityImpl(concept);
-        else if (concept_is_relation(concept)) return new RelationImpl(concept);
-        else if (concept_is_attribute(concept)) return new AttributeImpl(concept);
+        return of(concept, null);
+    }
+
+    /**
+     * @param types the cached types of the schema the concept was read from, shared by the returned concept
+     *              and the types of instances, or <code>null</code> to create new types
+     */
+    public static ConceptImpl of(com.typedb.driver.jni.Concept concept, TypeCache.SchemaTypes types) {
+        if (concept_is_entity_type(concept)) return canonical(new EntityTypeImpl(concept), types);
+        else if (concept_is_relation_type(concept)) return canonical(new RelationTypeImpl(concept), types);
+        else if (concept_is_attribute_type(concept)) return canonical(new AttributeTypeImpl(concept), types);
+        else if (concept_is_entity(concept)) return new EntityImpl(concept, types);
+        else if (concept_is_relation(concept)) return new RelationImpl(concept, types);
+        else if (concept_is_attribute(concept)) return new AttributeImpl(concept, types);
         else if (concept_is_value(concept)) return new ValueImpl(concept);
-        else if (concept_is_role_type(concept)) return new RoleTypeImpl(concept);
+        else if (concept_is_role_type(concept)) return canonical(new RoleTypeImpl(concept), types);
         throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
     }
 
+    protected static <T extends TypeImpl> T canonical(T type, TypeCache.SchemaTypes types) {
+        return types == null ? type : types.canonical(type);
+    }
+
     @Override
     public String getLabel() {
         return concept_get_label(nativeObject);
@@ -118,6 +141,11 @@ public abstract class ConceptImpl extends NativeObject<com.typedb.driver.jni.Con
         return Optional.ofNullable(concept_try_get_iid(nativeObject));
     }
 
+    @Override
+    public Optional<IID> tryGetCompactIID() {
+        return tryGetIID().map(IID::parse);
+    }
+
     @Override
     public final Optional<String> tryGetValueType() {
         return Optional.ofNullable(concept_try_get_value_type(nativeObject));
@@ -181,32 +209,72 @@ public abstract class ConceptImpl extends NativeObject<com.typedb.driver.jni.Con
 
     @Override
     public Optional<Boolean> tryGetBoolean() {
-        if (isType() || !isBoolean()) return Optional.empty();
-        return Optional.of(concept_get_boolean(nativeObject));
+        if (concept_get_boolean_or_default(nativeObject, false)) return Optional.of(true);
+        return isType() || !isBoolean() ? Optional.empty() : Optional.of(false);
     }
 
     @Override
     public Optional<Long> tryGetInteger() {
-        if (isType() || !isInteger()) return Optional.empty();
-        return Optional.of(concept_get_integer(nativeObject));
+        long value = concept_get_integer_or_default(nativeObject, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE && (isType() || !isInteger())) return Optional.empty();
+        return Optional.of(value);
     }
 
     @Override
     public Optional<Double> tryGetDouble() {
-        if (isType() || !isDouble()) return Optional.empty();
-        return Optional.of(concept_get_double(nativeObject));
+        double value = concept_get_double_or_nan(nativeObject);
+        if (Double.isNaN(value) && (isType() || !isDouble())) return Optional.empty();
+        return Optional.of(value);
+    }
+
+    @Override
+    public boolean getBooleanOrDefault(boolean defaultValue) {
+        return concept_get_boolean_or_default(nativeObject, defaultValue);
+    }
+
+    @Override
+    public long getIntegerOrDefault(long defaultValue) {
+        return concept_get_integer_or_default(nativeObject, defaultValue);
+    }
+
+    @Override
+    public double getDoubleOrNaN() {
+        return concept_get_double_or_nan(nativeObject);
+    }
+
+    /**
+     * Reads the <code>boolean</code> value without allocating, or throws if the concept holds none.
+     */
+    protected boolean booleanValue() {
+        if (concept_get_boolean_or_default(nativeObject, false)) return true;
+        if (!isBoolean()) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "boolean");
+        return false;
+    }
+
+    /**
+     * Reads the <code>integer</code> value without allocating, or throws if the concept holds none.
+     */
+    protected long integerValue() {
+        long value = concept_get_integer_or_default(nativeObject, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE && !isInteger()) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "integer");
+        return value;
+    }
+
+    /**
+     * Reads the <code>double</code> value without allocating, or throws if the concept holds none.
+     */
+    protected double doubleValue() {
+        double value = concept_get_double_or_nan(nativeObject);
+        if (Double.isNaN(value) && !isDouble()) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "double");
+        return value;
     }
 
     @Override
     public Optional<BigDecimal> tryGetDecimal() {
         if (isType() || !isDecimal()) return Optional.empty();
         com.typedb.driver.jni.Decimal nativeDecimal = concept_get_decimal(nativeObject);
-        BigInteger nativeFractional = nativeDecimal.getFractional();
-        BigDecimal integerPart = new BigDecimal(nativeDecimal.getInteger());
-        BigDecimal fractionalPart = new BigDecimal(nativeFractional)
-                .setScale(DECIMAL_SCALE, RoundingMode.UNNECESSARY)
-                .divide(BigDecimal.TEN.pow(DECIMAL_SCALE), RoundingMode.UNNECESSARY);
-        return Optional.of(integerPart.add(fractionalPart));
+        BigDecimal fractionalPart = new BigDecimal(nativeDecimal.getFractional(), DECIMAL_SCALE);
+        return Optional.of(fractionalPart.add(BigDecimal.valueOf(nativeDecimal.getInteger())));
     }
 
     @Override
@@ -236,14 +304,67 @@ public abstract class ConceptImpl extends NativeObject<com.typedb.driver.jni.Con
             return Optional.of(naiveDatetime.atZone(ZoneOffset.ofTotalSeconds(nativeDatetime.getLocal_minus_utc_offset())));
         } else {
             assert nativeDatetime.getZone_name() != null;
-            return Optional.of(naiveDatetime.atZone(ZoneId.of(nativeDatetime.getZone_name())));
+            return Optional.of(naiveDatetime.atZone(zoneId(nativeDatetime.getZone_name())));
         }
     }
 
     @Override
     public Optional<Duration> tryGetDuration() {
-        if (isType() || !isDuration()) return Optional.empty();
-        return Optional.of(new Duration(concept_get_duration(nativeObject)));
+        long[] parts = new long[3];
+        try {
+            if (!concept_get_duration_parts(nativeObject, parts)) return Optional.empty();
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+        return Optional.of(new Duration(parts[0], parts[1], parts[2]));
+    }
+
+    @Override
+    public long getDatetimeEpochNanos() {
+        if (!isDatetime() && !isDatetimeTZ()) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "datetime");
+        try {
+            return concept_get_datetime_as_nanos(nativeObject);
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled() {
+        if (!isDecimal()) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "decimal");
+        try {
+            return concept_get_decimal_unscaled(nativeObject);
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public int getDecimalScale() {
+        if (!isDecimal()) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "decimal");
+        return (int) concept_get_decimal_scale(nativeObject);
+    }
+
+    @Override
+    public long getDurationMonths() {
+        if (!isDuration()) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "duration");
+        return concept_get_duration_months(nativeObject);
+    }
+
+    @Override
+    public long getDurationDays() {
+        if (!isDuration()) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "duration");
+        return concept_get_duration_days(nativeObject);
+    }
+
+    @Override
+    public long getDurationNanos() {
+        if (!isDuration()) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "duration");
+        try {
+            return concept_get_duration_nanos(nativeObject);
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
     }
 
     @Override
@@ -264,6 +385,10 @@ public abstract class ConceptImpl extends NativeObject<com.typedb.driver.jni.Con
         }).collect(Collectors.toMap(Pair::first, Pair::second)));
     }
 
+    private static ZoneId zoneId(String zoneName) {
+        return ZONE_IDS.computeIfAbsent(zoneName, ZoneId::of);
+    }
+
     private Instant instantFromNativeDatetime(com.typedb.driver.jni.DatetimeInNanos nativeDatetime) {
         return Instant.ofEpochSecond(nativeDatetime.getSeconds(), nativeDatetime.getSubsec_nanos());
     }
@@ -277,7 +402,13 @@ public abstract class ConceptImpl extends NativeObject<com.typedb.driver.jni.Con
     public final boolean equals(Object obj) {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
-        ConceptImpl that = (ConceptImpl) obj;
+        return equalsSameClass((ConceptImpl) obj);
+    }
+
+    /**
+     * Compares this concept with another of the same class. Defaults to comparing the native concepts.
+     */
+    protected boolean equalsSameClass(ConceptImpl that) {
         return concept_equals(this.nativeObject, that.nativeObject);
     }
 
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept;
+
+import com.typedb.driver.api.answer.MaterializedRow.Kind;
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.type.TypeCache;
+import com.typedb.driver.concept.value.ValueImpl;
+
+import java.util.Objects;
+
+import static com.typedb.driver.jni.typedb_driver.attribute_get_iid;
+import static com.typedb.driver.jni.typedb_driver.concept_new_attribute;
+import static com.typedb.driver.jni.typedb_driver.concept_new_attribute_type;
+import static com.typedb.driver.jni.typedb_driver.concept_new_entity;
+import static com.typedb.driver.jni.typedb_driver.concept_new_entity_type;
+import static com.typedb.driver.jni.typedb_driver.concept_new_relation;
+import static com.typedb.driver.jni.typedb_driver.concept_new_relation_type;
+import static com.typedb.driver.jni.typedb_driver.concept_new_role_type;
+
+/**
+ * A copy of a concept that holds no native handle: its kind, its label, its IID and its value. A new native concept
+ * is created from it on demand, so that answers can be kept for a long time without pinning native memory.
+ */
+public final class ConceptSnapshot {
+    private final Kind kind;
+    private final String label;
+    private final String iid;
+    private final String valueType;
+    private final Object value;
+
+    private ConceptSnapshot(Kind kind, String label, String iid, String valueType, Object value) {
+        this.kind = kind;
+        this.label = label;
+        this.iid = iid;
+        this.valueType = valueType;
+        this.value = value;
+    }
+
+    /**
+     * Copies the concept, or returns <code>null</code> if it holds a struct value, which cannot be recreated.
+     */
+    public static ConceptSnapshot of(Concept concept) {
+        if (concept.isEntityType()) return new ConceptSnapshot(Kind.ENTITY_TYPE, concept.getLabel(), null, null, null);
+        else if (concept.isRelationType()) return new ConceptSnapshot(Kind.RELATION_TYPE, concept.getLabel(), null, null, null);
+        else if (concept.isRoleType()) return new ConceptSnapshot(Kind.ROLE_TYPE, concept.getLabel(), null, null, null);
+        else if (concept.isAttributeType()) {
+            return new ConceptSnapshot(Kind.ATTRIBUTE_TYPE, concept.getLabel(), null, concept.tryGetValueType().orElse(null), null);
+        } else if (concept.isEntity()) {
+            return new ConceptSnapshot(Kind.ENTITY, concept.tryGetLabel().orElse(null), concept.tryGetIID().get(), null, null);
+        } else if (concept.isRelation()) {
+            return new ConceptSnapshot(Kind.RELATION, concept.tryGetLabel().orElse(null), concept.tryGetIID().get(), null, null);
+        } else if (concept.isStruct()) {
+            return null;
+        } else if (concept.isAttribute()) {
+            String iid = attribute_get_iid(((ConceptImpl) concept).nativeObject);
+            return new ConceptSnapshot(Kind.ATTRIBUTE, concept.tryGetLabel().orElse(null), iid, null, concept.tryGetValue().get().get());
+        } else {
+            return new ConceptSnapshot(Kind.VALUE, null, null, null, concept.asValue().get());
+        }
+    }
+
+    /**
+     * Creates a new concept equal to the copied one.
+     *
+     * @param types the cached types of the schema to share with the concept, or <code>null</code> to create new types
+     */
+    public ConceptImpl restore(TypeCache.SchemaTypes types) {
+        try {
+            switch (kind) {
+                case ENTITY_TYPE:
+                    return ConceptImpl.of(concept_new_entity_type(label), types);
+                case RELATION_TYPE:
+                    return ConceptImpl.of(concept_new_relation_type(label), types);
+                case ROLE_TYPE:
+                    return ConceptImpl.of(concept_new_role_type(label), types);
+                case ATTRIBUTE_TYPE:
+                    return ConceptImpl.of(concept_new_attribute_type(label, valueType), types);
+                case ENTITY:
+                    return ConceptImpl.of(concept_new_entity(iid, label), types);
+                case RELATION:
+                    return ConceptImpl.of(concept_new_relation(iid, label), types);
+                case ATTRIBUTE:
+                    ValueImpl attributeValue = (ValueImpl) ValueImpl.tryConvertToValue(value);
+                    return ConceptImpl.of(concept_new_attribute(iid, label, attributeValue.nativeObject), types);
+                default:
+                    return (ValueImpl) ValueImpl.tryConvertToValue(value);
+            }
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    /**
+     * The <code>integer</code> value of the copied attribute or value, read without creating the concept.
+     */
+    public long getIntegerOrDefault(long defaultValue) {
+        return hasValue() && value instanceof Long ? (Long) value : defaultValue;
+    }
+
+    /**
+     * The <code>double</code> value of the copied attribute or value, read without creating the concept.
+     */
+    public double getDoubleOrNaN() {
+        return hasValue() && value instanceof Double ? (Double) value : Double.NaN;
+    }
+
+    private boolean hasValue() {
+        return kind == Kind.ATTRIBUTE || kind == Kind.VALUE;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ConceptSnapshot that = (ConceptSnapshot) obj;
+        return kind == that.kind && Objects.equals(label, that.label) && Objects.equals(iid, that.iid)
+                && Objects.equals(valueType, that.valueType) && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, label, iid, valueType, value);
+    }
+}
@@ -23,6 +23,7 @@ import com.typedb.driver.api.concept.instance.Attribute;
 import com.typedb.driver.api.concept.value.Value;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.type.AttributeTypeImpl;
+import com.typedb.driver.concept.type.TypeCache;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -37,12 +38,16 @@ import static com.typedb.driver.jni.typedb_driver.attribute_get_type;
 
 public class AttributeImpl extends InstanceImpl implements Attribute {
     public AttributeImpl(com.typedb.driver.jni.Concept concept) {
-        super(concept);
+        this(concept, null);
+    }
+
+    public AttributeImpl(com.typedb.driver.jni.Concept concept, TypeCache.SchemaTypes types) {
+        super(concept, types);
     }
 
     @Override
     public AttributeTypeImpl getType() {
-        return new AttributeTypeImpl(attribute_get_type(nativeObject));
+        return cachedType(AttributeTypeImpl.class, () -> new AttributeTypeImpl(attribute_get_type(nativeObject)));
     }
 
     @Override
@@ -57,17 +62,17 @@ public class AttributeImpl extends InstanceImpl implements Attribute {
 
     @Override
     public boolean getBoolean() {
-        return getValue().getBoolean();
+        return booleanValue();
     }
 
     @Override
     public long getInteger() {
-        return getValue().getInteger();
+        return integerValue();
     }
 
     @Override
     public double getDouble() {
-        return getValue().getDouble();
+        return doubleValue();
     }
 
     @Override
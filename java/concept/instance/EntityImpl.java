@@ -20,8 +20,11 @@
 package com.typedb.driver.concept.instance;
 
 import com.typedb.driver.api.concept.instance.Entity;
+import com.typedb.driver.common.IID;
 import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.ConceptImpl;
 import com.typedb.driver.concept.type.EntityTypeImpl;
+import com.typedb.driver.concept.type.TypeCache;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.NULL_CONCEPT_PROPERTY;
 import static com.typedb.driver.common.util.Objects.className;
@@ -29,12 +32,16 @@ import static com.typedb.driver.jni.typedb_driver.entity_get_type;
 
 public class EntityImpl extends InstanceImpl implements Entity {
     public EntityImpl(com.typedb.driver.jni.Concept concept) {
-        super(concept);
+        this(concept, null);
+    }
+
+    public EntityImpl(com.typedb.driver.jni.Concept concept, TypeCache.SchemaTypes types) {
+        super(concept, types);
     }
 
     @Override
     public EntityTypeImpl getType() {
-        return new EntityTypeImpl(entity_get_type(nativeObject));
+        return cachedType(EntityTypeImpl.class, () -> new EntityTypeImpl(entity_get_type(nativeObject)));
     }
 
     @Override
@@ -47,9 +54,19 @@ public class EntityImpl extends InstanceImpl implements Entity {
         return tryGetIID().orElseThrow(() -> new TypeDBDriverException(NULL_CONCEPT_PROPERTY, className(this.getClass())));
     }
 
+    @Override
+    public final IID getCompactIID() {
+        return tryGetCompactIID().orElseThrow(() -> new TypeDBDriverException(NULL_CONCEPT_PROPERTY, className(this.getClass())));
+    }
+
+    @Override
+    protected boolean equalsSameClass(ConceptImpl that) {
+        return getCompactIID().equals(((EntityImpl) that).getCompactIID());
+    }
+
     @Override
     public int hashCode() {
-        if (hash == 0) hash = getIID().hashCode();
+        if (hash == 0) hash = getCompactIID().hashCode();
         return hash;
     }
 }
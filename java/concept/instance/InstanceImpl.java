@@ -20,20 +20,29 @@
 package com.typedb.driver.concept.instance;
 
 import com.typedb.driver.api.concept.instance.Instance;
+import com.typedb.driver.common.IID;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.ConceptImpl;
+import com.typedb.driver.concept.type.TypeCache;
 import com.typedb.driver.concept.type.TypeImpl;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
 import static com.typedb.driver.jni.typedb_driver.concept_is_attribute;
 import static com.typedb.driver.jni.typedb_driver.concept_is_entity;
 import static com.typedb.driver.jni.typedb_driver.concept_is_relation;
+import static com.typedb.driver.jni.typedb_driver.concept_try_get_label;
 
 public abstract class InstanceImpl extends ConceptImpl implements Instance {
     protected int hash = 0;
+    protected final TypeCache.SchemaTypes types;
+    private IID compactIID = null;
 
-    InstanceImpl(com.typedb.driver.jni.Concept concept) {
+    InstanceImpl(com.typedb.driver.jni.Concept concept, TypeCache.SchemaTypes types) {
         super(concept);
+        this.types = types;
     }
 
     public static InstanceImpl of(com.typedb.driver.jni.Concept concept) {
@@ -46,6 +55,25 @@ public abstract class InstanceImpl extends ConceptImpl implements Instance {
     @Override
     public abstract TypeImpl getType();
 
+    /**
+     * Looks the type of this instance up in the cached types by the instance's type label, which is read without
+     * materialising the native type. The type is only fetched natively, through <code>nativeType</code>, on a miss.
+     */
+    protected <T extends TypeImpl> T cachedType(Class<T> typeClass, Supplier<T> nativeType) {
+        if (types == null) return nativeType.get();
+        String label = concept_try_get_label(nativeObject);
+        if (label == null) return nativeType.get();
+        TypeImpl cached = types.get(label);
+        if (typeClass.isInstance(cached)) return typeClass.cast(cached);
+        return types.canonical(nativeType.get());
+    }
+
+    @Override
+    public Optional<IID> tryGetCompactIID() {
+        if (compactIID == null) compactIID = super.tryGetCompactIID().orElse(null);
+        return Optional.ofNullable(compactIID);
+    }
+
     @Override
     public InstanceImpl asInstance() {
         return this;
@@ -20,8 +20,11 @@
 package com.typedb.driver.concept.instance;
 
 import com.typedb.driver.api.concept.instance.Relation;
+import com.typedb.driver.common.IID;
 import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.ConceptImpl;
 import com.typedb.driver.concept.type.RelationTypeImpl;
+import com.typedb.driver.concept.type.TypeCache;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.NULL_CONCEPT_PROPERTY;
 import static com.typedb.driver.common.util.Objects.className;
@@ -30,12 +33,16 @@ import static com.typedb.driver.jni.typedb_driver.relation_get_type;
 public class RelationImpl extends InstanceImpl implements Relation {
 
     public RelationImpl(com.typedb.driver.jni.Concept concept) {
-        super(concept);
+        this(concept, null);
+    }
+
+    public RelationImpl(com.typedb.driver.jni.Concept concept, TypeCache.SchemaTypes types) {
+        super(concept, types);
     }
 
     @Override
     public RelationTypeImpl getType() {
-        return new RelationTypeImpl(relation_get_type(nativeObject));
+        return cachedType(RelationTypeImpl.class, () -> new RelationTypeImpl(relation_get_type(nativeObject)));
     }
 
     @Override
@@ -43,9 +50,19 @@ public class RelationImpl extends InstanceImpl implements Relation {
         return tryGetIID().orElseThrow(() -> new TypeDBDriverException(NULL_CONCEPT_PROPERTY, className(this.getClass())));
     }
 
+    @Override
+    public final IID getCompactIID() {
+        return tryGetCompactIID().orElseThrow(() -> new TypeDBDriverException(NULL_CONCEPT_PROPERTY, className(this.getClass())));
+    }
+
+    @Override
+    protected boolean equalsSameClass(ConceptImpl that) {
+        return getCompactIID().equals(((RelationImpl) that).getCompactIID());
+    }
+
     @Override
     public int hashCode() {
-        if (hash == 0) hash = getIID().hashCode();
+        if (hash == 0) hash = getCompactIID().hashCode();
         return hash;
     }
 }
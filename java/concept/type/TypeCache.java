@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.type;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A per-driver cache of type concepts, so that the instances in an answer share one <code>TypeImpl</code> per label
+ * rather than each holding its own native copy of the same type.
+ * <p>
+ * Types are cached per database and per schema version: a transaction takes the current <code>SchemaTypes</code>
+ * of its database when it opens and keeps it until it closes, while a schema commit replaces it for the
+ * transactions opened afterwards.
+ */
+public class TypeCache {
+    private final Map<String, SchemaTypes> databases;
+
+    public TypeCache() {
+        this.databases = new ConcurrentHashMap<>();
+    }
+
+    public SchemaTypes schemaTypes(String database) {
+        return databases.computeIfAbsent(database, name -> new SchemaTypes());
+    }
+
+    public void invalidate(String database) {
+        databases.remove(database);
+    }
+
+    public static class SchemaTypes {
+        private final Map<String, TypeImpl> types;
+
+        private SchemaTypes() {
+            this.types = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Returns the cached type with the given label, or <code>null</code> if there is none yet.
+         */
+        public TypeImpl get(String label) {
+            return types.get(label);
+        }
+
+        /**
+         * Returns the cached type with the label of the given one, caching the given type if there is none yet.
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends TypeImpl> T canonical(T type) {
+            TypeImpl cached = types.putIfAbsent(type.getLabel(), type);
+            if (cached == null) return type;
+            else if (cached.getClass() == type.getClass()) return (T) cached;
+            types.put(type.getLabel(), type);
+            return type;
+        }
+    }
+}
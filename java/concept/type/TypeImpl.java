@@ -22,13 +22,32 @@ package com.typedb.driver.concept.type;
 import com.typedb.driver.api.concept.type.Type;
 import com.typedb.driver.concept.ConceptImpl;
 
+import java.util.Optional;
+
 public abstract class TypeImpl extends ConceptImpl implements Type {
     private int hash = 0;
+    private String label = null;
 
     TypeImpl(com.typedb.driver.jni.Concept concept) {
         super(concept);
     }
 
+    @Override
+    public String getLabel() {
+        if (label == null) label = super.getLabel();
+        return label;
+    }
+
+    @Override
+    public Optional<String> tryGetLabel() {
+        return Optional.of(getLabel());
+    }
+
+    @Override
+    protected boolean equalsSameClass(ConceptImpl that) {
+        return getLabel().equals(((TypeImpl) that).getLabel());
+    }
+
     @Override
     public int hashCode() {
         if (hash == 0) hash = getLabel().hashCode();
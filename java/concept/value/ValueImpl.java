@@ -164,17 +164,17 @@ public class ValueImpl extends ConceptImpl implements Value {
 
     @Override
     public boolean getBoolean() {
-        return tryGetBoolean().orElseThrow(() -> new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "boolean"));
+        return booleanValue();
     }
 
     @Override
     public long getInteger() {
-        return tryGetInteger().orElseThrow(() -> new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "integer"));
+        return integerValue();
     }
 
     @Override
     public double getDouble() {
-        return tryGetDouble().orElseThrow(() -> new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "double"));
+        return doubleValue();
     }
 
     @Override
@@ -19,21 +19,38 @@
 
 package com.typedb.driver.connection;
 
+import com.typedb.driver.api.Transaction;
 import com.typedb.driver.api.database.Database;
+import com.typedb.driver.api.database.SchemaModel;
 import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.Validator;
 import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.type.TypeCache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Driver.DATABASE_DELETED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.DATABASE_STREAM_IO_ERROR;
 import static com.typedb.driver.jni.typedb_driver.database_delete;
+import static com.typedb.driver.jni.typedb_driver.database_export;
+import static com.typedb.driver.jni.typedb_driver.database_export_read_data;
+import static com.typedb.driver.jni.typedb_driver.database_export_schema;
 import static com.typedb.driver.jni.typedb_driver.database_export_to_file;
 import static com.typedb.driver.jni.typedb_driver.database_get_name;
 import static com.typedb.driver.jni.typedb_driver.database_schema;
 import static com.typedb.driver.jni.typedb_driver.database_type_schema;
 
 public class DatabaseImpl extends NativeObject<com.typedb.driver.jni.Database> implements Database {
-    public DatabaseImpl(com.typedb.driver.jni.Database database) {
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+    private final DriverImpl driver;
+
+    public DatabaseImpl(com.typedb.driver.jni.Database database, DriverImpl driver) {
         super(database);
+        this.driver = driver;
     }
 
     @Override
@@ -62,6 +79,35 @@ public class DatabaseImpl extends NativeObject<com.typedb.driver.jni.Database> i
         }
     }
 
+    @Override
+    public SchemaModel schemaModel() throws TypeDBDriverException {
+        SchemaModelImpl schemaModel = driver.schemaModels().get(name());
+        return schemaModel != null ? schemaModel : loadSchemaModel(typeSchema());
+    }
+
+    @Override
+    public SchemaModel refreshSchemaModel() throws TypeDBDriverException {
+        String typeSchema = typeSchema();
+        SchemaModelImpl schemaModel = driver.schemaModels().get(name());
+        if (schemaModel != null && schemaModel.typeSchema().equals(typeSchema)) return schemaModel;
+        // The schema was changed outside this driver, so the model must not be rebuilt from answers cached before it
+        driver.invalidateSchema(name());
+        return loadSchemaModel(typeSchema);
+    }
+
+    private SchemaModelImpl loadSchemaModel(String typeSchema) {
+        String name = name();
+        // The cached types of a database are replaced on every schema change, so they identify its schema version
+        TypeCache.SchemaTypes schemaVersion = driver.typeCache().schemaTypes(name);
+        SchemaModelImpl schemaModel;
+        try (Transaction transaction = driver.transaction(name, Transaction.Type.READ)) {
+            schemaModel = SchemaModelImpl.load(transaction, typeSchema);
+        }
+        // Don't cache a model that a schema change committed while it was loading may have made stale
+        if (driver.typeCache().schemaTypes(name) == schemaVersion) driver.schemaModels().put(name, schemaModel);
+        return schemaModel;
+    }
+
     @Override
     public void exportToFile(String schemaFilePath, String dataFilePath) throws TypeDBDriverException {
         Validator.requireNonNull(schemaFilePath, "schemaFilePath");
@@ -73,6 +119,39 @@ public class DatabaseImpl extends NativeObject<com.typedb.driver.jni.Database> i
         }
     }
 
+    @Override
+    public void exportTo(WritableByteChannel schema, WritableByteChannel data) throws TypeDBDriverException {
+        Validator.requireNonNull(schema, "schema");
+        Validator.requireNonNull(data, "data");
+        if (!nativeObject.isOwned()) throw new TypeDBDriverException(DATABASE_DELETED);
+        com.typedb.driver.jni.DatabaseExport export;
+        try {
+            export = database_export(nativeObject);
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+        try {
+            writeFully(schema, ByteBuffer.wrap(database_export_schema(export).getBytes(StandardCharsets.UTF_8)));
+            ByteBuffer buffer = ByteBuffer.allocateDirect(EXPORT_BUFFER_SIZE);
+            long read;
+            while ((read = database_export_read_data(export, buffer)) > 0) {
+                buffer.limit((int) read);
+                writeFully(data, buffer);
+                buffer.clear();
+            }
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        } catch (IOException e) {
+            throw new TypeDBDriverException(DATABASE_STREAM_IO_ERROR, name(), e.getMessage());
+        } finally {
+            export.delete();
+        }
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+
     @Override
     public void delete() throws TypeDBDriverException {
         if (!nativeObject.isOwned()) throw new TypeDBDriverException(DATABASE_DELETED);
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.connection;
+
+import com.typedb.driver.api.database.ImportOptions;
+import com.typedb.driver.api.database.ImportProgress;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+import static com.typedb.driver.jni.typedb_driver.database_import_decoded_items;
+import static com.typedb.driver.jni.typedb_driver.database_import_done;
+import static com.typedb.driver.jni.typedb_driver.database_import_sent_items;
+import static com.typedb.driver.jni.typedb_driver.database_import_write_data;
+
+/**
+ * Feeds a native database import from a channel. A reader thread fills a bounded pool of direct buffers
+ * from the channel, while the importing thread hands each filled buffer to the native import, which decodes it
+ * and queues the decoded batches for sending in the background. Reading, decoding and sending therefore overlap,
+ * while the bounded buffer pool and the in-flight window of the native import keep a slow server from making the
+ * driver buffer the data.
+ */
+class DatabaseImportPipeline {
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final com.typedb.driver.jni.DatabaseImport nativeImport;
+    private final ReadableByteChannel channel;
+    private final ImportOptions options;
+    private final BlockingQueue<ByteBuffer> free;
+    private final BlockingQueue<ByteBuffer> filled;
+    private volatile boolean isCancelled;
+    private volatile IOException readError;
+
+    DatabaseImportPipeline(com.typedb.driver.jni.DatabaseImport nativeImport, ReadableByteChannel channel, ImportOptions options) {
+        this.nativeImport = nativeImport;
+        this.channel = channel;
+        this.options = options;
+        int buffers = options.readAhead() + 1;
+        this.free = new ArrayBlockingQueue<>(buffers);
+        // Room for every buffer and the end marker, so that the reader never blocks on a consumer that has failed
+        this.filled = new ArrayBlockingQueue<>(buffers + 1);
+        for (int i = 0; i < buffers; i++) free.add(ByteBuffer.allocateDirect(options.bufferSize()));
+        this.isCancelled = false;
+        this.readError = null;
+    }
+
+    /**
+     * Imports all the data in the channel, and waits for the server to complete the import.
+     * Consumes the native import on success.
+     */
+    void run() throws com.typedb.driver.jni.Error, IOException, InterruptedException {
+        Thread reader = new Thread(this::read, "typedb-import-reader");
+        reader.setDaemon(true);
+        reader.start();
+        try {
+            Consumer<ImportProgress> listener = options.progressListener().orElse(null);
+            long intervalNanos = options.progressIntervalMillis() * 1_000_000;
+            long start = System.nanoTime();
+            long lastReport = start;
+            long bytes = 0;
+            ByteBuffer buffer;
+            while ((buffer = filled.take()) != END) {
+                bytes += buffer.remaining();
+                database_import_write_data(nativeImport, buffer);
+                free.put(buffer);
+                if (listener != null && System.nanoTime() - lastReport >= intervalNanos) {
+                    lastReport = System.nanoTime();
+                    listener.accept(new ImportProgress(database_import_sent_items(nativeImport), bytes, lastReport - start, false));
+                }
+            }
+            if (readError != null) throw readError;
+            // every decoded item has been sent and imported once the import is done
+            long items = database_import_decoded_items(nativeImport);
+            database_import_done(nativeImport.released());
+            if (listener != null) listener.accept(new ImportProgress(items, bytes, System.nanoTime() - start, true));
+        } finally {
+            cancel();
+        }
+    }
+
+    private void read() {
+        try {
+            boolean isEndOfStream = false;
+            ByteBuffer buffer;
+            while (!isEndOfStream && (buffer = free.take()) != END && !isCancelled) {
+                buffer.clear();
+                while (buffer.hasRemaining() && !isEndOfStream) {
+                    isEndOfStream = channel.read(buffer) < 0;
+                }
+                buffer.flip();
+                if (buffer.hasRemaining()) filled.put(buffer);
+            }
+        } catch (IOException e) {
+            readError = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            filled.offer(END);
+        }
+    }
+
+    private void cancel() {
+        isCancelled = true;
+        // Wake the reader if it is waiting for a free buffer; a reader blocked in the channel exits after its read
+        free.clear();
+        free.offer(END);
+    }
+}
@@ -21,30 +21,37 @@ package com.typedb.driver.connection;
 
 import com.typedb.driver.api.database.Database;
 import com.typedb.driver.api.database.DatabaseManager;
+import com.typedb.driver.api.database.ImportOptions;
 import com.typedb.driver.common.NativeIterator;
 import com.typedb.driver.common.Validator;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
 import java.util.List;
 
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.DATABASE_STREAM_IO_ERROR;
 import static com.typedb.driver.jni.typedb_driver.databases_all;
 import static com.typedb.driver.jni.typedb_driver.databases_contains;
 import static com.typedb.driver.jni.typedb_driver.databases_create;
 import static com.typedb.driver.jni.typedb_driver.databases_get;
+import static com.typedb.driver.jni.typedb_driver.databases_import;
 import static com.typedb.driver.jni.typedb_driver.databases_import_from_file;
 import static java.util.stream.Collectors.toList;
 
 public class DatabaseManagerImpl implements DatabaseManager {
     com.typedb.driver.jni.TypeDBDriver nativeDriver;
+    private final DriverImpl driver;
 
-    public DatabaseManagerImpl(com.typedb.driver.jni.TypeDBDriver driver) {
-        nativeDriver = driver;
+    public DatabaseManagerImpl(DriverImpl driver) {
+        nativeDriver = driver.nativeObject;
+        this.driver = driver;
     }
 
     @Override
     public List<Database> all() throws TypeDBDriverException {
         try {
-            return new NativeIterator<>(databases_all(nativeDriver)).stream().map(DatabaseImpl::new).collect(toList());
+            return new NativeIterator<>(databases_all(nativeDriver)).stream().map(database -> new DatabaseImpl(database, driver)).collect(toList());
         } catch (com.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -64,7 +71,7 @@ public class DatabaseManagerImpl implements DatabaseManager {
     public Database get(String name) throws TypeDBDriverException {
         Validator.requireNonNull(name, "name");
         try {
-            return new DatabaseImpl(databases_get(nativeDriver, name));
+            return new DatabaseImpl(databases_get(nativeDriver, name), driver);
         } catch (com.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -75,6 +82,7 @@ public class DatabaseManagerImpl implements DatabaseManager {
         Validator.requireNonNull(name, "name");
         try {
             databases_create(nativeDriver, name);
+            driver.invalidateSchema(name);
         } catch (com.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -87,8 +95,37 @@ public class DatabaseManagerImpl implements DatabaseManager {
         Validator.requireNonNull(dataFilePath, "dataFilePath");
         try {
             databases_import_from_file(nativeDriver, name, schema, dataFilePath);
+            driver.invalidateSchema(name);
         } catch (com.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
     }
+
+    @Override
+    public void importFrom(String name, String schema, ReadableByteChannel data, ImportOptions options) throws TypeDBDriverException {
+        Validator.requireNonNull(name, "name");
+        Validator.requireNonNull(schema, "schema");
+        Validator.requireNonNull(data, "data");
+        Validator.requireNonNull(options, "options");
+        com.typedb.driver.jni.DatabaseImport nativeImport;
+        try {
+            nativeImport = databases_import(nativeDriver, name, schema, options.batchSize(), options.inFlightBatches());
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+        try {
+            new DatabaseImportPipeline(nativeImport, data, options).run();
+            driver.invalidateSchema(name);
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        } catch (IOException e) {
+            throw new TypeDBDriverException(DATABASE_STREAM_IO_ERROR, name, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TypeDBDriverException(DATABASE_STREAM_IO_ERROR, name, "the import was interrupted");
+        } finally {
+            // Abandons the import unless it completed
+            nativeImport.delete();
+        }
+    }
 }
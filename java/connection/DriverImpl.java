@@ -19,21 +19,35 @@
 
 package com.typedb.driver.connection;
 
+import com.typedb.driver.analyze.AnalyzedQueryCache;
+import com.typedb.driver.answer.QueryResultCache;
 import com.typedb.driver.api.Credentials;
 import com.typedb.driver.api.Driver;
 import com.typedb.driver.api.DriverOptions;
+import com.typedb.driver.api.FanOutReadOptions;
+import com.typedb.driver.api.PartitionedWriter;
+import com.typedb.driver.api.PartitionedWriterOptions;
+import com.typedb.driver.api.RetryOptions;
 import com.typedb.driver.api.ServerRouting;
+import com.typedb.driver.api.Tracer;
 import com.typedb.driver.api.Transaction;
 import com.typedb.driver.api.TransactionOptions;
+import com.typedb.driver.api.TransactionPool;
+import com.typedb.driver.api.TransactionPoolOptions;
+import com.typedb.driver.api.TransactionRetryMetrics;
 
+import com.typedb.driver.api.answer.ConceptRow;
 import com.typedb.driver.api.database.DatabaseManager;
 import com.typedb.driver.api.server.Server;
 import com.typedb.driver.api.server.ServerVersion;
 import com.typedb.driver.api.user.UserManager;
 import com.typedb.driver.common.NativeIterator;
+import com.typedb.driver.common.NativeMemoryTracker;
+import com.typedb.driver.common.NativeMemoryUsage;
 import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.Validator;
 import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.type.TypeCache;
 import com.typedb.driver.user.UserManagerImpl;
 
 import java.util.AbstractMap;
@@ -42,6 +56,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static com.typedb.driver.jni.typedb_driver.driver_force_close;
 import static com.typedb.driver.jni.typedb_driver.driver_is_open;
@@ -54,21 +71,36 @@ import static com.typedb.driver.jni.typedb_driver.driver_server_version;
 import static java.util.stream.Collectors.toSet;
 
 public class DriverImpl extends NativeObject<com.typedb.driver.jni.TypeDBDriver> implements Driver {
+    private final Tracer tracer;
+    private final AnalyzedQueryCache analyzeCache;
+    private final QueryResultCache queryCache;
+    private final TypeCache typeCache;
+    private final Map<String, SchemaModelImpl> schemaModels;
+    private final TransactionRunner transactionRunner;
 
     public DriverImpl(String address, Credentials credentials, DriverOptions driverOptions) throws TypeDBDriverException {
-        this(open(address, credentials, driverOptions));
+        this(open(address, credentials, driverOptions), driverOptions);
     }
 
     public DriverImpl(Set<String> addresses, Credentials credentials, DriverOptions driverOptions) throws TypeDBDriverException {
-        this(open(addresses, credentials, driverOptions));
+        this(open(addresses, credentials, driverOptions), driverOptions);
     }
 
     public DriverImpl(Map<String, String> addressTranslation, Credentials credentials, DriverOptions driverOptions) throws TypeDBDriverException {
-        this(open(addressTranslation, credentials, driverOptions));
+        this(open(addressTranslation, credentials, driverOptions), driverOptions);
     }
 
-    private DriverImpl(com.typedb.driver.jni.TypeDBDriver connection) {
+    private DriverImpl(com.typedb.driver.jni.TypeDBDriver connection, DriverOptions driverOptions) {
         super(connection);
+        this.tracer = driverOptions.tracer().orElse(null);
+        this.analyzeCache = driverOptions.analyzeCacheSize() > 0 ? new AnalyzedQueryCache(driverOptions.analyzeCacheSize()) : null;
+        this.queryCache = driverOptions.queryCacheSize() > 0
+                ? new QueryResultCache(driverOptions.queryCacheSize(), driverOptions.queryCacheMaxRows(), driverOptions.queryCacheTtlMillis())
+                : null;
+        this.typeCache = new TypeCache();
+        this.schemaModels = new ConcurrentHashMap<>();
+        this.transactionRunner = new TransactionRunner(this, driverOptions.retryBudgetPercent());
+        NativeMemoryTracker.INSTANCE.registerMBean();
     }
 
     private static com.typedb.driver.jni.TypeDBDriver open(String address, Credentials credentials, DriverOptions driverOptions) {
@@ -105,6 +137,43 @@ public class DriverImpl extends NativeObject<com.typedb.driver.jni.TypeDBDriver>
         }
     }
 
+    Tracer tracer() {
+        return tracer;
+    }
+
+    AnalyzedQueryCache analyzeCache() {
+        return analyzeCache;
+    }
+
+    QueryResultCache queryCache() {
+        return queryCache;
+    }
+
+    TypeCache typeCache() {
+        return typeCache;
+    }
+
+    Map<String, SchemaModelImpl> schemaModels() {
+        return schemaModels;
+    }
+
+    /**
+     * Drops the cached query answers of the database, after its data was changed through this driver.
+     */
+    void invalidateData(String database) {
+        if (queryCache != null) queryCache.invalidate(database);
+    }
+
+    /**
+     * Drops everything cached about the schema of the database, after it was changed through this driver.
+     */
+    void invalidateSchema(String database) {
+        invalidateData(database);
+        if (analyzeCache != null) analyzeCache.invalidate(database);
+        typeCache.invalidate(database);
+        schemaModels.remove(database);
+    }
+
     @Override
     public boolean isOpen() {
         return driver_is_open(nativeObject);
@@ -126,7 +195,7 @@ public class DriverImpl extends NativeObject<com.typedb.driver.jni.TypeDBDriver>
 
     @Override
     public DatabaseManager databases() {
-        return new DatabaseManagerImpl(nativeObject);
+        return new DatabaseManagerImpl(this);
     }
 
     @Override
@@ -141,6 +210,42 @@ public class DriverImpl extends NativeObject<com.typedb.driver.jni.TypeDBDriver>
         return new TransactionImpl(this, database, type, options);
     }
 
+    @Override
+    public TransactionPool transactionPool(String database, TransactionPoolOptions options) throws TypeDBDriverException {
+        Validator.requireNonNull(database, "database");
+        Validator.requireNonNull(options, "options");
+        return new TransactionPoolImpl(this, database, options);
+    }
+
+    @Override
+    public PartitionedWriter partitionedWriter(String database, String query, PartitionedWriterOptions options) throws TypeDBDriverException {
+        Validator.requireNonNull(database, "database");
+        Validator.requireNonNull(query, "query");
+        Validator.requireNonNull(options, "options");
+        return new PartitionedWriterImpl(this, database, query, options);
+    }
+
+    @Override
+    public Stream<ConceptRow> fanOutRead(String database, String query, List<? extends Map<String, Object>> partitions,
+                                         FanOutReadOptions options) throws TypeDBDriverException {
+        Validator.requireNonNull(database, "database");
+        Validator.requireNonNull(query, "query");
+        Validator.requireNonNull(partitions, "partitions");
+        Validator.requireNonNull(options, "options");
+        return new FanOutRead(this, database, query, partitions, options).stream();
+    }
+
+    @Override
+    public <T> T runInTransaction(String database, Transaction.Type type, TransactionOptions options, RetryOptions retryOptions,
+                                  Function<Transaction, T> work) throws TypeDBDriverException {
+        return transactionRunner.run(database, type, options, retryOptions, work);
+    }
+
+    @Override
+    public TransactionRetryMetrics transactionRetryMetrics() {
+        return transactionRunner;
+    }
+
     @Override
     public Set<? extends Server> servers(ServerRouting serverRouting) {
         try {
@@ -165,6 +270,11 @@ public class DriverImpl extends NativeObject<com.typedb.driver.jni.TypeDBDriver>
         }
     }
 
+    @Override
+    public NativeMemoryUsage nativeMemory() {
+        return NativeMemoryTracker.INSTANCE;
+    }
+
     @Override
     public void close() {
         try {
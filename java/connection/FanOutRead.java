@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.connection;
+
+import com.typedb.driver.api.FanOutReadOptions;
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.ConceptRowIterator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.FAN_OUT_READ_INTERRUPTED;
+
+/**
+ * Runs one query per partition binding in concurrent READ transactions, and merges the answers into one stream.
+ * <p>
+ * Every partition reads into its own bounded buffer, and announces each buffered row, and finally its end,
+ * on a shared queue. The consumer takes announcements in order, so it reads rows in the order they arrived,
+ * and learns that a partition has ended only after it has read all of that partition's rows.
+ */
+class FanOutRead implements Iterator<ConceptRow> {
+    private final DriverImpl driver;
+    private final String database;
+    private final String query;
+    private final FanOutReadOptions options;
+    private final ExecutorService executor;
+    private final BlockingQueue<Partition> announced;
+    private int running;
+    private ConceptRow next;
+    private volatile boolean isCancelled;
+
+    FanOutRead(DriverImpl driver, String database, String query, List<? extends Map<String, Object>> bindings, FanOutReadOptions options) {
+        this.driver = driver;
+        this.database = database;
+        this.query = query;
+        this.options = options;
+        this.announced = new LinkedBlockingQueue<>();
+        this.running = bindings.size();
+        this.isCancelled = false;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, Math.min(options.parallelism(), bindings.size())), runnable -> {
+            Thread thread = new Thread(runnable, "typedb-fan-out-read-" + database);
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (Map<String, Object> binding : bindings) executor.execute(new Partition(binding));
+        executor.shutdown();
+    }
+
+    Stream<ConceptRow> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::cancel);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) return true;
+        while (running > 0) {
+            Partition partition;
+            try {
+                partition = announced.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new TypeDBDriverException(FAN_OUT_READ_INTERRUPTED);
+            }
+            next = partition.rows.poll();
+            if (next != null) return true;
+            running--;
+            if (partition.error != null) {
+                cancel();
+                throw partition.error;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public ConceptRow next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        ConceptRow row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Stops every partition, closing their transactions. Partitions blocked on a full buffer are interrupted.
+     */
+    private void cancel() {
+        isCancelled = true;
+        running = 0;
+        executor.shutdownNow();
+    }
+
+    private class Partition implements Runnable {
+        private final Map<String, Object> binding;
+        private final BlockingQueue<ConceptRow> rows;
+        private volatile RuntimeException error;
+
+        private Partition(Map<String, Object> binding) {
+            this.binding = binding;
+            this.rows = new ArrayBlockingQueue<>(options.bufferSize());
+        }
+
+        @Override
+        public void run() {
+            if (isCancelled) return;
+            try (Transaction transaction = driver.transaction(database, Transaction.Type.READ, options.transactionOptions())) {
+                ConceptRowIterator answers = transaction.query(query, options.queryOptions(), Collections.singletonList(binding))
+                        .resolve().asConceptRows();
+                while (!isCancelled && answers.hasNext()) {
+                    rows.put(answers.next());
+                    announced.add(this);
+                }
+            } catch (InterruptedException e) {
+                // cancelled while the buffer was full
+            } catch (RuntimeException e) {
+                error = e;
+            } finally {
+                announced.add(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.connection;
+
+import com.typedb.driver.api.PartitionedWriter;
+import com.typedb.driver.api.PartitionedWriterOptions;
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.PARTITIONED_WRITER_CLOSED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.PARTITIONED_WRITER_INTERRUPTED;
+
+public class PartitionedWriterImpl implements PartitionedWriter {
+    private static final Batch END = new Batch(Collections.emptyList(), null);
+
+    private final DriverImpl driver;
+    private final String database;
+    private final String query;
+    private final PartitionedWriterOptions options;
+    private final Partition[] partitions;
+    private final LongAdder committedRows;
+    private final AtomicReference<RuntimeException> failure;
+    private volatile boolean isOpen;
+
+    PartitionedWriterImpl(DriverImpl driver, String database, String query, PartitionedWriterOptions options) {
+        this.driver = driver;
+        this.database = database;
+        this.query = query;
+        this.options = options;
+        this.committedRows = new LongAdder();
+        this.failure = new AtomicReference<>();
+        this.isOpen = true;
+        this.partitions = new Partition[options.partitions()];
+        for (int i = 0; i < partitions.length; i++) partitions[i] = new Partition(i);
+        for (Partition partition : partitions) partition.worker.start();
+    }
+
+    @Override
+    public String database() {
+        return database;
+    }
+
+    @Override
+    public int partitions() {
+        return partitions.length;
+    }
+
+    @Override
+    public void write(Object partitionKey, Map<String, Object> row) throws TypeDBDriverException {
+        Validator.requireNonNull(row, "row");
+        throwIfFailed();
+        partitions[partitionOf(partitionKey, partitions.length)].add(row);
+    }
+
+    @Override
+    public void flush() throws TypeDBDriverException {
+        if (!isOpen) throw new TypeDBDriverException(PARTITIONED_WRITER_CLOSED);
+        CountDownLatch flushed = new CountDownLatch(partitions.length);
+        for (Partition partition : partitions) partition.flush(flushed);
+        try {
+            flushed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TypeDBDriverException(PARTITIONED_WRITER_INTERRUPTED);
+        }
+        throwIfFailed();
+    }
+
+    @Override
+    public long committedRows() {
+        return committedRows.sum();
+    }
+
+    @Override
+    public void close() throws TypeDBDriverException {
+        if (!isOpen) return;
+        try {
+            flush();
+        } finally {
+            isOpen = false;
+            for (Partition partition : partitions) partition.stop();
+            try {
+                for (Partition partition : partitions) partition.worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void throwIfFailed() {
+        RuntimeException error = failure.get();
+        if (error != null) throw error;
+    }
+
+    /**
+     * Maps the key to a partition by jump consistent hashing (Lamping and Veach), after spreading its hash code
+     * over 64 bits. Equal keys always map to the same partition, keys are spread evenly over the partitions,
+     * and growing the number of partitions from n to n + 1 only moves 1 / (n + 1) of the keys.
+     */
+    static int partitionOf(Object key, int partitions) {
+        long hash = Objects.hashCode(key);
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        long bucket = -1;
+        long next = 0;
+        while (next < partitions) {
+            bucket = next;
+            hash = hash * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((hash >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+
+    /**
+     * The rows of one partition. Producers fill the buffer and hand it to the worker when full, under the partition's
+     * lock, so that rows of one key are committed in the order they were written. The worker commits each batch
+     * in its own WRITE transaction, and after a failure only drains its queue, so that producers never block on it.
+     */
+    private class Partition implements Runnable {
+        private final BlockingQueue<Batch> batches;
+        private final Thread worker;
+        private List<Map<String, Object>> buffer;
+
+        private Partition(int index) {
+            this.batches = new ArrayBlockingQueue<>(options.maxPendingBatches());
+            this.buffer = new ArrayList<>(options.batchSize());
+            this.worker = new Thread(this, "typedb-partitioned-writer-" + database + "-" + index);
+            this.worker.setDaemon(true);
+        }
+
+        private synchronized void add(Map<String, Object> row) {
+            if (!isOpen) throw new TypeDBDriverException(PARTITIONED_WRITER_CLOSED);
+            buffer.add(row);
+            if (buffer.size() >= options.batchSize()) {
+                enqueue(new Batch(buffer, null));
+                buffer = new ArrayList<>(options.batchSize());
+            }
+        }
+
+        private synchronized void flush(CountDownLatch flushed) {
+            enqueue(new Batch(buffer, flushed));
+            buffer = new ArrayList<>(options.batchSize());
+        }
+
+        private synchronized void stop() {
+            enqueue(END);
+        }
+
+        private void enqueue(Batch batch) {
+            try {
+                batches.put(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TypeDBDriverException(PARTITIONED_WRITER_INTERRUPTED);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Batch batch;
+                try {
+                    batch = batches.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (batch == END) return;
+                if (!batch.rows.isEmpty() && failure.get() == null) commit(batch.rows);
+                if (batch.flushed != null) batch.flushed.countDown();
+            }
+        }
+
+        private void commit(List<Map<String, Object>> rows) {
+            try {
+                driver.runInTransaction(database, Transaction.Type.WRITE, options.transactionOptions(), options.retryOptions(),
+                        transaction -> transaction.query(query, rows).resolve());
+                committedRows.add(rows.size());
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    private static class Batch {
+        private final List<Map<String, Object>> rows;
+        private final CountDownLatch flushed;
+
+        private Batch(List<Map<String, Object>> rows, CountDownLatch flushed) {
+            this.rows = rows;
+            this.flushed = flushed;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.connection;
+
+import com.typedb.driver.api.PreparedQuery;
+import com.typedb.driver.api.answer.QueryAnswer;
+import com.typedb.driver.api.concept.GivenRows;
+import com.typedb.driver.common.NativeObject;
+import com.typedb.driver.common.Promise;
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.GivenRowsImpl;
+
+import java.util.List;
+import java.util.Map;
+
+public class PreparedQueryImpl extends NativeObject<com.typedb.driver.jni.PreparedQuery> implements PreparedQuery {
+    private final TransactionImpl transaction;
+    private final String query;
+
+    PreparedQueryImpl(TransactionImpl transaction, String query, com.typedb.driver.jni.PreparedQuery nativeObject) {
+        super(nativeObject);
+        this.transaction = transaction;
+        this.query = query;
+    }
+
+    @Override
+    public String query() {
+        return query;
+    }
+
+    @Override
+    public Promise<? extends QueryAnswer> execute() throws TypeDBDriverException {
+        return transaction.execute(this, null);
+    }
+
+    @Override
+    public Promise<? extends QueryAnswer> execute(GivenRows givenRows) throws TypeDBDriverException {
+        Validator.requireNonNull(givenRows, "givenRows");
+        return transaction.execute(this, givenRows);
+    }
+
+    @Override
+    public Promise<? extends QueryAnswer> execute(List<? extends Map<String, Object>> givenRows) throws TypeDBDriverException {
+        return execute(GivenRowsImpl.ofObjects(givenRows));
+    }
+
+    @Override
+    public Promise<? extends QueryAnswer> execute(List<String> givenVariables, List<? extends List<Object>> givenRows) throws TypeDBDriverException {
+        return execute(GivenRowsImpl.ofObjects(givenVariables, givenRows));
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.connection;
+
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.QueryAnswer;
+import com.typedb.driver.api.concept.type.Type;
+import com.typedb.driver.api.database.SchemaModel;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+public class SchemaModelImpl implements SchemaModel {
+    private static final List<String> QUERIES = List.of(
+            "match entity $t;",
+            "match relation $t;",
+            "match attribute $t;",
+            "match $t sub! $s;",
+            "match $t owns $s;",
+            "match $t plays $s;",
+            "match $t relates $s;"
+    );
+
+    private final String typeSchema;
+    private final Map<String, TypeDefinitionImpl> types;
+
+    private SchemaModelImpl(String typeSchema, Map<String, TypeDefinitionImpl> types) {
+        this.typeSchema = typeSchema;
+        this.types = Collections.unmodifiableMap(types);
+    }
+
+    /**
+     * Builds the model of the schema visible to the given transaction, sending all schema queries in one batch.
+     */
+    static SchemaModelImpl load(Transaction transaction, String typeSchema) {
+        List<QueryAnswer> answers = transaction.queryBatch(QUERIES).resolve();
+        Map<String, TypeDefinitionImpl> types = new LinkedHashMap<>();
+        answers.get(0).asConceptRows().stream().forEach(row -> addType(types, row, Kind.ENTITY));
+        answers.get(1).asConceptRows().stream().forEach(row -> addType(types, row, Kind.RELATION));
+        answers.get(2).asConceptRows().stream().forEach(row -> addType(types, row, Kind.ATTRIBUTE));
+        link(types, answers.get(3), (type, supertype) -> type.supertype = supertype);
+        link(types, answers.get(4), (type, attributeType) -> type.owns.add(attributeType));
+        link(types, answers.get(5), (type, roleType) -> type.plays.add(roleType));
+        link(types, answers.get(6), (type, roleType) -> type.relates.add(roleType));
+        types.values().forEach(TypeDefinitionImpl::freeze);
+        return new SchemaModelImpl(typeSchema, types);
+    }
+
+    private static void addType(Map<String, TypeDefinitionImpl> types, ConceptRow row, Kind kind) {
+        Type type = row.get("t").get().asType();
+        types.put(type.getLabel(), new TypeDefinitionImpl(type.getLabel(), kind, type.tryGetValueType().orElse(null)));
+    }
+
+    private static void link(Map<String, TypeDefinitionImpl> types, QueryAnswer answer, BiConsumer<TypeDefinitionImpl, String> linker) {
+        answer.asConceptRows().stream().forEach(row -> {
+            // Role types are not modelled as types of their own, and only appear as the targets of links
+            TypeDefinitionImpl type = types.get(row.get("t").get().getLabel());
+            if (type != null) linker.accept(type, row.get("s").get().getLabel());
+        });
+    }
+
+    @Override
+    public Optional<TypeDefinition> get(String label) {
+        return Optional.ofNullable(types.get(label));
+    }
+
+    @Override
+    public Stream<TypeDefinition> types() {
+        return types.values().stream().map(type -> type);
+    }
+
+    @Override
+    public String typeSchema() {
+        return typeSchema;
+    }
+
+    @Override
+    public String toString() {
+        return typeSchema;
+    }
+
+    private enum Kind {
+        ENTITY,
+        RELATION,
+        ATTRIBUTE
+    }
+
+    private static class TypeDefinitionImpl implements TypeDefinition {
+        private final String label;
+        private final Kind kind;
+        private final String valueType;
+        private String supertype;
+        private Set<String> owns;
+        private Set<String> plays;
+        private Set<String> relates;
+
+        private TypeDefinitionImpl(String label, Kind kind, String valueType) {
+            this.label = label;
+            this.kind = kind;
+            this.valueType = valueType;
+            this.supertype = null;
+            this.owns = new LinkedHashSet<>();
+            this.plays = new LinkedHashSet<>();
+            this.relates = new LinkedHashSet<>();
+        }
+
+        private void freeze() {
+            owns = Collections.unmodifiableSet(owns);
+            plays = Collections.unmodifiableSet(plays);
+            relates = Collections.unmodifiableSet(relates);
+        }
+
+        @Override
+        public String label() {
+            return label;
+        }
+
+        @Override
+        public boolean isEntityType() {
+            return kind == Kind.ENTITY;
+        }
+
+        @Override
+        public boolean isRelationType() {
+            return kind == Kind.RELATION;
+        }
+
+        @Override
+        public boolean isAttributeType() {
+            return kind == Kind.ATTRIBUTE;
+        }
+
+        @Override
+        public Optional<String> supertype() {
+            return Optional.ofNullable(supertype);
+        }
+
+        @Override
+        public Set<String> owns() {
+            return owns;
+        }
+
+        @Override
+        public Set<String> plays() {
+            return plays;
+        }
+
+        @Override
+        public Set<String> relates() {
+            return relates;
+        }
+
+        @Override
+        public Optional<String> valueType() {
+            return Optional.ofNullable(valueType);
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+}
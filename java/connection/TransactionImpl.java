@@ -19,60 +19,126 @@
 
 package com.typedb.driver.connection;
 
+import com.typedb.driver.analyze.AnalyzedQueryCache;
 import com.typedb.driver.analyze.AnalyzedQueryImpl;
 import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.PreparedQuery;
+import com.typedb.driver.api.QueryBatch;
 import com.typedb.driver.api.QueryOptions;
+import com.typedb.driver.api.Tracer;
 import com.typedb.driver.api.Transaction;
 import com.typedb.driver.api.TransactionOptions;
 import com.typedb.driver.api.analyze.AnalyzedQuery;
 import com.typedb.driver.api.answer.QueryAnswer;
+import com.typedb.driver.common.Blocking;
 import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.Promise;
 import com.typedb.driver.common.Validator;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.answer.QueryAnswerImpl;
+import com.typedb.driver.answer.QueryResultCache;
 import com.typedb.driver.api.concept.GivenRows;
 import com.typedb.driver.concept.GivenRowsImpl;
+import com.typedb.driver.concept.type.TypeCache;
+import com.typedb.driver.jni.AnalyzedQueryPromise;
+import com.typedb.driver.jni.PromiseCallbackDirector;
+import com.typedb.driver.jni.QueryAnswerPromise;
+import com.typedb.driver.jni.VoidPromise;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
 import static com.typedb.driver.jni.typedb_driver.transaction_analyze;
 import static com.typedb.driver.jni.typedb_driver.transaction_commit;
+import static com.typedb.driver.jni.typedb_driver.transaction_execute_prepared;
 import static com.typedb.driver.jni.typedb_driver.transaction_close;
 import static com.typedb.driver.jni.typedb_driver.transaction_is_open;
 import static com.typedb.driver.jni.typedb_driver.transaction_new;
+import static com.typedb.driver.jni.typedb_driver.transaction_new_traced;
 import static com.typedb.driver.jni.typedb_driver.transaction_on_close;
+import static com.typedb.driver.jni.typedb_driver.transaction_prepare;
 import static com.typedb.driver.jni.typedb_driver.transaction_query;
 import static com.typedb.driver.jni.typedb_driver.transaction_query_given_rows;
 import static com.typedb.driver.jni.typedb_driver.transaction_rollback;
 
 public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transaction> implements Transaction {
     private final Transaction.Type type;
+    private final String database;
     private final TransactionOptions options;
+    private final Tracer tracer;
+    private final DriverImpl driver;
+    private final AnalyzedQueryCache analyzeCache;
+    private final QueryResultCache queryCache;
+    private final long queryCacheGeneration;
+    private final TypeCache.SchemaTypes types;
+    private Tracer.Span span;
 
     private final List<TransactionOnClose> callbacks;
 
     TransactionImpl(Driver driver, String database, Type type, TransactionOptions options) throws TypeDBDriverException {
-        super(newNative(driver, database, type, options));
+        this(driver, database, type, options, startTransactionSpan(((DriverImpl) driver).tracer(), database, type), queryCacheGeneration(driver, database, type));
+    }
+
+    private TransactionImpl(Driver driver, String database, Type type, TransactionOptions options, Tracer.Span span, long queryCacheGeneration) throws TypeDBDriverException {
+        super(newNative(driver, database, type, options, span), true);
         this.type = type;
+        this.database = database;
         this.options = options;
+        this.tracer = ((DriverImpl) driver).tracer();
+        this.driver = (DriverImpl) driver;
+        this.analyzeCache = this.driver.analyzeCache();
+        // Only READ transactions see exactly the committed state, so only they share query answers
+        this.queryCache = type == Type.READ ? this.driver.queryCache() : null;
+        this.queryCacheGeneration = queryCacheGeneration;
+        // A schema transaction can redefine types under an existing label, so it does not share them
+        this.types = type == Type.SCHEMA ? null : this.driver.typeCache().schemaTypes(database);
+        this.span = span;
 
         callbacks = new ArrayList<>();
     }
 
-    private static com.typedb.driver.jni.Transaction newNative(Driver driver, String database, Type type, TransactionOptions options) {
+    private static com.typedb.driver.jni.Transaction newNative(Driver driver, String database, Type type, TransactionOptions options, Tracer.Span span) {
         try {
-            return transaction_new(((DriverImpl) driver).nativeObject, database, type.nativeObject, options.nativeObject);
+            String traceParent = span == null ? null : span.traceParent();
+            if (traceParent == null) {
+                return transaction_new(((DriverImpl) driver).nativeObject, database, type.nativeObject, options.nativeObject);
+            } else {
+                return transaction_new_traced(((DriverImpl) driver).nativeObject, database, type.nativeObject, options.nativeObject, traceParent);
+            }
         } catch (com.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
+            TypeDBDriverException error = new TypeDBDriverException(e);
+            endSpan(span, error);
+            throw error;
         }
     }
 
+    /**
+     * Captured before the transaction opens, so that answers read from a snapshot older than a concurrent commit
+     * through this driver are never cached.
+     */
+    private static long queryCacheGeneration(Driver driver, String database, Type type) {
+        QueryResultCache cache = ((DriverImpl) driver).queryCache();
+        return type == Type.READ && cache != null ? cache.generation(database) : 0;
+    }
+
+    private static Tracer.Span startTransactionSpan(Tracer tracer, String database, Type type) {
+        if (tracer == null) return null;
+        Tracer.Span span = tracer.startSpan(Tracer.TRANSACTION_SPAN, null);
+        span.setAttribute(Tracer.DATABASE_ATTRIBUTE, database);
+        span.setAttribute(Tracer.TRANSACTION_TYPE_ATTRIBUTE, type.name());
+        return span;
+    }
+
     @Override
     public Type getType() {
         return type;
@@ -97,11 +163,16 @@ public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transact
     @Override
     public Promise<? extends QueryAnswer> query(String query, QueryOptions options) throws TypeDBDriverException {
         Validator.requireNonNull(query, "query");
-        try {
-            return Promise.map(transaction_query(nativeObject, query, options.nativeObject), QueryAnswerImpl::of);
-        } catch (com.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cached(query, options, () -> null, () -> {
+            Tracer.Span querySpan = startSpan(Tracer.QUERY_SPAN, query);
+            try {
+                return traced(querySpan, transaction_query(nativeObject, query, options.nativeObject), QueryAnswerPromise::onComplete, answer -> traceStream(QueryAnswerImpl.of(answer, types), querySpan));
+            } catch (com.typedb.driver.jni.Error e) {
+                TypeDBDriverException error = new TypeDBDriverException(e);
+                endSpan(querySpan, error);
+                throw error;
+            }
+        });
     }
 
     @Override
@@ -111,41 +182,134 @@ public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transact
 
     @Override
     public Promise<? extends QueryAnswer> query(String query, List<? extends Map<String, Object>> givenRows) throws TypeDBDriverException {
-        return query(query, GivenRowsImpl.ofObjects(givenRows));
+        return query(query, new QueryOptions(), givenRows);
     }
 
     @Override
     public Promise<? extends QueryAnswer> query(String query, List<String> givenVariables, List<? extends List<Object>> givenRows) throws TypeDBDriverException {
-        return query(query, GivenRowsImpl.ofObjects(givenVariables, givenRows));
+        return query(query, new QueryOptions(), givenVariables, givenRows);
     }
 
     @Override
     public Promise<? extends QueryAnswer> query(String query, QueryOptions options, List<? extends Map<String, Object>> givenRows) throws TypeDBDriverException {
-        return query(query, options, GivenRowsImpl.ofObjects(givenRows));
+        return cached(query, options, () -> givenRows.stream().map(HashMap::new).collect(Collectors.toList()),
+                () -> query(query, options, GivenRowsImpl.ofObjects(givenRows)));
     }
 
     @Override
     public Promise<? extends QueryAnswer> query(String query, QueryOptions options, List<String> givenVariables, List<? extends List<Object>> givenRows) throws TypeDBDriverException {
-        return query(query, options, GivenRowsImpl.ofObjects(givenVariables, givenRows));
+        return cached(query, options, () -> Arrays.asList(new ArrayList<>(givenVariables), givenRows.stream().map(ArrayList::new).collect(Collectors.toList())),
+                () -> query(query, options, GivenRowsImpl.ofObjects(givenVariables, givenRows)));
+    }
+
+    /**
+     * Replays the cached answer of a READ query if there is one, and otherwise records the answer as it is consumed.
+     * The given rows key is only built when the cache is enabled.
+     */
+    private Promise<? extends QueryAnswer> cached(String query, QueryOptions options, Supplier<Object> givenRowsKey,
+                                                  Supplier<Promise<? extends QueryAnswer>> execute) {
+        if (queryCache == null) return execute.get();
+        QueryResultCache.Key key = QueryResultCache.key(query, options, givenRowsKey.get());
+        QueryAnswer cached = queryCache.get(database, queryCacheGeneration, key, types);
+        if (cached != null) return new Promise<>(() -> cached);
+        Promise<? extends QueryAnswer> answer = execute.get();
+        return new Promise<>(() -> queryCache.record(database, queryCacheGeneration, key, answer.resolve()));
     }
 
     @Override
     public Promise<? extends QueryAnswer> query(String query, QueryOptions options, GivenRows givenRows) throws TypeDBDriverException {
         Validator.requireNonNull(query, "query");
+        Tracer.Span querySpan = startSpan(Tracer.QUERY_SPAN, query);
+        try {
+            return traced(querySpan, transaction_query_given_rows(nativeObject, query, options.nativeObject, ((GivenRowsImpl)givenRows).nativeObject.released()), QueryAnswerPromise::onComplete, answer -> traceStream(QueryAnswerImpl.of(answer, types), querySpan));
+        } catch (com.typedb.driver.jni.Error e) {
+            TypeDBDriverException error = new TypeDBDriverException(e);
+            endSpan(querySpan, error);
+            throw error;
+        }
+    }
+
+    @Override
+    public Promise<List<QueryAnswer>> queryBatch(QueryBatch batch) throws TypeDBDriverException {
+        Validator.requireNonNull(batch, "batch");
+        // every query is enqueued before any answer is awaited, so the dispatcher sends them in as few messages as possible
+        List<Promise<? extends QueryAnswer>> promises = new ArrayList<>(batch.size());
+        for (QueryBatch.Entry entry : batch.entries()) {
+            try {
+                if (entry.givenRows() == null) promises.add(query(entry.query(), entry.options()));
+                else promises.add(query(entry.query(), entry.options(), entry.givenRows()));
+            } catch (RuntimeException e) {
+                // the queries already sent still run on the server, so their answers are awaited before failing
+                for (Promise<? extends QueryAnswer> promise : promises) {
+                    try {
+                        promise.resolve();
+                    } catch (RuntimeException suppressed) {
+                        e.addSuppressed(suppressed);
+                    }
+                }
+                throw e;
+            }
+        }
+        return new Promise<>(() -> {
+            List<QueryAnswer> answers = new ArrayList<>(promises.size());
+            TypeDBDriverException error = null;
+            for (Promise<? extends QueryAnswer> promise : promises) {
+                try {
+                    answers.add(promise.resolve());
+                } catch (TypeDBDriverException e) {
+                    if (error == null) error = e;
+                }
+            }
+            if (error != null) throw error;
+            return answers;
+        });
+    }
+
+    @Override
+    public PreparedQuery prepare(String query, QueryOptions options) throws TypeDBDriverException {
+        Validator.requireNonNull(query, "query");
+        Validator.requireNonNull(options, "options");
         try {
-            return Promise.map(transaction_query_given_rows(nativeObject, query, options.nativeObject, ((GivenRowsImpl)givenRows).nativeObject.released()), QueryAnswerImpl::of);
+            return new PreparedQueryImpl(this, query, transaction_prepare(nativeObject, query, options.nativeObject));
         } catch (com.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
     }
 
+    Promise<? extends QueryAnswer> execute(PreparedQueryImpl preparedQuery, GivenRows givenRows) throws TypeDBDriverException {
+        Tracer.Span querySpan = startSpan(Tracer.QUERY_SPAN, preparedQuery.query());
+        try {
+            com.typedb.driver.jni.GivenRows nativeGivenRows = givenRows == null ? null : ((GivenRowsImpl) givenRows).nativeObject.released();
+            return traced(querySpan, transaction_execute_prepared(nativeObject, preparedQuery.nativeObject, nativeGivenRows), QueryAnswerPromise::onComplete, answer -> traceStream(QueryAnswerImpl.of(answer, types), querySpan));
+        } catch (com.typedb.driver.jni.Error e) {
+            TypeDBDriverException error = new TypeDBDriverException(e);
+            endSpan(querySpan, error);
+            throw error;
+        }
+    }
+
     @Override
     public Promise<? extends AnalyzedQuery> analyze(String query) throws TypeDBDriverException {
         Validator.requireNonNull(query, "query");
+        // A schema transaction analyzes against its own uncommitted schema, so it bypasses the cache
+        AnalyzedQueryCache cache = type == Type.SCHEMA ? null : analyzeCache;
+        if (cache != null) {
+            AnalyzedQueryImpl cached = cache.get(database, query);
+            if (cached != null) return new Promise<>(() -> cached);
+        }
+        Tracer.Span analyzeSpan = startSpan(Tracer.ANALYZE_SPAN, query);
         try {
-            return Promise.map(transaction_analyze(nativeObject, query), AnalyzedQueryImpl::new);
+            if (cache == null) return traced(analyzeSpan, transaction_analyze(nativeObject, query), AnalyzedQueryPromise::onComplete, AnalyzedQueryImpl::new);
+            long generation = cache.generation(database);
+            return traced(analyzeSpan, transaction_analyze(nativeObject, query), AnalyzedQueryPromise::onComplete, nativeAnalyzed -> {
+                AnalyzedQueryImpl analyzed = new AnalyzedQueryImpl(nativeAnalyzed);
+                cache.put(database, generation, query, analyzed);
+                return analyzed;
+            });
         } catch (com.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
+            TypeDBDriverException error = new TypeDBDriverException(e);
+            endSpan(analyzeSpan, error);
+            throw error;
         }
     }
 
@@ -164,11 +328,20 @@ public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transact
     @Override
     public void commit() throws TypeDBDriverException {
         if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        Tracer.Span commitSpan = startSpan(Tracer.COMMIT_SPAN, null);
         try {
             // NOTE: .released() relinquishes ownership of the native object to the Rust side
-            transaction_commit(nativeObject.released()).get();
+            markClosed();
+            Blocking.resolve(transaction_commit(nativeObject.released()), VoidPromise::onComplete);
+            if (type == Type.SCHEMA) driver.invalidateSchema(database);
+            else if (type == Type.WRITE) driver.invalidateData(database);
+            endSpan(commitSpan, null);
+            endTransactionSpan(null);
         } catch (com.typedb.driver.jni.Error.Unchecked e) {
-            throw new TypeDBDriverException(e);
+            TypeDBDriverException error = new TypeDBDriverException(e);
+            endSpan(commitSpan, error);
+            endTransactionSpan(error);
+            throw error;
         }
     }
 
@@ -176,7 +349,7 @@ public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transact
     public void rollback() throws TypeDBDriverException {
         if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         try {
-            transaction_rollback(nativeObject).get();
+            Blocking.resolve(transaction_rollback(nativeObject), VoidPromise::onComplete);
         } catch (com.typedb.driver.jni.Error.Unchecked e) {
             throw new TypeDBDriverException(e);
         }
@@ -185,16 +358,65 @@ public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transact
     @Override
     public void close() throws TypeDBDriverException {
         if (nativeObject.isOwned()) {
+            markClosed();
             try {
-                transaction_close(nativeObject).get();
+                Blocking.resolve(transaction_close(nativeObject), VoidPromise::onComplete);
+                endTransactionSpan(null);
             } catch (com.typedb.driver.jni.Error error) {
-                throw new TypeDBDriverException(error);
+                TypeDBDriverException exception = new TypeDBDriverException(error);
+                endTransactionSpan(exception);
+                throw exception;
             } finally {
                 callbacks.clear();
             }
         }
     }
 
+    private Tracer.Span startSpan(String name, String query) {
+        if (tracer == null) return null;
+        Tracer.Span operationSpan = tracer.startSpan(name, span);
+        if (query != null) operationSpan.setAttribute(Tracer.QUERY_ATTRIBUTE, query);
+        return operationSpan;
+    }
+
+    private <P extends Supplier<T>, T, U> Promise<U> traced(Tracer.Span operationSpan, P nativePromise,
+                                                            BiFunction<P, PromiseCallbackDirector, P> onComplete, Function<T, U> fn) {
+        // only the native resolution is waited on through Blocking, the mapping runs on the resolving thread
+        Supplier<T> promise = () -> Blocking.resolve(nativePromise, onComplete);
+        if (operationSpan == null) return Promise.map(promise, fn);
+        return new Promise<>(() -> {
+            try {
+                T res = promise.get();
+                U mapped = res == null ? null : fn.apply(res);
+                endSpan(operationSpan, null);
+                return mapped;
+            } catch (RuntimeException e) {
+                endSpan(operationSpan, e);
+                throw e;
+            }
+        });
+    }
+
+    private QueryAnswerImpl traceStream(QueryAnswerImpl answer, Tracer.Span querySpan) {
+        if (querySpan != null && !answer.isOk()) {
+            Tracer.Span streamSpan = tracer.startSpan(Tracer.STREAM_SPAN, querySpan);
+            answer.onStreamFinished(error -> endSpan(streamSpan, error));
+        }
+        return answer;
+    }
+
+    private void endTransactionSpan(Throwable error) {
+        Tracer.Span transactionSpan = span;
+        span = null;
+        endSpan(transactionSpan, error);
+    }
+
+    private static void endSpan(Tracer.Span span, Throwable error) {
+        if (span == null) return;
+        if (error != null) span.recordException(error);
+        span.end();
+    }
+
     static class TransactionOnClose extends com.typedb.driver.jni.TransactionCallbackDirector {
         private final Consumer<Throwable> function;
 
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.connection;
+
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.TransactionPool;
+import com.typedb.driver.api.TransactionPoolOptions;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_POOL_CLOSED;
+
+public class TransactionPoolImpl implements TransactionPool {
+    private static final long MIN_MAINTENANCE_INTERVAL_MILLIS = 10;
+
+    private final DriverImpl driver;
+    private final String database;
+    private final TransactionPoolOptions options;
+    private final long maxAgeNanos;
+    private final ConcurrentLinkedDeque<Warm> warm;
+    private final ScheduledExecutorService maintainer;
+    private volatile boolean isOpen;
+
+    TransactionPoolImpl(DriverImpl driver, String database, TransactionPoolOptions options) {
+        this.driver = driver;
+        this.database = database;
+        this.options = options;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(options.maxAgeMillis());
+        this.warm = new ConcurrentLinkedDeque<>();
+        this.maintainer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "typedb-transaction-pool-" + database);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.isOpen = true;
+        long interval = Math.max(options.maxAgeMillis() / 2, MIN_MAINTENANCE_INTERVAL_MILLIS);
+        maintainer.scheduleWithFixedDelay(this::maintain, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public String database() {
+        return database;
+    }
+
+    @Override
+    public Transaction acquire() throws TypeDBDriverException {
+        if (!isOpen) throw new TypeDBDriverException(TRANSACTION_POOL_CLOSED);
+        long now = System.nanoTime();
+        Warm candidate;
+        while ((candidate = warm.pollFirst()) != null) {
+            if (candidate.isFresh(now) && candidate.transaction.isOpen()) {
+                submit(this::maintain);
+                return candidate.transaction;
+            }
+            Warm stale = candidate;
+            submit(() -> closeQuietly(stale.transaction));
+        }
+        submit(this::maintain);
+        return open();
+    }
+
+    @Override
+    public int available() {
+        return warm.size();
+    }
+
+    @Override
+    public void close() {
+        isOpen = false;
+        maintainer.shutdownNow();
+        Warm candidate;
+        while ((candidate = warm.pollFirst()) != null) closeQuietly(candidate.transaction);
+    }
+
+    private Transaction open() {
+        return driver.transaction(database, Transaction.Type.READ, options.transactionOptions());
+    }
+
+    /**
+     * Replaces stale transactions and tops the pool up to its configured size. Runs on the maintenance thread only.
+     * The freshest transactions are kept at the head of the deque, so that acquiring prefers the most recent snapshot.
+     */
+    private void maintain() {
+        long now = System.nanoTime();
+        Warm oldest;
+        while ((oldest = warm.peekLast()) != null && !oldest.isFresh(now)) {
+            if (warm.removeLastOccurrence(oldest)) closeQuietly(oldest.transaction);
+        }
+        try {
+            while (isOpen && warm.size() < options.size()) {
+                warm.addFirst(new Warm(open(), System.nanoTime()));
+            }
+        } catch (RuntimeException e) {
+            // the server is unreachable or refused the transaction; acquire() opens directly and surfaces the error.
+            // Nothing may escape: an exception thrown from a scheduled task cancels all of its later runs.
+        }
+        if (!isOpen) {
+            Warm candidate;
+            while ((candidate = warm.pollFirst()) != null) closeQuietly(candidate.transaction);
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            maintainer.execute(task);
+        } catch (RejectedExecutionException e) {
+            // the pool was closed concurrently
+        }
+    }
+
+    private static void closeQuietly(Transaction transaction) {
+        try {
+            transaction.close();
+        } catch (RuntimeException e) {
+            // the transaction was never going to be used again
+        }
+    }
+
+    private class Warm {
+        private final Transaction transaction;
+        private final long openedNanos;
+
+        private Warm(Transaction transaction, long openedNanos) {
+            this.transaction = transaction;
+            this.openedNanos = openedNanos;
+        }
+
+        private boolean isFresh(long now) {
+            return now - openedNanos < maxAgeNanos;
+        }
+    }
+}
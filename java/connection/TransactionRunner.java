@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.connection;
+
+import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.RetryOptions;
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.TransactionOptions;
+import com.typedb.driver.api.TransactionRetryMetrics;
+import com.typedb.driver.common.Validator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Runs work in transactions for a driver, retrying it with jittered exponential backoff.
+ * <p>
+ * Retries are drawn from a token bucket shared by all runs on the driver: every run deposits a fraction of a token,
+ * and every retry withdraws a whole one. When most runs conflict, retries are therefore bounded by a fixed percentage
+ * of the offered load, instead of multiplying it.
+ */
+class TransactionRunner implements TransactionRetryMetrics {
+    private static final double INITIAL_TOKENS = 10;
+    private static final double MAX_TOKENS = 100;
+
+    private final Driver driver;
+    private final double tokensPerRun;
+    private double tokens;
+
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    TransactionRunner(Driver driver, int retryBudgetPercent) {
+        this.driver = driver;
+        this.tokensPerRun = retryBudgetPercent / 100.0;
+        this.tokens = INITIAL_TOKENS;
+    }
+
+    <T> T run(String database, Transaction.Type type, TransactionOptions options, RetryOptions retryOptions,
+              Function<Transaction, T> work) throws TypeDBDriverException {
+        Validator.requireNonNull(database, "database");
+        Validator.requireNonNull(type, "type");
+        Validator.requireNonNull(options, "options");
+        Validator.requireNonNull(retryOptions, "retryOptions");
+        Validator.requireNonNull(work, "work");
+        deposit();
+        for (int attempt = 1; ; attempt++) {
+            attempts.increment();
+            try (Transaction transaction = driver.transaction(database, type, options)) {
+                T result = work.apply(transaction);
+                if (type != Transaction.Type.READ && transaction.isOpen()) transaction.commit();
+                succeeded.increment();
+                return result;
+            } catch (TypeDBDriverException e) {
+                if (RetryOptions.isConflict(e)) conflicts.increment();
+                if (attempt >= retryOptions.maxAttempts() || !retryOptions.retryIf().test(e)) {
+                    failed.increment();
+                    throw e;
+                }
+                if (!withdraw()) {
+                    budgetExhausted.increment();
+                    failed.increment();
+                    throw e;
+                }
+                retries.increment();
+                try {
+                    Thread.sleep(backoffMillis(retryOptions, attempt));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    failed.increment();
+                    throw e;
+                }
+            } catch (RuntimeException | Error e) {
+                failed.increment();
+                throw e;
+            }
+        }
+    }
+
+    private static long backoffMillis(RetryOptions retryOptions, int attempt) {
+        long bound = retryOptions.initialBackoffMillis();
+        for (int i = 1; i < attempt && bound < retryOptions.maxBackoffMillis(); i++) bound *= 2;
+        bound = Math.min(bound, retryOptions.maxBackoffMillis());
+        return bound == 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    private synchronized void deposit() {
+        tokens = Math.min(MAX_TOKENS, tokens + tokensPerRun);
+    }
+
+    private synchronized boolean withdraw() {
+        if (tokens < 1) return false;
+        tokens -= 1;
+        return true;
+    }
+
+    @Override
+    public long attempts() {
+        return attempts.sum();
+    }
+
+    @Override
+    public long retries() {
+        return retries.sum();
+    }
+
+    @Override
+    public long conflicts() {
+        return conflicts.sum();
+    }
+
+    @Override
+    public long succeeded() {
+        return succeeded.sum();
+    }
+
+    @Override
+    public long failed() {
+        return failed.sum();
+    }
+
+    @Override
+    public long budgetExhausted() {
+        return budgetExhausted.sum();
+    }
+}
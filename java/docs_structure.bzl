@@ -80,10 +80,14 @@ dir_mapping = {
     "ConceptRow.adoc": "answer",
     "ConceptRowIterator.adoc": "answer",
     "JSON.adoc": "answer",
+    "MaterializedRow.adoc": "answer",
+    "MaterializedRow.Kind.adoc": "answer",
+    "MaterializedRows.adoc": "answer",
     "OkQueryAnswer.adoc": "answer",
     "Promise_T_.adoc": "answer",
     "QueryAnswer.adoc": "answer",
     "QueryType.adoc": "answer",
+    "RowMapper_T_.adoc": "answer",
 
     # Concept
     "Concept.adoc": "concept",
@@ -95,12 +99,18 @@ dir_mapping = {
     "Driver.adoc": "connection",
     "DriverOptions.adoc": "connection",
     "DriverTlsConfig.adoc": "connection",
+    "ImportOptions.adoc": "connection",
+    "ImportProgress.adoc": "connection",
     "ReplicationRole.adoc": "connection",
     "Server.adoc": "connection",
     "ServerRouting.adoc": "connection",
     "ServerRouting.Auto.adoc": "connection",
     "ServerRouting.Direct.adoc": "connection",
     "ServerVersion.adoc": "connection",
+    "Tracer.adoc": "connection",
+    "Tracer.Span.adoc": "connection",
+    "NativeMemoryUsage.adoc": "connection",
+    "NativeMemoryUsage.Tracking.adoc": "connection",
     "TypeDB.adoc": "connection",
     "User.adoc": "connection",
     "UserManager.adoc": "connection",
@@ -108,6 +118,7 @@ dir_mapping = {
     # Data
     "Attribute.adoc": "data",
     "Entity.adoc": "data",
+    "IID.adoc": "data",
     "Instance.adoc": "data",
     "Relation.adoc": "data",
     "Value.adoc": "data",
@@ -122,14 +133,26 @@ dir_mapping = {
     "EntityType.adoc": "schema",
     "RelationType.adoc": "schema",
     "RoleType.adoc": "schema",
+    "SchemaModel.adoc": "schema",
+    "SchemaModel.TypeDefinition.adoc": "schema",
     "Type.adoc": "schema",
     "Value.Type.adoc": "schema",
 
     # Transaction
+    "FanOutReadOptions.adoc": "transaction",
+    "PartitionedWriter.adoc": "transaction",
+    "PartitionedWriterOptions.adoc": "transaction",
+    "PreparedQuery.adoc": "transaction",
+    "QueryBatch.adoc": "transaction",
+    "QueryBatch.Entry.adoc": "transaction",
     "QueryOptions.adoc": "transaction",
+    "RetryOptions.adoc": "transaction",
     "Transaction.adoc": "transaction",
     "Transaction.Type.adoc": "transaction",
     "TransactionOptions.adoc": "transaction",
+    "TransactionPool.adoc": "transaction",
+    "TransactionPoolOptions.adoc": "transaction",
+    "TransactionRetryMetrics.adoc": "transaction",
 
     # Value
     "Duration.adoc": "value",
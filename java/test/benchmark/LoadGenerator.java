@@ -0,0 +1,553 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.benchmark;
+
+import com.typedb.driver.TypeDB;
+import com.typedb.driver.api.Credentials;
+import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.DriverOptions;
+import com.typedb.driver.api.DriverTlsConfig;
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.TransactionPool;
+import com.typedb.driver.api.TransactionPoolOptions;
+import com.typedb.driver.api.answer.ConceptDocumentIterator;
+import com.typedb.driver.api.answer.ConceptRowIterator;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives a configurable mix of operations against a local TypeDB server from many threads, and reports
+ * the throughput and latency percentiles of every operation, together with the CPU time, allocation
+ * and garbage collection of the driver process over the measured interval.
+ * <p>
+ * Every argument is optional and given as <code>--name=value</code>:
+ * <pre>
+ * --address=localhost:1729   --username=admin   --password=password   --database=load-generator
+ * --threads=8                --virtual-threads=false (requires a Java 21+ runtime)
+ * --warmup-seconds=5         --seconds=30
+ * --people=10000             --friendships=20000  --insert-batch=10      --pool=true
+ * --mix=point-read:50,traversal:20,fetch:10,insert:10,commit:10
+ * </pre>
+ * The database is recreated and seeded with people and friendships before the run.
+ * Operations of the mix:
+ * <ul>
+ * <li><code>point-read</code>: reads one person by key in a READ transaction</li>
+ * <li><code>traversal</code>: reads the names of one person's friends in a READ transaction</li>
+ * <li><code>fetch</code>: fetches one person as a document in a READ transaction</li>
+ * <li><code>insert</code>: inserts <code>insert-batch</code> new people as given rows, and commits</li>
+ * <li><code>commit</code>: inserts a single friendship, and commits</li>
+ * </ul>
+ */
+public class LoadGenerator {
+    private static final String SCHEMA = "define " +
+            "attribute lg-id, value integer; " +
+            "attribute lg-name, value string; " +
+            "entity lg-person, owns lg-id @key, owns lg-name, plays lg-friendship:friend; " +
+            "relation lg-friendship, relates friend @card(0..2);";
+    private static final String INSERT_PERSON = "insert $p isa lg-person, has lg-id $id, has lg-name $name;";
+    private static final String INSERT_FRIENDSHIP = "match $a isa lg-person, has lg-id $from; $b isa lg-person, has lg-id $to; " +
+            "insert lg-friendship (friend: $a, friend: $b);";
+    private static final String POINT_READ = "match $p isa lg-person, has lg-id $id, has lg-name $name;";
+    private static final String TRAVERSAL = "match $p isa lg-person, has lg-id $id; lg-friendship (friend: $p, friend: $q); " +
+            "$q has lg-name $name;";
+    private static final String FETCH = "match $p isa lg-person, has lg-id $id; fetch { \"id\": $p.lg-id, \"name\": $p.lg-name };";
+    private static final int SEED_BATCH = 1000;
+
+    private enum Operation {
+        POINT_READ("point-read"),
+        TRAVERSAL("traversal"),
+        FETCH("fetch"),
+        INSERT("insert"),
+        COMMIT("commit");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        private static Operation of(String label) {
+            for (Operation operation : values()) {
+                if (operation.label.equals(label)) return operation;
+            }
+            throw new IllegalArgumentException("Unknown operation '" + label + "'");
+        }
+    }
+
+    private final Config config;
+    private final Driver driver;
+    private final TransactionPool pool;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final AtomicLong nextId;
+    private volatile long measureStartNanos;
+    private volatile long deadlineNanos;
+
+    private LoadGenerator(Config config, Driver driver) {
+        this.config = config;
+        this.driver = driver;
+        this.pool = config.pool ? driver.transactionPool(config.database, new TransactionPoolOptions().size(config.threads)) : null;
+        this.operations = config.mix.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += config.mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.nextId = new AtomicLong(config.people);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Config config;
+        try {
+            config = Config.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: load-generator [--name=value ...]; see the LoadGenerator documentation for the arguments");
+            System.exit(2);
+            return;
+        }
+        try (Driver driver = TypeDB.driver(config.address, new Credentials(config.username, config.password),
+                new DriverOptions(DriverTlsConfig.disabled()))) {
+            seed(config, driver);
+            LoadGenerator generator = new LoadGenerator(config, driver);
+            try {
+                generator.run();
+            } finally {
+                if (generator.pool != null) generator.pool.close();
+            }
+        }
+    }
+
+    private static void seed(Config config, Driver driver) {
+        System.out.printf("Seeding %d people and %d friendships into '%s'%n", config.people, config.friendships, config.database);
+        if (driver.databases().contains(config.database)) driver.databases().get(config.database).delete();
+        driver.databases().create(config.database);
+        try (Transaction transaction = driver.transaction(config.database, Transaction.Type.SCHEMA)) {
+            transaction.query(SCHEMA).resolve();
+            transaction.commit();
+        }
+        List<Map<String, Object>> batch = new ArrayList<>(SEED_BATCH);
+        for (long id = 0; id < config.people; id++) {
+            batch.add(person(id));
+            if (batch.size() == SEED_BATCH || id == config.people - 1) {
+                writeBatch(driver, config.database, INSERT_PERSON, batch);
+                batch.clear();
+            }
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long i = 0; i < config.friendships; i++) {
+            batch.add(friendship(random.nextLong(config.people), random.nextLong(config.people)));
+            if (batch.size() == SEED_BATCH || i == config.friendships - 1) {
+                writeBatch(driver, config.database, INSERT_FRIENDSHIP, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private static void writeBatch(Driver driver, String database, String query, List<Map<String, Object>> rows) {
+        try (Transaction transaction = driver.transaction(database, Transaction.Type.WRITE)) {
+            transaction.query(query, rows).resolve();
+            transaction.commit();
+        }
+    }
+
+    private static Map<String, Object> person(long id) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("name", "person-" + id);
+        return row;
+    }
+
+    private static Map<String, Object> friendship(long from, long to) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("from", from);
+        row.put("to", to);
+        return row;
+    }
+
+    private void run() throws Exception {
+        long start = System.nanoTime();
+        measureStartNanos = start + TimeUnit.SECONDS.toNanos(config.warmupSeconds);
+        deadlineNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(config.seconds);
+        System.out.printf("Running %s on %d %s threads: %d s warm-up, %d s measured%n", config.mixDescription(), config.threads,
+                config.virtualThreads ? "virtual" : "platform", config.warmupSeconds, config.seconds);
+
+        List<Worker> workers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < config.threads; i++) {
+            Worker worker = new Worker();
+            workers.add(worker);
+            threads.add(start(worker, i));
+        }
+
+        sleepUntil(measureStartNanos);
+        ResourceSnapshot before = ResourceSnapshot.take(threads, config.virtualThreads);
+        sleepUntil(deadlineNanos);
+        ResourceSnapshot after = ResourceSnapshot.take(threads, config.virtualThreads);
+        for (Thread thread : threads) thread.join();
+
+        LatencyHistogram[] histograms = new LatencyHistogram[Operation.values().length];
+        long[] errors = new long[histograms.length];
+        for (int i = 0; i < histograms.length; i++) histograms[i] = new LatencyHistogram();
+        for (Worker worker : workers) {
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i].add(worker.histograms[i]);
+                errors[i] += worker.errors[i];
+            }
+            if (worker.firstError != null) System.out.println("First error of a worker: " + worker.firstError);
+        }
+        report(histograms, errors, before, after);
+    }
+
+    private Thread start(Runnable runnable, int index) throws Exception {
+        if (config.virtualThreads) {
+            Method startVirtualThread;
+            try {
+                startVirtualThread = Thread.class.getMethod("startVirtualThread", Runnable.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Virtual threads require a Java 21+ runtime, but this is Java "
+                        + System.getProperty("java.version"));
+            }
+            return (Thread) startVirtualThread.invoke(null, runnable);
+        } else {
+            Thread thread = new Thread(runnable, "load-generator-" + index);
+            thread.start();
+            return thread;
+        }
+    }
+
+    private static void sleepUntil(long nanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = nanos - System.nanoTime()) > 0) TimeUnit.NANOSECONDS.sleep(remaining);
+    }
+
+    private class Worker implements Runnable {
+        private final LatencyHistogram[] histograms = new LatencyHistogram[Operation.values().length];
+        private final long[] errors = new long[Operation.values().length];
+        private Exception firstError;
+
+        private Worker() {
+            for (int i = 0; i < histograms.length; i++) histograms[i] = new LatencyHistogram();
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long now;
+            while ((now = System.nanoTime()) < deadlineNanos) {
+                Operation operation = pick(random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]));
+                try {
+                    perform(operation, random);
+                    if (now >= measureStartNanos) histograms[operation.ordinal()].record(System.nanoTime() - now);
+                } catch (RuntimeException e) {
+                    if (now >= measureStartNanos) errors[operation.ordinal()]++;
+                    if (firstError == null) firstError = e;
+                }
+            }
+        }
+    }
+
+    private Operation pick(int weight) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (weight < cumulativeWeights[i]) return operations[i];
+        }
+        return operations[operations.length - 1];
+    }
+
+    private void perform(Operation operation, ThreadLocalRandom random) {
+        switch (operation) {
+            case POINT_READ:
+                read(POINT_READ, randomPerson(random));
+                break;
+            case TRAVERSAL:
+                read(TRAVERSAL, randomPerson(random));
+                break;
+            case FETCH:
+                try (Transaction transaction = readTransaction()) {
+                    ConceptDocumentIterator documents = transaction.query(FETCH, List.of(randomPerson(random))).resolve().asConceptDocuments();
+                    while (documents.hasNext()) documents.next();
+                }
+                break;
+            case INSERT:
+                List<Map<String, Object>> people = new ArrayList<>(config.insertBatch);
+                for (int i = 0; i < config.insertBatch; i++) people.add(person(nextId.getAndIncrement()));
+                writeBatch(driver, config.database, INSERT_PERSON, people);
+                break;
+            case COMMIT:
+                writeBatch(driver, config.database, INSERT_FRIENDSHIP,
+                        List.of(friendship(random.nextLong(config.people), random.nextLong(config.people))));
+                break;
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
+    private void read(String query, Map<String, Object> given) {
+        try (Transaction transaction = readTransaction()) {
+            ConceptRowIterator rows = transaction.query(query, List.of(given)).resolve().asConceptRows();
+            while (rows.hasNext()) rows.next();
+        }
+    }
+
+    private Transaction readTransaction() {
+        return pool != null ? pool.acquire() : driver.transaction(config.database, Transaction.Type.READ);
+    }
+
+    private Map<String, Object> randomPerson(ThreadLocalRandom random) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", random.nextLong(config.people));
+        return row;
+    }
+
+    private void report(LatencyHistogram[] histograms, long[] errors, ResourceSnapshot before, ResourceSnapshot after) {
+        double seconds = (after.wallNanos - before.wallNanos) / 1e9;
+        long totalCount = 0;
+        System.out.println();
+        System.out.printf("%-12s %10s %10s %8s %10s %10s %10s %10s%n",
+                "operation", "count", "ops/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation operation : operations) {
+            LatencyHistogram histogram = histograms[operation.ordinal()];
+            totalCount += histogram.count();
+            System.out.printf("%-12s %10d %10.1f %8d %10.3f %10.3f %10.3f %10.3f%n", operation.label, histogram.count(),
+                    histogram.count() / seconds, errors[operation.ordinal()], millis(histogram.percentile(0.5)),
+                    millis(histogram.percentile(0.99)), millis(histogram.percentile(0.999)), millis(histogram.max()));
+        }
+        System.out.printf("%-12s %10d %10.1f%n", "total", totalCount, totalCount / seconds);
+        System.out.println();
+
+        double cpuSeconds = (after.processCpuNanos - before.processCpuNanos) / 1e9;
+        System.out.printf("process CPU: %.1f s, %.2f cores of %d%n", cpuSeconds, cpuSeconds / seconds,
+                Runtime.getRuntime().availableProcessors());
+        if (before.workerCpuNanos >= 0 && after.workerCpuNanos >= 0) {
+            double workerCpuSeconds = (after.workerCpuNanos - before.workerCpuNanos) / 1e9;
+            System.out.printf("worker thread CPU: %.1f s, %.1f us per operation%n", workerCpuSeconds,
+                    totalCount == 0 ? 0 : workerCpuSeconds * 1e6 / totalCount);
+        }
+        if (before.workerAllocatedBytes >= 0 && after.workerAllocatedBytes >= 0) {
+            long allocated = after.workerAllocatedBytes - before.workerAllocatedBytes;
+            System.out.printf("worker thread allocation: %.1f MB/s, %.1f KB per operation%n", allocated / 1e6 / seconds,
+                    totalCount == 0 ? 0 : allocated / 1e3 / totalCount);
+        } else {
+            System.out.println("worker thread allocation: not measurable for virtual threads");
+        }
+        System.out.printf("garbage collection: %d collections, %d ms%n", after.gcCount - before.gcCount, after.gcMillis - before.gcMillis);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static class ResourceSnapshot {
+        private final long wallNanos;
+        private final long processCpuNanos;
+        private final long workerCpuNanos;
+        private final long workerAllocatedBytes;
+        private final long gcCount;
+        private final long gcMillis;
+
+        private ResourceSnapshot(long wallNanos, long processCpuNanos, long workerCpuNanos, long workerAllocatedBytes,
+                                 long gcCount, long gcMillis) {
+            this.wallNanos = wallNanos;
+            this.processCpuNanos = processCpuNanos;
+            this.workerCpuNanos = workerCpuNanos;
+            this.workerAllocatedBytes = workerAllocatedBytes;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        /**
+         * Takes a snapshot of the process's resource usage. The per-thread figures cover the load generator's
+         * platform threads only, and are <code>-1</code> for virtual threads, which the JVM does not account for.
+         * The process CPU time also covers the driver's native threads.
+         */
+        private static ResourceSnapshot take(List<Thread> workers, boolean virtualThreads) {
+            long wallNanos = System.nanoTime();
+            long processCpuNanos = -1;
+            if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean) {
+                processCpuNanos = ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+            }
+            long workerCpuNanos = -1;
+            long workerAllocatedBytes = -1;
+            if (!virtualThreads && ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+                long[] ids = workers.stream().mapToLong(Thread::getId).toArray();
+                workerCpuNanos = sumKnown(threadBean.getThreadCpuTime(ids));
+                workerAllocatedBytes = sumKnown(threadBean.getThreadAllocatedBytes(ids));
+            }
+            long gcCount = 0;
+            long gcMillis = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                gcCount += Math.max(0, gc.getCollectionCount());
+                gcMillis += Math.max(0, gc.getCollectionTime());
+            }
+            return new ResourceSnapshot(wallNanos, processCpuNanos, workerCpuNanos, workerAllocatedBytes, gcCount, gcMillis);
+        }
+
+        private static long sumKnown(long[] values) {
+            long sum = 0;
+            for (long value : values) {
+                if (value > 0) sum += value;
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Records latencies in buckets whose width doubles with every power of two, split into 32 sub-buckets,
+     * so that percentiles are accurate to within about 3% at a fixed memory cost. Not thread-safe:
+     * every worker records into its own histograms, which are added up at the end of the run.
+     */
+    private static class LatencyHistogram {
+        private static final int SUB_BUCKET_BITS = 5;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int EXACT = 2 * SUB_BUCKETS;
+
+        private final long[] counts = new long[EXACT + (64 - SUB_BUCKET_BITS) * SUB_BUCKETS];
+        private long count;
+        private long max;
+
+        private void record(long nanos) {
+            counts[index(Math.max(0, nanos))]++;
+            count++;
+            max = Math.max(max, nanos);
+        }
+
+        private void add(LatencyHistogram other) {
+            for (int i = 0; i < counts.length; i++) counts[i] += other.counts[i];
+            count += other.count;
+            max = Math.max(max, other.max);
+        }
+
+        private long count() {
+            return count;
+        }
+
+        private long max() {
+            return max;
+        }
+
+        private long percentile(double quantile) {
+            if (count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return Math.min(max, midpoint(i));
+            }
+            return max;
+        }
+
+        /**
+         * Values below <code>EXACT</code> have a bucket each; larger values are shifted right until they have
+         * <code>SUB_BUCKET_BITS + 1</code> significant bits, and bucketed by shift and the remaining bits.
+         */
+        private static int index(long value) {
+            if (value < EXACT) return (int) value;
+            int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+            return EXACT + (shift - 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+        }
+
+        private static long midpoint(int index) {
+            if (index < EXACT) return index;
+            int shift = (index - EXACT) / SUB_BUCKETS + 1;
+            long lower = ((long) ((index - EXACT) % SUB_BUCKETS + SUB_BUCKETS)) << shift;
+            return lower + (1L << (shift - 1));
+        }
+    }
+
+    private static class Config {
+        private String address = "localhost:1729";
+        private String username = "admin";
+        private String password = "password";
+        private String database = "load-generator";
+        private int threads = 8;
+        private boolean virtualThreads = false;
+        private int warmupSeconds = 5;
+        private int seconds = 30;
+        private long people = 10_000;
+        private long friendships = 20_000;
+        private int insertBatch = 10;
+        private boolean pool = true;
+        private Map<Operation, Integer> mix = parseMix("point-read:50,traversal:20,fetch:10,insert:10,commit:10");
+
+        private static Config parse(String[] args) {
+            Config config = new Config();
+            for (String arg : args) {
+                int equals = arg.indexOf('=');
+                if (!arg.startsWith("--") || equals < 0) throw new IllegalArgumentException("Malformed argument '" + arg + "'");
+                String name = arg.substring(2, equals);
+                String value = arg.substring(equals + 1);
+                switch (name) {
+                    case "address": config.address = value; break;
+                    case "username": config.username = value; break;
+                    case "password": config.password = value; break;
+                    case "database": config.database = value; break;
+                    case "threads": config.threads = positive(name, Integer.parseInt(value)); break;
+                    case "virtual-threads": config.virtualThreads = Boolean.parseBoolean(value); break;
+                    case "warmup-seconds": config.warmupSeconds = Integer.parseInt(value); break;
+                    case "seconds": config.seconds = positive(name, Integer.parseInt(value)); break;
+                    case "people": config.people = positive(name, Long.parseLong(value)); break;
+                    case "friendships": config.friendships = Long.parseLong(value); break;
+                    case "insert-batch": config.insertBatch = positive(name, Integer.parseInt(value)); break;
+                    case "pool": config.pool = Boolean.parseBoolean(value); break;
+                    case "mix": config.mix = parseMix(value); break;
+                    default: throw new IllegalArgumentException("Unknown argument '" + name + "'");
+                }
+            }
+            return config;
+        }
+
+        private static Map<Operation, Integer> parseMix(String mix) {
+            Map<Operation, Integer> weights = new LinkedHashMap<>();
+            for (String entry : mix.split(",")) {
+                String[] parts = entry.split(":");
+                if (parts.length != 2) throw new IllegalArgumentException("Malformed mix entry '" + entry + "'");
+                int weight = Integer.parseInt(parts[1].trim());
+                if (weight > 0) weights.put(Operation.of(parts[0].trim()), weight);
+            }
+            if (weights.isEmpty()) throw new IllegalArgumentException("The mix '" + mix + "' has no operation with a positive weight");
+            return weights;
+        }
+
+        private static <N extends Number> N positive(String name, N value) {
+            if (value.longValue() <= 0) throw new IllegalArgumentException("'" + name + "' must be positive, was " + value);
+            return value;
+        }
+
+        private String mixDescription() {
+            StringBuilder description = new StringBuilder();
+            mix.forEach((operation, weight) -> {
+                if (description.length() > 0) description.append(", ");
+                description.append(operation.label).append(' ').append(weight);
+            });
+            return description.toString();
+        }
+    }
+}
@@ -24,18 +24,62 @@ import com.typedb.driver.api.Credentials;
 import com.typedb.driver.api.Driver;
 import com.typedb.driver.api.DriverOptions;
 import com.typedb.driver.api.DriverTlsConfig;
+import com.typedb.driver.api.FanOutReadOptions;
+import com.typedb.driver.api.PartitionedWriter;
+import com.typedb.driver.api.PartitionedWriterOptions;
+import com.typedb.driver.api.PreparedQuery;
+import com.typedb.driver.api.RetryOptions;
+import com.typedb.driver.api.Tracer;
 import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.TransactionPool;
+import com.typedb.driver.api.TransactionPoolOptions;
+import com.typedb.driver.api.TransactionRetryMetrics;
+import com.typedb.driver.api.analyze.AnalyzedQuery;
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.JSON;
+import com.typedb.driver.api.answer.MaterializedRow;
+import com.typedb.driver.api.answer.MaterializedRows;
+import com.typedb.driver.api.answer.QueryAnswer;
+import com.typedb.driver.api.answer.RowMapper;
+import com.typedb.driver.api.concept.Concept;
+import com.typedb.driver.api.concept.type.Type;
 import com.typedb.driver.api.database.Database;
+import com.typedb.driver.api.database.ImportOptions;
+import com.typedb.driver.api.database.ImportProgress;
+import com.typedb.driver.api.database.SchemaModel;
+import com.typedb.driver.common.NativeMemoryUsage;
+import com.typedb.driver.common.exception.TypeDBDriverException;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 @SuppressWarnings("Duplicates")
 public class DriverTest {
@@ -74,6 +118,593 @@ public class DriverTest {
         }, Transaction.Type.READ);
     }
 
+    @Test
+    public void tracer_records_transaction_spans() {
+        List<String> endedSpans = new CopyOnWriteArrayList<>();
+        Tracer tracer = (name, parent) -> new Tracer.Span() {
+            @Override
+            public void setAttribute(String key, String value) {
+            }
+
+            @Override
+            public void recordException(Throwable exception) {
+            }
+
+            @Override
+            public void end() {
+                endedSpans.add(name);
+            }
+
+            @Override
+            public String traceParent() {
+                return "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+            }
+        };
+        DriverOptions options = new DriverOptions(DriverTlsConfig.disabled()).tracer(tracer);
+        try (Driver driver = TypeDB.driver(ADDRESS, new Credentials("admin", "password"), options)) {
+            try (Transaction transaction = driver.transaction(DB_NAME, Transaction.Type.SCHEMA)) {
+                transaction.query("define entity person;").resolve();
+                transaction.query("match entity $t;").resolve().asConceptRows().stream().forEach(row -> {
+                });
+                transaction.commit();
+            }
+        }
+        assertEquals(List.of(Tracer.QUERY_SPAN, Tracer.QUERY_SPAN, Tracer.STREAM_SPAN, Tracer.COMMIT_SPAN, Tracer.TRANSACTION_SPAN), endedSpans);
+    }
+
+    @Test
+    public void prepared_query_executes_with_given_rows() {
+        typedbDriver.databases().get(DB_NAME).delete();
+        typedbDriver.databases().create(DB_NAME);
+
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define attribute name, value string; entity person, owns name;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+
+        localhostTypeDBTX(transaction -> {
+            PreparedQuery insertPerson = transaction.prepare("given $n: string; insert $p isa person, has name == $n;");
+            insertPerson.execute(List.of("n"), List.of(List.of("Alice"))).resolve();
+            insertPerson.execute(List.of("n"), List.of(List.of("Bob"))).resolve();
+            long count = transaction.prepare("match $p isa person;").execute().resolve().asConceptRows().stream().count();
+            assertEquals(2, count);
+        }, Transaction.Type.WRITE);
+    }
+
+    @Test
+    public void analyze_cache_is_invalidated_by_schema_commit() {
+        DriverOptions options = new DriverOptions(DriverTlsConfig.disabled()).analyzeCacheSize(16);
+        try (Driver driver = TypeDB.driver(ADDRESS, new Credentials("admin", "password"), options)) {
+            String query = "match $x isa entity;";
+            AnalyzedQuery first;
+            try (Transaction transaction = driver.transaction(DB_NAME, Transaction.Type.READ)) {
+                first = transaction.analyze(query).resolve();
+                assertSame(first, transaction.analyze(query).resolve());
+            }
+            try (Transaction transaction = driver.transaction(DB_NAME, Transaction.Type.SCHEMA)) {
+                transaction.query("define entity cached-analysis;").resolve();
+                transaction.commit();
+            }
+            try (Transaction transaction = driver.transaction(DB_NAME, Transaction.Type.READ)) {
+                assertNotSame(first, transaction.analyze(query).resolve());
+            }
+        }
+    }
+
+    @Test
+    public void transaction_pool_hands_out_open_read_transactions() {
+        try (TransactionPool pool = typedbDriver.transactionPool(DB_NAME, new TransactionPoolOptions().size(2))) {
+            for (int i = 0; i < 5; i++) {
+                try (Transaction transaction = pool.acquire()) {
+                    assertTrue(transaction.isOpen());
+                    assertEquals(Transaction.Type.READ, transaction.getType());
+                    transaction.query("match $x isa entity;").resolve();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void query_batch_returns_answers_in_order() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define entity batched;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+
+        localhostTypeDBTX(transaction -> {
+            List<QueryAnswer> answers = transaction.queryBatch(List.of(
+                    "insert $a isa batched;", "insert $b isa batched;", "match $x isa batched;"
+            )).resolve();
+            assertEquals(3, answers.size());
+            assertEquals(2, answers.get(2).asConceptRows().stream().count());
+        }, Transaction.Type.WRITE);
+    }
+
+    @Test
+    public void native_memory_counts_live_transactions() {
+        NativeMemoryUsage nativeMemory = typedbDriver.nativeMemory();
+        nativeMemory.setTracking(NativeMemoryUsage.Tracking.COUNT);
+        long allocatedBefore = nativeMemory.getAllocatedBytes();
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.READ)) {
+            assertTrue(nativeMemory.getLiveObjects().getOrDefault("TransactionImpl", 0L) >= 1);
+            assertTrue(nativeMemory.getAllocatedBytes() > allocatedBefore);
+        } finally {
+            nativeMemory.setTracking(NativeMemoryUsage.Tracking.OFF);
+        }
+    }
+
+    @Test
+    public void instances_share_types_until_schema_commit() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define entity shared-type;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(transaction -> {
+            transaction.query("insert $a isa shared-type; $b isa shared-type;").resolve();
+            transaction.commit();
+        }, Transaction.Type.WRITE);
+
+        Type first;
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.READ)) {
+            List<Type> types = transaction.query("match $x isa shared-type;").resolve().asConceptRows().stream()
+                    .map(row -> row.get("x").get().asEntity().getType()).collect(Collectors.toList());
+            assertEquals(2, types.size());
+            assertSame(types.get(0), types.get(1));
+            first = types.get(0);
+        }
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define entity other-shared-type;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.READ)) {
+            Type type = transaction.query("match $x isa shared-type;").resolve().asConceptRows().next()
+                    .get("x").get().asEntity().getType();
+            assertNotSame(first, type);
+            assertEquals(first, type);
+        }
+    }
+
+    @Test
+    public void schema_model_is_rebuilt_after_schema_commit() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define attribute modelled-name, value string; entity modelled, owns modelled-name;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+
+        Database database = typedbDriver.databases().get(DB_NAME);
+        SchemaModel model = database.schemaModel();
+        assertTrue(model.get("modelled").get().isEntityType());
+        assertTrue(model.get("modelled").get().owns().contains("modelled-name"));
+        assertEquals("string", model.get("modelled-name").get().valueType().get());
+        assertSame(model, database.schemaModel());
+        assertSame(model, database.refreshSchemaModel());
+
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define entity modelled-child sub modelled;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+        SchemaModel rebuilt = database.schemaModel();
+        assertNotSame(model, rebuilt);
+        assertEquals("modelled", rebuilt.get("modelled-child").get().supertype().get());
+    }
+
+    @Test
+    public void schema_model_refresh_sees_external_schema_change_through_query_cache() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define entity externally-modelled;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+
+        DriverOptions options = new DriverOptions(DriverTlsConfig.disabled()).queryCacheSize(16).queryCacheTtlMillis(0);
+        try (Driver driver = TypeDB.driver(ADDRESS, new Credentials("admin", "password"), options)) {
+            Database database = driver.databases().get(DB_NAME);
+            SchemaModel model = database.schemaModel();
+            assertTrue(model.get("externally-modelled").isPresent());
+            assertFalse(model.get("externally-modelled-child").isPresent());
+
+            // typedbDriver is a different driver, so this change bypasses the caching driver's invalidation
+            localhostTypeDBTX(transaction -> {
+                transaction.query("define entity externally-modelled-child sub externally-modelled;").resolve();
+                transaction.commit();
+            }, Transaction.Type.SCHEMA);
+
+            SchemaModel refreshed = database.refreshSchemaModel();
+            assertNotSame(model, refreshed);
+            assertEquals("externally-modelled", refreshed.get("externally-modelled-child").get().supertype().get());
+        }
+    }
+
+    @Test
+    public void export_streams_schema_and_data_to_channels() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define entity exported;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(transaction -> {
+            transaction.query("insert $x isa exported;").resolve();
+            transaction.commit();
+        }, Transaction.Type.WRITE);
+
+        ByteArrayOutputStream schema = new ByteArrayOutputStream();
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        typedbDriver.databases().get(DB_NAME).exportTo(schema, data);
+        assertTrue(schema.toString(StandardCharsets.UTF_8).contains("entity exported"));
+        assertTrue(data.size() > 0);
+    }
+
+    @Test
+    public void import_from_channel_restores_exported_data() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define entity restored;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(transaction -> {
+            transaction.query("insert $a isa restored; $b isa restored;").resolve();
+            transaction.commit();
+        }, Transaction.Type.WRITE);
+        ByteArrayOutputStream schema = new ByteArrayOutputStream();
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        typedbDriver.databases().get(DB_NAME).exportTo(schema, data);
+
+        String importedName = DB_NAME + "-imported";
+        List<ImportProgress> reports = new CopyOnWriteArrayList<>();
+        ImportOptions options = new ImportOptions().batchSize(1).inFlightBatches(1).bufferSize(16).progressListener(reports::add);
+        typedbDriver.databases().importFrom(importedName, schema.toString(StandardCharsets.UTF_8),
+                Channels.newChannel(new ByteArrayInputStream(data.toByteArray())), options);
+        try (Transaction transaction = typedbDriver.transaction(importedName, Transaction.Type.READ)) {
+            assertEquals(2, transaction.query("match $x isa restored;").resolve().asConceptRows().stream().count());
+        } finally {
+            typedbDriver.databases().get(importedName).delete();
+        }
+        ImportProgress last = reports.get(reports.size() - 1);
+        assertTrue(last.isDone());
+        assertEquals(data.size(), last.bytes());
+        assertTrue(last.sentItems() >= 2);
+    }
+
+    @Test
+    public void primitive_accessors_read_without_boxing() {
+        localhostTypeDBTX(transaction -> {
+            ConceptRow row = transaction.query("match let $i = 3; let $d = 1.5; let $b = true;").resolve()
+                    .asConceptRows().next();
+            int i = row.columnNames().collect(Collectors.toList()).indexOf("i");
+            int d = row.columnNames().collect(Collectors.toList()).indexOf("d");
+            assertEquals(3, row.getIntegerOrDefault(i, -1));
+            assertEquals(-1, row.getIntegerOrDefault(d, -1));
+            assertEquals(1.5, row.getDoubleOrNaN(d), 0.0);
+            assertTrue(Double.isNaN(row.getDoubleOrNaN(i)));
+            assertFalse(row.isNull(i));
+            assertTrue(row.get("b").get().getBooleanOrDefault(false));
+            assertEquals(3, row.get("i").get().asValue().getInteger());
+        }, Transaction.Type.READ);
+    }
+
+    @Test
+    public void raw_accessors_decode_temporal_and_decimal_values() {
+        localhostTypeDBTX(transaction -> {
+            ConceptRow row = transaction.query(
+                    "match let $t = 2024-01-02T03:04:05.000000006Z; let $d = -1.25dec; let $p = P1M2DT3S;"
+            ).resolve().asConceptRows().next();
+            Concept datetime = row.get("t").get();
+            assertEquals(datetime.tryGetDatetimeTZ().get().toInstant().getEpochSecond() * 1_000_000_000L + 6,
+                    datetime.getDatetimeEpochNanos());
+            Concept decimal = row.get("d").get();
+            assertEquals(-125, decimal.getDecimalUnscaled());
+            assertEquals(2, decimal.getDecimalScale());
+            assertEquals(0, decimal.tryGetDecimal().get().compareTo(new BigDecimal("-1.25")));
+            Concept duration = row.get("p").get();
+            assertEquals(1, duration.getDurationMonths());
+            assertEquals(2, duration.getDurationDays());
+            assertEquals(3_000_000_000L, duration.getDurationNanos());
+        }, Transaction.Type.READ);
+    }
+
+    @Test
+    public void raw_decimal_accessors_handle_nineteen_fractional_digits() {
+        localhostTypeDBTX(transaction -> {
+            ConceptRow row = transaction.query(
+                    "match let $f = 0.0000000000000000001dec; let $n = -0.0000000000000000001dec; " +
+                            "let $i = 1.0000000000000000001dec;"
+            ).resolve().asConceptRows().next();
+            Concept fraction = row.get("f").get();
+            assertEquals(19, fraction.getDecimalScale());
+            assertEquals(1, fraction.getDecimalUnscaled());
+            Concept negativeFraction = row.get("n").get();
+            assertEquals(19, negativeFraction.getDecimalScale());
+            assertEquals(-1, negativeFraction.getDecimalUnscaled());
+            Concept withInteger = row.get("i").get();
+            assertEquals(19, withInteger.getDecimalScale());
+            try {
+                withInteger.getDecimalUnscaled();
+                fail("10^19 + 1 does not fit into a long");
+            } catch (TypeDBDriverException e) {
+                assertTrue(e.getMessage().contains("cannot be represented"));
+            }
+            assertEquals(0, withInteger.tryGetDecimal().get().compareTo(new BigDecimal("1.0000000000000000001")));
+        }, Transaction.Type.READ);
+    }
+
+    @Test
+    public void fetch_documents_stream_as_json_text() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define attribute fetched-name, value string; entity fetched, owns fetched-name;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(transaction -> {
+            transaction.query("insert $x isa fetched, has fetched-name \"a \\\"quoted\\\" name\";").resolve();
+            transaction.commit();
+        }, Transaction.Type.WRITE);
+
+        localhostTypeDBTX(transaction -> {
+            String raw = transaction.query("match $x isa fetched; fetch { \"name\": $x.fetched-name };").resolve()
+                    .asConceptDocuments().nextRaw();
+            JSON parsed = JSON.parse(raw);
+            assertEquals("a \"quoted\" name", parsed.asObject().get("name").asString());
+            StringWriter compact = new StringWriter();
+            try {
+                parsed.writeTo(compact, true);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            assertEquals(parsed, JSON.parse(compact.toString()));
+        }, Transaction.Type.READ);
+    }
+
+    public static class MappedPerson {
+        @RowMapper.Column("n")
+        String name;
+        long age;
+        Double score;
+    }
+
+    @Test
+    public void row_mapper_binds_columns_to_fields() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define attribute mapped-name, value string; entity mapped, owns mapped-name;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(transaction -> {
+            transaction.query("insert $x isa mapped, has mapped-name \"alice\";").resolve();
+            transaction.commit();
+        }, Transaction.Type.WRITE);
+
+        RowMapper<MappedPerson> mapper = TypeDB.rowMapper(MappedPerson.class);
+        localhostTypeDBTX(transaction -> {
+            List<MappedPerson> people = mapper.map(transaction.query(
+                    "match $x isa mapped, has mapped-name $n; let $age = 42; let $score = 0.5;"
+            ).resolve().asConceptRows()).collect(Collectors.toList());
+            assertEquals(1, people.size());
+            assertEquals("alice", people.get(0).name);
+            assertEquals(42, people.get(0).age);
+            assertEquals(0.5, people.get(0).score, 0.0);
+        }, Transaction.Type.READ);
+    }
+
+    @Test
+    public void row_mapper_rejects_values_of_the_wrong_type() {
+        RowMapper<MappedPerson> mapper = TypeDB.rowMapper(MappedPerson.class);
+        localhostTypeDBTX(transaction -> {
+            ConceptRow row = transaction.query("match let $n = \"bob\"; let $age = \"old\"; let $score = 1.5;")
+                    .resolve().asConceptRows().next();
+            try {
+                mapper.map(row);
+                fail();
+            } catch (TypeDBDriverException e) {
+                assertTrue(e.getMessage().contains("age"));
+            }
+        }, Transaction.Type.READ);
+    }
+
+    @Test
+    public void query_cache_replays_reads_until_write_commit() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define entity cached-read;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+
+        DriverOptions options = new DriverOptions(DriverTlsConfig.disabled()).queryCacheSize(16);
+        try (Driver driver = TypeDB.driver(ADDRESS, new Credentials("admin", "password"), options)) {
+            String query = "match $x isa cached-read;";
+            String iid;
+            try (Transaction transaction = driver.transaction(DB_NAME, Transaction.Type.READ)) {
+                assertEquals(0, transaction.query(query).resolve().asConceptRows().stream().count());
+            }
+            try (Transaction stale = driver.transaction(DB_NAME, Transaction.Type.READ)) {
+                try (Transaction transaction = driver.transaction(DB_NAME, Transaction.Type.WRITE)) {
+                    transaction.query("insert $x isa cached-read;").resolve();
+                    transaction.commit();
+                }
+                try (Transaction transaction = driver.transaction(DB_NAME, Transaction.Type.READ)) {
+                    List<ConceptRow> rows = transaction.query(query).resolve().asConceptRows().stream().collect(Collectors.toList());
+                    assertEquals(1, rows.size());
+                    iid = rows.get(0).get("x").get().asEntity().getIID();
+                }
+                // opened before the commit, so the answer cached since must not be replayed to it
+                assertEquals(0, stale.query(query).resolve().asConceptRows().stream().count());
+            }
+            try (Transaction transaction = driver.transaction(DB_NAME, Transaction.Type.READ)) {
+                ConceptRow replayed = transaction.query(query).resolve().asConceptRows().next();
+                ConceptRow again = transaction.query(query).resolve().asConceptRows().next();
+                assertNotSame(replayed, again);
+                assertEquals(replayed, again);
+                assertEquals(iid, replayed.get("x").get().asEntity().getIID());
+                assertEquals("cached-read", replayed.get("x").get().asEntity().getType().getLabel());
+            }
+        }
+    }
+
+    @Test
+    public void commit_conflict_is_recognised_by_error_code() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define attribute conflicted-name, value string; entity conflicted, owns conflicted-name;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(transaction -> {
+            transaction.query("insert $x isa conflicted;").resolve();
+            transaction.commit();
+        }, Transaction.Type.WRITE);
+
+        try (Transaction deleting = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE);
+             Transaction extending = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE)) {
+            deleting.query("match $x isa conflicted; delete $x;").resolve();
+            extending.query("match $x isa conflicted; insert $x has conflicted-name \"late\";").resolve();
+            deleting.commit();
+            try {
+                extending.commit();
+                fail();
+            } catch (TypeDBDriverException e) {
+                assertNotNull(e.getErrorCode());
+                assertTrue(RetryOptions.isConflict(e));
+            }
+        }
+    }
+
+    @Test
+    public void run_in_transaction_retries_on_conflict_and_counts_attempts() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define attribute retried-name, value string; entity retried, owns retried-name;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(transaction -> {
+            transaction.query("insert $x isa retried;").resolve();
+            transaction.commit();
+        }, Transaction.Type.WRITE);
+
+        TransactionRetryMetrics metrics = typedbDriver.transactionRetryMetrics();
+        long attempts = metrics.attempts();
+        long retries = metrics.retries();
+        long conflicts = metrics.conflicts();
+        long succeeded = metrics.succeeded();
+        AtomicInteger runs = new AtomicInteger();
+        typedbDriver.runInTransaction(DB_NAME, Transaction.Type.WRITE, tx -> {
+            tx.query("match $x isa retried; insert $x has retried-name \"late\";").resolve();
+            if (runs.incrementAndGet() == 1) {
+                // a concurrent commit deletes the entity this attempt extends, so committing the attempt conflicts
+                try (Transaction deleting = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE)) {
+                    deleting.query("match $x isa retried; delete $x;").resolve();
+                    deleting.commit();
+                }
+            }
+            return null;
+        });
+        assertEquals(2, runs.get());
+        assertEquals(attempts + 2, metrics.attempts());
+        assertEquals(retries + 1, metrics.retries());
+        assertEquals(conflicts + 1, metrics.conflicts());
+        assertEquals(succeeded + 1, metrics.succeeded());
+
+        long count = typedbDriver.runInTransaction(DB_NAME, Transaction.Type.READ,
+                tx -> tx.query("match $x isa retried;").resolve().asConceptRows().stream().count());
+        assertEquals(0, count);
+        assertEquals(succeeded + 2, metrics.succeeded());
+    }
+
+    @Test
+    public void partitioned_writer_commits_rows_from_all_partitions() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define attribute partitioned-name, value string; entity partitioned, owns partitioned-name;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+
+        PartitionedWriterOptions options = new PartitionedWriterOptions().partitions(4).batchSize(16);
+        try (PartitionedWriter writer = typedbDriver.partitionedWriter(DB_NAME, "insert $x isa partitioned, has partitioned-name $name;", options)) {
+            assertEquals(4, writer.partitions());
+            for (int i = 0; i < 100; i++) {
+                String name = "p" + i;
+                writer.write(name, Map.<String, Object>of("name", name));
+            }
+            writer.flush();
+            assertEquals(100, writer.committedRows());
+        }
+
+        localhostTypeDBTX(transaction -> {
+            assertEquals(100, transaction.query("match $x isa partitioned;").resolve().asConceptRows().stream().count());
+        }, Transaction.Type.READ);
+    }
+
+    @Test
+    public void answer_streams_return_every_row_once_in_parallel_and_in_order_sequentially() {
+        // enough rows to span several batches split off by the native iterator's spliterator
+        int count = 2000;
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define attribute stream-index, value integer; entity streamed, owns stream-index;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(transaction -> {
+            StringBuilder insert = new StringBuilder("insert");
+            for (int i = 0; i < count; i++) insert.append(" $x").append(i).append(" isa streamed, has stream-index ").append(i).append(";");
+            transaction.query(insert.toString()).resolve();
+            transaction.commit();
+        }, Transaction.Type.WRITE);
+
+        String query = "match $x isa streamed, has stream-index $i; select $i; sort $i;";
+        List<Long> expected = LongStream.range(0, count).boxed().collect(Collectors.toList());
+        localhostTypeDBTX(transaction -> {
+            List<Long> parallel = transaction.query(query).resolve().asConceptRows().stream().parallel()
+                    .map(row -> row.getIntegerOrDefault(0, -1)).collect(Collectors.toList());
+            assertEquals(count, parallel.size());
+            assertEquals(count, parallel.stream().distinct().count());
+            assertEquals(expected, parallel.stream().sorted().collect(Collectors.toList()));
+
+            List<Long> sequential = transaction.query(query).resolve().asConceptRows().stream()
+                    .map(row -> row.getIntegerOrDefault(0, -1)).collect(Collectors.toList());
+            assertEquals(expected, sequential);
+        }, Transaction.Type.READ);
+    }
+
+    @Test
+    public void fan_out_read_merges_partitions() {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define attribute fan-out-id, value integer; entity fan-out, owns fan-out-id;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(transaction -> {
+            for (int i = 0; i < 10; i++) transaction.query("insert $x isa fan-out, has fan-out-id " + i + ";").resolve();
+            transaction.commit();
+        }, Transaction.Type.WRITE);
+
+        List<Map<String, Object>> partitions = List.of(Map.of("low", 0L, "high", 5L), Map.of("low", 5L, "high", 10L));
+        FanOutReadOptions options = new FanOutReadOptions().parallelism(2).bufferSize(2);
+        try (Stream<ConceptRow> rows = typedbDriver.fanOutRead(DB_NAME,
+                "match $x isa fan-out, has fan-out-id $id; $id >= $low; $id < $high;", partitions, options)) {
+            List<Long> ids = rows.map(row -> row.get("id").get().tryGetInteger().get()).sorted().collect(Collectors.toList());
+            assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), ids);
+        }
+    }
+
+    @Test
+    public void materialized_rows_replay_without_the_transaction() throws IOException {
+        localhostTypeDBTX(transaction -> {
+            transaction.query("define attribute materialized-id, value integer; entity materialized, owns materialized-id;").resolve();
+            transaction.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(transaction -> {
+            for (int i = 0; i < 5; i++) transaction.query("insert $x isa materialized, has materialized-id " + i + ";").resolve();
+            transaction.commit();
+        }, Transaction.Type.WRITE);
+
+        Path path = Files.createTempFile("materialized", ".rows");
+        MaterializedRows rows;
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.READ)) {
+            rows = transaction.query("match $x isa materialized, has materialized-id $id;").resolve().materialize(path);
+        }
+        try {
+            assertEquals(5, rows.size());
+            assertEquals(List.of("x", "id"), rows.columnNames());
+            for (int pass = 0; pass < 2; pass++) {
+                assertEquals(10, rows.stream().mapToLong(row -> row.getIntegerOrDefault(1, -1)).sum());
+            }
+            MaterializedRow row = rows.get(0);
+            assertEquals(MaterializedRow.Kind.ENTITY, row.getKind("x").get());
+            assertEquals("materialized", row.getLabel("x").get());
+            assertTrue(row.getIID("x").isPresent());
+            assertEquals(MaterializedRow.Kind.ATTRIBUTE, row.getKind("id").get());
+        } finally {
+            rows.close();
+            Files.delete(path);
+        }
+    }
+
     private void localhostTypeDBTX(Consumer<Transaction> fn, Transaction.Type type/*, Options options*/) {
         try (Transaction transaction = typedbDriver.transaction(DB_NAME, type/*, options*/)) {
             fn.accept(transaction);
@@ -235,6 +235,10 @@ error_messages! { ConceptError
         2: "Cannot get concept from a concept row by index '{index}'.",
     ErrorParsingDecimal { unparsed: String, reason: String } =
         3: "Could not parse the value '{unparsed}' as decimal: {reason}.",
+    ValueOutOfPrimitiveRange { value: String, representation: String } =
+        4: "The value '{value}' cannot be represented as {representation}.",
+    InvalidIID { iid: String } =
+        5: "Invalid IID '{iid}': expected '0x' followed by an even number of hexadecimal digits.",
 }
 
 error_messages! { MigrationError
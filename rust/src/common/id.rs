@@ -17,10 +17,12 @@
  * under the License.
  */
 
-use std::fmt;
+use std::{fmt, str::FromStr};
 
 use uuid::Uuid;
 
+use crate::{Error, error::ConceptError};
+
 #[derive(Clone, Eq, Hash, PartialEq)]
 pub struct ID(Vec<u8>);
 
@@ -48,6 +50,22 @@ impl From<Vec<u8>> for ID {
     }
 }
 
+impl FromStr for ID {
+    type Err = Error;
+
+    /// Parses an ID from its `0x`-prefixed hexadecimal form, as produced by its `Display`.
+    fn from_str(id: &str) -> Result<Self, Self::Err> {
+        let invalid = || Error::from(ConceptError::InvalidIID { iid: id.to_owned() });
+        let hex = id.strip_prefix(Self::PREFIX).filter(|hex| hex.len() % 2 == 0).ok_or_else(invalid)?;
+        (0..hex.len())
+            .step_by(2)
+            .map(|start| hex.get(start..start + 2).and_then(|octet| u8::from_str_radix(octet, 16).ok()))
+            .collect::<Option<Vec<u8>>>()
+            .map(Self::from)
+            .ok_or_else(invalid)
+    }
+}
+
 impl fmt::Debug for ID {
     fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
         write!(f, "ID[{self}]")
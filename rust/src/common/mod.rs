@@ -23,6 +23,7 @@ pub use self::{
     promise::{BoxPromise, Promise, box_promise},
     query_options::QueryOptions,
     stream::{BoxStream, box_stream},
+    trace_context::TraceContext,
     transaction_options::TransactionOptions,
 };
 
@@ -37,6 +38,7 @@ mod query_options;
 #[cfg_attr(not(feature = "sync"), path = "stream_async.rs")]
 #[cfg_attr(feature = "sync", path = "stream_sync.rs")]
 pub mod stream;
+mod trace_context;
 mod transaction_options;
 
 pub(crate) type Callback = Box<dyn FnOnce() + Send>;
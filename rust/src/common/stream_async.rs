@@ -18,7 +18,7 @@
  */
 
 pub use futures::{Stream, stream::BoxStream};
-pub use tokio_stream::wrappers::UnboundedReceiverStream as NetworkStream;
+pub use tokio_stream::wrappers::{ReceiverStream as BoundedNetworkStream, UnboundedReceiverStream as NetworkStream};
 
 pub fn box_stream<'a, T>(stream: impl Stream<Item = T> + Send + 'a) -> BoxStream<'a, T> {
     Box::pin(stream) as futures::stream::BoxStream<'a, _>
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::fmt;
+
+const TRACEPARENT_VERSION: &str = "00";
+
+/// A W3C trace context (see <https://www.w3.org/TR/trace-context/>) identifying the caller's span.
+/// When set on the `TransactionOptions`, it is sent to the server as `traceparent` gRPC metadata
+/// when the transaction is opened, so that server-side spans join the caller's trace.
+///
+/// # Examples
+///
+/// ```rust
+/// let trace_context = TraceContext::from_traceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+/// ```
+#[derive(Copy, Clone, Debug, Eq, PartialEq)]
+pub struct TraceContext {
+    /// The 16-byte id of the whole trace.
+    pub trace_id: u128,
+    /// The 8-byte id of the caller's span.
+    pub parent_id: u64,
+    /// The trace flags, e.g. `0x01` for a sampled trace.
+    pub flags: u8,
+}
+
+impl TraceContext {
+    pub const METADATA_KEY: &'static str = "traceparent";
+
+    /// Parses a `traceparent` header value. Returns `None` if the value is malformed
+    /// or contains an all-zero trace or parent id, which the specification declares invalid.
+    pub fn from_traceparent(traceparent: &str) -> Option<Self> {
+        let mut parts = traceparent.trim().split('-');
+        let (version, trace_id, parent_id, flags) = (parts.next()?, parts.next()?, parts.next()?, parts.next()?);
+        if parts.next().is_some() || version != TRACEPARENT_VERSION {
+            return None;
+        }
+        if trace_id.len() != 32 || parent_id.len() != 16 || flags.len() != 2 {
+            return None;
+        }
+        let trace_id = u128::from_str_radix(trace_id, 16).ok()?;
+        let parent_id = u64::from_str_radix(parent_id, 16).ok()?;
+        let flags = u8::from_str_radix(flags, 16).ok()?;
+        if trace_id == 0 || parent_id == 0 {
+            return None;
+        }
+        Some(Self { trace_id, parent_id, flags })
+    }
+
+    /// Formats this trace context as a `traceparent` header value.
+    pub fn to_traceparent(&self) -> String {
+        self.to_string()
+    }
+}
+
+impl fmt::Display for TraceContext {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        write!(f, "{}-{:032x}-{:016x}-{:02x}", TRACEPARENT_VERSION, self.trace_id, self.parent_id, self.flags)
+    }
+}
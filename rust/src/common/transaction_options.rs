@@ -19,6 +19,8 @@
 
 use std::time::Duration;
 
+use super::TraceContext;
+
 /// TypeDB transaction options.
 /// `TransactionOptions` object can be used to override the default behaviour for opened
 /// transactions.
@@ -34,6 +36,9 @@ pub struct TransactionOptions {
     pub transaction_timeout: Option<Duration>,
     /// If set, specifies how long the driver should wait if opening a transaction is blocked by an exclusive schema write lock.
     pub schema_lock_acquire_timeout: Option<Duration>,
+    /// If set, specifies the trace context the transaction is opened under. It is propagated to the server
+    /// as `traceparent` gRPC metadata so that server-side spans join the caller's trace.
+    pub trace_context: Option<TraceContext>,
 }
 
 impl TransactionOptions {
@@ -50,4 +55,10 @@ impl TransactionOptions {
     pub fn schema_lock_acquire_timeout(self, timeout: Duration) -> Self {
         Self { schema_lock_acquire_timeout: Some(timeout), ..self }
     }
+
+    /// If set, specifies the trace context the transaction is opened under. It is propagated to the server
+    /// as `traceparent` gRPC metadata so that server-side spans join the caller's trace.
+    pub fn trace_context(self, trace_context: TraceContext) -> Self {
+        Self { trace_context: Some(trace_context), ..self }
+    }
 }
@@ -70,6 +70,23 @@ impl ValueType {
             Self::Struct(name) => name,
         }
     }
+
+    /// Retrieves the value type with the given name, as returned by `name`.
+    /// Any name other than a built-in value type names a struct.
+    pub fn from_name(name: &str) -> Self {
+        match name {
+            Self::BOOLEAN_STR => Self::Boolean,
+            Self::INTEGER_STR => Self::Integer,
+            Self::DOUBLE_STR => Self::Double,
+            Self::DECIMAL_STR => Self::Decimal,
+            Self::STRING_STR => Self::String,
+            Self::DATE_STR => Self::Date,
+            Self::DATETIME_STR => Self::Datetime,
+            Self::DATETIME_TZ_STR => Self::DatetimeTZ,
+            Self::DURATION_STR => Self::Duration,
+            name => Self::Struct(name.to_owned()),
+        }
+    }
 }
 
 impl fmt::Display for ValueType {
@@ -37,14 +37,24 @@ impl DatabaseImportStream {
         Self { import_transmitter }
     }
 
-    pub(crate) fn send_items(&mut self, items: Vec<migration::Item>) -> Result {
-        self.import_transmitter.single(DatabaseImportRequest::ItemPart { items })
+    /// Waits while the in-flight window of the import is full.
+    #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
+    pub(crate) async fn send_items(&mut self, items: Vec<migration::Item>) -> Result {
+        self.import_transmitter.single(DatabaseImportRequest::ItemPart { items }).await
+    }
+
+    /// The number of items handed to the gRPC stream, which only takes more as the server reads them.
+    pub(crate) fn sent_items(&self) -> u64 {
+        self.import_transmitter.sent_items()
     }
 
     #[doc(hidden)]
     pub fn done(mut self) -> impl Promise<'static, Result> {
         promisify! {
+            #[cfg(feature = "sync")]
             self.import_transmitter.single(DatabaseImportRequest::Done)?;
+            #[cfg(not(feature = "sync"))]
+            self.import_transmitter.single(DatabaseImportRequest::Done).await?;
             let promise = self.import_transmitter.wait_done();
             resolve!(promise)
         }
@@ -17,11 +17,11 @@
  * under the License.
  */
 
-use std::time::Duration;
+use std::{sync::Arc, time::Duration};
 
-use tokio::sync::mpsc::UnboundedSender;
+use tokio::sync::mpsc::{Sender, UnboundedSender};
 use tonic::Streaming;
-use typedb_protocol::{database, database_manager, migration::Item, transaction};
+use typedb_protocol::{database, database_manager, migration::Item, query, transaction};
 use uuid::Uuid;
 
 use crate::{
@@ -94,7 +94,7 @@ pub(super) enum Response {
         database: DatabaseInfo,
     },
     DatabaseImport {
-        request_sink: UnboundedSender<database_manager::import::Client>,
+        request_sink: Sender<database_manager::import::Client>,
         response_source: Streaming<database_manager::import::Server>,
     },
     DatabaseGet {
@@ -179,6 +179,17 @@ pub(super) enum AnalyzeResponse {
 #[derive(Debug)]
 pub(super) enum QueryRequest {
     Query { query: String, options: QueryOptions, rows: Option<GivenRows> },
+    Encoded { request: Arc<EncodedQuery>, rows: Option<GivenRows> },
+}
+
+/// A query request encoded once, so that repeated executions only attach their given rows.
+#[derive(Debug)]
+pub(crate) struct EncodedQuery(pub(super) query::Req);
+
+impl EncodedQuery {
+    pub(crate) fn query(&self) -> &str {
+        &self.0.query
+    }
 }
 
 #[derive(Debug)]
@@ -17,7 +17,7 @@
  * under the License.
  */
 
-pub(crate) use self::transaction_stream::TransactionStream;
+pub(crate) use self::{message::EncodedQuery, transaction_stream::TransactionStream};
 pub use self::{credentials::Credentials, driver_options::DriverOptions, driver_tls_config::DriverTlsConfig};
 
 mod credentials;
@@ -34,7 +34,7 @@ use tonic::{
 };
 
 use crate::{
-    Credentials, DriverOptions, Error,
+    Credentials, DriverOptions, Error, TraceContext,
     common::{Result, StdResult, address::Address},
     error::ConnectionError,
 };
@@ -128,3 +128,12 @@ impl Interceptor for CredentialInjector {
         Ok(self.call_credentials.inject(request))
     }
 }
+
+/// Adds the caller's trace context to the request metadata. Unlike the `authorization` header, which
+/// `CredentialInjector` adds to every call on the channel, the trace context is specific to a single call.
+pub(super) fn inject_trace_context<T>(request: &mut Request<T>, trace_context: &TraceContext) {
+    request.metadata_mut().insert(
+        TraceContext::METADATA_KEY,
+        trace_context.to_traceparent().try_into().expect("Expected traceparent header formatting"),
+    );
+}
@@ -26,14 +26,14 @@ use uuid::Uuid;
 
 use super::{FromProto, IntoProto, TryFromProto, TryIntoProto};
 use crate::{
-    Credentials,
+    Credentials, QueryOptions,
     analyze::pipeline::Pipeline,
     answer::{QueryType, concept_document::ConceptDocumentHeader, concept_row::ConceptRowHeader},
     common::{RequestID, Result, info::DatabaseInfo},
     connection::{
         message::{
-            AnalyzeResponse, DatabaseExportResponse, DatabaseImportRequest, QueryRequest, QueryResponse, Request,
-            Response, TransactionRequest, TransactionResponse,
+            AnalyzeResponse, DatabaseExportResponse, DatabaseImportRequest, EncodedQuery, QueryRequest, QueryResponse,
+            Request, Response, TransactionRequest, TransactionResponse,
         },
         server::{Server, server_version::ServerVersion},
     },
@@ -234,10 +234,19 @@ impl IntoProto<typedb_protocol::query::Req> for QueryRequest {
                 options: Some(options.into_proto()),
                 given: rows.map(|r| r.into_proto()),
             },
+            QueryRequest::Encoded { request, rows } => {
+                typedb_protocol::query::Req { given: rows.map(|r| r.into_proto()), ..request.0.clone() }
+            }
         }
     }
 }
 
+impl EncodedQuery {
+    pub(crate) fn encode(query: &str, options: QueryOptions) -> Self {
+        Self(typedb_protocol::query::Req { query: query.to_owned(), options: Some(options.into_proto()), given: None })
+    }
+}
+
 impl IntoProto<typedb_protocol::query::req::GivenRows> for GivenRows {
     fn into_proto(self) -> typedb_protocol::query::req::GivenRows {
         let variables = self.header.variables.clone();
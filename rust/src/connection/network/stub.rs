@@ -20,17 +20,18 @@
 use std::{sync::Arc, time::Duration};
 
 use futures::{FutureExt, TryFutureExt, future::BoxFuture};
-use tokio::sync::mpsc::{UnboundedSender, unbounded_channel as unbounded_async};
-use tokio_stream::wrappers::UnboundedReceiverStream;
-use tonic::{Response, Status, Streaming};
+use tokio::sync::mpsc::{Sender, UnboundedSender, channel as bounded_async, unbounded_channel as unbounded_async};
+use tokio_stream::wrappers::{ReceiverStream, UnboundedReceiverStream};
+use tonic::{Request, Response, Status, Streaming};
 use tracing::debug;
 use typedb_protocol::{
     connection, database, database_manager, migration, server, server_manager, transaction,
     type_db_client::TypeDbClient as GRPC, user, user_manager,
 };
 
-use super::channel::{CallCredentials, GRPCChannel};
+use super::channel::{CallCredentials, GRPCChannel, inject_trace_context};
 use crate::{
+    TraceContext,
     common::{Error, Result, StdResult, error::ConnectionError},
     connection::network::proto::TryIntoProto,
 };
@@ -141,13 +142,14 @@ impl<Channel: GRPCChannel> RPCStub<Channel> {
     pub(super) async fn databases_import(
         &mut self,
         client: migration::import::Client,
-    ) -> Result<(UnboundedSender<database_manager::import::Client>, Streaming<database_manager::import::Server>)> {
+    ) -> Result<(Sender<database_manager::import::Client>, Streaming<database_manager::import::Server>)> {
         self.call_with_auto_renew_token(|this| {
             let import_req = database_manager::import::Client { client: Some(client.clone()) };
             Box::pin(async {
-                let (sender, receiver) = unbounded_async();
-                sender.send(import_req)?;
-                let response = this.grpc.databases_import(UnboundedReceiverStream::new(receiver)).await?.into_inner();
+                // one request waits for the transport at a time, so that the server's flow control reaches the sender
+                let (sender, receiver) = bounded_async(1);
+                sender.send(import_req).await?;
+                let response = this.grpc.databases_import(ReceiverStream::new(receiver)).await?.into_inner();
                 Ok((sender, response))
             })
         })
@@ -182,14 +184,19 @@ impl<Channel: GRPCChannel> RPCStub<Channel> {
     pub(super) async fn transaction(
         &mut self,
         open_req: transaction::Req,
+        trace_context: Option<TraceContext>,
     ) -> Result<(UnboundedSender<transaction::Client>, Streaming<transaction::Server>)> {
         self.call_with_auto_renew_token(|this| {
             let transaction_req = transaction::Client { reqs: vec![open_req.clone()] };
-            Box::pin(async {
+            Box::pin(async move {
                 let (sender, receiver) = unbounded_async();
                 sender.send(transaction_req)?;
+                let mut request = Request::new(UnboundedReceiverStream::new(receiver));
+                if let Some(trace_context) = &trace_context {
+                    inject_trace_context(&mut request, trace_context);
+                }
                 this.grpc
-                    .transaction(UnboundedReceiverStream::new(receiver))
+                    .transaction(request)
                     .map_ok(|stream| Response::new((sender, stream.into_inner())))
                     .map(|r| Ok(r?.into_inner()))
                     .await
@@ -20,20 +20,26 @@
 use std::sync::Arc;
 
 use futures::StreamExt;
-use tokio::sync::mpsc::{UnboundedReceiver, UnboundedSender, unbounded_channel as unbounded_async};
+use tokio::sync::mpsc::{
+    Sender, UnboundedReceiver, UnboundedSender, channel as bounded_async, unbounded_channel as unbounded_async,
+};
 use tonic::Streaming;
 use typedb_protocol::database;
 
 use crate::{
     common::{
         Result,
-        stream::{NetworkStream, Stream},
+        stream::{BoundedNetworkStream, Stream},
     },
     connection::{message::DatabaseExportResponse, network::proto::TryFromProto, runtime::BackgroundRuntime},
 };
 
+/// The number of server batches buffered ahead of the reader. While the buffer is full, the gRPC stream is not
+/// polled, so that HTTP/2 flow control pauses the server until the reader catches up.
+const BUFFERED_BATCHES: usize = 2;
+
 pub(crate) struct DatabaseExportTransmitter {
-    stream: NetworkStream<Result<DatabaseExportResponse>>,
+    stream: BoundedNetworkStream<Result<DatabaseExportResponse>>,
     shutdown_sink: UnboundedSender<()>,
     // runtime is alive as long as the export transmitter is alive:
     _background_runtime: Arc<BackgroundRuntime>,
@@ -44,11 +50,11 @@ impl DatabaseExportTransmitter {
         background_runtime: Arc<BackgroundRuntime>,
         response_source: Streaming<database::export::Server>,
     ) -> Self {
-        let (response_sender, response_receiver) = unbounded_async();
+        let (response_sender, response_receiver) = bounded_async(BUFFERED_BATCHES);
         let (shutdown_sink, shutdown_source) = unbounded_async();
 
         background_runtime.spawn(Self::start_workers(response_source, response_sender, shutdown_source));
-        Self { stream: NetworkStream::new(response_receiver), shutdown_sink, _background_runtime: background_runtime }
+        Self { stream: BoundedNetworkStream::new(response_receiver), shutdown_sink, _background_runtime: background_runtime }
     }
 
     pub(in crate::connection) fn shutdown_sink(&self) -> &UnboundedSender<()> {
@@ -61,7 +67,7 @@ impl DatabaseExportTransmitter {
 
     async fn start_workers(
         response_source: Streaming<database::export::Server>,
-        response_sender: UnboundedSender<Result<DatabaseExportResponse>>,
+        response_sender: Sender<Result<DatabaseExportResponse>>,
         shutdown_signal: UnboundedReceiver<()>,
     ) {
         tokio::spawn(Self::listen_loop(response_source, response_sender, shutdown_signal));
@@ -69,22 +75,22 @@ impl DatabaseExportTransmitter {
 
     async fn listen_loop(
         mut grpc_source: Streaming<database::export::Server>,
-        response_sender: UnboundedSender<Result<DatabaseExportResponse>>,
+        response_sender: Sender<Result<DatabaseExportResponse>>,
         mut shutdown_signal: UnboundedReceiver<()>,
     ) {
         loop {
-            if shutdown_signal.try_recv().is_ok() {
-                break;
-            }
-            match grpc_source.next().await {
-                Some(Ok(message)) => response_sender
-                    .send(DatabaseExportResponse::try_from_proto(message))
-                    .expect("Expected export channel to be open. It is a bug."),
-                Some(Err(status)) => {
-                    response_sender.send(Err(status.into())).expect("Expected export channel to be open. It is a bug.");
-                    break;
+            let response = tokio::select! { biased;
+                _ = shutdown_signal.recv() => break,
+                message = grpc_source.next() => match message {
+                    Some(Ok(message)) => DatabaseExportResponse::try_from_proto(message),
+                    Some(Err(status)) => Err(status.into()),
+                    None => break,
                 }
-                None => break,
+            };
+            let is_error = response.is_err();
+            // the export is abandoned once its reader is dropped, which also drops the gRPC stream
+            if response_sender.send(response).await.is_err() || is_error {
+                break;
             }
         }
     }
@@ -17,10 +17,16 @@
  * under the License.
  */
 
-use std::{sync::Arc, thread::sleep, time::Duration};
+use std::sync::{
+    Arc,
+    atomic::{AtomicU64, Ordering},
+};
 
 use futures::StreamExt;
-use tokio::sync::mpsc::{UnboundedReceiver, UnboundedSender, unbounded_channel as unbounded_async};
+use tokio::sync::mpsc::{
+    Receiver, Sender, UnboundedReceiver, UnboundedSender, channel as bounded_async,
+    unbounded_channel as unbounded_async,
+};
 #[cfg(not(feature = "sync"))]
 use tokio::sync::oneshot::{Receiver as OneshotReceiver, channel as oneshot, error::TryRecvError};
 use tonic::Streaming;
@@ -41,7 +47,8 @@ use crate::{
 };
 
 pub(crate) struct DatabaseImportTransmitter {
-    request_sink: UnboundedSender<DatabaseImportRequest>,
+    request_sink: Sender<DatabaseImportRequest>,
+    sent_items: Arc<AtomicU64>,
     shutdown_guard: ShutdownGuard<()>,
     result_source: OneshotReceiver<Result>,
     // runtime is alive as long as the import transmitter is alive:
@@ -49,13 +56,17 @@ pub(crate) struct DatabaseImportTransmitter {
 }
 
 impl DatabaseImportTransmitter {
+    /// At most `in_flight_batches` requests wait to be handed to the gRPC stream. Once they do, sending blocks until
+    /// the server reads from the stream.
     pub(in crate::connection) fn new(
         background_runtime: Arc<BackgroundRuntime>,
-        request_sink: UnboundedSender<database_manager::import::Client>,
+        request_sink: Sender<database_manager::import::Client>,
         response_source: Streaming<database_manager::import::Server>,
+        in_flight_batches: usize,
     ) -> Self {
-        let (buffer_sink, buffer_source) = unbounded_async();
+        let (buffer_sink, buffer_source) = bounded_async(in_flight_batches.max(1));
         let (shutdown_sink, shutdown_source) = unbounded_async();
+        let sent_items = Arc::new(AtomicU64::new(0));
 
         let (result_sink, result_source) = oneshot();
         #[cfg(feature = "sync")]
@@ -66,6 +77,7 @@ impl DatabaseImportTransmitter {
         background_runtime.spawn(Self::start_workers(
             buffer_source,
             request_sink,
+            sent_items.clone(),
             response_source,
             result_sink,
             shutdown_sink.clone(),
@@ -73,6 +85,7 @@ impl DatabaseImportTransmitter {
         ));
         Self {
             request_sink: buffer_sink,
+            sent_items,
             shutdown_guard: ShutdownGuard::new(shutdown_sink),
             result_source,
             _background_runtime: background_runtime,
@@ -83,10 +96,32 @@ impl DatabaseImportTransmitter {
         &self.shutdown_guard
     }
 
+    pub(in crate::connection) fn sent_items(&self) -> u64 {
+        self.sent_items.load(Ordering::Relaxed)
+    }
+
+    #[cfg(not(feature = "sync"))]
+    pub(in crate::connection) async fn single(&mut self, req: DatabaseImportRequest) -> Result {
+        self.check_early_result()?;
+        match self.request_sink.send(req).await {
+            Ok(()) => Ok(()),
+            Err(_) => self.closed_error(),
+        }
+    }
+
+    #[cfg(feature = "sync")]
     pub(in crate::connection) fn single(&mut self, req: DatabaseImportRequest) -> Result {
         self.check_early_result()?;
-        let send_result = self.request_sink.send(req);
-        send_result.map_err(|_| ConnectionError::DatabaseImportChannelIsClosed.into())
+        match self.request_sink.blocking_send(req) {
+            Ok(()) => Ok(()),
+            Err(_) => self.closed_error(),
+        }
+    }
+
+    /// The error the server closed the import with, if any, rather than the closed channel it caused.
+    fn closed_error(&mut self) -> Result {
+        self.check_early_result()?;
+        Err(ConnectionError::DatabaseImportChannelIsClosed.into())
     }
 
     #[cfg(not(feature = "sync"))]
@@ -136,33 +171,46 @@ impl DatabaseImportTransmitter {
     }
 
     async fn start_workers(
-        queue_source: UnboundedReceiver<DatabaseImportRequest>,
-        request_sink: UnboundedSender<database_manager::import::Client>,
+        queue_source: Receiver<DatabaseImportRequest>,
+        request_sink: Sender<database_manager::import::Client>,
+        sent_items: Arc<AtomicU64>,
         response_source: Streaming<database_manager::import::Server>,
         result_sink: ResponseSink<()>,
         shutdown_sink: UnboundedSender<()>,
         shutdown_signal: UnboundedReceiver<()>,
     ) {
-        tokio::task::spawn_blocking(move || Self::dispatch_loop(queue_source, request_sink, shutdown_signal));
+        tokio::spawn(Self::dispatch_loop(queue_source, request_sink, sent_items, shutdown_signal));
         tokio::spawn(Self::next(response_source, result_sink, shutdown_sink));
     }
 
-    fn dispatch_loop(
-        mut request_source: UnboundedReceiver<DatabaseImportRequest>,
-        request_sink: UnboundedSender<database_manager::import::Client>,
+    async fn dispatch_loop(
+        mut request_source: Receiver<DatabaseImportRequest>,
+        request_sink: Sender<database_manager::import::Client>,
+        sent_items: Arc<AtomicU64>,
         mut shutdown_signal: UnboundedReceiver<()>,
     ) {
-        const DISPATCH_INTERVAL: Duration = Duration::from_micros(50);
-
         loop {
-            if shutdown_signal.try_recv().is_ok() {
+            let request = tokio::select! { biased;
+                _ = shutdown_signal.recv() => break,
+                request = request_source.recv() => match request {
+                    Some(request) => request,
+                    None => break,
+                }
+            };
+            let items = match &request {
+                DatabaseImportRequest::ItemPart { items } => items.len() as u64,
+                _ => 0,
+            };
+            let client_req = database_manager::import::Client { client: Some(request.into_proto()) };
+            // waits while the server is not reading, which in turn fills the in-flight window of the sender
+            let sent = tokio::select! { biased;
+                _ = shutdown_signal.recv() => break,
+                sent = request_sink.send(client_req) => sent,
+            };
+            if sent.is_err() {
                 break;
             }
-            sleep(DISPATCH_INTERVAL);
-            if let Ok(request) = request_source.try_recv() {
-                let client_req = database_manager::import::Client { client: Some(request.into_proto()) };
-                request_sink.send(client_req).ok();
-            }
+            sent_items.fetch_add(items, Ordering::Relaxed);
         }
     }
 
@@ -32,7 +32,7 @@ use crate::{
     Credentials, DriverOptions, Error,
     common::{RequestID, Result, address::Address, error::ConnectionError},
     connection::{
-        message::{Request, Response, TransactionResponse},
+        message::{Request, Response, TransactionRequest, TransactionResponse},
         network::{
             channel::{GRPCChannel, open_callcred_channel},
             proto::{FromProto, IntoProto, TryFromProto, TryIntoProto},
@@ -178,11 +178,15 @@ impl RPCTransmitter {
 
     async fn open_transaction<Channel: GRPCChannel>(
         mut rpc: RPCStub<Channel>,
-        transaction_request: crate::connection::message::TransactionRequest,
+        transaction_request: TransactionRequest,
     ) -> Result<Response> {
+        let trace_context = match &transaction_request {
+            TransactionRequest::Open { options, .. } => options.trace_context,
+            _ => None,
+        };
         let req = transaction_request.into_proto();
         let open_request_id = RequestID::from(req.req_id.clone());
-        let (request_sink, mut response_source) = rpc.transaction(req).await?;
+        let (request_sink, mut response_source) = rpc.transaction(req, trace_context).await?;
         match response_source.next().await {
             Some(Ok(transaction::Server { server: Some(Server::Res(res)) })) => {
                 match TransactionResponse::try_from_proto(res) {
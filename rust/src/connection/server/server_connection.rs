@@ -182,14 +182,23 @@ impl ServerConnection {
     }
 
     #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
-    pub(crate) async fn import_database(&self, database_name: String, schema: String) -> Result<DatabaseImportStream> {
+    pub(crate) async fn import_database(
+        &self,
+        database_name: String,
+        schema: String,
+        in_flight_batches: usize,
+    ) -> Result<DatabaseImportStream> {
         match self
             .request(Request::DatabaseImport(DatabaseImportRequest::Initial { name: database_name, schema }))
             .await?
         {
             Response::DatabaseImport { request_sink, response_source } => {
-                let transmitter =
-                    DatabaseImportTransmitter::new(self.background_runtime.clone(), request_sink, response_source);
+                let transmitter = DatabaseImportTransmitter::new(
+                    self.background_runtime.clone(),
+                    request_sink,
+                    response_source,
+                    in_flight_batches,
+                );
                 let transmitter_shutdown_sink = transmitter.shutdown_sink().clone();
                 let import_stream = DatabaseImportStream::new(transmitter);
 
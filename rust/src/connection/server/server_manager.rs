@@ -18,14 +18,19 @@
  */
 #[cfg(not(feature = "sync"))]
 use std::future::Future;
+#[cfg(feature = "sync")]
+use std::{sync::mpsc, thread};
 use std::{
     collections::{HashMap, HashSet},
     fmt,
+    ops::ControlFlow,
     sync::{Arc, RwLock, RwLockReadGuard, RwLockWriteGuard},
     thread::sleep,
     time::Duration,
 };
 
+#[cfg(not(feature = "sync"))]
+use futures::{StreamExt, stream::FuturesUnordered};
 use itertools::Itertools;
 use tracing::debug;
 
@@ -120,19 +125,31 @@ impl ServerManager {
         let mut connection_errors = HashMap::with_capacity(replicas.len());
         let mut new_replica_connections = HashMap::new();
         let connection_addresses: HashSet<Address> = self.read_replica_connections().keys().cloned().collect();
-        for replica in &replicas {
-            let private_address = replica.private_address().clone();
-            if !connection_addresses.contains(&private_address) {
-                match self.new_replica_connection(replica.address().clone()).await {
-                    Ok(replica_connection) => {
-                        new_replica_connections.insert(private_address, replica_connection);
+        let missing_private_addresses: HashMap<Address, Address> = replicas
+            .iter()
+            .filter(|replica| !connection_addresses.contains(replica.private_address()))
+            .map(|replica| (replica.address().clone(), replica.private_address().clone()))
+            .collect();
+        Self::connect_concurrently(
+            &self.background_runtime,
+            missing_private_addresses.keys().cloned(),
+            &self.credentials,
+            &self.driver_options,
+            &self.driver_lang,
+            &self.driver_version,
+            |address, result| {
+                match result {
+                    Ok((replica_connection, _)) => {
+                        new_replica_connections.insert(missing_private_addresses[&address].clone(), replica_connection);
                     }
                     Err(err) => {
-                        connection_errors.insert(replica.address().clone(), err);
+                        connection_errors.insert(address, err);
                     }
                 }
-            }
-        }
+                ControlFlow::<()>::Continue(())
+            },
+        )
+        .await;
 
         let replica_addresses: HashSet<Address> =
             replicas.into_iter().map(|replica| replica.private_address().clone()).collect();
@@ -387,33 +404,33 @@ impl ServerManager {
     ) -> Result<(HashMap<Address, ServerConnection>, HashSet<Server>)> {
         let address_translation = addresses.address_translation();
         let mut errors = Vec::with_capacity(addresses.len());
-        for address in addresses.addresses() {
-            let replica_connection = ServerConnection::new(
-                background_runtime.clone(),
-                address.clone(),
-                credentials.clone(),
-                driver_options.clone(),
-                driver_lang.as_ref(),
-                driver_version.as_ref(),
-            )
-            .await;
-            match replica_connection {
+        let fetched = Self::connect_concurrently(
+            &background_runtime,
+            addresses.addresses().cloned(),
+            &credentials,
+            &driver_options,
+            driver_lang.as_ref(),
+            driver_version.as_ref(),
+            |address, result| match result {
                 Ok((replica_connection, replicas)) => {
                     debug!("Fetched replicas from configured address '{address}': {replicas:?}");
                     let translated_replicas =
                         Self::translate_replicas(replicas, &address_translation, &replica_connection);
                     let mut source_connections = HashMap::with_capacity(translated_replicas.len());
-                    source_connections.insert(address.clone(), replica_connection);
-                    return Ok((source_connections, translated_replicas));
+                    source_connections.insert(address, replica_connection);
+                    ControlFlow::Break(Ok((source_connections, translated_replicas)))
                 }
                 Err(Error::Connection(err)) => {
-                    debug!("Unable to fetch replicas from {}: {err:?}. Attempting next server.", address);
+                    debug!("Unable to fetch replicas from {}: {err:?}. Waiting for the other servers.", address);
                     errors.push(err);
+                    ControlFlow::Continue(())
                 }
-                Err(err) => {
-                    return Err(err);
-                }
-            }
+                Err(err) => ControlFlow::Break(Err(err)),
+            },
+        )
+        .await;
+        if let Some(fetched) = fetched {
+            return fetched;
         }
         Err(ConnectionError::ServerConnectionFailed {
             configured_addresses: addresses.clone(),
@@ -423,6 +440,84 @@ impl ServerManager {
         .into())
     }
 
+    /// Opens connections to all `addresses` at once, so that connecting takes as long as the slowest server
+    /// rather than the sum of all of them: each attempt is bounded by the request timeout. Outcomes are passed
+    /// to `on_result` in the order they complete until it breaks; the attempts still in flight are then abandoned.
+    #[cfg(not(feature = "sync"))]
+    async fn connect_concurrently<B>(
+        background_runtime: &Arc<BackgroundRuntime>,
+        addresses: impl IntoIterator<Item = Address>,
+        credentials: &Credentials,
+        driver_options: &DriverOptions,
+        driver_lang: &str,
+        driver_version: &str,
+        mut on_result: impl FnMut(Address, Result<(ServerConnection, Vec<Server>)>) -> ControlFlow<B>,
+    ) -> Option<B> {
+        let mut attempts: FuturesUnordered<_> = addresses
+            .into_iter()
+            .map(|address| async move {
+                let result = ServerConnection::new(
+                    background_runtime.clone(),
+                    address.clone(),
+                    credentials.clone(),
+                    driver_options.clone(),
+                    driver_lang,
+                    driver_version,
+                )
+                .await;
+                (address, result)
+            })
+            .collect();
+        while let Some((address, result)) = attempts.next().await {
+            if let ControlFlow::Break(value) = on_result(address, result) {
+                return Some(value);
+            }
+        }
+        None
+    }
+
+    /// Opens connections to all `addresses` at once, so that connecting takes as long as the slowest server
+    /// rather than the sum of all of them: each attempt is bounded by the request timeout. Outcomes are passed
+    /// to `on_result` in the order they complete until it breaks; the attempts still in flight are then abandoned.
+    #[cfg(feature = "sync")]
+    fn connect_concurrently<B>(
+        background_runtime: &Arc<BackgroundRuntime>,
+        addresses: impl IntoIterator<Item = Address>,
+        credentials: &Credentials,
+        driver_options: &DriverOptions,
+        driver_lang: &str,
+        driver_version: &str,
+        mut on_result: impl FnMut(Address, Result<(ServerConnection, Vec<Server>)>) -> ControlFlow<B>,
+    ) -> Option<B> {
+        let (result_sink, results) = mpsc::channel();
+        for address in addresses {
+            let result_sink = result_sink.clone();
+            let background_runtime = background_runtime.clone();
+            let credentials = credentials.clone();
+            let driver_options = driver_options.clone();
+            let driver_lang = driver_lang.to_owned();
+            let driver_version = driver_version.to_owned();
+            thread::spawn(move || {
+                let result = ServerConnection::new(
+                    background_runtime,
+                    address.clone(),
+                    credentials,
+                    driver_options,
+                    &driver_lang,
+                    &driver_version,
+                );
+                result_sink.send((address, result)).ok();
+            });
+        }
+        drop(result_sink);
+        for (address, result) in results {
+            if let ControlFlow::Break(value) = on_result(address, result) {
+                return Some(value);
+            }
+        }
+        None
+    }
+
     #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
     pub(crate) async fn fetch_servers(&self, server_routing: ServerRouting) -> Result<HashSet<Server>> {
         let is_auto = server_routing == ServerRouting::Auto;
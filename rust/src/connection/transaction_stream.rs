@@ -32,7 +32,9 @@ use crate::{
         Promise, Result,
         stream::{BoxStream, Stream},
     },
-    connection::message::{AnalyzeResponse, QueryRequest, QueryResponse, TransactionRequest, TransactionResponse},
+    connection::message::{
+        AnalyzeResponse, EncodedQuery, QueryRequest, QueryResponse, TransactionRequest, TransactionResponse,
+    },
     error::{ConnectionError, InternalError},
     given::GivenRows,
     promisify, resolve,
@@ -145,7 +147,19 @@ impl TransactionStream {
         options: QueryOptions,
         rows: Option<GivenRows>,
     ) -> impl Promise<'static, Result<QueryAnswer>> + use<> {
-        let stream = self.query_stream(QueryRequest::Query { query: query.to_owned(), options, rows });
+        self.query_answer(QueryRequest::Query { query: query.to_owned(), options, rows })
+    }
+
+    pub(crate) fn query_encoded(
+        &self,
+        request: Arc<EncodedQuery>,
+        rows: Option<GivenRows>,
+    ) -> impl Promise<'static, Result<QueryAnswer>> + use<> {
+        self.query_answer(QueryRequest::Encoded { request, rows })
+    }
+
+    fn query_answer(&self, req: QueryRequest) -> impl Promise<'static, Result<QueryAnswer>> + use<> {
+        let stream = self.query_stream(req);
         promisify! {
             let mut stream = stream?;
 
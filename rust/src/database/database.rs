@@ -28,7 +28,10 @@ use prost::Message;
 use crate::{
     common::{Error, Result, info::DatabaseInfo},
     connection::server::{server_manager::ServerManager, server_routing::ServerRouting},
-    database::migration::{DatabaseExportAnswer, try_create_export_file, try_open_existing_export_file},
+    database::{
+        DatabaseExport,
+        migration::{DatabaseExportAnswer, try_create_export_file, try_open_existing_export_file},
+    },
     error::MigrationError,
     resolve,
 };
@@ -178,4 +181,25 @@ impl Database {
         }
         result
     }
+
+    /// Starts a streaming export of the database, to be read incrementally rather than written to files.
+    /// This is useful to export into destinations other than local files without staging the export on disk.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    #[cfg_attr(feature = "sync", doc = "let mut export = database.export()?;")]
+    #[cfg_attr(not(feature = "sync"), doc = "let mut export = database.export().await?;")]
+    /// ```
+    #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
+    pub async fn export(&self) -> Result<DatabaseExport> {
+        let export_stream = self
+            .server_manager
+            .execute(ServerRouting::Auto, |server_connection| {
+                let name = self.name.clone();
+                async move { server_connection.database_export(name).await }
+            })
+            .await?;
+        Ok(DatabaseExport::new(export_stream))
+    }
 }
@@ -22,7 +22,7 @@ use std::{io::BufReader, path::Path, sync::Arc};
 use itertools::Itertools;
 use typedb_protocol::migration::Item;
 
-use super::Database;
+use super::{Database, DatabaseImport};
 use crate::{
     common::Result,
     connection::{
@@ -34,6 +34,9 @@ use crate::{
     resolve,
 };
 
+// The number of batches of an import from a file that may wait for the server to read them
+const IMPORT_IN_FLIGHT_BATCHES: usize = 4;
+
 /// Provides access to all database management methods.
 #[derive(Debug)]
 pub struct DatabaseManager {
@@ -153,7 +156,9 @@ impl DatabaseManager {
         self.server_manager
             .execute(ServerRouting::Auto, move |server_connection| {
                 let name = name.clone();
-                async move { server_connection.import_database(name, schema_ref.to_string()).await }
+                async move {
+                    server_connection.import_database(name, schema_ref.to_string(), IMPORT_IN_FLIGHT_BATCHES).await
+                }
             })
             .await
     }
@@ -194,7 +199,9 @@ impl DatabaseManager {
                 let name = name.clone();
                 async move {
                     let file = try_open_import_file(data_file_path)?;
-                    let mut import_stream = server_connection.import_database(name, schema_ref.to_string()).await?;
+                    let mut import_stream = server_connection
+                        .import_database(name, schema_ref.to_string(), IMPORT_IN_FLIGHT_BATCHES)
+                        .await?;
 
                     let mut item_buffer = Vec::with_capacity(ITEM_BATCH_SIZE);
                     let mut read_item_iterator = ProtoMessageIterator::<Item, _>::new(BufReader::new(file));
@@ -203,12 +210,12 @@ impl DatabaseManager {
                         let item = item?;
                         item_buffer.push(item);
                         if item_buffer.len() >= ITEM_BATCH_SIZE {
-                            import_stream.send_items(item_buffer.split_off(0))?;
+                            import_stream.send_items(item_buffer.split_off(0)).await?;
                         }
                     }
 
                     if !item_buffer.is_empty() {
-                        import_stream.send_items(item_buffer)?;
+                        import_stream.send_items(item_buffer).await?;
                     }
 
                     resolve!(import_stream.done())
@@ -217,6 +224,44 @@ impl DatabaseManager {
             .await
     }
 
+    /// Starts creating a database with the given name from previously exported data, to be written incrementally
+    /// rather than read from a file. The data is decoded as it is written and sent to the server in batches
+    /// of the given size, of which at most `in_flight_batches` wait for the server to read them.
+    ///
+    /// # Arguments
+    ///
+    /// * `name` — The name of the database to be created
+    /// * `schema` — The schema definition query string for the database
+    /// * `batch_size` — The number of items sent to the server in each batch
+    /// * `in_flight_batches` — The number of batches that may wait for the server before writing waits
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    #[cfg_attr(feature = "sync", doc = "let mut import = driver.databases().import(name, schema, 250, 4)?;")]
+    #[cfg_attr(not(feature = "sync"), doc = "let mut import = driver.databases().import(name, schema, 250, 4).await?;")]
+    /// ```
+    #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
+    pub async fn import(
+        &self,
+        name: impl Into<String>,
+        schema: impl Into<String>,
+        batch_size: usize,
+        in_flight_batches: usize,
+    ) -> Result<DatabaseImport> {
+        let name = name.into();
+        let schema: String = schema.into();
+        let import_stream = self
+            .server_manager
+            .execute(ServerRouting::Auto, |server_connection| {
+                let name = name.clone();
+                let schema = schema.clone();
+                async move { server_connection.import_database(name, schema, in_flight_batches).await }
+            })
+            .await?;
+        Ok(DatabaseImport::new(import_stream, batch_size.max(1)))
+    }
+
     fn try_build_database(&self, database_info: DatabaseInfo) -> Result<Arc<Database>> {
         Database::new(database_info, self.server_manager.clone()).map(Arc::new)
     }
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{cmp::min, fmt};
+
+use prost::Message;
+
+use crate::{
+    common::{Error, Result},
+    connection::database::export_stream::DatabaseExportStream,
+    database::migration::DatabaseExportAnswer,
+    error::MigrationError,
+    resolve,
+};
+
+/// A database export being streamed from the server, read incrementally rather than written to files.
+/// Only a couple of batches of exported items, as sent by the server, are buffered ahead of the reader: the server is
+/// paused by gRPC flow control until they are read. Dropping the export abandons it.
+pub struct DatabaseExport {
+    stream: DatabaseExportStream,
+    schema: Option<String>,
+    data: Vec<u8>,
+    position: usize,
+    is_done: bool,
+}
+
+impl DatabaseExport {
+    pub(crate) fn new(stream: DatabaseExportStream) -> Self {
+        Self { stream, schema: None, data: Vec::new(), position: 0, is_done: false }
+    }
+
+    /// Retrieves the schema definition of the exported database, reading the export up to it.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    #[cfg_attr(feature = "sync", doc = "let schema = export.schema()?;")]
+    #[cfg_attr(not(feature = "sync"), doc = "let schema = export.schema().await?;")]
+    /// ```
+    #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
+    pub async fn schema(&mut self) -> Result<String> {
+        while self.schema.is_none() && !self.is_done {
+            self.receive().await?;
+        }
+        Ok(self.schema.clone().unwrap_or_default())
+    }
+
+    /// Reads the next part of the exported data into `buf`, returning the number of bytes read, or 0 once the
+    /// export is complete. The data is in the format written by `Database::export_to_file`.
+    ///
+    /// # Arguments
+    ///
+    /// * `buf` — The buffer to read the data into
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    #[cfg_attr(feature = "sync", doc = "let read = export.read_data(&mut buf)?;")]
+    #[cfg_attr(not(feature = "sync"), doc = "let read = export.read_data(&mut buf).await?;")]
+    /// ```
+    #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
+    pub async fn read_data(&mut self, buf: &mut [u8]) -> Result<usize> {
+        if buf.is_empty() {
+            return Ok(0);
+        }
+        while self.position == self.data.len() {
+            if self.is_done {
+                return Ok(0);
+            }
+            self.data.clear();
+            self.position = 0;
+            self.receive().await?;
+        }
+        let len = min(buf.len(), self.data.len() - self.position);
+        buf[..len].copy_from_slice(&self.data[self.position..self.position + len]);
+        self.position += len;
+        Ok(len)
+    }
+
+    #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
+    async fn receive(&mut self) -> Result {
+        match resolve!(self.stream.next())? {
+            DatabaseExportAnswer::Done => self.is_done = true,
+            DatabaseExportAnswer::Schema(schema) => self.schema = Some(schema),
+            DatabaseExportAnswer::Items(items) => {
+                for item in items {
+                    item.encode_length_delimited(&mut self.data)
+                        .map_err(|_| Error::Migration(MigrationError::CannotEncodeExportedConcept))?;
+                }
+            }
+        }
+        Ok(())
+    }
+}
+
+impl fmt::Debug for DatabaseExport {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        f.debug_struct("DatabaseExport").field("is_done", &self.is_done).finish()
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::fmt;
+
+use prost::{
+    Message,
+    bytes::{Buf, BytesMut},
+};
+use typedb_protocol::migration::Item;
+
+use crate::{
+    common::Result, connection::database::import_stream::DatabaseImportStream, error::MigrationError, resolve,
+};
+
+/// A database import being streamed to the server, fed incrementally with exported data rather than read from a file.
+/// Complete items are decoded as soon as their bytes are written, and sent to the server in batches, so that
+/// several batches are in flight while more data is written. Writing waits while the in-flight window of the
+/// import is full, so that a slow server slows the writer down rather than the driver buffering the data.
+pub struct DatabaseImport {
+    stream: DatabaseImportStream,
+    buffer: BytesMut,
+    batch: Vec<Item>,
+    batch_size: usize,
+    decoded_items: u64,
+}
+
+impl DatabaseImport {
+    // prost's length delimiters take up to 10 bytes
+    const MAX_LENGTH_DELIMITER_LEN: usize = 10;
+
+    pub(crate) fn new(stream: DatabaseImportStream, batch_size: usize) -> Self {
+        Self { stream, buffer: BytesMut::new(), batch: Vec::with_capacity(batch_size), batch_size, decoded_items: 0 }
+    }
+
+    /// Writes the next part of the exported data, in the format written by `Database::export_to_file`.
+    /// Parts do not need to be aligned to item boundaries. Waits while the in-flight window of the import is full.
+    ///
+    /// # Arguments
+    ///
+    /// * `data` — The next part of the exported data
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    #[cfg_attr(feature = "sync", doc = "import.write_data(&buf[..read])?;")]
+    #[cfg_attr(not(feature = "sync"), doc = "import.write_data(&buf[..read]).await?;")]
+    /// ```
+    #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
+    pub async fn write_data(&mut self, data: &[u8]) -> Result {
+        self.buffer.extend_from_slice(data);
+        while let Some(item) = self.decode_next()? {
+            self.batch.push(item);
+            self.decoded_items += 1;
+            if self.batch.len() >= self.batch_size {
+                self.send_batch().await?;
+            }
+        }
+        Ok(())
+    }
+
+    /// Retrieves the number of items decoded so far. Once the import is done, they have all been imported.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// import.decoded_items();
+    /// ```
+    pub fn decoded_items(&self) -> u64 {
+        self.decoded_items
+    }
+
+    /// Retrieves the number of items sent to the server so far. Items are only sent as fast as the server reads
+    /// them, so that this count, unlike the decoded count, follows the progress of the server.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// import.sent_items();
+    /// ```
+    pub fn sent_items(&self) -> u64 {
+        self.stream.sent_items()
+    }
+
+    /// Sends the remaining items and waits for the server to complete the import.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    #[cfg_attr(feature = "sync", doc = "import.done()?;")]
+    #[cfg_attr(not(feature = "sync"), doc = "import.done().await?;")]
+    /// ```
+    #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
+    pub async fn done(mut self) -> Result {
+        if !self.buffer.is_empty() {
+            return Err(MigrationError::CannotDecodeImportedConcept.into());
+        }
+        if !self.batch.is_empty() {
+            self.send_batch().await?;
+        }
+        resolve!(self.stream.done())
+    }
+
+    #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
+    async fn send_batch(&mut self) -> Result {
+        let batch = std::mem::replace(&mut self.batch, Vec::with_capacity(self.batch_size));
+        self.stream.send_items(batch).await
+    }
+
+    fn decode_next(&mut self) -> Result<Option<Item>> {
+        let mut cursor: &[u8] = &self.buffer;
+        let message_len = match prost::decode_length_delimiter(&mut cursor) {
+            Ok(len) => len,
+            Err(_) if self.buffer.len() < Self::MAX_LENGTH_DELIMITER_LEN => return Ok(None),
+            Err(_) => return Err(MigrationError::CannotDecodeImportedConceptLength.into()),
+        };
+        let consumed = self.buffer.len() - cursor.len();
+        if self.buffer.len() < consumed + message_len {
+            return Ok(None);
+        }
+        self.buffer.advance(consumed);
+        let message_bytes = self.buffer.split_to(message_len).freeze();
+        Item::decode(message_bytes).map(Some).map_err(|_| MigrationError::CannotDecodeImportedConcept.into())
+    }
+}
+
+impl fmt::Debug for DatabaseImport {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        f.debug_struct("DatabaseImport").field("decoded_items", &self.decoded_items).finish()
+    }
+}
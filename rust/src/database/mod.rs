@@ -17,8 +17,12 @@
  * under the License.
  */
 
-pub use self::{database::Database, database_manager::DatabaseManager};
+pub use self::{
+    database::Database, database_manager::DatabaseManager, export::DatabaseExport, import::DatabaseImport,
+};
 
 mod database;
 mod database_manager;
+mod export;
+mod import;
 pub(crate) mod migration;
@@ -29,8 +29,8 @@
 pub use self::connection::database::import_stream::DatabaseImportStream;
 pub use self::{
     common::{
-        Address, Addresses, BoxPromise, BoxStream, Error, IID, Promise, QueryOptions, Result, TransactionOptions,
-        TransactionType, box_stream, error, info,
+        Address, Addresses, BoxPromise, BoxStream, Error, IID, Promise, QueryOptions, Result, TraceContext,
+        TransactionOptions, TransactionType, box_stream, error, info,
     },
     connection::{
         Credentials, DriverOptions, DriverTlsConfig,
@@ -39,9 +39,9 @@ pub use self::{
             server_version::ServerVersion,
         },
     },
-    database::{Database, DatabaseManager},
+    database::{Database, DatabaseExport, DatabaseImport, DatabaseManager},
     driver::TypeDBDriver,
-    transaction::Transaction,
+    transaction::{PreparedQuery, Transaction},
     user::{User, UserManager},
 };
 
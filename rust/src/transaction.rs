@@ -17,7 +17,7 @@
  * under the License.
  */
 
-use std::{fmt, pin::Pin};
+use std::{fmt, pin::Pin, sync::Arc};
 
 use tracing::debug;
 
@@ -26,7 +26,7 @@ use crate::{
     analyze::AnalyzedQuery,
     answer::QueryAnswer,
     common::{Promise, Result, TransactionType},
-    connection::TransactionStream,
+    connection::{EncodedQuery, TransactionStream},
     given::GivenRows,
 };
 
@@ -136,6 +136,45 @@ impl Transaction {
         self.transaction_stream.query(query, options, rows)
     }
 
+    /// Prepares a TypeQL query for repeated execution in this transaction.
+    /// The query and options are encoded into a protocol request once, so each execution only attaches the input rows.
+    ///
+    /// # Arguments
+    ///
+    /// * `query` — The TypeQL query to be prepared
+    /// * `options` — The QueryOptions to execute the query with
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// let prepared = transaction.prepare(query, options);
+    /// transaction.execute(&prepared, Some(rows))
+    /// ```
+    pub fn prepare(&self, query: impl AsRef<str>, options: QueryOptions) -> PreparedQuery {
+        PreparedQuery { request: Arc::new(EncodedQuery::encode(query.as_ref(), options)), options }
+    }
+
+    /// Executes a prepared TypeQL query in this transaction.
+    ///
+    /// # Arguments
+    ///
+    /// * `prepared` — The PreparedQuery to execute
+    /// * `rows` — The GivenRows to pass as input to the query, if any.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.execute(&prepared, Some(rows))
+    /// ```
+    pub fn execute(
+        &self,
+        prepared: &PreparedQuery,
+        rows: Option<GivenRows>,
+    ) -> impl Promise<'static, Result<QueryAnswer>> {
+        debug!("Transaction executing prepared query: {}", prepared.query());
+        self.transaction_stream.query_encoded(prepared.request.clone(), rows)
+    }
+
     /// Analyzes a TypeQL query in this transaction,
     /// returning the translated structure & inferred types.
     ///
@@ -214,6 +253,25 @@ impl Transaction {
     }
 }
 
+/// A TypeQL query prepared for repeated execution, created by [`Transaction::prepare`].
+#[derive(Clone, Debug)]
+pub struct PreparedQuery {
+    request: Arc<EncodedQuery>,
+    options: QueryOptions,
+}
+
+impl PreparedQuery {
+    /// Retrieves the text of the prepared query.
+    pub fn query(&self) -> &str {
+        self.request.query()
+    }
+
+    /// Retrieves the options the prepared query is executed with.
+    pub fn options(&self) -> QueryOptions {
+        self.options
+    }
+}
+
 impl fmt::Debug for Transaction {
     fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
         f.debug_struct("Transaction").field("type_", &self.type_).field("options", &self.options).finish()
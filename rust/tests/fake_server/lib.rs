@@ -0,0 +1,716 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+//! An in-process stand-in for a TypeDB server, used to measure the driver with no database behind it.
+//!
+//! The fake speaks the driver's gRPC protocol on a loopback port. It accepts any credentials, keeps database
+//! names in memory and answers every query with the answer scripted for that exact query text, or with the
+//! configured default answer. Row answers are streamed the way the server streams them: rows travel in batches
+//! of `batch_size`, and after every `prefetch_size` rows the fake waits for the driver to ask for more.
+//! Latencies are injected at fixed points, so a throughput run only measures the driver and the transport.
+
+use std::{
+    collections::{BTreeSet, HashMap},
+    convert::Infallible,
+    future::{Ready, ready},
+    io,
+    net::SocketAddr,
+    sync::{
+        Arc, Mutex,
+        atomic::{AtomicU64, Ordering},
+    },
+    task::{Context, Poll},
+    time::Duration,
+};
+
+use tokio::{
+    net::TcpListener,
+    runtime::Runtime,
+    sync::{
+        mpsc::{UnboundedSender, unbounded_channel},
+        oneshot,
+    },
+    time::sleep,
+};
+use tokio_stream::{
+    StreamExt,
+    wrappers::{TcpListenerStream, UnboundedReceiverStream},
+};
+use tonic::{
+    Request, Response, Status, Streaming,
+    body::{BoxBody, empty_body},
+    codec::ProstCodec,
+    codegen::{Body, BoxFuture, Service, StdError, http},
+    server::{Grpc, NamedService, StreamingService, UnaryService},
+    transport::Server,
+};
+use typedb_protocol::{
+    Concept as ConceptProto, ConceptRow as ConceptRowProto, Database as DatabaseProto, Entity as EntityProto,
+    EntityType as EntityTypeProto, RowEntry as RowEntryProto, Server as ServerProto, Value as ValueProto,
+    authentication, concept, connection, database, database_manager, query,
+    row_entry::Entry,
+    server, server_manager,
+    transaction::{self, stream_signal::res_part::State},
+    value::{self as value_proto, Value as ValueProtoInner},
+};
+
+const SERVICE_NAME: &str = "typedb.protocol.TypeDB";
+const FAKE_TOKEN: &str = "fake-token";
+const FAKE_DISTRIBUTION: &str = "TypeDB Fake";
+const FAKE_VERSION: &str = "0.0.0";
+
+/// The value type of a synthetic column. Cells are derived from the row index alone, so every run streams
+/// exactly the same answer.
+#[derive(Clone, Copy, Debug, PartialEq, Eq)]
+pub enum FakeColumnType {
+    Boolean,
+    Integer,
+    Double,
+    Decimal,
+    String { length: usize },
+    Entity,
+}
+
+impl FakeColumnType {
+    fn cell(self, row: usize) -> FakeCell {
+        match self {
+            Self::Boolean => FakeCell::Boolean(row % 2 == 0),
+            Self::Integer => FakeCell::Integer(row as i64),
+            Self::Double => FakeCell::Double(row as f64 + 0.5),
+            Self::Decimal => FakeCell::Decimal { integer: row as i64, fractional: 5_000_000_000_000_000_000 },
+            Self::String { length } => FakeCell::String(format!("{row:0length$}")),
+            Self::Entity => {
+                let mut iid = vec![0x1e, 0x00];
+                iid.extend_from_slice(&(row as u64).to_be_bytes());
+                FakeCell::Entity { iid, label: "fake-entity".to_owned() }
+            }
+        }
+    }
+}
+
+/// A single cell of a scripted row.
+#[derive(Clone, Debug, PartialEq)]
+pub enum FakeCell {
+    Empty,
+    Boolean(bool),
+    Integer(i64),
+    Double(f64),
+    Decimal { integer: i64, fractional: u64 },
+    String(String),
+    Entity { iid: Vec<u8>, label: String },
+}
+
+impl FakeCell {
+    fn into_proto(self) -> RowEntryProto {
+        let value = |value| Entry::Value(ValueProto { value: Some(value) });
+        let entry = match self {
+            Self::Empty => Entry::Empty(Default::default()),
+            Self::Boolean(boolean) => value(ValueProtoInner::Boolean(boolean)),
+            Self::Integer(integer) => value(ValueProtoInner::Integer(integer)),
+            Self::Double(double) => value(ValueProtoInner::Double(double)),
+            Self::Decimal { integer, fractional } => {
+                value(ValueProtoInner::Decimal(value_proto::Decimal { integer, fractional }))
+            }
+            Self::String(string) => value(ValueProtoInner::String(string)),
+            Self::Entity { iid, label } => Entry::Concept(ConceptProto {
+                concept: Some(concept::Concept::Entity(EntityProto {
+                    iid,
+                    entity_type: Some(EntityTypeProto { label }),
+                })),
+            }),
+        };
+        RowEntryProto { entry: Some(entry) }
+    }
+}
+
+/// What the fake answers to a query.
+#[derive(Clone, Debug)]
+pub enum FakeAnswer {
+    /// A write query answer: no rows, only the query type.
+    Done,
+    /// `rows` rows generated column by column from the row index.
+    Synthetic { columns: Vec<(String, FakeColumnType)>, rows: usize },
+    /// The given rows, replayed as they are.
+    Scripted { column_names: Vec<String>, rows: Arc<Vec<Vec<FakeCell>>> },
+}
+
+impl FakeAnswer {
+    pub fn synthetic(columns: impl IntoIterator<Item = (impl Into<String>, FakeColumnType)>, rows: usize) -> Self {
+        Self::Synthetic { columns: columns.into_iter().map(|(name, type_)| (name.into(), type_)).collect(), rows }
+    }
+
+    pub fn scripted(column_names: impl IntoIterator<Item = impl Into<String>>, rows: Vec<Vec<FakeCell>>) -> Self {
+        Self::Scripted { column_names: column_names.into_iter().map(Into::into).collect(), rows: Arc::new(rows) }
+    }
+
+    fn row_count(&self) -> usize {
+        match self {
+            Self::Done => 0,
+            Self::Synthetic { rows, .. } => *rows,
+            Self::Scripted { rows, .. } => rows.len(),
+        }
+    }
+
+    fn row(&self, index: usize) -> ConceptRowProto {
+        let row = match self {
+            Self::Done => Vec::new(),
+            Self::Synthetic { columns, .. } => {
+                columns.iter().map(|(_, type_)| type_.cell(index).into_proto()).collect()
+            }
+            Self::Scripted { rows, .. } => rows[index].iter().cloned().map(FakeCell::into_proto).collect(),
+        };
+        ConceptRowProto { row, ..Default::default() }
+    }
+
+    fn initial_res(&self) -> query::InitialRes {
+        use query::initial_res::{Ok as OkProto, Res, ok};
+        let header = match self {
+            Self::Done => ok::Ok::Done(ok::Done { query_type: QUERY_TYPE_WRITE }),
+            Self::Synthetic { columns, .. } => ok::Ok::ConceptRowStream(ok::ConceptRowStream {
+                column_variable_names: columns.iter().map(|(name, _)| name.clone()).collect(),
+                query_type: QUERY_TYPE_READ,
+                ..Default::default()
+            }),
+            Self::Scripted { column_names, .. } => ok::Ok::ConceptRowStream(ok::ConceptRowStream {
+                column_variable_names: column_names.clone(),
+                query_type: QUERY_TYPE_READ,
+                ..Default::default()
+            }),
+        };
+        query::InitialRes { res: Some(Res::Ok(OkProto { ok: Some(header) })) }
+    }
+}
+
+const QUERY_TYPE_READ: i32 = 0;
+const QUERY_TYPE_WRITE: i32 = 1;
+
+/// Configuration of a [`FakeServer`].
+///
+/// # Examples
+///
+/// ```rust
+/// FakeServerConfig::new()
+///     .database("typedb")
+///     .default_answer(FakeAnswer::synthetic([("x", FakeColumnType::Integer)], 100_000))
+///     .batch_latency(Duration::from_micros(50))
+/// ```
+#[derive(Clone, Debug)]
+pub struct FakeServerConfig {
+    address: SocketAddr,
+    worker_threads: usize,
+    databases: BTreeSet<String>,
+    default_answer: FakeAnswer,
+    answers: HashMap<String, FakeAnswer>,
+    batch_size: usize,
+    prefetch_size: usize,
+    request_latency: Duration,
+    answer_latency: Duration,
+    batch_latency: Duration,
+}
+
+impl Default for FakeServerConfig {
+    fn default() -> Self {
+        Self {
+            address: SocketAddr::from(([127, 0, 0, 1], 0)),
+            worker_threads: 2,
+            databases: BTreeSet::new(),
+            default_answer: FakeAnswer::synthetic([("x", FakeColumnType::Integer)], 1000),
+            answers: HashMap::new(),
+            batch_size: 32,
+            prefetch_size: 32,
+            request_latency: Duration::ZERO,
+            answer_latency: Duration::ZERO,
+            batch_latency: Duration::ZERO,
+        }
+    }
+}
+
+impl FakeServerConfig {
+    /// Creates a configuration listening on an ephemeral loopback port and answering
+    /// 1000 rows of a single integer column `x`.
+    pub fn new() -> Self {
+        Self::default()
+    }
+
+    /// The address to listen on. Port 0 picks a free port, see [`FakeServer::address`].
+    pub fn address(self, address: SocketAddr) -> Self {
+        Self { address, ..self }
+    }
+
+    /// The number of runtime threads serving connections.
+    pub fn worker_threads(self, worker_threads: usize) -> Self {
+        Self { worker_threads: worker_threads.max(1), ..self }
+    }
+
+    /// Registers a database that exists from the start.
+    pub fn database(mut self, name: impl Into<String>) -> Self {
+        self.databases.insert(name.into());
+        self
+    }
+
+    /// The answer to every query without a scripted answer.
+    pub fn default_answer(self, default_answer: FakeAnswer) -> Self {
+        Self { default_answer, ..self }
+    }
+
+    /// The answer to the query with exactly this text.
+    pub fn answer(mut self, query: impl Into<String>, answer: FakeAnswer) -> Self {
+        self.answers.insert(query.into(), answer);
+        self
+    }
+
+    /// The number of rows sent in one response message.
+    pub fn batch_size(self, batch_size: usize) -> Self {
+        Self { batch_size: batch_size.max(1), ..self }
+    }
+
+    /// The number of rows sent before waiting for the driver to request more,
+    /// unless the query options set a prefetch size.
+    pub fn prefetch_size(self, prefetch_size: usize) -> Self {
+        Self { prefetch_size: prefetch_size.max(1), ..self }
+    }
+
+    /// The delay before answering a unary request, or opening, committing or rolling back a transaction.
+    pub fn request_latency(self, request_latency: Duration) -> Self {
+        Self { request_latency, ..self }
+    }
+
+    /// The delay between receiving a query and sending its header.
+    pub fn answer_latency(self, answer_latency: Duration) -> Self {
+        Self { answer_latency, ..self }
+    }
+
+    /// The delay before sending each batch of rows.
+    pub fn batch_latency(self, batch_latency: Duration) -> Self {
+        Self { batch_latency, ..self }
+    }
+
+    fn answer_to(&self, query: &str) -> &FakeAnswer {
+        self.answers.get(query).unwrap_or(&self.default_answer)
+    }
+}
+
+/// A fake TypeDB server running on its own runtime. Dropping it stops the server.
+///
+/// The server owns a Tokio runtime, so it must be started and dropped outside of any Tokio runtime;
+/// the driver's own background runtime is unaffected.
+///
+/// # Examples
+///
+/// ```rust
+/// let server = FakeServer::start(FakeServerConfig::new().database("typedb"))?;
+/// let driver = TypeDBDriver::new(
+///     Addresses::try_from_address_str(&server.address().to_string())?,
+///     Credentials::new("admin", "password"),
+///     DriverOptions::new(DriverTlsConfig::disabled()),
+/// )
+/// .await?;
+/// ```
+pub struct FakeServer {
+    address: SocketAddr,
+    state: Arc<FakeState>,
+    shutdown_sender: Option<oneshot::Sender<()>>,
+    runtime: Option<Runtime>,
+}
+
+impl FakeServer {
+    pub fn start(config: FakeServerConfig) -> io::Result<Self> {
+        let runtime = tokio::runtime::Builder::new_multi_thread()
+            .worker_threads(config.worker_threads)
+            .thread_name("fake-typedb")
+            .enable_all()
+            .build()?;
+        let listener = runtime.block_on(TcpListener::bind(config.address))?;
+        let address = listener.local_addr()?;
+        let incoming = TcpListenerStream::new(listener).map(|stream| {
+            let stream = stream?;
+            stream.set_nodelay(true)?;
+            Ok::<_, io::Error>(stream)
+        });
+
+        let state = Arc::new(FakeState::new(config));
+        let (shutdown_sender, shutdown_receiver) = oneshot::channel::<()>();
+        let router = Server::builder().add_service(FakeTypeDB { state: state.clone() });
+        runtime.spawn(router.serve_with_incoming_shutdown(incoming, async {
+            shutdown_receiver.await.ok();
+        }));
+        Ok(Self { address, state, shutdown_sender: Some(shutdown_sender), runtime: Some(runtime) })
+    }
+
+    /// The address the server listens on, with the actual port when an ephemeral one was requested.
+    pub fn address(&self) -> SocketAddr {
+        self.address
+    }
+
+    /// The number of transactions opened so far.
+    pub fn transactions_opened(&self) -> u64 {
+        self.state.transactions_opened.load(Ordering::Relaxed)
+    }
+
+    /// The number of rows sent so far, across all transactions.
+    pub fn rows_sent(&self) -> u64 {
+        self.state.rows_sent.load(Ordering::Relaxed)
+    }
+}
+
+impl Drop for FakeServer {
+    fn drop(&mut self) {
+        if let Some(shutdown_sender) = self.shutdown_sender.take() {
+            shutdown_sender.send(()).ok();
+        }
+        if let Some(runtime) = self.runtime.take() {
+            runtime.shutdown_background();
+        }
+    }
+}
+
+struct FakeState {
+    config: FakeServerConfig,
+    databases: Mutex<BTreeSet<String>>,
+    next_connection_id: AtomicU64,
+    transactions_opened: AtomicU64,
+    rows_sent: AtomicU64,
+}
+
+impl FakeState {
+    fn new(config: FakeServerConfig) -> Self {
+        Self {
+            databases: Mutex::new(config.databases.clone()),
+            config,
+            next_connection_id: AtomicU64::new(1),
+            transactions_opened: AtomicU64::new(0),
+            rows_sent: AtomicU64::new(0),
+        }
+    }
+
+    fn contains_database(&self, name: &str) -> bool {
+        self.databases.lock().unwrap().contains(name)
+    }
+
+    fn database_proto(name: String) -> DatabaseProto {
+        DatabaseProto { name, ..Default::default() }
+    }
+
+    fn connection_open(&self, _req: connection::open::Req) -> Result<connection::open::Res, Status> {
+        let connection_id = self.next_connection_id.fetch_add(1, Ordering::Relaxed);
+        let mut res = connection::open::Res {
+            servers_all: Some(self.servers_all(server_manager::all::Req {})?),
+            server_duration_millis: 0,
+            ..Default::default()
+        };
+        res.connection_id.get_or_insert_with(Default::default).id = u128::from(connection_id).to_be_bytes().to_vec();
+        res.authentication.get_or_insert_with(Default::default).token = FAKE_TOKEN.to_owned();
+        Ok(res)
+    }
+
+    fn authentication_token_create(
+        &self,
+        _req: authentication::token::create::Req,
+    ) -> Result<authentication::token::create::Res, Status> {
+        Ok(authentication::token::create::Res { token: FAKE_TOKEN.to_owned() })
+    }
+
+    fn servers_all(&self, _req: server_manager::all::Req) -> Result<server_manager::all::Res, Status> {
+        // a server without an address or replication status is taken as a standalone server at the connected address
+        Ok(server_manager::all::Res { servers: vec![ServerProto::default()] })
+    }
+
+    fn servers_get(&self, _req: server_manager::get::Req) -> Result<server_manager::get::Res, Status> {
+        Ok(server_manager::get::Res { server: Some(ServerProto::default()) })
+    }
+
+    fn server_version(&self, _req: server::version::Req) -> Result<server::version::Res, Status> {
+        Ok(server::version::Res { distribution: FAKE_DISTRIBUTION.to_owned(), version: FAKE_VERSION.to_owned() })
+    }
+
+    fn databases_all(&self, _req: database_manager::all::Req) -> Result<database_manager::all::Res, Status> {
+        let databases = self.databases.lock().unwrap().iter().cloned().map(Self::database_proto).collect();
+        Ok(database_manager::all::Res { databases })
+    }
+
+    fn databases_get(&self, req: database_manager::get::Req) -> Result<database_manager::get::Res, Status> {
+        if self.contains_database(&req.name) {
+            Ok(database_manager::get::Res { database: Some(Self::database_proto(req.name)) })
+        } else {
+            Err(database_not_found(&req.name))
+        }
+    }
+
+    fn databases_contains(
+        &self,
+        req: database_manager::contains::Req,
+    ) -> Result<database_manager::contains::Res, Status> {
+        Ok(database_manager::contains::Res { contains: self.contains_database(&req.name) })
+    }
+
+    fn databases_create(&self, req: database_manager::create::Req) -> Result<database_manager::create::Res, Status> {
+        if self.databases.lock().unwrap().insert(req.name.clone()) {
+            Ok(database_manager::create::Res { database: Some(Self::database_proto(req.name)) })
+        } else {
+            Err(Status::already_exists(format!("database '{}' already exists", req.name)))
+        }
+    }
+
+    fn database_delete(&self, req: database::delete::Req) -> Result<database::delete::Res, Status> {
+        if self.databases.lock().unwrap().remove(&req.name) {
+            Ok(database::delete::Res {})
+        } else {
+            Err(database_not_found(&req.name))
+        }
+    }
+
+    fn database_schema(&self, req: database::schema::Req) -> Result<database::schema::Res, Status> {
+        if self.contains_database(&req.name) {
+            Ok(database::schema::Res { schema: String::new() })
+        } else {
+            Err(database_not_found(&req.name))
+        }
+    }
+}
+
+fn database_not_found(name: &str) -> Status {
+    Status::not_found(format!("database '{name}' does not exist"))
+}
+
+async fn delay(latency: Duration) {
+    if !latency.is_zero() {
+        sleep(latency).await;
+    }
+}
+
+#[derive(Clone)]
+struct FakeTypeDB {
+    state: Arc<FakeState>,
+}
+
+impl NamedService for FakeTypeDB {
+    const NAME: &'static str = SERVICE_NAME;
+}
+
+impl<B> Service<http::Request<B>> for FakeTypeDB
+where
+    B: Body + Send + 'static,
+    B::Error: Into<StdError> + Send + 'static,
+{
+    type Response = http::Response<BoxBody>;
+    type Error = Infallible;
+    type Future = BoxFuture<Self::Response, Self::Error>;
+
+    fn poll_ready(&mut self, _cx: &mut Context<'_>) -> Poll<Result<(), Self::Error>> {
+        Poll::Ready(Ok(()))
+    }
+
+    fn call(&mut self, request: http::Request<B>) -> Self::Future {
+        let state = self.state.clone();
+        let path = request.uri().path().to_owned();
+        let method = path.strip_prefix(SERVICE_NAME).and_then(|method| method.strip_prefix('/')).unwrap_or_default();
+        match method {
+            "connection_open" => Box::pin(unary(state, request, FakeState::connection_open)),
+            "authentication_token_create" => Box::pin(unary(state, request, FakeState::authentication_token_create)),
+            "servers_all" => Box::pin(unary(state, request, FakeState::servers_all)),
+            "servers_get" => Box::pin(unary(state, request, FakeState::servers_get)),
+            "server_version" => Box::pin(unary(state, request, FakeState::server_version)),
+            "databases_all" => Box::pin(unary(state, request, FakeState::databases_all)),
+            "databases_get" => Box::pin(unary(state, request, FakeState::databases_get)),
+            "databases_contains" => Box::pin(unary(state, request, FakeState::databases_contains)),
+            "databases_create" => Box::pin(unary(state, request, FakeState::databases_create)),
+            "database_delete" => Box::pin(unary(state, request, FakeState::database_delete)),
+            "database_schema" => Box::pin(unary(state, request, FakeState::database_schema)),
+            "transaction" => Box::pin(async move {
+                let mut grpc = Grpc::new(ProstCodec::<transaction::Server, transaction::Client>::default());
+                Ok(grpc.streaming(TransactionService { state }, request).await)
+            }),
+            _ => Box::pin(async move {
+                let mut response = http::Response::new(empty_body());
+                let headers = response.headers_mut();
+                headers.insert("grpc-status", http::HeaderValue::from(tonic::Code::Unimplemented as i32));
+                headers.insert(http::header::CONTENT_TYPE, tonic::metadata::GRPC_CONTENT_TYPE);
+                Ok(response)
+            }),
+        }
+    }
+}
+
+async fn unary<Req, Res, B>(
+    state: Arc<FakeState>,
+    request: http::Request<B>,
+    handler: fn(&FakeState, Req) -> Result<Res, Status>,
+) -> Result<http::Response<BoxBody>, Infallible>
+where
+    Req: prost::Message + Default + Send + 'static,
+    Res: prost::Message + Send + 'static,
+    B: Body + Send + 'static,
+    B::Error: Into<StdError> + Send + 'static,
+{
+    let mut grpc = Grpc::new(ProstCodec::<Res, Req>::default());
+    Ok(grpc.unary(Unary { state, handler }, request).await)
+}
+
+struct Unary<Req, Res> {
+    state: Arc<FakeState>,
+    handler: fn(&FakeState, Req) -> Result<Res, Status>,
+}
+
+impl<Req, Res: Send + 'static> UnaryService<Req> for Unary<Req, Res> {
+    type Response = Res;
+    type Future = BoxFuture<Response<Res>, Status>;
+
+    fn call(&mut self, request: Request<Req>) -> Self::Future {
+        let result = (self.handler)(&self.state, request.into_inner());
+        let latency = self.state.config.request_latency;
+        Box::pin(async move {
+            delay(latency).await;
+            result.map(Response::new)
+        })
+    }
+}
+
+struct TransactionService {
+    state: Arc<FakeState>,
+}
+
+impl StreamingService<transaction::Client> for TransactionService {
+    type Response = transaction::Server;
+    type ResponseStream = UnboundedReceiverStream<Result<transaction::Server, Status>>;
+    type Future = Ready<Result<Response<Self::ResponseStream>, Status>>;
+
+    fn call(&mut self, request: Request<Streaming<transaction::Client>>) -> Self::Future {
+        let (response_sender, response_receiver) = unbounded_channel();
+        let transaction = FakeTransaction { state: self.state.clone(), response_sender, suspended: HashMap::new() };
+        tokio::spawn(transaction.serve(request.into_inner()));
+        ready(Ok(Response::new(UnboundedReceiverStream::new(response_receiver))))
+    }
+}
+
+struct QueryCursor {
+    answer: FakeAnswer,
+    next_row: usize,
+    prefetch_size: usize,
+}
+
+struct FakeTransaction {
+    state: Arc<FakeState>,
+    response_sender: UnboundedSender<Result<transaction::Server, Status>>,
+    suspended: HashMap<Vec<u8>, QueryCursor>,
+}
+
+impl FakeTransaction {
+    async fn serve(mut self, mut requests: Streaming<transaction::Client>) {
+        while let Ok(Some(client)) = requests.message().await {
+            for req in client.reqs {
+                if let Err(status) = self.handle(req).await {
+                    self.response_sender.send(Err(status)).ok();
+                    return;
+                }
+            }
+        }
+    }
+
+    async fn handle(&mut self, req: transaction::Req) -> Result<(), Status> {
+        use transaction::{req::Req, res::Res};
+        let transaction::Req { req_id, req, .. } = req;
+        let config = &self.state.config;
+        match req {
+            Some(Req::OpenReq(open_req)) => {
+                if !self.state.contains_database(&open_req.database) {
+                    return Err(database_not_found(&open_req.database));
+                }
+                delay(config.request_latency).await;
+                self.state.transactions_opened.fetch_add(1, Ordering::Relaxed);
+                self.send_res(req_id, Res::OpenRes(transaction::open::Res { server_duration_millis: 0 }))
+            }
+            Some(Req::QueryReq(query_req)) => {
+                delay(config.answer_latency).await;
+                let answer = config.answer_to(&query_req.query).clone();
+                let prefetch_size = match query_req.options.and_then(|options| options.prefetch_size) {
+                    Some(prefetch_size) => (prefetch_size as usize).max(1),
+                    None => config.prefetch_size,
+                };
+                self.send_res(req_id.clone(), Res::QueryInitialRes(answer.initial_res()))?;
+                self.stream(req_id, QueryCursor { answer, next_row: 0, prefetch_size }).await
+            }
+            Some(Req::StreamReq(_)) => match self.suspended.remove(&req_id) {
+                Some(cursor) => self.stream(req_id, cursor).await,
+                None => Ok(()),
+            },
+            Some(Req::CommitReq(_)) => {
+                delay(config.request_latency).await;
+                self.send_res(req_id, Res::CommitRes(Default::default()))
+            }
+            Some(Req::RollbackReq(_)) => {
+                delay(config.request_latency).await;
+                self.suspended.clear();
+                self.send_res(req_id, Res::RollbackRes(Default::default()))
+            }
+            Some(_) => Err(Status::unimplemented("the fake server does not support this transaction request")),
+            None => Err(Status::invalid_argument("missing transaction request")),
+        }
+    }
+
+    async fn stream(&mut self, req_id: Vec<u8>, mut cursor: QueryCursor) -> Result<(), Status> {
+        let config = &self.state.config;
+        let row_count = cursor.answer.row_count();
+        let end = row_count.min(cursor.next_row + cursor.prefetch_size);
+        while cursor.next_row < end {
+            let batch_end = end.min(cursor.next_row + config.batch_size);
+            delay(config.batch_latency).await;
+            let rows = (cursor.next_row..batch_end).map(|index| cursor.answer.row(index)).collect();
+            let query_res = query::ResPart { res: Some(rows_res(rows)) };
+            self.send_res_part(req_id.clone(), transaction::res_part::ResPart::QueryRes(query_res))?;
+            self.state.rows_sent.fetch_add((batch_end - cursor.next_row) as u64, Ordering::Relaxed);
+            cursor.next_row = batch_end;
+        }
+        if cursor.next_row < row_count {
+            self.send_stream_state(req_id.clone(), State::Continue(Default::default()))?;
+            self.suspended.insert(req_id, cursor);
+            Ok(())
+        } else {
+            self.send_stream_state(req_id, State::Done(Default::default()))
+        }
+    }
+
+    fn send_res(&self, req_id: Vec<u8>, res: transaction::res::Res) -> Result<(), Status> {
+        let res = transaction::Res { req_id, res: Some(res) };
+        self.send(transaction::server::Server::Res(res))
+    }
+
+    fn send_res_part(&self, req_id: Vec<u8>, res_part: transaction::res_part::ResPart) -> Result<(), Status> {
+        let res_part = transaction::ResPart { req_id, res_part: Some(res_part) };
+        self.send(transaction::server::Server::ResPart(res_part))
+    }
+
+    fn send_stream_state(&self, req_id: Vec<u8>, state: State) -> Result<(), Status> {
+        let stream_res = transaction::stream_signal::ResPart { state: Some(state) };
+        self.send_res_part(req_id, transaction::res_part::ResPart::StreamRes(stream_res))
+    }
+
+    fn send(&self, server: transaction::server::Server) -> Result<(), Status> {
+        self.response_sender
+            .send(Ok(transaction::Server { server: Some(server) }))
+            .map_err(|_| Status::cancelled("the driver closed the transaction"))
+    }
+}
+
+fn rows_res(rows: Vec<ConceptRowProto>) -> query::res_part::Res {
+    let mut res = query::res_part::Res::RowsRes(Default::default());
+    if let query::res_part::Res::RowsRes(rows_res) = &mut res {
+        rows_res.rows = rows;
+    }
+    res
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+//! Runs a fake TypeDB server until the process is killed, so that drivers in any language can be measured
+//! against it. Every argument is optional and given as `--name=value`:
+//!
+//! ```text
+//! --address=127.0.0.1:1729  --threads=2          --databases=typedb
+//! --rows=1000               --columns=integer,string:16,entity
+//! --batch-size=32           --prefetch-size=32
+//! --request-latency-ms=0    --answer-latency-ms=0  --batch-latency-us=0
+//! ```
+//!
+//! Column types are `boolean`, `integer`, `double`, `decimal`, `string:<length>` and `entity`;
+//! the columns are named `c0`, `c1`, ... in order.
+
+use std::{collections::HashMap, env, net::SocketAddr, process::exit, str::FromStr, thread, time::Duration};
+
+use fake_server::{FakeAnswer, FakeColumnType, FakeServer, FakeServerConfig};
+
+fn main() {
+    let args = match parse_args(env::args().skip(1)) {
+        Ok(args) => args,
+        Err(message) => {
+            eprintln!("{message}");
+            eprintln!("Usage: fake-server [--name=value ...]; see the fake-server documentation for the arguments");
+            exit(2);
+        }
+    };
+    let config = match configure(&args) {
+        Ok(config) => config,
+        Err(message) => {
+            eprintln!("{message}");
+            exit(2);
+        }
+    };
+    let server = FakeServer::start(config).unwrap_or_else(|err| {
+        eprintln!("Unable to start the fake server: {err}");
+        exit(1);
+    });
+    println!("Fake TypeDB server listening on {}", server.address());
+    loop {
+        thread::park();
+    }
+}
+
+fn parse_args(args: impl Iterator<Item = String>) -> Result<HashMap<String, String>, String> {
+    args.map(|arg| match arg.strip_prefix("--").and_then(|arg| arg.split_once('=')) {
+        Some((name, value)) => Ok((name.to_owned(), value.to_owned())),
+        None => Err(format!("Malformed argument '{arg}'")),
+    })
+    .collect()
+}
+
+fn configure(args: &HashMap<String, String>) -> Result<FakeServerConfig, String> {
+    const KNOWN: [&str; 10] = [
+        "address",
+        "threads",
+        "databases",
+        "rows",
+        "columns",
+        "batch-size",
+        "prefetch-size",
+        "request-latency-ms",
+        "answer-latency-ms",
+        "batch-latency-us",
+    ];
+    if let Some(unknown) = args.keys().find(|name| !KNOWN.contains(&name.as_str())) {
+        return Err(format!("Unknown argument '--{unknown}'"));
+    }
+
+    let columns = args
+        .get("columns")
+        .map_or("integer", String::as_str)
+        .split(',')
+        .enumerate()
+        .map(|(index, column)| parse_column_type(column).map(|type_| (format!("c{index}"), type_)))
+        .collect::<Result<Vec<_>, _>>()?;
+    let mut config = FakeServerConfig::new()
+        .address(arg(args, "address", SocketAddr::from(([127, 0, 0, 1], 1729)))?)
+        .worker_threads(arg(args, "threads", 2)?)
+        .default_answer(FakeAnswer::synthetic(columns, arg(args, "rows", 1000)?))
+        .batch_size(arg(args, "batch-size", 32)?)
+        .prefetch_size(arg(args, "prefetch-size", 32)?)
+        .request_latency(Duration::from_millis(arg(args, "request-latency-ms", 0)?))
+        .answer_latency(Duration::from_millis(arg(args, "answer-latency-ms", 0)?))
+        .batch_latency(Duration::from_micros(arg(args, "batch-latency-us", 0)?));
+    for database in args.get("databases").map_or("typedb", String::as_str).split(',').filter(|name| !name.is_empty()) {
+        config = config.database(database);
+    }
+    Ok(config)
+}
+
+fn arg<T: FromStr>(args: &HashMap<String, String>, name: &str, default: T) -> Result<T, String> {
+    match args.get(name) {
+        Some(value) => value.parse().map_err(|_| format!("Invalid value '{value}' for '--{name}'")),
+        None => Ok(default),
+    }
+}
+
+fn parse_column_type(column: &str) -> Result<FakeColumnType, String> {
+    match column.split_once(':') {
+        None => match column {
+            "boolean" => Ok(FakeColumnType::Boolean),
+            "integer" => Ok(FakeColumnType::Integer),
+            "double" => Ok(FakeColumnType::Double),
+            "decimal" => Ok(FakeColumnType::Decimal),
+            "string" => Ok(FakeColumnType::String { length: 16 }),
+            "entity" => Ok(FakeColumnType::Entity),
+            _ => Err(format!("Unknown column type '{column}'")),
+        },
+        Some(("string", length)) => length
+            .parse()
+            .map(|length| FakeColumnType::String { length })
+            .map_err(|_| format!("Invalid string length in column '{column}'")),
+        Some(_) => Err(format!("Unknown column type '{column}'")),
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::time::{Duration, Instant};
+
+use fake_server::{FakeAnswer, FakeCell, FakeColumnType, FakeServer, FakeServerConfig};
+use futures::{StreamExt, TryStreamExt};
+use typedb_driver::{
+    Addresses, Credentials, DriverOptions, DriverTlsConfig, QueryOptions, TransactionType, TypeDBDriver,
+};
+
+const DATABASE: &str = "typedb";
+
+async fn driver(server: &FakeServer) -> TypeDBDriver {
+    TypeDBDriver::new(
+        Addresses::try_from_address_str(server.address().to_string()).unwrap(),
+        Credentials::new("admin", "password"),
+        DriverOptions::new(DriverTlsConfig::disabled()),
+    )
+    .await
+    .unwrap()
+}
+
+#[test]
+fn synthetic_rows_stream_across_prefetch_rounds() {
+    let server = FakeServer::start(
+        FakeServerConfig::new()
+            .database(DATABASE)
+            .default_answer(FakeAnswer::synthetic(
+                [("n", FakeColumnType::Integer), ("s", FakeColumnType::String { length: 8 })],
+                1000,
+            ))
+            .batch_size(7)
+            .prefetch_size(50),
+    )
+    .unwrap();
+    async_std::task::block_on(async {
+        let driver = driver(&server).await;
+        assert!(driver.databases().contains(DATABASE).await.unwrap());
+
+        let transaction = driver.transaction(DATABASE, TransactionType::Read).await.unwrap();
+        let answer = transaction.query("match $n isa number;").await.unwrap();
+        assert!(answer.is_row_stream());
+        let rows: Vec<_> = answer.into_rows().try_collect().await.unwrap();
+        assert_eq!(rows.len(), 1000);
+        for (index, row) in rows.iter().enumerate() {
+            assert_eq!(row.get_column_names(), ["n", "s"]);
+            assert_eq!(row.get("n").unwrap().unwrap().try_get_integer(), Some(index as i64));
+            assert_eq!(row.get("s").unwrap().unwrap().try_get_string(), Some(format!("{index:08}").as_str()));
+        }
+        transaction.close().await.unwrap();
+    });
+    assert_eq!(server.rows_sent(), 1000);
+}
+
+#[test]
+fn scripted_answers_replay_and_writes_commit() {
+    let server = FakeServer::start(
+        FakeServerConfig::new()
+            .database(DATABASE)
+            .answer(
+                "match $p isa person, has name $name;",
+                FakeAnswer::scripted(
+                    ["p", "name"],
+                    vec![
+                        vec![
+                            FakeCell::Entity { iid: vec![0x1e, 0x00, 0x01], label: "person".to_owned() },
+                            FakeCell::String("alice".to_owned()),
+                        ],
+                        vec![FakeCell::Empty, FakeCell::String("bob".to_owned())],
+                    ],
+                ),
+            )
+            .answer("insert $p isa person;", FakeAnswer::Done),
+    )
+    .unwrap();
+    async_std::task::block_on(async {
+        let driver = driver(&server).await;
+
+        let transaction = driver.transaction(DATABASE, TransactionType::Write).await.unwrap();
+        assert!(transaction.query("insert $p isa person;").await.unwrap().is_ok());
+        transaction.commit().await.unwrap();
+
+        let transaction = driver.transaction(DATABASE, TransactionType::Read).await.unwrap();
+        let answer = transaction.query("match $p isa person, has name $name;").await.unwrap();
+        let rows: Vec<_> = answer.into_rows().try_collect().await.unwrap();
+        assert_eq!(rows.len(), 2);
+        let person = rows[0].get("p").unwrap().unwrap();
+        assert!(person.is_entity());
+        assert_eq!(person.get_label(), "person");
+        assert_eq!(rows[0].get("name").unwrap().unwrap().try_get_string(), Some("alice"));
+        assert!(rows[1].get("p").unwrap().is_none());
+        assert_eq!(rows[1].get("name").unwrap().unwrap().try_get_string(), Some("bob"));
+    });
+    assert_eq!(server.transactions_opened(), 2);
+}
+
+#[test]
+fn row_stream_throughput() {
+    const ROWS: usize = 200_000;
+    let server = FakeServer::start(
+        FakeServerConfig::new()
+            .database(DATABASE)
+            .default_answer(FakeAnswer::synthetic(
+                [
+                    ("e", FakeColumnType::Entity),
+                    ("i", FakeColumnType::Integer),
+                    ("d", FakeColumnType::Double),
+                    ("s", FakeColumnType::String { length: 32 }),
+                ],
+                ROWS,
+            ))
+            .batch_size(64),
+    )
+    .unwrap();
+    async_std::task::block_on(async {
+        let driver = driver(&server).await;
+        for prefetch_size in [32, 256, 2048] {
+            let transaction = driver.transaction(DATABASE, TransactionType::Read).await.unwrap();
+            let options = QueryOptions::new().prefetch_size(prefetch_size);
+            let start = Instant::now();
+            let answer = transaction.query_with_options("match $e isa thing;", options).await.unwrap();
+            let rows = answer.into_rows().map(|row| row.unwrap()).count().await;
+            let elapsed = start.elapsed().max(Duration::from_micros(1));
+            assert_eq!(rows, ROWS);
+            println!(
+                "prefetch {prefetch_size:>5}: {rows} rows in {elapsed:?} ({:.0} rows/s)",
+                rows as f64 / elapsed.as_secs_f64()
+            );
+            transaction.close().await.unwrap();
+        }
+    });
+}